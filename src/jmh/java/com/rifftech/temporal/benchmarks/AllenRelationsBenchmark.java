@@ -0,0 +1,103 @@
+package com.rifftech.temporal.benchmarks;
+
+import com.rifftech.temporal.collections.AllenRelation;
+import com.rifftech.temporal.collections.AllenRelations;
+import com.rifftech.temporal.collections.EpochNanoRange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluates one relation over columns of random ranges with {@link AllenRelations}, next to the same evaluation
+ * calling {@link AllenRelation#test(long, long, long, long)} for every range, which is what the specialised
+ * loop of each relation avoids. The ranges are a few seconds long and start within a day, so that every
+ * relation holds for some of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AllenRelationsBenchmark {
+    static final long SECOND = 1_000_000_000L;
+
+    @Param
+    AllenRelation relation;
+
+    @Param("1000000")
+    int size;
+
+    long[] starts;
+    long[] ends;
+    long[] mask;
+    EpochNanoRange probe;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(50);
+        starts = new long[size];
+        ends = new long[size];
+        for (int i = 0; i < size; i++) {
+            starts[i] = random.nextLong(86_400) * SECOND;
+            ends[i] = starts[i] + (1 + random.nextLong(10)) * SECOND;
+        }
+        mask = new long[(size + Long.SIZE - 1) / Long.SIZE];
+        probe = new EpochNanoRange(43_200 * SECOND, 43_205 * SECOND);
+        for (AllenRelation each : AllenRelation.values()) {
+            evaluatePerRange(each, starts, ends, size, probe, mask);
+        }
+    }
+
+    @Benchmark
+    public long[] evaluate() {
+        AllenRelations.evaluate(relation, starts, ends, size, probe, mask);
+        return mask;
+    }
+
+    @Benchmark
+    public long[] evaluatePerRange() {
+        evaluatePerRange(relation, starts, ends, size, probe, mask);
+        return mask;
+    }
+
+    @Benchmark
+    public long[] intersecting() {
+        return AllenRelations.intersecting(starts, ends, probe);
+    }
+
+    @Benchmark
+    public Map<AllenRelation, long[]> evaluateAll() {
+        return AllenRelations.evaluateAll(starts, ends, probe);
+    }
+
+    /**
+     * The loop calling the relation for every range. {@link #setUp()} runs it with every relation, so that the
+     * call is as polymorphic as it is when an application evaluates several relations.
+     */
+    static void evaluatePerRange(AllenRelation relation, long[] starts, long[] ends, int length,
+                                 EpochNanoRange probe, long[] mask) {
+        long probeStart = probe.start();
+        long probeEnd = probe.end();
+        for (int word = 0, base = 0; base < length; word++, base += Long.SIZE) {
+            int count = Math.min(Long.SIZE, length - base);
+            long bits = 0;
+            for (int bit = 0; bit < count; bit++) {
+                bits |= relation.test(starts[base + bit], ends[base + bit], probeStart, probeEnd) << bit;
+            }
+            mask[word] = bits;
+        }
+    }
+}
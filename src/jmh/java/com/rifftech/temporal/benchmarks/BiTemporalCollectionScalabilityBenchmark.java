@@ -0,0 +1,121 @@
+package com.rifftech.temporal.benchmarks;
+
+import com.rifftech.temporal.collections.BiTemporalRecord;
+import com.rifftech.temporal.collections.MutableBiTemporalCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.rifftech.temporal.benchmarks.TemporalCollectionScalabilityBenchmark.instant;
+
+/**
+ * The bi-temporal counterpart of {@link TemporalCollectionScalabilityBenchmark}. Every write records a
+ * new system-time version of a business-time key, so the inner version maps grow during a run the way
+ * they do when corrections accumulate.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BiTemporalCollectionScalabilityBenchmark {
+
+    @Param
+    BiTemporalImplementation implementation;
+
+    @Param
+    KeyDistribution distribution;
+
+    @Param("10000")
+    long keySpace;
+
+    MutableBiTemporalCollection<Long> collection;
+    AtomicLong sequence;
+    AtomicLong transactionTime;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        collection = implementation.create();
+        sequence = new AtomicLong();
+        transactionTime = new AtomicLong(keySpace);
+        for (long key = 0; key < keySpace; key++) {
+            collection.effectiveAsOf(instant(key), instant(key), key);
+        }
+    }
+
+    Optional<BiTemporalRecord<Long>> read(ThreadRandom thread) {
+        Instant validTime = instant(distribution.read(thread.random, keySpace, sequence.get()));
+        return collection.getAsOf(validTime, instant(transactionTime.get()));
+    }
+
+    Optional<BiTemporalRecord<Long>> write(ThreadRandom thread) {
+        long key = distribution.write(thread.random, keySpace, distribution == KeyDistribution.APPEND ? sequence.incrementAndGet() : 0);
+        return collection.effectiveAsOf(instant(key), instant(transactionTime.incrementAndGet()), key);
+    }
+
+    @Benchmark
+    @Group("readOnly")
+    @GroupThreads(1)
+    public Optional<BiTemporalRecord<Long>> readOnly_read(ThreadRandom thread) {
+        return read(thread);
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(9)
+    public Optional<BiTemporalRecord<Long>> readMostly_read(ThreadRandom thread) {
+        return read(thread);
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(1)
+    public Optional<BiTemporalRecord<Long>> readMostly_write(ThreadRandom thread) {
+        return write(thread);
+    }
+
+    @Benchmark
+    @Group("balanced")
+    @GroupThreads(1)
+    public Optional<BiTemporalRecord<Long>> balanced_read(ThreadRandom thread) {
+        return read(thread);
+    }
+
+    @Benchmark
+    @Group("balanced")
+    @GroupThreads(1)
+    public Optional<BiTemporalRecord<Long>> balanced_write(ThreadRandom thread) {
+        return write(thread);
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(1)
+    public Optional<BiTemporalRecord<Long>> writeHeavy_read(ThreadRandom thread) {
+        return read(thread);
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(3)
+    public Optional<BiTemporalRecord<Long>> writeHeavy_write(ThreadRandom thread) {
+        return write(thread);
+    }
+}
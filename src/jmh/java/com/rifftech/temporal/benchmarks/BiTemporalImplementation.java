@@ -0,0 +1,35 @@
+package com.rifftech.temporal.benchmarks;
+
+import com.rifftech.temporal.collections.CachingBiTemporalCollection;
+import com.rifftech.temporal.collections.ConcurrentSkipListBiTemporalCollection;
+import com.rifftech.temporal.collections.EventPublishingBiTemporalCollection;
+import com.rifftech.temporal.collections.MutableBiTemporalCollection;
+
+/**
+ * The {@link MutableBiTemporalCollection} implementations measured by the benchmarks.
+ *
+ * @see TemporalImplementation
+ */
+public enum BiTemporalImplementation {
+    SKIP_LIST {
+        @Override
+        public MutableBiTemporalCollection<Long> create() {
+            return new ConcurrentSkipListBiTemporalCollection<>();
+        }
+    },
+    EVENT_PUBLISHING {
+        @Override
+        public MutableBiTemporalCollection<Long> create() {
+            return new EventPublishingBiTemporalCollection<>(new ConcurrentSkipListBiTemporalCollection<>(), event -> {
+            });
+        }
+    },
+    CACHING {
+        @Override
+        public MutableBiTemporalCollection<Long> create() {
+            return new CachingBiTemporalCollection<>(new ConcurrentSkipListBiTemporalCollection<>(), 1024);
+        }
+    };
+
+    public abstract MutableBiTemporalCollection<Long> create();
+}
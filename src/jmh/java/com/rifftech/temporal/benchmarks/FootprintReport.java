@@ -0,0 +1,86 @@
+package com.rifftech.temporal.benchmarks;
+
+import com.rifftech.temporal.collections.MutableBiTemporalCollection;
+import com.rifftech.temporal.collections.MutableTemporalCollection;
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.vm.VM;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static com.rifftech.temporal.benchmarks.TemporalCollectionScalabilityBenchmark.instant;
+
+/**
+ * Builds every {@link TemporalImplementation} and {@link BiTemporalImplementation} at increasing sizes and
+ * prints the bytes retained by the collection, walked with JOL, per record it holds. The size of an empty
+ * collection is subtracted first, so the figures are the marginal cost of a record: its keys, values,
+ * wrappers and the share of the index structure it causes.
+ * <p>
+ * Values are one shared object, so the figures exclude the values themselves; add the size of a value to
+ * get the cost of a record in an application. Bi-temporal collections are measured with one and with
+ * several system-time versions per business-time key.
+ * <p>
+ * Arguments, all optional: the record counts to measure (default: 1000 10000 100000). With
+ * {@code --detail} the class histogram of the largest collection is printed as well.
+ */
+public class FootprintReport {
+    private static final Long VALUE = 42L;
+    private static final int[] VERSIONS = {1, 4};
+
+    public static void main(String[] args) {
+        boolean detail = Arrays.asList(args).contains("--detail");
+        int[] sizes = Arrays.stream(args).filter(arg -> !arg.startsWith("--")).mapToInt(Integer::parseInt).toArray();
+        if (sizes.length == 0) {
+            sizes = new int[]{1_000, 10_000, 100_000};
+        }
+        System.out.println(VM.current().details());
+        System.out.printf("%-40s %10s %16s %16s%n", "Implementation", "Records", "Retained bytes", "Bytes/record");
+        for (TemporalImplementation implementation : TemporalImplementation.values()) {
+            report("TemporalCollection " + implementation, sizes, 1, detail,
+                    () -> implementation.create(), FootprintReport::fill);
+        }
+        for (BiTemporalImplementation implementation : BiTemporalImplementation.values()) {
+            for (int versions : VERSIONS) {
+                report("BiTemporalCollection " + implementation + " x" + versions, sizes, versions, detail,
+                        () -> implementation.create(), (collection, records) -> fill(collection, records, versions));
+            }
+        }
+    }
+
+    private static <C> void report(String name, int[] sizes, int versions, boolean detail, Supplier<C> factory, Filler<C> filler) {
+        long empty = GraphLayout.parseInstance(factory.get()).totalSize();
+        GraphLayout largest = null;
+        for (int size : sizes) {
+            C collection = factory.get();
+            filler.fill(collection, size / versions);
+            GraphLayout layout = GraphLayout.parseInstance(collection);
+            long retained = layout.totalSize() - empty;
+            System.out.printf("%-40s %10d %16d %16.1f%n", name, size, retained, (double) retained / size);
+            largest = layout;
+        }
+        if (detail && largest != null) {
+            System.out.println(largest.toFootprint());
+        }
+    }
+
+    private static void fill(MutableTemporalCollection<Long> collection, int records) {
+        for (long key = 0; key < records; key++) {
+            collection.effectiveAsOf(instant(key), VALUE);
+        }
+    }
+
+    private static void fill(MutableBiTemporalCollection<Long> collection, int keys, int versions) {
+        for (long key = 0; key < keys; key++) {
+            Instant businessTime = instant(key);
+            for (int version = 0; version < versions; version++) {
+                collection.effectiveAsOf(businessTime, instant(key + version), VALUE);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Filler<C> {
+        void fill(C collection, int count);
+    }
+}
@@ -0,0 +1,59 @@
+package com.rifftech.temporal.benchmarks;
+
+import java.util.SplittableRandom;
+
+/**
+ * How benchmark threads choose the offsets of the instants they read and write, which determines
+ * how much they contend on the same region of a collection.
+ */
+public enum KeyDistribution {
+    /**
+     * Reads and writes are spread uniformly over the whole key space; little contention.
+     */
+    UNIFORM {
+        @Override
+        long read(SplittableRandom random, long keySpace, long sequence) {
+            return random.nextLong(keySpace);
+        }
+
+        @Override
+        long write(SplittableRandom random, long keySpace, long sequence) {
+            return random.nextLong(keySpace);
+        }
+    },
+    /**
+     * All threads read and write a small window of keys; heavy contention.
+     */
+    HOTSPOT {
+        @Override
+        long read(SplittableRandom random, long keySpace, long sequence) {
+            return keySpace / 2 + random.nextLong(HOTSPOT_WIDTH);
+        }
+
+        @Override
+        long write(SplittableRandom random, long keySpace, long sequence) {
+            return keySpace / 2 + random.nextLong(HOTSPOT_WIDTH);
+        }
+    },
+    /**
+     * Writes append ever later instants and reads target the most recent keys, as when recording
+     * a time series and querying its current state.
+     */
+    APPEND {
+        @Override
+        long read(SplittableRandom random, long keySpace, long sequence) {
+            return keySpace + sequence - random.nextLong(HOTSPOT_WIDTH);
+        }
+
+        @Override
+        long write(SplittableRandom random, long keySpace, long sequence) {
+            return keySpace + sequence;
+        }
+    };
+
+    static final long HOTSPOT_WIDTH = 16;
+
+    abstract long read(SplittableRandom random, long keySpace, long sequence);
+
+    abstract long write(SplittableRandom random, long keySpace, long sequence);
+}
@@ -0,0 +1,112 @@
+package com.rifftech.temporal.benchmarks;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Runs the scalability benchmarks at 1, 2, 4, ... threads (starting at one thread per method
+ * of a group) up to a maximum, keeping the read:write ratio of each group, and prints the
+ * total and per-thread throughput for every thread count.
+ * <p>
+ * Arguments, all optional: a regular expression selecting benchmarks (default: both scalability
+ * benchmarks), the maximum number of threads (default: the available processors), and further
+ * {@code name=value} pairs overriding benchmark parameters, e.g. {@code implementation=SKIP_LIST}.
+ */
+public class ScalabilityReport {
+    private static final Map<String, int[]> RATIOS = Map.of(
+            "readOnly", new int[]{1},
+            "readMostly", new int[]{9, 1},
+            "balanced", new int[]{1, 1},
+            "writeHeavy", new int[]{1, 3});
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : ".*ScalabilityBenchmark.*";
+        int maxThreads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        List<Row> rows = new ArrayList<>();
+        for (Map.Entry<String, int[]> group : RATIOS.entrySet()) {
+            for (int threads : threadCounts(maxThreads, group.getValue().length)) {
+                ChainedOptionsBuilder options = new OptionsBuilder()
+                        .include(include + "\\." + group.getKey() + "$")
+                        .threadGroups(distribute(threads, group.getValue()));
+                for (int i = 2; i < args.length; i++) {
+                    String[] parameter = args[i].split("=", 2);
+                    options.param(parameter[0], parameter[1].split(","));
+                }
+                Collection<RunResult> results = new Runner(options.build()).run();
+                for (RunResult result : results) {
+                    String benchmark = result.getParams().getBenchmark();
+                    String benchmarkClass = benchmark.substring(0, benchmark.lastIndexOf('.'));
+                    rows.add(new Row(benchmarkClass.substring(benchmarkClass.lastIndexOf('.') + 1), group.getKey(),
+                            result.getParams().getParam("implementation"),
+                            result.getParams().getParam("distribution"),
+                            threads, result.getPrimaryResult().getScore(),
+                            result.getPrimaryResult().getScoreUnit()));
+                }
+            }
+        }
+        print(rows);
+    }
+
+    static List<Integer> threadCounts(int maxThreads, int methods) {
+        TreeSet<Integer> counts = new TreeSet<>();
+        for (int threads = methods; threads < maxThreads; threads *= 2) {
+            counts.add(threads);
+        }
+        counts.add(Math.max(methods, maxThreads));
+        return List.copyOf(counts);
+    }
+
+    /**
+     * Splits a total number of threads over the methods of a group in proportion to the ratio,
+     * giving every method at least one thread.
+     */
+    static int[] distribute(int threads, int[] ratio) {
+        int total = 0;
+        for (int share : ratio) {
+            total += share;
+        }
+        int[] distribution = new int[ratio.length];
+        int assigned = 0;
+        for (int i = 0; i < ratio.length; i++) {
+            distribution[i] = Math.max(1, Math.round((float) threads * ratio[i] / total));
+            assigned += distribution[i];
+        }
+        int largest = 0;
+        for (int i = 1; i < ratio.length; i++) {
+            if (ratio[i] > ratio[largest]) {
+                largest = i;
+            }
+        }
+        distribution[largest] = Math.max(1, distribution[largest] + threads - assigned);
+        return distribution;
+    }
+
+    private static void print(List<Row> rows) {
+        System.out.printf("%n%-42s %-10s %-18s %-12s %8s %16s %16s%n",
+                "Benchmark", "Group", "Implementation", "Distribution", "Threads", "Ops", "Ops/thread");
+        rows.stream()
+                .sorted(Comparator.comparing(Row::benchmark)
+                        .thenComparing(Row::group)
+                        .thenComparing(Row::implementation)
+                        .thenComparing(Row::distribution)
+                        .thenComparingInt(Row::threads))
+                .forEach(row -> System.out.printf("%-42s %-10s %-18s %-12s %8d %16.1f %16.1f %s%n",
+                        row.benchmark(), row.group(), row.implementation(), row.distribution(), row.threads(),
+                        row.score(), row.score() / row.threads(), row.unit()));
+    }
+
+    private record Row(String benchmark, String group, String implementation, String distribution,
+                       int threads, double score, String unit) {
+    }
+}
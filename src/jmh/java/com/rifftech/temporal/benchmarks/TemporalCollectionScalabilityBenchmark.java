@@ -0,0 +1,121 @@
+package com.rifftech.temporal.benchmarks;
+
+import com.rifftech.temporal.collections.MutableTemporalCollection;
+import com.rifftech.temporal.collections.TemporalRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mixed read/write workloads on one shared {@link MutableTemporalCollection} per group. Each group fixes
+ * a read:write thread ratio through {@link GroupThreads}; {@link ScalabilityReport} reruns the groups with
+ * the ratio kept and the total number of threads increased, to show how throughput scales with cores.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemporalCollectionScalabilityBenchmark {
+    static final Instant ORIGIN = Instant.parse("2000-01-01T00:00:00Z");
+
+    @Param
+    TemporalImplementation implementation;
+
+    @Param
+    KeyDistribution distribution;
+
+    @Param("10000")
+    long keySpace;
+
+    MutableTemporalCollection<Long> collection;
+    AtomicLong sequence;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        collection = implementation.create();
+        sequence = new AtomicLong();
+        for (long key = 0; key < keySpace; key++) {
+            collection.effectiveAsOf(instant(key), key);
+        }
+    }
+
+    static Instant instant(long key) {
+        return ORIGIN.plusSeconds(key);
+    }
+
+    Optional<TemporalRecord<Long>> read(ThreadRandom thread) {
+        return collection.getAsOf(instant(distribution.read(thread.random, keySpace, sequence.get())));
+    }
+
+    Optional<TemporalRecord<Long>> write(ThreadRandom thread) {
+        long key = distribution.write(thread.random, keySpace, distribution == KeyDistribution.APPEND ? sequence.incrementAndGet() : 0);
+        return collection.effectiveAsOf(instant(key), key);
+    }
+
+    @Benchmark
+    @Group("readOnly")
+    @GroupThreads(1)
+    public Optional<TemporalRecord<Long>> readOnly_read(ThreadRandom thread) {
+        return read(thread);
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(9)
+    public Optional<TemporalRecord<Long>> readMostly_read(ThreadRandom thread) {
+        return read(thread);
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(1)
+    public Optional<TemporalRecord<Long>> readMostly_write(ThreadRandom thread) {
+        return write(thread);
+    }
+
+    @Benchmark
+    @Group("balanced")
+    @GroupThreads(1)
+    public Optional<TemporalRecord<Long>> balanced_read(ThreadRandom thread) {
+        return read(thread);
+    }
+
+    @Benchmark
+    @Group("balanced")
+    @GroupThreads(1)
+    public Optional<TemporalRecord<Long>> balanced_write(ThreadRandom thread) {
+        return write(thread);
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(1)
+    public Optional<TemporalRecord<Long>> writeHeavy_read(ThreadRandom thread) {
+        return read(thread);
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(3)
+    public Optional<TemporalRecord<Long>> writeHeavy_write(ThreadRandom thread) {
+        return write(thread);
+    }
+}
@@ -0,0 +1,50 @@
+package com.rifftech.temporal.benchmarks;
+
+import com.rifftech.temporal.collections.AggregatingTemporalCollection;
+import com.rifftech.temporal.collections.CachingTemporalCollection;
+import com.rifftech.temporal.collections.ConcurrentSkipListTemporalCollection;
+import com.rifftech.temporal.collections.EventPublishingTemporalCollection;
+import com.rifftech.temporal.collections.MutableTemporalCollection;
+import com.rifftech.temporal.collections.SortedArrayLongTemporalCollection;
+import com.rifftech.temporal.collections.TemporalAggregators;
+
+/**
+ * The {@link MutableTemporalCollection} implementations measured by the benchmarks. A new implementation
+ * is added to every benchmark by adding a constant here; benchmarks select them by name through their
+ * {@code implementation} parameter.
+ */
+public enum TemporalImplementation {
+    SKIP_LIST {
+        @Override
+        public MutableTemporalCollection<Long> create() {
+            return new ConcurrentSkipListTemporalCollection<>();
+        }
+    },
+    EVENT_PUBLISHING {
+        @Override
+        public MutableTemporalCollection<Long> create() {
+            return new EventPublishingTemporalCollection<>(new ConcurrentSkipListTemporalCollection<>(), event -> {
+            });
+        }
+    },
+    CACHING {
+        @Override
+        public MutableTemporalCollection<Long> create() {
+            return new CachingTemporalCollection<>(new ConcurrentSkipListTemporalCollection<>(), 1024);
+        }
+    },
+    AGGREGATING {
+        @Override
+        public MutableTemporalCollection<Long> create() {
+            return new AggregatingTemporalCollection<>(TemporalAggregators.sum(Long::longValue));
+        }
+    },
+    SORTED_ARRAY {
+        @Override
+        public MutableTemporalCollection<Long> create() {
+            return new SortedArrayLongTemporalCollection();
+        }
+    };
+
+    public abstract MutableTemporalCollection<Long> create();
+}
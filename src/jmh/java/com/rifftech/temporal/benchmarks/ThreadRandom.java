@@ -0,0 +1,15 @@
+package com.rifftech.temporal.benchmarks;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A random source per benchmark thread, so that choosing keys does not itself contend.
+ */
+@State(Scope.Thread)
+public class ThreadRandom {
+    final SplittableRandom random = new SplittableRandom(ThreadLocalRandom.current().nextLong());
+}
@@ -0,0 +1,213 @@
+package com.rifftech.temporal.collections;
+
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.rifftech.temporal.collections.TemporalRange.MAX;
+import static com.rifftech.temporal.collections.TemporalRange.fromTo;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * A treap keyed by the start instant of each temporal record, where every node keeps the
+ * aggregate of its subtree. It mirrors the entries of a {@link ConcurrentSkipListTemporalCollection},
+ * including expirations, so that the aggregate of the records starting within a range can be
+ * computed along two root-to-leaf paths. The last record of such a range may end after it, and is
+ * lifted again at query time with {@link TemporalAggregator#liftUntil(TemporalRecord, Instant)} so
+ * that only its part within the range is aggregated. Instances are not thread-safe.
+ */
+@RequiredArgsConstructor
+@FieldDefaults(level = PRIVATE)
+final class AggregateTree<T, A> {
+    final TemporalAggregator<T, A> aggregator;
+    Node<T, A> root;
+
+    void put(Instant key, Optional<T> value) {
+        root = insert(root, key, value);
+        Node<T, A> node = find(key);
+        Node<T, A> higher = higher(key);
+        node.end = higher == null ? MAX : higher.key;
+        refresh(root, key);
+        Node<T, A> lower = lower(key);
+        if (lower != null) {
+            lower.end = key;
+            refresh(root, lower.key);
+        }
+    }
+
+    A aggregate(Instant from, Instant to) {
+        Node<T, A> last = floor(to);
+        if (last == null || last.key.isBefore(from) || !last.end.isAfter(to)) {
+            return aggregate(root, from, to);
+        }
+        Node<T, A> previous = lower(last.key);
+        A earlier = previous == null || previous.key.isBefore(from) ? aggregator.identity() : aggregate(root, from, previous.key);
+        A clipped = last.value
+                .map(value -> aggregator.liftUntil(new TemporalRecord<>(fromTo(last.key, last.end), value), to))
+                .orElseGet(aggregator::identity);
+        return aggregator.combine(earlier, clipped);
+    }
+
+    private A aggregate(Node<T, A> node, Instant from, Instant to) {
+        if (node == null) {
+            return aggregator.identity();
+        } else if (node.key.isBefore(from)) {
+            return aggregate(node.right, from, to);
+        } else if (node.key.isAfter(to)) {
+            return aggregate(node.left, from, to);
+        }
+        return aggregator.combine(aggregator.combine(from(node.left, from), node.self), until(node.right, to));
+    }
+
+    private A from(Node<T, A> node, Instant from) {
+        if (node == null) {
+            return aggregator.identity();
+        } else if (node.key.isBefore(from)) {
+            return from(node.right, from);
+        }
+        return aggregator.combine(aggregator.combine(from(node.left, from), node.self), total(node.right));
+    }
+
+    private A until(Node<T, A> node, Instant to) {
+        if (node == null) {
+            return aggregator.identity();
+        } else if (node.key.isAfter(to)) {
+            return until(node.left, to);
+        }
+        return aggregator.combine(aggregator.combine(total(node.left), node.self), until(node.right, to));
+    }
+
+    private Node<T, A> insert(Node<T, A> node, Instant key, Optional<T> value) {
+        if (node == null) {
+            return new Node<>(key, value, ThreadLocalRandom.current().nextInt(), aggregator.identity());
+        }
+        int comparison = key.compareTo(node.key);
+        if (comparison == 0) {
+            node.value = value;
+        } else if (comparison < 0) {
+            node.left = insert(node.left, key, value);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, key, value);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        return node;
+    }
+
+    private void refresh(Node<T, A> node, Instant key) {
+        int comparison = key.compareTo(node.key);
+        if (comparison < 0) {
+            refresh(node.left, key);
+        } else if (comparison > 0) {
+            refresh(node.right, key);
+        } else {
+            node.self = node.value
+                    .map(value -> aggregator.lift(new TemporalRecord<>(fromTo(node.key, node.end), value)))
+                    .orElseGet(aggregator::identity);
+        }
+        pull(node);
+    }
+
+    private Node<T, A> rotateRight(Node<T, A> node) {
+        Node<T, A> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        pull(node);
+        pull(left);
+        return left;
+    }
+
+    private Node<T, A> rotateLeft(Node<T, A> node) {
+        Node<T, A> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        pull(node);
+        pull(right);
+        return right;
+    }
+
+    private void pull(Node<T, A> node) {
+        node.total = aggregator.combine(aggregator.combine(total(node.left), node.self), total(node.right));
+    }
+
+    private A total(Node<T, A> node) {
+        return node == null ? aggregator.identity() : node.total;
+    }
+
+    private Node<T, A> find(Instant key) {
+        Node<T, A> node = root;
+        while (node != null && !node.key.equals(key)) {
+            node = key.isBefore(node.key) ? node.left : node.right;
+        }
+        return node;
+    }
+
+    private Node<T, A> lower(Instant key) {
+        Node<T, A> node = root;
+        Node<T, A> lower = null;
+        while (node != null) {
+            if (node.key.isBefore(key)) {
+                lower = node;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return lower;
+    }
+
+    private Node<T, A> floor(Instant key) {
+        Node<T, A> node = root;
+        Node<T, A> floor = null;
+        while (node != null) {
+            if (node.key.isAfter(key)) {
+                node = node.left;
+            } else {
+                floor = node;
+                node = node.right;
+            }
+        }
+        return floor;
+    }
+
+    private Node<T, A> higher(Instant key) {
+        Node<T, A> node = root;
+        Node<T, A> higher = null;
+        while (node != null) {
+            if (node.key.isAfter(key)) {
+                higher = node;
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        return higher;
+    }
+
+    @FieldDefaults(level = PRIVATE)
+    private static final class Node<T, A> {
+        final Instant key;
+        final int priority;
+        Optional<T> value;
+        Instant end = MAX;
+        A self;
+        A total;
+        Node<T, A> left;
+        Node<T, A> right;
+
+        Node(Instant key, Optional<T> value, int priority, A identity) {
+            this.key = key;
+            this.value = value;
+            this.priority = priority;
+            this.self = identity;
+            this.total = identity;
+        }
+    }
+}
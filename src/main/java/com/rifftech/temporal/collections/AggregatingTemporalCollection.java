@@ -0,0 +1,127 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+import lombok.Synchronized;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * A {@link MutableTemporalCollection} that maintains an aggregate index alongside its records,
+ * so that the aggregate of the records within a temporal range is computed in logarithmic time
+ * instead of by visiting every record of the range.
+ *
+ * @param <T> the type of the value stored within the temporal elements
+ * @param <A> the type of the aggregate
+ */
+@FieldDefaults(makeFinal = true, level = PRIVATE)
+public class AggregatingTemporalCollection<T, A> implements MutableTemporalCollection<T> {
+    ConcurrentSkipListTemporalCollection<T> collection;
+    AggregateTree<T, A> index;
+
+    public AggregatingTemporalCollection(@NonNull TemporalAggregator<T, A> aggregator) {
+        this(aggregator, Clock.systemUTC());
+    }
+
+    public AggregatingTemporalCollection(@NonNull TemporalAggregator<T, A> aggregator, @NonNull Clock clock) {
+        this.collection = new ConcurrentSkipListTemporalCollection<>(clock);
+        this.index = new AggregateTree<>(aggregator);
+    }
+
+    @Override
+    public Clock clock() {
+        return collection.clock();
+    }
+
+    /**
+     * @return the statistics of the underlying collection
+     * @see ConcurrentSkipListTemporalCollection#statistics()
+     */
+    public TemporalCollectionStatistics statistics() {
+        return collection.statistics();
+    }
+
+    /**
+     * @return a stream of the records of the underlying collection within the range
+     * @see ConcurrentSkipListTemporalCollection#streamInRange(TemporalRange)
+     */
+    public Stream<TemporalRecord<T>> streamInRange(@NonNull TemporalRange validRange) {
+        return collection.streamInRange(validRange);
+    }
+
+    /**
+     * Aggregates the temporal values that {@link #getInRange(TemporalRange)} returns for the specified range.
+     * The last of them may be valid beyond the range, and only its part within the range is aggregated, as
+     * {@link TemporalAggregator#liftUntil(TemporalRecord, Instant)} lifts it.
+     *
+     * @param validRange the range of time for which to aggregate the valid temporal values.
+     *                   This parameter must not be null.
+     * @return the aggregate of the temporal values valid within the specified range, or the
+     * identity of the aggregator if no such values exist.
+     */
+    @Synchronized
+    public A aggregate(@NonNull TemporalRange validRange) {
+        return index.aggregate(validRange.start(), validRange.end());
+    }
+
+    @Override
+    @Synchronized
+    public Optional<TemporalRecord<T>> effectiveAsOf(@NonNull Instant validTime, @NonNull T item) {
+        Optional<TemporalRecord<T>> priorValue = collection.effectiveAsOf(validTime, item);
+        index.put(validTime, Optional.of(item));
+        return priorValue;
+    }
+
+    @Override
+    @Synchronized
+    public Optional<TemporalRecord<T>> expireAsOf(@NonNull Instant expireAt) {
+        if (collection.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<TemporalRecord<T>> priorValue = collection.expireAsOf(expireAt);
+        index.put(expireAt, Optional.empty());
+        return priorValue;
+    }
+
+    @Override
+    public Optional<TemporalRecord<T>> getAsOfNow() {
+        return collection.getAsOfNow();
+    }
+
+    @Override
+    public Optional<TemporalRecord<T>> getAsOf(@NonNull Instant validTime) {
+        return collection.getAsOf(validTime);
+    }
+
+    @Override
+    public List<Optional<TemporalRecord<T>>> getAllAsOf(@NonNull List<Instant> validTimes) {
+        return collection.getAllAsOf(validTimes);
+    }
+
+    @Override
+    public Optional<TemporalRecord<T>> getPriorTo(@NonNull Instant validTime) {
+        return collection.getPriorTo(validTime);
+    }
+
+    @Override
+    public Collection<TemporalRecord<T>> getInRange(@NonNull TemporalRange validRange) {
+        return collection.getInRange(validRange);
+    }
+
+    @Override
+    public int size() {
+        return collection.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return collection.isEmpty();
+    }
+}
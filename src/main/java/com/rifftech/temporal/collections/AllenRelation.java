@@ -0,0 +1,136 @@
+package com.rifftech.temporal.collections;
+
+/**
+ * The relations between two ranges that {@link TemporalRange} and {@link EpochNanoRange} test, as values
+ * for evaluating them in bulk with {@link AllenRelations}. Each relation holds when the method of the same
+ * name returns true on a range with the probe range as its argument; {@link #OVERLAPS} and
+ * {@link #CONTIGUOUS_WITH} are the unions that {@link TemporalRange#overlaps(TemporalRange)} and
+ * {@link TemporalRange#isContiguousWith(TemporalRange)} test.
+ * <p>
+ * {@link #test(long, long, long, long)} evaluates a relation without branches on the bounds: every
+ * comparison is computed as a 0 or 1 from the sign bit of a difference corrected for overflow, so that
+ * the sentinels {@link EpochNanoRange#MIN} and {@link EpochNanoRange#MAX} compare correctly.
+ */
+public enum AllenRelation {
+    BEFORE {
+        @Override
+        public long test(long start, long end, long probeStart, long probeEnd) {
+            return lessThan(end, probeStart);
+        }
+    },
+    AFTER {
+        @Override
+        public long test(long start, long end, long probeStart, long probeEnd) {
+            return lessThan(probeEnd, start);
+        }
+    },
+    MEETS {
+        @Override
+        public long test(long start, long end, long probeStart, long probeEnd) {
+            return equal(end, probeStart);
+        }
+    },
+    MET_BY {
+        @Override
+        public long test(long start, long end, long probeStart, long probeEnd) {
+            return equal(start, probeEnd);
+        }
+    },
+    OVERLAPS_BEFORE {
+        @Override
+        public long test(long start, long end, long probeStart, long probeEnd) {
+            return lessThan(start, probeStart) & (lessThan(probeEnd, start) ^ 1) & lessThan(probeEnd, end);
+        }
+    },
+    OVERLAPS_AFTER {
+        @Override
+        public long test(long start, long end, long probeStart, long probeEnd) {
+            return lessThan(probeEnd, end) & (lessThan(probeStart, start) ^ 1) & lessThan(probeStart, end);
+        }
+    },
+    FINISHES {
+        @Override
+        public long test(long start, long end, long probeStart, long probeEnd) {
+            return lessThan(probeStart, start) & equal(end, probeEnd);
+        }
+    },
+    FINISHED_BY {
+        @Override
+        public long test(long start, long end, long probeStart, long probeEnd) {
+            return lessThan(start, probeStart) & equal(end, probeEnd);
+        }
+    },
+    INCLUDES {
+        @Override
+        public long test(long start, long end, long probeStart, long probeEnd) {
+            return lessThan(start, probeStart) & lessThan(probeEnd, end);
+        }
+    },
+    DURING {
+        @Override
+        public long test(long start, long end, long probeStart, long probeEnd) {
+            return lessThan(probeStart, start) & lessThan(end, probeEnd);
+        }
+    },
+    STARTS {
+        @Override
+        public long test(long start, long end, long probeStart, long probeEnd) {
+            return lessThan(end, probeEnd) & equal(start, probeStart);
+        }
+    },
+    STARTED_BY {
+        @Override
+        public long test(long start, long end, long probeStart, long probeEnd) {
+            return lessThan(probeEnd, end) & equal(start, probeStart);
+        }
+    },
+    CONTIGUOUS_WITH {
+        @Override
+        public long test(long start, long end, long probeStart, long probeEnd) {
+            return equal(end, probeStart) | equal(start, probeEnd);
+        }
+    },
+    OVERLAPS {
+        @Override
+        public long test(long start, long end, long probeStart, long probeEnd) {
+            return OVERLAPS_BEFORE.test(start, end, probeStart, probeEnd) | OVERLAPS_AFTER.test(start, end, probeStart, probeEnd);
+        }
+    };
+
+    /**
+     * Tests whether the relation holds between a range and a probe range, given by their epoch nanoseconds.
+     *
+     * @return 1 if the relation holds, otherwise 0
+     */
+    public abstract long test(long start, long end, long probeStart, long probeEnd);
+
+    /**
+     * Tests whether the relation holds between a range and a probe range.
+     *
+     * @param range the range to test; must not be null.
+     * @param probe the range to test it against; must not be null.
+     * @return true if the relation holds
+     */
+    public boolean holds(EpochNanoRange range, EpochNanoRange probe) {
+        if (range == null || probe == null) {
+            throw new IllegalArgumentException("The ranges cannot be null.");
+        }
+        return test(range.start(), range.end(), probe.start(), probe.end()) != 0;
+    }
+
+    /**
+     * @return 1 if {@code a < b}, otherwise 0, also when {@code a - b} overflows
+     */
+    static long lessThan(long a, long b) {
+        long difference = a - b;
+        return (difference ^ ((a ^ b) & (difference ^ a))) >>> 63;
+    }
+
+    /**
+     * @return 1 if {@code a == b}, otherwise 0
+     */
+    static long equal(long a, long b) {
+        long difference = a ^ b;
+        return ((difference | -difference) >>> 63) ^ 1;
+    }
+}
@@ -0,0 +1,348 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.rifftech.temporal.collections.AllenRelation.equal;
+import static com.rifftech.temporal.collections.AllenRelation.lessThan;
+
+/**
+ * Evaluates the {@link AllenRelation Allen relations} of many ranges to one probe range at a time. The ranges
+ * are given as columns of their start and end in epoch nanoseconds, as {@link EpochNanoRange} holds them, and
+ * the result is a bitmask in the layout of {@link java.util.BitSet#valueOf(long[])}: bit {@code i % 64} of word
+ * {@code i / 64} is set when the relation holds between range {@code i} and the probe.
+ * <p>
+ * Each range is evaluated without branches on its bounds and its bit shifted into the word being assembled,
+ * so that the cost of a column is independent of how the relations happen to fall. Every relation has a loop
+ * of its own with the comparisons of {@link AllenRelation#test(long, long, long, long)} written out, rather
+ * than one loop calling the relation for each range, so that the JIT compiler sees straight-line arithmetic it
+ * can unroll and vectorize instead of a call it cannot inline. Masks of the same columns combine with {@code &} and {@code |}
+ * word by word, for instance to evaluate several probes or relations at once.
+ */
+public class AllenRelations {
+    private static final int BITS_PER_WORD = Long.SIZE;
+
+    private AllenRelations() {
+    }
+
+    /**
+     * Evaluates a relation between every range of the columns and the probe.
+     *
+     * @param relation the relation to evaluate; must not be null.
+     * @param starts   the starts of the ranges in epoch nanoseconds; must not be null.
+     * @param ends     the ends of the ranges in epoch nanoseconds; must not be null and as long as {@code starts}.
+     * @param probe    the range to relate the ranges to; must not be null.
+     * @return the bitmask of the ranges for which the relation holds
+     */
+    public static long[] evaluate(@NonNull AllenRelation relation, @NonNull long[] starts, @NonNull long[] ends,
+                                  @NonNull EpochNanoRange probe) {
+        validateColumns(starts, ends, starts.length);
+        long[] mask = new long[wordsFor(starts.length)];
+        evaluate(relation, starts, ends, starts.length, probe, mask);
+        return mask;
+    }
+
+    /**
+     * Evaluates a relation between the first {@code length} ranges of the columns and the probe into a mask
+     * supplied by the caller, so that columns can be evaluated repeatedly without allocating. The words of the
+     * mask covering the ranges are overwritten, the bits beyond {@code length} in the last of them cleared, and
+     * the words after it left untouched.
+     *
+     * @param relation the relation to evaluate; must not be null.
+     * @param starts   the starts of the ranges in epoch nanoseconds; must not be null.
+     * @param ends     the ends of the ranges in epoch nanoseconds; must not be null and as long as {@code starts}.
+     * @param length   the number of ranges to evaluate; must not exceed the length of the columns.
+     * @param probe    the range to relate the ranges to; must not be null.
+     * @param mask     the bitmask to write; must have at least {@code (length + 63) / 64} words.
+     */
+    public static void evaluate(@NonNull AllenRelation relation, @NonNull long[] starts, @NonNull long[] ends, int length,
+                                @NonNull EpochNanoRange probe, @NonNull long[] mask) {
+        validateColumns(starts, ends, length);
+        validateMask(mask, length);
+        long probeStart = probe.start();
+        long probeEnd = probe.end();
+        switch (relation) {
+            case BEFORE -> evaluateBefore(starts, ends, length, probeStart, probeEnd, mask);
+            case AFTER -> evaluateAfter(starts, ends, length, probeStart, probeEnd, mask);
+            case MEETS -> evaluateMeets(starts, ends, length, probeStart, probeEnd, mask);
+            case MET_BY -> evaluateMetBy(starts, ends, length, probeStart, probeEnd, mask);
+            case OVERLAPS_BEFORE -> evaluateOverlapsBefore(starts, ends, length, probeStart, probeEnd, mask);
+            case OVERLAPS_AFTER -> evaluateOverlapsAfter(starts, ends, length, probeStart, probeEnd, mask);
+            case FINISHES -> evaluateFinishes(starts, ends, length, probeStart, probeEnd, mask);
+            case FINISHED_BY -> evaluateFinishedBy(starts, ends, length, probeStart, probeEnd, mask);
+            case INCLUDES -> evaluateIncludes(starts, ends, length, probeStart, probeEnd, mask);
+            case DURING -> evaluateDuring(starts, ends, length, probeStart, probeEnd, mask);
+            case STARTS -> evaluateStarts(starts, ends, length, probeStart, probeEnd, mask);
+            case STARTED_BY -> evaluateStartedBy(starts, ends, length, probeStart, probeEnd, mask);
+            case CONTIGUOUS_WITH -> evaluateContiguousWith(starts, ends, length, probeStart, probeEnd, mask);
+            case OVERLAPS -> evaluateOverlaps(starts, ends, length, probeStart, probeEnd, mask);
+        }
+    }
+
+    /**
+     * Evaluates every relation between every range of the columns and the probe.
+     *
+     * @param starts the starts of the ranges in epoch nanoseconds; must not be null.
+     * @param ends   the ends of the ranges in epoch nanoseconds; must not be null and as long as {@code starts}.
+     * @param probe  the range to relate the ranges to; must not be null.
+     * @return the bitmask of each relation
+     */
+    public static Map<AllenRelation, long[]> evaluateAll(@NonNull long[] starts, @NonNull long[] ends, @NonNull EpochNanoRange probe) {
+        validateColumns(starts, ends, starts.length);
+        Map<AllenRelation, long[]> masks = new EnumMap<>(AllenRelation.class);
+        for (AllenRelation relation : AllenRelation.values()) {
+            masks.put(relation, evaluate(relation, starts, ends, probe));
+        }
+        return masks;
+    }
+
+    /**
+     * Finds the ranges of the columns that share at least one instant with the probe, which is what conflicts
+     * with the probe when the ranges are bookings of one resource. Unlike {@link AllenRelation#OVERLAPS}, this
+     * includes the ranges that are during, include, start, finish or equal the probe.
+     *
+     * @param starts the starts of the ranges in epoch nanoseconds; must not be null.
+     * @param ends   the ends of the ranges in epoch nanoseconds; must not be null and as long as {@code starts}.
+     * @param probe  the range to relate the ranges to; must not be null.
+     * @return the bitmask of the ranges intersecting the probe
+     */
+    public static long[] intersecting(@NonNull long[] starts, @NonNull long[] ends, @NonNull EpochNanoRange probe) {
+        validateColumns(starts, ends, starts.length);
+        int length = starts.length;
+        long[] mask = new long[wordsFor(length)];
+        long probeStart = probe.start();
+        long probeEnd = probe.end();
+        for (int word = 0, base = 0; base < length; word++, base += BITS_PER_WORD) {
+            int count = Math.min(BITS_PER_WORD, length - base);
+            long bits = 0;
+            for (int bit = 0; bit < count; bit++) {
+                long start = starts[base + bit];
+                long end = ends[base + bit];
+                bits |= (lessThan(start, probeEnd) & lessThan(probeStart, end)) << bit;
+            }
+            mask[word] = bits;
+        }
+        return mask;
+    }
+
+    /**
+     * @return the number of ranges set in the bitmask
+     */
+    public static int cardinality(@NonNull long[] mask) {
+        int cardinality = 0;
+        for (long word : mask) {
+            cardinality += Long.bitCount(word);
+        }
+        return cardinality;
+    }
+
+    /**
+     * @return whether range {@code index} is set in the bitmask
+     */
+    public static boolean isSet(@NonNull long[] mask, int index) {
+        if (index < 0 || index / BITS_PER_WORD >= mask.length) {
+            throw new IllegalArgumentException("Index %d is outside of the mask.".formatted(index));
+        }
+        return (mask[index / BITS_PER_WORD] & (1L << index)) != 0;
+    }
+
+    private static void evaluateBefore(long[] starts, long[] ends, int length, long probeStart, long probeEnd, long[] mask) {
+        for (int word = 0, base = 0; base < length; word++, base += BITS_PER_WORD) {
+            int count = Math.min(BITS_PER_WORD, length - base);
+            long bits = 0;
+            for (int bit = 0; bit < count; bit++) {
+                long end = ends[base + bit];
+                bits |= lessThan(end, probeStart) << bit;
+            }
+            mask[word] = bits;
+        }
+    }
+
+    private static void evaluateAfter(long[] starts, long[] ends, int length, long probeStart, long probeEnd, long[] mask) {
+        for (int word = 0, base = 0; base < length; word++, base += BITS_PER_WORD) {
+            int count = Math.min(BITS_PER_WORD, length - base);
+            long bits = 0;
+            for (int bit = 0; bit < count; bit++) {
+                long start = starts[base + bit];
+                bits |= lessThan(probeEnd, start) << bit;
+            }
+            mask[word] = bits;
+        }
+    }
+
+    private static void evaluateMeets(long[] starts, long[] ends, int length, long probeStart, long probeEnd, long[] mask) {
+        for (int word = 0, base = 0; base < length; word++, base += BITS_PER_WORD) {
+            int count = Math.min(BITS_PER_WORD, length - base);
+            long bits = 0;
+            for (int bit = 0; bit < count; bit++) {
+                long end = ends[base + bit];
+                bits |= equal(end, probeStart) << bit;
+            }
+            mask[word] = bits;
+        }
+    }
+
+    private static void evaluateMetBy(long[] starts, long[] ends, int length, long probeStart, long probeEnd, long[] mask) {
+        for (int word = 0, base = 0; base < length; word++, base += BITS_PER_WORD) {
+            int count = Math.min(BITS_PER_WORD, length - base);
+            long bits = 0;
+            for (int bit = 0; bit < count; bit++) {
+                long start = starts[base + bit];
+                bits |= equal(start, probeEnd) << bit;
+            }
+            mask[word] = bits;
+        }
+    }
+
+    private static void evaluateOverlapsBefore(long[] starts, long[] ends, int length, long probeStart, long probeEnd, long[] mask) {
+        for (int word = 0, base = 0; base < length; word++, base += BITS_PER_WORD) {
+            int count = Math.min(BITS_PER_WORD, length - base);
+            long bits = 0;
+            for (int bit = 0; bit < count; bit++) {
+                long start = starts[base + bit];
+                long end = ends[base + bit];
+                bits |= (lessThan(start, probeStart) & (lessThan(probeEnd, start) ^ 1) & lessThan(probeEnd, end)) << bit;
+            }
+            mask[word] = bits;
+        }
+    }
+
+    private static void evaluateOverlapsAfter(long[] starts, long[] ends, int length, long probeStart, long probeEnd, long[] mask) {
+        for (int word = 0, base = 0; base < length; word++, base += BITS_PER_WORD) {
+            int count = Math.min(BITS_PER_WORD, length - base);
+            long bits = 0;
+            for (int bit = 0; bit < count; bit++) {
+                long start = starts[base + bit];
+                long end = ends[base + bit];
+                bits |= (lessThan(probeEnd, end) & (lessThan(probeStart, start) ^ 1) & lessThan(probeStart, end)) << bit;
+            }
+            mask[word] = bits;
+        }
+    }
+
+    private static void evaluateFinishes(long[] starts, long[] ends, int length, long probeStart, long probeEnd, long[] mask) {
+        for (int word = 0, base = 0; base < length; word++, base += BITS_PER_WORD) {
+            int count = Math.min(BITS_PER_WORD, length - base);
+            long bits = 0;
+            for (int bit = 0; bit < count; bit++) {
+                long start = starts[base + bit];
+                long end = ends[base + bit];
+                bits |= (lessThan(probeStart, start) & equal(end, probeEnd)) << bit;
+            }
+            mask[word] = bits;
+        }
+    }
+
+    private static void evaluateFinishedBy(long[] starts, long[] ends, int length, long probeStart, long probeEnd, long[] mask) {
+        for (int word = 0, base = 0; base < length; word++, base += BITS_PER_WORD) {
+            int count = Math.min(BITS_PER_WORD, length - base);
+            long bits = 0;
+            for (int bit = 0; bit < count; bit++) {
+                long start = starts[base + bit];
+                long end = ends[base + bit];
+                bits |= (lessThan(start, probeStart) & equal(end, probeEnd)) << bit;
+            }
+            mask[word] = bits;
+        }
+    }
+
+    private static void evaluateIncludes(long[] starts, long[] ends, int length, long probeStart, long probeEnd, long[] mask) {
+        for (int word = 0, base = 0; base < length; word++, base += BITS_PER_WORD) {
+            int count = Math.min(BITS_PER_WORD, length - base);
+            long bits = 0;
+            for (int bit = 0; bit < count; bit++) {
+                long start = starts[base + bit];
+                long end = ends[base + bit];
+                bits |= (lessThan(start, probeStart) & lessThan(probeEnd, end)) << bit;
+            }
+            mask[word] = bits;
+        }
+    }
+
+    private static void evaluateDuring(long[] starts, long[] ends, int length, long probeStart, long probeEnd, long[] mask) {
+        for (int word = 0, base = 0; base < length; word++, base += BITS_PER_WORD) {
+            int count = Math.min(BITS_PER_WORD, length - base);
+            long bits = 0;
+            for (int bit = 0; bit < count; bit++) {
+                long start = starts[base + bit];
+                long end = ends[base + bit];
+                bits |= (lessThan(probeStart, start) & lessThan(end, probeEnd)) << bit;
+            }
+            mask[word] = bits;
+        }
+    }
+
+    private static void evaluateStarts(long[] starts, long[] ends, int length, long probeStart, long probeEnd, long[] mask) {
+        for (int word = 0, base = 0; base < length; word++, base += BITS_PER_WORD) {
+            int count = Math.min(BITS_PER_WORD, length - base);
+            long bits = 0;
+            for (int bit = 0; bit < count; bit++) {
+                long start = starts[base + bit];
+                long end = ends[base + bit];
+                bits |= (lessThan(end, probeEnd) & equal(start, probeStart)) << bit;
+            }
+            mask[word] = bits;
+        }
+    }
+
+    private static void evaluateStartedBy(long[] starts, long[] ends, int length, long probeStart, long probeEnd, long[] mask) {
+        for (int word = 0, base = 0; base < length; word++, base += BITS_PER_WORD) {
+            int count = Math.min(BITS_PER_WORD, length - base);
+            long bits = 0;
+            for (int bit = 0; bit < count; bit++) {
+                long start = starts[base + bit];
+                long end = ends[base + bit];
+                bits |= (lessThan(probeEnd, end) & equal(start, probeStart)) << bit;
+            }
+            mask[word] = bits;
+        }
+    }
+
+    private static void evaluateContiguousWith(long[] starts, long[] ends, int length, long probeStart, long probeEnd, long[] mask) {
+        for (int word = 0, base = 0; base < length; word++, base += BITS_PER_WORD) {
+            int count = Math.min(BITS_PER_WORD, length - base);
+            long bits = 0;
+            for (int bit = 0; bit < count; bit++) {
+                long start = starts[base + bit];
+                long end = ends[base + bit];
+                bits |= (equal(end, probeStart) | equal(start, probeEnd)) << bit;
+            }
+            mask[word] = bits;
+        }
+    }
+
+    private static void evaluateOverlaps(long[] starts, long[] ends, int length, long probeStart, long probeEnd, long[] mask) {
+        for (int word = 0, base = 0; base < length; word++, base += BITS_PER_WORD) {
+            int count = Math.min(BITS_PER_WORD, length - base);
+            long bits = 0;
+            for (int bit = 0; bit < count; bit++) {
+                long start = starts[base + bit];
+                long end = ends[base + bit];
+                bits |= ((lessThan(start, probeStart) & (lessThan(probeEnd, start) ^ 1) & lessThan(probeEnd, end))
+                        | (lessThan(probeEnd, end) & (lessThan(probeStart, start) ^ 1) & lessThan(probeStart, end))) << bit;
+            }
+            mask[word] = bits;
+        }
+    }
+
+    static int wordsFor(int length) {
+        return (length + BITS_PER_WORD - 1) / BITS_PER_WORD;
+    }
+
+    private static void validateColumns(long[] starts, long[] ends, int length) {
+        if (starts.length != ends.length) {
+            throw new IllegalArgumentException("The columns must have the same length.");
+        }
+        if (length < 0 || length > starts.length) {
+            throw new IllegalArgumentException("Length must be between 0 and the length of the columns.");
+        }
+    }
+
+    private static void validateMask(long[] mask, int length) {
+        if (mask.length < wordsFor(length)) {
+            throw new IllegalArgumentException("The mask must have a bit for each range.");
+        }
+    }
+}
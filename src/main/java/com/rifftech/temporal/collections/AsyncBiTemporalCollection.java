@@ -0,0 +1,69 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Runs the queries of a {@link BiTemporalCollection} on an {@link Executor}.
+ *
+ * @param <T> the type of the value stored within the bi-temporal elements
+ * @see AsyncTemporalCollection
+ */
+@FieldDefaults(makeFinal = true, level = PRIVATE)
+public class AsyncBiTemporalCollection<T> {
+    BiTemporalCollection<T> collection;
+    Executor executor;
+
+    public AsyncBiTemporalCollection(@NonNull BiTemporalCollection<T> collection, @NonNull Executor executor) {
+        this.collection = collection;
+        this.executor = executor;
+    }
+
+    /**
+     * @return the collection the queries are run against.
+     */
+    public BiTemporalCollection<T> collection() {
+        return collection;
+    }
+
+    public CompletableFuture<Optional<BiTemporalRecord<T>>> getAsOfNow() {
+        return CompletableFuture.supplyAsync(collection::getAsOfNow, executor);
+    }
+
+    public CompletableFuture<Optional<BiTemporalRecord<T>>> getAsOf(@NonNull Instant validTime) {
+        return CompletableFuture.supplyAsync(() -> collection.getAsOf(validTime), executor);
+    }
+
+    public CompletableFuture<Optional<BiTemporalRecord<T>>> getAsOf(@NonNull Instant validTime, @NonNull Instant transactionTime) {
+        return CompletableFuture.supplyAsync(() -> collection.getAsOf(validTime, transactionTime), executor);
+    }
+
+    public CompletableFuture<List<Optional<BiTemporalRecord<T>>>> getAllAsOf(@NonNull List<Instant> validTimes, @NonNull Instant transactionTime) {
+        return CompletableFuture.supplyAsync(() -> collection.getAllAsOf(validTimes, transactionTime), executor);
+    }
+
+    public CompletableFuture<Optional<BiTemporalRecord<T>>> getPriorTo(@NonNull Instant validTime) {
+        return CompletableFuture.supplyAsync(() -> collection.getPriorTo(validTime), executor);
+    }
+
+    public CompletableFuture<Optional<BiTemporalRecord<T>>> getPriorTo(@NonNull Instant validTime, @NonNull Instant transactionTime) {
+        return CompletableFuture.supplyAsync(() -> collection.getPriorTo(validTime, transactionTime), executor);
+    }
+
+    public CompletableFuture<Collection<BiTemporalRecord<T>>> getInRange(@NonNull TemporalRange validRange) {
+        return CompletableFuture.supplyAsync(() -> collection.getInRange(validRange), executor);
+    }
+
+    public CompletableFuture<Collection<BiTemporalRecord<T>>> getInRange(@NonNull TemporalRange validRange, @NonNull TemporalRange transactionRange) {
+        return CompletableFuture.supplyAsync(() -> collection.getInRange(validRange, transactionRange), executor);
+    }
+}
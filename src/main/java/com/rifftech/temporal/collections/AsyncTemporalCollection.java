@@ -0,0 +1,62 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Runs the queries of a {@link TemporalCollection} on an {@link Executor}, so that several queries, possibly
+ * against several collections, can be in flight at once. Combine the returned futures with
+ * {@link AsyncTemporalQueries}; bound the number of queries running at once with a {@link BoundedExecutor}.
+ *
+ * @param <T> the type of the value stored within the temporal elements
+ */
+@FieldDefaults(makeFinal = true, level = PRIVATE)
+public class AsyncTemporalCollection<T> {
+    TemporalCollection<T> collection;
+    Executor executor;
+
+    public AsyncTemporalCollection(@NonNull TemporalCollection<T> collection, @NonNull Executor executor) {
+        this.collection = collection;
+        this.executor = executor;
+    }
+
+    /**
+     * @return the collection the queries are run against.
+     */
+    public TemporalCollection<T> collection() {
+        return collection;
+    }
+
+    public CompletableFuture<Optional<TemporalRecord<T>>> getAsOfNow() {
+        return CompletableFuture.supplyAsync(collection::getAsOfNow, executor);
+    }
+
+    public CompletableFuture<Optional<TemporalRecord<T>>> getAsOf(@NonNull Instant validTime) {
+        return CompletableFuture.supplyAsync(() -> collection.getAsOf(validTime), executor);
+    }
+
+    public CompletableFuture<List<Optional<TemporalRecord<T>>>> getAllAsOf(@NonNull List<Instant> validTimes) {
+        return CompletableFuture.supplyAsync(() -> collection.getAllAsOf(validTimes), executor);
+    }
+
+    public CompletableFuture<Optional<TemporalRecord<T>>> getPriorToNow() {
+        return CompletableFuture.supplyAsync(collection::getPriorToNow, executor);
+    }
+
+    public CompletableFuture<Optional<TemporalRecord<T>>> getPriorTo(@NonNull Instant validTime) {
+        return CompletableFuture.supplyAsync(() -> collection.getPriorTo(validTime), executor);
+    }
+
+    public CompletableFuture<Collection<TemporalRecord<T>>> getInRange(@NonNull TemporalRange validRange) {
+        return CompletableFuture.supplyAsync(() -> collection.getInRange(validRange), executor);
+    }
+}
@@ -0,0 +1,52 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Combines the futures of several asynchronous queries into one.
+ */
+public class AsyncTemporalQueries {
+
+    /**
+     * Waits for all queries and collects their results in the order of the given futures. The combined
+     * future completes exceptionally as soon as all queries completed and one of them failed.
+     *
+     * @param queries the futures of the queries; must not be null.
+     * @param <R>     the type of the query results
+     * @return a future of the results in the order of the queries.
+     */
+    public static <R> CompletableFuture<List<R>> allOf(@NonNull Collection<? extends CompletableFuture<? extends R>> queries) {
+        List<CompletableFuture<? extends R>> futures = List.copyOf(queries);
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    List<R> results = new ArrayList<>(futures.size());
+                    futures.forEach(future -> results.add(future.join()));
+                    return results;
+                });
+    }
+
+    /**
+     * Waits for all queries and collects their results under the keys of the given futures.
+     *
+     * @param queries the futures of the queries by key; must not be null.
+     * @param <K>     the type of the keys
+     * @param <R>     the type of the query results
+     * @return a future of the results by key, in the iteration order of the given map.
+     */
+    public static <K, R> CompletableFuture<Map<K, R>> allOf(@NonNull Map<K, ? extends CompletableFuture<? extends R>> queries) {
+        Map<K, CompletableFuture<? extends R>> futures = new LinkedHashMap<>(queries);
+        return CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    Map<K, R> results = new LinkedHashMap<>();
+                    futures.forEach((key, future) -> results.put(key, future.join()));
+                    return results;
+                });
+    }
+}
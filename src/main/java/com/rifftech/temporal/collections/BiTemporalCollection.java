@@ -2,8 +2,10 @@ package com.rifftech.temporal.collections;
 
 import lombok.NonNull;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,6 +16,16 @@ import java.util.Optional;
  * @param <T> the type of the value stored within the bi-temporal elements
  */
 public interface BiTemporalCollection<T> {
+    /**
+     * Returns the clock that supplies the present moment, used both as valid time by the methods
+     * relative to now and as transaction time by the methods that omit it.
+     *
+     * @return the clock of this collection, the system UTC clock by default.
+     */
+    default Clock clock() {
+        return Clock.systemUTC();
+    }
+
     /**
      * Retrieves the temporal value that is currently valid as of the present moment,
      * if such a value exists.
@@ -22,7 +34,7 @@ public interface BiTemporalCollection<T> {
      * or an empty {@code Optional} if no such value exists.
      */
     default Optional<BiTemporalRecord<T>> getAsOfNow() {
-        return getAsOf(Instant.now());
+        return getAsOf(clock().instant());
     }
 
     /**
@@ -34,7 +46,7 @@ public interface BiTemporalCollection<T> {
      * or an empty {@code Optional} if no such value exists at that time.
      */
     default Optional<BiTemporalRecord<T>> getAsOf(@NonNull Instant validTime) {
-        return getAsOf(validTime, Instant.now());
+        return getAsOf(validTime, clock().instant());
     }
 
     /**
@@ -48,6 +60,23 @@ public interface BiTemporalCollection<T> {
      */
     Optional<BiTemporalRecord<T>> getAsOf(@NonNull Instant validTime, @NonNull Instant transactionTime);
 
+    /**
+     * Retrieves the values that were valid at each of the specified valid times, as known at the specified
+     * transaction time. Implementations may take advantage of the order of the valid times to find all values
+     * in a single traversal.
+     *
+     * @param validTimes      the points in time representing the validity of the values, in ascending order.
+     *                        This parameter must not be null.
+     * @param transactionTime the point in time representing the transaction time of the values. This parameter must not be null.
+     * @return a list holding, at each position, the result of {@link #getAsOf(Instant, Instant)} for the valid
+     * time at the same position.
+     * @throws IllegalArgumentException if the valid times are not in ascending order.
+     */
+    default List<Optional<BiTemporalRecord<T>>> getAllAsOf(@NonNull List<Instant> validTimes, @NonNull Instant transactionTime) {
+        FloorCursor.requireAscending(validTimes);
+        return validTimes.stream().map(validTime -> getAsOf(validTime, transactionTime)).toList();
+    }
+
     /**
      * Retrieves the temporal value that was valid immediately prior to the present moment,
      * if such a value exists.
@@ -56,7 +85,7 @@ public interface BiTemporalCollection<T> {
      * or an empty {@code Optional} if no such value exists.
      */
     default Optional<BiTemporalRecord<T>> getPriorToNow() {
-        return getPriorTo(Instant.now());
+        return getPriorTo(clock().instant());
     }
 
     /**
@@ -69,7 +98,7 @@ public interface BiTemporalCollection<T> {
      * the specified time, or an empty {@code Optional} if no such value exists.
      */
     default Optional<BiTemporalRecord<T>> getPriorTo(@NonNull Instant validTime) {
-        return getPriorTo(validTime, Instant.now());
+        return getPriorTo(validTime, clock().instant());
     }
 
     /**
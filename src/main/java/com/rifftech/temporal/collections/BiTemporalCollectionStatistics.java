@@ -0,0 +1,37 @@
+package com.rifftech.temporal.collections;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Statistics of a {@link ConcurrentSkipListBiTemporalCollection}, maintained incrementally like
+ * {@link TemporalCollectionStatistics}.
+ *
+ * @param businessKeyCount       the number of business-time keys, which is what {@link BiTemporalCollection#size()} reports
+ * @param versionCount           the number of system-time versions over all business-time keys
+ * @param recordCount            the number of versions holding a value
+ * @param tombstoneCount         the number of versions expiring a business-time key
+ * @param earliestBusinessTime   the earliest business-time key, if any
+ * @param latestBusinessTime     the latest business-time key, if any
+ * @param earliestSystemTime     the earliest system time of any version, if any
+ * @param latestSystemTime       the latest system time of any version, if any
+ * @param estimatedRetainedBytes an estimate of the heap retained by the keys, versions and the nested maps
+ *                               holding them on a 64-bit JVM with compressed references, excluding the values
+ */
+public record BiTemporalCollectionStatistics(long businessKeyCount,
+                                             long versionCount,
+                                             long recordCount,
+                                             long tombstoneCount,
+                                             Optional<Instant> earliestBusinessTime,
+                                             Optional<Instant> latestBusinessTime,
+                                             Optional<Instant> earliestSystemTime,
+                                             Optional<Instant> latestSystemTime,
+                                             long estimatedRetainedBytes) {
+
+    /**
+     * @return the average number of system-time versions per business-time key, or 0 if there are no keys.
+     */
+    public double versionsPerBusinessKey() {
+        return businessKeyCount == 0 ? 0 : (double) versionCount / businessKeyCount;
+    }
+}
@@ -1,18 +1,27 @@
 package com.rifftech.temporal.collections;
 
 import com.rifftech.temporal.events.BiTemporalEventProducer;
+import com.rifftech.temporal.metrics.TemporalMetrics;
 
+import java.time.Clock;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.Executor;
 
 public class BiTemporalCollections {
 
     private static <T> ConcurrentSkipListBiTemporalCollection<T> createBiTemporalCollection(Collection<BiTemporalRecord<T>> temporalRecords) {
-        SortedSet<BiTemporalRecord<T>> sorted = new TreeSet<>(temporalRecords);
+        return createBiTemporalCollection(temporalRecords, Clock.systemUTC());
+    }
+
+    private static <T> ConcurrentSkipListBiTemporalCollection<T> createBiTemporalCollection(Collection<BiTemporalRecord<T>> temporalRecords, Clock clock) {
+        return populate(new ConcurrentSkipListBiTemporalCollection<>(clock), temporalRecords);
+    }
 
-        ConcurrentSkipListBiTemporalCollection<T> collection = new ConcurrentSkipListBiTemporalCollection<>();
+    private static <T, C extends MutableBiTemporalCollection<T>> C populate(C collection, Collection<BiTemporalRecord<T>> temporalRecords) {
+        SortedSet<BiTemporalRecord<T>> sorted = new TreeSet<>(temporalRecords);
         sorted.forEach(r -> {
             collection.effectiveAsOf(r.businessEffective().start(), r.systemEffective().start(), r.value());
             collection.expireAsOf(r.businessEffective().end(), r.systemEffective().end());
@@ -36,7 +45,47 @@ public class BiTemporalCollections {
         return createBiTemporalCollection(temporalRecords);
     }
 
+    public static <T> MutableBiTemporalCollection<T> mutableBiTemporalCollection(Collection<BiTemporalRecord<T>> temporalRecords, Clock clock) {
+        return createBiTemporalCollection(temporalRecords, clock);
+    }
+
     public static <T> EventPublishingBiTemporalCollection<T> mutableBiTemporalCollection(Collection<BiTemporalRecord<T>> temporalRecords, BiTemporalEventProducer<T> producer) {
         return new EventPublishingBiTemporalCollection<>(createBiTemporalCollection(temporalRecords), producer);
     }
+
+    public static <T> BiTemporalCollection<T> instrumentedBiTemporalCollection(BiTemporalCollection<T> collection, TemporalMetrics metrics) {
+        return metrics.isEnabled() ? new InstrumentedBiTemporalCollection<>(collection, metrics) : collection;
+    }
+
+    public static <T> MutableBiTemporalCollection<T> instrumentedMutableBiTemporalCollection(MutableBiTemporalCollection<T> collection, TemporalMetrics metrics) {
+        return metrics.isEnabled() ? new InstrumentedMutableBiTemporalCollection<>(collection, metrics) : collection;
+    }
+
+    public static <T> AsyncBiTemporalCollection<T> asyncBiTemporalCollection(BiTemporalCollection<T> collection, Executor executor) {
+        return new AsyncBiTemporalCollection<>(collection, executor);
+    }
+
+    public static <T> AsyncBiTemporalCollection<T> asyncBiTemporalCollection(BiTemporalCollection<T> collection, int maxConcurrency) {
+        return new AsyncBiTemporalCollection<>(collection, BoundedExecutor.withMaxConcurrency(maxConcurrency));
+    }
+
+    public static <T> CachingBiTemporalCollection<T> cachingBiTemporalCollection(Collection<BiTemporalRecord<T>> temporalRecords, int maximumSize) {
+        return new CachingBiTemporalCollection<>(createBiTemporalCollection(temporalRecords), maximumSize);
+    }
+
+    public static <T> CompositeKeyBiTemporalCollection<T> compositeKeyBiTemporalCollection(Collection<BiTemporalRecord<T>> temporalRecords) {
+        return compositeKeyBiTemporalCollection(temporalRecords, Clock.systemUTC());
+    }
+
+    public static <T> CompositeKeyBiTemporalCollection<T> compositeKeyBiTemporalCollection(Collection<BiTemporalRecord<T>> temporalRecords, Clock clock) {
+        return populate(new CompositeKeyBiTemporalCollection<>(clock), temporalRecords);
+    }
+
+    public static <T> DictionaryEncodedBiTemporalCollection<T> dictionaryEncodedBiTemporalCollection(Collection<BiTemporalRecord<T>> temporalRecords) {
+        return populate(new DictionaryEncodedBiTemporalCollection<>(), temporalRecords);
+    }
+
+    public static <T> DictionaryEncodedBiTemporalCollection<T> dictionaryEncodedBiTemporalCollection(Collection<BiTemporalRecord<T>> temporalRecords, ValueDictionary<T> dictionary) {
+        return populate(new DictionaryEncodedBiTemporalCollection<>(dictionary), temporalRecords);
+    }
 }
@@ -0,0 +1,53 @@
+package com.rifftech.temporal.collections;
+
+import lombok.experimental.FieldDefaults;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * A size-bounded, least-recently-used cache whose entries are stamped with the modification count
+ * of the collection they were computed from. An entry is only served while the stamp matches the
+ * current count, so invalidation is a single counter comparison and stale entries simply age out.
+ * Values are computed outside the cache lock; concurrent misses on the same key may compute twice.
+ *
+ * @param <K> the type of the query keys
+ * @param <V> the type of the cached results
+ */
+@FieldDefaults(makeFinal = true, level = PRIVATE)
+final class BoundedCache<K, V> {
+    Map<K, Stamped<V>> entries;
+
+    BoundedCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("The maximum size must be positive.");
+        }
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Stamped<V>> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    V get(K key, long version, Function<K, V> loader) {
+        Stamped<V> stamped;
+        synchronized (entries) {
+            stamped = entries.get(key);
+        }
+        if (stamped != null && stamped.version() == version) {
+            return stamped.value();
+        }
+        V value = loader.apply(key);
+        synchronized (entries) {
+            entries.put(key, new Stamped<>(version, value));
+        }
+        return value;
+    }
+
+    private record Stamped<V>(long version, V value) {
+    }
+}
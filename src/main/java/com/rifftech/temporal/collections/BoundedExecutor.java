@@ -0,0 +1,122 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+import java.lang.reflect.Method;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * An {@link Executor} that runs at most a fixed number of tasks at the same time on a delegate executor.
+ * Further tasks wait in an unbounded queue and are handed to the delegate as running tasks complete, so
+ * submitting never blocks. Sharing one bounded executor between several asynchronous collections bounds
+ * their combined concurrency.
+ * <p>
+ * A task the delegate rejects goes back to the head of the queue, to be handed over again when a running
+ * task completes or another task is submitted. Only when no task is running, so that nothing would hand it
+ * over again, is the submitted task withdrawn and the rejection thrown to its submitter.
+ */
+@FieldDefaults(makeFinal = true, level = PRIVATE)
+public final class BoundedExecutor implements Executor {
+    private static final Executor UNBOUNDED = unboundedExecutor();
+
+    Executor delegate;
+    int maxConcurrency;
+    Deque<Runnable> pending = new ConcurrentLinkedDeque<>();
+    AtomicInteger running = new AtomicInteger();
+
+    public BoundedExecutor(@NonNull Executor delegate, int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("The maximum concurrency must be positive.");
+        }
+        this.delegate = delegate;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Creates a bounded executor that runs every task on a new virtual thread when the runtime supports
+     * them, and on a shared pool of daemon threads otherwise.
+     *
+     * @param maxConcurrency the maximum number of tasks running at the same time; must be positive.
+     * @return a bounded executor.
+     */
+    public static BoundedExecutor withMaxConcurrency(int maxConcurrency) {
+        return new BoundedExecutor(UNBOUNDED, maxConcurrency);
+    }
+
+    public int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * @return the number of tasks waiting for a running task to complete.
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public void execute(@NonNull Runnable task) {
+        pending.add(task);
+        drain(task);
+    }
+
+    /**
+     * Hands pending tasks to the delegate while permits are available.
+     *
+     * @param submitted the task submitted by the calling thread, or null when draining after a task completed
+     */
+    private void drain(Runnable submitted) {
+        while (!pending.isEmpty()) {
+            int current = running.get();
+            if (current >= maxConcurrency) {
+                return;
+            }
+            if (!running.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            Runnable task = pending.poll();
+            if (task == null) {
+                running.decrementAndGet();
+                continue;
+            }
+            try {
+                delegate.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        running.decrementAndGet();
+                        drain(null);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                pending.offerFirst(task);
+                if (running.decrementAndGet() == 0 && submitted != null && pending.removeFirstOccurrence(submitted)) {
+                    throw e;
+                }
+                return;
+            }
+        }
+    }
+
+    private static Executor unboundedExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "temporal-collections-async");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * A {@link MutableBiTemporalCollection} that memoizes query results of a
+ * {@link ConcurrentSkipListBiTemporalCollection}, in the same way {@link CachingTemporalCollection}
+ * does for uni-temporal collections. Lookups relative to the present moment depend on the clock and
+ * are therefore only served from the cache when called with the same transaction time again.
+ *
+ * @param <T> the type of the value stored within the bi-temporal elements
+ */
+@FieldDefaults(makeFinal = true, level = PRIVATE)
+public class CachingBiTemporalCollection<T> implements MutableBiTemporalCollection<T> {
+    ConcurrentSkipListBiTemporalCollection<T> collection;
+    BoundedCache<Point, Optional<BiTemporalRecord<T>>> asOf;
+    BoundedCache<Point, Optional<BiTemporalRecord<T>>> priorTo;
+    BoundedCache<TemporalRange, Collection<BiTemporalRecord<T>>> inValidRange;
+    BoundedCache<Ranges, Collection<BiTemporalRecord<T>>> inRanges;
+
+    public CachingBiTemporalCollection(@NonNull ConcurrentSkipListBiTemporalCollection<T> collection, int maximumSize) {
+        this.collection = collection;
+        this.asOf = new BoundedCache<>(maximumSize);
+        this.priorTo = new BoundedCache<>(maximumSize);
+        this.inValidRange = new BoundedCache<>(maximumSize);
+        this.inRanges = new BoundedCache<>(maximumSize);
+    }
+
+    @Override
+    public Clock clock() {
+        return collection.clock();
+    }
+
+    /**
+     * @return the statistics of the underlying collection
+     * @see ConcurrentSkipListBiTemporalCollection#statistics()
+     */
+    public BiTemporalCollectionStatistics statistics() {
+        return collection.statistics();
+    }
+
+    /**
+     * @return the underlying collection as known at the transaction time
+     * @see ConcurrentSkipListBiTemporalCollection#asOfTransactionTime(Instant)
+     */
+    public TemporalCollection<T> asOfTransactionTime(@NonNull Instant transactionTime) {
+        return collection.asOfTransactionTime(transactionTime);
+    }
+
+    /**
+     * @return the versions of the record of the underlying collection effective at the business time
+     * @see ConcurrentSkipListBiTemporalCollection#getHistory(Instant)
+     */
+    public Stream<BiTemporalRecord<T>> getHistory(@NonNull Instant businessTime) {
+        return collection.getHistory(businessTime);
+    }
+
+    /**
+     * @return the versions of the records of the underlying collection overlapping the range
+     * @see ConcurrentSkipListBiTemporalCollection#getHistory(TemporalRange)
+     */
+    public Stream<BiTemporalRecord<T>> getHistory(@NonNull TemporalRange validRange) {
+        return collection.getHistory(validRange);
+    }
+
+    /**
+     * @return a stream of the records of the underlying collection within the range
+     * @see ConcurrentSkipListBiTemporalCollection#streamInRange(TemporalRange)
+     */
+    public Stream<BiTemporalRecord<T>> streamInRange(@NonNull TemporalRange validRange) {
+        return collection.streamInRange(validRange);
+    }
+
+    /**
+     * @return a stream of the records of the underlying collection within the ranges
+     * @see ConcurrentSkipListBiTemporalCollection#streamInRange(TemporalRange, TemporalRange)
+     */
+    public Stream<BiTemporalRecord<T>> streamInRange(@NonNull TemporalRange validRange, @NonNull TemporalRange transactionRange) {
+        return collection.streamInRange(validRange, transactionRange);
+    }
+
+    @Override
+    public Optional<BiTemporalRecord<T>> effectiveAsOf(@NonNull Instant businessTime, @NonNull Instant systemTime, @NonNull T item) {
+        return collection.effectiveAsOf(businessTime, systemTime, item);
+    }
+
+    @Override
+    public Optional<BiTemporalRecord<T>> expireAsOf(@NonNull Instant businessTime, @NonNull Instant systemTime) {
+        return collection.expireAsOf(businessTime, systemTime);
+    }
+
+    @Override
+    public Optional<BiTemporalRecord<T>> getAsOfNow() {
+        return collection.getAsOfNow();
+    }
+
+    @Override
+    public Optional<BiTemporalRecord<T>> getAsOf(@NonNull Instant validTime, @NonNull Instant transactionTime) {
+        return asOf.get(new Point(validTime, transactionTime), collection.modificationCount(),
+                point -> collection.getAsOf(point.validTime(), point.transactionTime()));
+    }
+
+    @Override
+    public List<Optional<BiTemporalRecord<T>>> getAllAsOf(@NonNull List<Instant> validTimes, @NonNull Instant transactionTime) {
+        return collection.getAllAsOf(validTimes, transactionTime);
+    }
+
+    @Override
+    public Optional<BiTemporalRecord<T>> getPriorTo(@NonNull Instant validTime, @NonNull Instant transactionTime) {
+        return priorTo.get(new Point(validTime, transactionTime), collection.modificationCount(),
+                point -> collection.getPriorTo(point.validTime(), point.transactionTime()));
+    }
+
+    @Override
+    public Collection<BiTemporalRecord<T>> getInRange(@NonNull TemporalRange validRange) {
+        return inValidRange.get(validRange, collection.modificationCount(), collection::getInRange);
+    }
+
+    @Override
+    public Collection<BiTemporalRecord<T>> getInRange(@NonNull TemporalRange validRange, @NonNull TemporalRange transactionRange) {
+        return inRanges.get(new Ranges(validRange, transactionRange), collection.modificationCount(),
+                ranges -> collection.getInRange(ranges.validRange(), ranges.transactionRange()));
+    }
+
+    @Override
+    public int size() {
+        return collection.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return collection.isEmpty();
+    }
+
+    private record Point(Instant validTime, Instant transactionTime) {
+    }
+
+    private record Ranges(TemporalRange validRange, TemporalRange transactionRange) {
+    }
+}
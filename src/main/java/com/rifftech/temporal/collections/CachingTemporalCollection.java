@@ -0,0 +1,103 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * A {@link MutableTemporalCollection} that memoizes the results of {@code getAsOf}, {@code getPriorTo}
+ * and {@code getInRange} on a {@link ConcurrentSkipListTemporalCollection}. Each query kind keeps at most
+ * {@code maximumSize} results, evicting the least recently used ones, and results are discarded as
+ * soon as the {@link ConcurrentSkipListTemporalCollection#modificationCount()} of the underlying
+ * collection changes, including through modifications not made via this wrapper.
+ *
+ * @param <T> the type of the value stored within the temporal elements
+ */
+@FieldDefaults(makeFinal = true, level = PRIVATE)
+public class CachingTemporalCollection<T> implements MutableTemporalCollection<T> {
+    ConcurrentSkipListTemporalCollection<T> collection;
+    BoundedCache<Instant, Optional<TemporalRecord<T>>> asOf;
+    BoundedCache<Instant, Optional<TemporalRecord<T>>> priorTo;
+    BoundedCache<TemporalRange, Collection<TemporalRecord<T>>> inRange;
+
+    public CachingTemporalCollection(@NonNull ConcurrentSkipListTemporalCollection<T> collection, int maximumSize) {
+        this.collection = collection;
+        this.asOf = new BoundedCache<>(maximumSize);
+        this.priorTo = new BoundedCache<>(maximumSize);
+        this.inRange = new BoundedCache<>(maximumSize);
+    }
+
+    @Override
+    public Clock clock() {
+        return collection.clock();
+    }
+
+    /**
+     * @return the statistics of the underlying collection
+     * @see ConcurrentSkipListTemporalCollection#statistics()
+     */
+    public TemporalCollectionStatistics statistics() {
+        return collection.statistics();
+    }
+
+    /**
+     * @return a stream of the records of the underlying collection within the range
+     * @see ConcurrentSkipListTemporalCollection#streamInRange(TemporalRange)
+     */
+    public Stream<TemporalRecord<T>> streamInRange(@NonNull TemporalRange validRange) {
+        return collection.streamInRange(validRange);
+    }
+
+    @Override
+    public Optional<TemporalRecord<T>> effectiveAsOf(@NonNull Instant validTime, @NonNull T item) {
+        return collection.effectiveAsOf(validTime, item);
+    }
+
+    @Override
+    public Optional<TemporalRecord<T>> expireAsOf(@NonNull Instant expireAt) {
+        return collection.expireAsOf(expireAt);
+    }
+
+    @Override
+    public Optional<TemporalRecord<T>> getAsOfNow() {
+        return collection.getAsOfNow();
+    }
+
+    @Override
+    public Optional<TemporalRecord<T>> getAsOf(@NonNull Instant validTime) {
+        return asOf.get(validTime, collection.modificationCount(), collection::getAsOf);
+    }
+
+    @Override
+    public List<Optional<TemporalRecord<T>>> getAllAsOf(@NonNull List<Instant> validTimes) {
+        return collection.getAllAsOf(validTimes);
+    }
+
+    @Override
+    public Optional<TemporalRecord<T>> getPriorTo(@NonNull Instant validTime) {
+        return priorTo.get(validTime, collection.modificationCount(), collection::getPriorTo);
+    }
+
+    @Override
+    public Collection<TemporalRecord<T>> getInRange(@NonNull TemporalRange validRange) {
+        return inRange.get(validRange, collection.modificationCount(), collection::getInRange);
+    }
+
+    @Override
+    public int size() {
+        return collection.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return collection.isEmpty();
+    }
+}
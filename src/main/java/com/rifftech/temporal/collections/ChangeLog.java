@@ -0,0 +1,178 @@
+package com.rifftech.temporal.collections;
+
+import com.rifftech.temporal.events.ChangeSubscription;
+import lombok.experimental.FieldDefaults;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+import static java.lang.System.Logger.Level.WARNING;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Assigns consecutive sequence numbers, starting at one, to the events of an event publishing
+ * collection and retains the most recent of them in a ring buffer, so that consumers can resume
+ * from the sequence number following the last event they processed.
+ * <p>
+ * Modifications that go through {@link #modify(Supplier)} run under the lock of this log together
+ * with the sequencing of their events, so that sequence order is the order in which they took
+ * effect. Only the sequenced events are queued there: they are handed to the publisher and the
+ * subscribed consumers after the lock is released, by one modifying thread at a time and in
+ * sequence order, so that a slow or blocking publisher or consumer holds up the delivery of events
+ * but not the modifications of other threads. Every consumer observes the events in sequence order
+ * without gaps or duplicates.
+ *
+ * @param <E> the type of the logged events
+ */
+@FieldDefaults(level = PRIVATE)
+final class ChangeLog<E> {
+    static final int DEFAULT_CAPACITY = 1024;
+    private static final System.Logger LOGGER = System.getLogger(ChangeLog.class.getName());
+
+    final Object[] events;
+    final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    final Queue<Pending<E>> pending = new ConcurrentLinkedQueue<>();
+    final Object delivery = new Object();
+    long lastSequence;
+
+    ChangeLog(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The change log capacity cannot be negative.");
+        }
+        this.events = new Object[capacity];
+    }
+
+    int capacity() {
+        return events.length;
+    }
+
+    synchronized long lastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * @return the sequence number of the oldest retained event, or the sequence number the next
+     * event will get if no event is retained.
+     */
+    synchronized long firstSequence() {
+        return Math.max(1L, lastSequence - events.length + 1);
+    }
+
+    /**
+     * Runs a modification of the collection, together with the appends of the events it causes,
+     * under the lock of this log, and then delivers the events it appended. It returns once they
+     * have been delivered, possibly along with the events of other modifications.
+     */
+    <R> R modify(Supplier<R> modification) {
+        try {
+            synchronized (this) {
+                return modification.get();
+            }
+        } finally {
+            deliver();
+        }
+    }
+
+    /**
+     * Assigns the next sequence number to an event, retains it and queues it for the publisher and
+     * the subscribed consumers. It is called within {@link #modify(Supplier)}, which delivers the
+     * event once the modification completes.
+     */
+    synchronized void append(LongFunction<E> sequencedEvent, Consumer<? super E> publisher) {
+        long sequence = ++lastSequence;
+        E event = sequencedEvent.apply(sequence);
+        if (events.length > 0) {
+            events[(int) ((sequence - 1) % events.length)] = event;
+        }
+        pending.add(new Pending<>(sequence, event, publisher));
+    }
+
+    /**
+     * Hands the queued events, in sequence order, to their publisher and then to every subscribed
+     * consumer that has not been replayed the event already. A consumer that throws is logged and
+     * unsubscribed, so that it neither fails the modification that caused the event nor keeps the
+     * event from the consumers after it.
+     */
+    private void deliver() {
+        synchronized (delivery) {
+            Pending<E> next;
+            while ((next = pending.poll()) != null) {
+                next.publisher().accept(next.event());
+                for (Subscription subscription : subscriptions) {
+                    if (next.sequence() < subscription.firstDelivered) {
+                        continue;
+                    }
+                    try {
+                        subscription.consumer.accept(next.event());
+                    } catch (RuntimeException e) {
+                        LOGGER.log(WARNING, "Closing the change subscription whose consumer failed on the event with sequence " + next.sequence() + ".", e);
+                        subscription.close();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Replays the retained events from the specified sequence number on to the consumer and then
+     * keeps delivering new events to it until the returned subscription is closed. Events are not
+     * delivered while the consumer is replayed, but modifications continue.
+     *
+     * @throws IllegalArgumentException if the sequence number lies beyond the next event.
+     * @throws IllegalStateException    if events from the sequence number on are no longer retained.
+     */
+    @SuppressWarnings("unchecked")
+    ChangeSubscription subscribeFrom(long sequence, Consumer<? super E> consumer) {
+        synchronized (delivery) {
+            List<E> replay = new ArrayList<>();
+            long firstDelivered;
+            synchronized (this) {
+                if (sequence < 1 || sequence > lastSequence + 1) {
+                    throw new IllegalArgumentException("The sequence must be between 1 and " + (lastSequence + 1) + ".");
+                }
+                if (sequence < firstSequence()) {
+                    throw new IllegalStateException("The change log no longer holds the events from sequence " + sequence
+                            + "; the oldest retained event has sequence " + firstSequence() + ".");
+                }
+                for (long s = sequence; s <= lastSequence; s++) {
+                    replay.add((E) events[(int) ((s - 1) % events.length)]);
+                }
+                firstDelivered = lastSequence + 1;
+            }
+            replay.forEach(consumer);
+            Subscription subscription = new Subscription(consumer, firstDelivered);
+            subscriptions.add(subscription);
+            return subscription;
+        }
+    }
+
+    private record Pending<E>(long sequence, E event, Consumer<? super E> publisher) {
+    }
+
+    @FieldDefaults(makeFinal = true, level = PRIVATE)
+    private final class Subscription implements ChangeSubscription {
+        Consumer<? super E> consumer;
+        long firstDelivered;
+
+        Subscription(Consumer<? super E> consumer, long firstDelivered) {
+            this.consumer = consumer;
+            this.firstDelivered = firstDelivered;
+        }
+
+        @Override
+        public boolean isActive() {
+            return subscriptions.contains(this);
+        }
+
+        @Override
+        public void close() {
+            subscriptions.remove(this);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * A {@link Clock} that trades precision for throughput: the current instant is read from a source
+ * clock by a background ticker at a fixed granularity and cached, so {@link #instant()} is a single
+ * volatile read. The reported instant never runs ahead of the source clock and lags it by at most
+ * the granularity plus scheduling delay.
+ * <p>
+ * The ticker runs on a daemon thread owned by this clock and is stopped by {@link #close()}, after
+ * which the clock keeps reporting the last instant it observed. Clocks obtained via
+ * {@link #withZone(ZoneId)} share the ticker of the clock they were derived from.
+ */
+@FieldDefaults(makeFinal = true, level = PRIVATE)
+public final class CoarseClock extends Clock implements AutoCloseable {
+    Ticker ticker;
+    ZoneId zone;
+
+    private CoarseClock(Ticker ticker, ZoneId zone) {
+        this.ticker = ticker;
+        this.zone = zone;
+    }
+
+    /**
+     * Creates a coarse clock in UTC that samples the system clock at the given granularity.
+     *
+     * @param granularity the interval between two samples of the system clock; must be positive.
+     * @return a coarse clock that should be closed once no longer needed.
+     */
+    public static CoarseClock of(@NonNull Duration granularity) {
+        return of(Clock.systemUTC(), granularity);
+    }
+
+    /**
+     * Creates a coarse clock in the zone of the source clock that samples it at the given granularity.
+     *
+     * @param source      the clock to sample; must not be null.
+     * @param granularity the interval between two samples of the source clock; must be positive.
+     * @return a coarse clock that should be closed once no longer needed.
+     */
+    public static CoarseClock of(@NonNull Clock source, @NonNull Duration granularity) {
+        if (granularity.isZero() || granularity.isNegative()) {
+            throw new IllegalArgumentException("The granularity must be positive.");
+        }
+        return new CoarseClock(new Ticker(source, granularity), source.getZone());
+    }
+
+    public Duration granularity() {
+        return ticker.granularity;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(@NonNull ZoneId zone) {
+        return zone.equals(this.zone) ? this : new CoarseClock(ticker, zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return ticker.now;
+    }
+
+    @Override
+    public long millis() {
+        return ticker.now.toEpochMilli();
+    }
+
+    /**
+     * Stops the background ticker of this clock and of all clocks derived from it.
+     */
+    @Override
+    public void close() {
+        ticker.executor.shutdownNow();
+    }
+
+    @Override
+    public String toString() {
+        return "CoarseClock[" + ticker.granularity + "," + zone + "]";
+    }
+
+    @FieldDefaults(level = PRIVATE)
+    private static final class Ticker {
+        final Clock source;
+        final Duration granularity;
+        final ScheduledExecutorService executor;
+        volatile Instant now;
+
+        Ticker(Clock source, Duration granularity) {
+            this.source = source;
+            this.granularity = granularity;
+            this.now = source.instant();
+            this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "coarse-clock-ticker");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long period = Math.max(1, granularity.toNanos());
+            executor.scheduleAtFixedRate(this::tick, period, period, TimeUnit.NANOSECONDS);
+        }
+
+        private void tick() {
+            now = source.instant();
+        }
+    }
+}
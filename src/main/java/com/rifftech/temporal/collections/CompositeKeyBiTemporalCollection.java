@@ -0,0 +1,406 @@
+package com.rifftech.temporal.collections;
+
+import com.rifftech.temporal.jfr.BiTemporalOperationEvent;
+import lombok.NonNull;
+import lombok.Synchronized;
+import lombok.experimental.FieldDefaults;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.rifftech.temporal.collections.TemporalRange.MAX;
+import static com.rifftech.temporal.collections.TemporalRange.MIN;
+import static com.rifftech.temporal.collections.TemporalRange.fromTo;
+import static com.rifftech.temporal.metrics.TemporalOperation.EFFECTIVE_AS_OF;
+import static com.rifftech.temporal.metrics.TemporalOperation.EXPIRE_AS_OF;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_AS_OF;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_AS_OF_NOW;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_IN_RANGE;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_PRIOR_TO;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * A {@link MutableBiTemporalCollection} with the semantics of {@link ConcurrentSkipListBiTemporalCollection}
+ * that stores all versions in a single skip list ordered by business time and then by system time,
+ * instead of a nested skip list per business-time key. A business-time key costs no more than its
+ * versions, which saves most of the memory of collections with only one or two versions per key,
+ * at the price of an extra lookup to find the end of a business range.
+ * <p>
+ * A business-time key expired before it had any version is kept as a marker entry at system time
+ * {@link Instant#MIN}, which therefore cannot be used as the system time of a version. Queries are
+ * lock-free; modifications are serialized so that the key and version counts stay exact.
+ *
+ * @param <T> the type of the value stored within the bi-temporal elements
+ */
+@FieldDefaults(makeFinal = true, level = PRIVATE)
+public class CompositeKeyBiTemporalCollection<T> implements MutableBiTemporalCollection<T> {
+    ConcurrentSkipListMap<Key, Optional<T>> items = new ConcurrentSkipListMap<>();
+    AtomicLong modificationCount = new AtomicLong();
+    LongAdder businessKeyCount = new LongAdder();
+    LongAdder markerCount = new LongAdder();
+    LongAdder versionCount = new LongAdder();
+    LongAdder recordCount = new LongAdder();
+    LongAdder tombstoneCount = new LongAdder();
+    AtomicReference<Instant> earliestSystemTime = new AtomicReference<>();
+    AtomicReference<Instant> latestSystemTime = new AtomicReference<>();
+    Clock clock;
+
+    public CompositeKeyBiTemporalCollection() {
+        this(Clock.systemUTC());
+    }
+
+    public CompositeKeyBiTemporalCollection(@NonNull Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public Clock clock() {
+        return clock;
+    }
+
+    /**
+     * @return the number of modifications made to this collection
+     * @see ConcurrentSkipListBiTemporalCollection#modificationCount()
+     */
+    public long modificationCount() {
+        return modificationCount.get();
+    }
+
+    @Override
+    @Synchronized
+    public Optional<BiTemporalRecord<T>> effectiveAsOf(@NonNull Instant validTime, @NonNull Instant transactionTime, @NonNull T item) {
+        requireVersionTime(transactionTime);
+        BiTemporalOperationEvent event = new BiTemporalOperationEvent();
+        event.begin();
+        final Optional<BiTemporalRecord<T>> priorValue = findAsOf(validTime, transactionTime);
+        if (!hasBusinessKey(validTime)) {
+            businessKeyCount.increment();
+        }
+        putVersion(new Key(validTime, transactionTime), Optional.of(item));
+        if (items.remove(new Key(validTime, Instant.MIN)) != null) {
+            markerCount.decrement();
+        }
+        modificationCount.incrementAndGet();
+        event.complete(getClass(), EFFECTIVE_AS_OF, validTime, validTime, transactionTime, transactionTime, priorValue.isPresent() ? 1 : 0);
+        return priorValue;
+    }
+
+    @Override
+    @Synchronized
+    public Optional<BiTemporalRecord<T>> expireAsOf(@NonNull Instant businessTime, @NonNull Instant systemTime) {
+        requireVersionTime(systemTime);
+        if (isEmpty()) {
+            return Optional.empty();
+        }
+        BiTemporalOperationEvent event = new BiTemporalOperationEvent();
+        event.begin();
+        final Optional<BiTemporalRecord<T>> priorValue = findAsOf(businessTime, systemTime);
+        if (!hasBusinessKey(businessTime)) {
+            items.put(new Key(businessTime, Instant.MIN), Optional.empty());
+            businessKeyCount.increment();
+            markerCount.increment();
+        } else if (!items.containsKey(new Key(businessTime, Instant.MIN))) {
+            putVersion(new Key(businessTime, systemTime), Optional.empty());
+        }
+        modificationCount.incrementAndGet();
+        event.complete(getClass(), EXPIRE_AS_OF, businessTime, businessTime, systemTime, systemTime, priorValue.isPresent() ? 1 : 0);
+        return priorValue;
+    }
+
+    @Override
+    public Optional<BiTemporalRecord<T>> getAsOfNow() {
+        BiTemporalOperationEvent event = new BiTemporalOperationEvent();
+        event.begin();
+        Instant now = clock.instant();
+        Optional<BiTemporalRecord<T>> record = findAsOf(now, now);
+        event.complete(getClass(), GET_AS_OF_NOW, now, now, now, now, record.isPresent() ? 1 : 0);
+        return record;
+    }
+
+    @Override
+    public Optional<BiTemporalRecord<T>> getAsOf(@NonNull Instant validTime, @NonNull Instant transactionTime) {
+        BiTemporalOperationEvent event = new BiTemporalOperationEvent();
+        event.begin();
+        Optional<BiTemporalRecord<T>> record = findAsOf(validTime, transactionTime);
+        event.complete(getClass(), GET_AS_OF, validTime, validTime, transactionTime, transactionTime, record.isPresent() ? 1 : 0);
+        return record;
+    }
+
+    @Override
+    public Optional<BiTemporalRecord<T>> getPriorTo(@NonNull Instant validTime, @NonNull Instant transactionTime) {
+        BiTemporalOperationEvent event = new BiTemporalOperationEvent();
+        event.begin();
+        Optional<BiTemporalRecord<T>> record = Optional.ofNullable(items.floorKey(new Key(validTime, Instant.MAX)))
+                .map(businessKey -> items.lowerKey(new Key(businessKey.businessTime(), Instant.MIN)))
+                .flatMap(priorKey -> versionAsOf(priorKey.businessTime(), transactionTime));
+        event.complete(getClass(), GET_PRIOR_TO, validTime, validTime, transactionTime, transactionTime, record.isPresent() ? 1 : 0);
+        return record;
+    }
+
+    /**
+     * Returns the first system-time version of every business-time key within the range, like
+     * {@link ConcurrentSkipListBiTemporalCollection#getInRange(TemporalRange)}.
+     */
+    @Override
+    public Collection<BiTemporalRecord<T>> getInRange(@NonNull TemporalRange validRange) {
+        BiTemporalOperationEvent event = new BiTemporalOperationEvent();
+        event.begin();
+        Collection<BiTemporalRecord<T>> records = versions(validRange.start(), validRange.end(), true)
+                .filter(Version::isFirst)
+                .map(Version::record)
+                .flatMap(Optional::stream)
+                .toList();
+        event.complete(getClass(), GET_IN_RANGE, validRange.start(), validRange.end(), MIN, MAX, records.size());
+        return records;
+    }
+
+    /**
+     * Returns the system-time versions within the transaction range of every business-time key within
+     * the valid range, like {@link ConcurrentSkipListBiTemporalCollection#getInRange(TemporalRange, TemporalRange)}.
+     */
+    @Override
+    public Collection<BiTemporalRecord<T>> getInRange(@NonNull TemporalRange validRange, @NonNull TemporalRange transactionRange) {
+        BiTemporalOperationEvent event = new BiTemporalOperationEvent();
+        event.begin();
+        Collection<BiTemporalRecord<T>> records = versions(validRange.start(), validRange.end(), true)
+                .filter(version -> !version.systemStart().isBefore(transactionRange.start())
+                        && !version.systemStart().isAfter(transactionRange.end()))
+                .map(Version::record)
+                .flatMap(Optional::stream)
+                .toList();
+        event.complete(getClass(), GET_IN_RANGE, validRange.start(), validRange.end(),
+                transactionRange.start(), transactionRange.end(), records.size());
+        return records;
+    }
+
+    /**
+     * @return the versions of the record effective at the business time, in the order of their system time
+     * @see ConcurrentSkipListBiTemporalCollection#getHistory(Instant)
+     */
+    public Stream<BiTemporalRecord<T>> getHistory(@NonNull Instant businessTime) {
+        return Stream.of(businessTime)
+                .map(b -> Optional.ofNullable(items.floorKey(new Key(b, Instant.MAX))))
+                .flatMap(Optional::stream)
+                .flatMap(businessKey -> versions(businessKey.businessTime(), businessKey.businessTime(), true))
+                .map(Version::record)
+                .flatMap(Optional::stream);
+    }
+
+    /**
+     * @return the versions of the records whose business range overlaps the range
+     * @see ConcurrentSkipListBiTemporalCollection#getHistory(TemporalRange)
+     */
+    public Stream<BiTemporalRecord<T>> getHistory(@NonNull TemporalRange validRange) {
+        return Stream.of(validRange)
+                .flatMap(v -> versions(Optional.ofNullable(items.floorKey(new Key(v.start(), Instant.MAX)))
+                        .map(Key::businessTime)
+                        .orElse(v.start()), v.end(), false))
+                .map(Version::record)
+                .flatMap(Optional::stream);
+    }
+
+    /**
+     * Returns statistics of this collection without visiting its keys or versions. The estimated
+     * footprint counts one composite entry per version and per business-time key without versions.
+     *
+     * @return the current statistics of this collection
+     */
+    public BiTemporalCollectionStatistics statistics() {
+        long versions = versionCount.sum();
+        long records = recordCount.sum();
+        return new BiTemporalCollectionStatistics(businessKeyCount.sum(), versions, records, tombstoneCount.sum(),
+                Optional.ofNullable(items.isEmpty() ? null : items.firstKey().businessTime()),
+                Optional.ofNullable(items.isEmpty() ? null : items.lastKey().businessTime()),
+                Optional.ofNullable(earliestSystemTime.get()),
+                Optional.ofNullable(latestSystemTime.get()),
+                (versions + markerCount.sum()) * (FootprintEstimate.SKIP_LIST_ENTRY_BYTES + FootprintEstimate.COMPOSITE_KEY_BYTES)
+                        + records * FootprintEstimate.OPTIONAL_BYTES);
+    }
+
+    /**
+     * Returns the number of business-time keys of this collection, maintained on modification.
+     *
+     * @return the number of business-time keys of this collection
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(Integer.MAX_VALUE, businessKeyCount.sum());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    /**
+     * Runs the preamble and then visits every entry of this collection in key order, including tombstones
+     * and the markers of business-time keys without versions, while modifications wait, so that whatever
+     * the preamble writes is consistent with the entries visited.
+     */
+    @Synchronized
+    void forEachVersion(IORunnable preamble, VersionVisitor<T> visitor) throws IOException {
+        preamble.run();
+        for (Map.Entry<Key, Optional<T>> entry : items.entrySet()) {
+            visitor.visit(entry.getKey().businessTime(), entry.getKey().systemTime(), entry.getValue());
+        }
+    }
+
+    /**
+     * Restores an entry visited by {@link #forEachVersion(IORunnable, VersionVisitor)} as is, without the
+     * checks and the lookups of {@code effectiveAsOf} and {@code expireAsOf}.
+     */
+    @Synchronized
+    void restoreVersion(Instant businessTime, Instant systemTime, Optional<T> value) {
+        if (!hasBusinessKey(businessTime)) {
+            businessKeyCount.increment();
+        }
+        if (Instant.MIN.equals(systemTime)) {
+            items.put(new Key(businessTime, Instant.MIN), Optional.empty());
+            markerCount.increment();
+        } else {
+            putVersion(new Key(businessTime, systemTime), value);
+        }
+        modificationCount.incrementAndGet();
+    }
+
+    private static void requireVersionTime(Instant systemTime) {
+        if (Instant.MIN.equals(systemTime)) {
+            throw new IllegalArgumentException("The system time must be after Instant.MIN.");
+        }
+    }
+
+    private boolean hasBusinessKey(Instant businessTime) {
+        Key ceiling = items.ceilingKey(new Key(businessTime, Instant.MIN));
+        return ceiling != null && ceiling.businessTime().equals(businessTime);
+    }
+
+    private Optional<BiTemporalRecord<T>> findAsOf(Instant validTime, Instant transactionTime) {
+        return Optional.ofNullable(items.floorKey(new Key(validTime, Instant.MAX)))
+                .flatMap(businessKey -> versionAsOf(businessKey.businessTime(), transactionTime));
+    }
+
+    private Optional<BiTemporalRecord<T>> versionAsOf(Instant businessStart, Instant transactionTime) {
+        return Optional.ofNullable(items.floorEntry(new Key(businessStart, transactionTime)))
+                .filter(e -> e.getKey().businessTime().equals(businessStart) && e.getValue().isPresent())
+                .map(systemStartEntry -> new BiTemporalRecord<>(
+                        fromTo(businessStart, businessEnd(businessStart)),
+                        fromTo(systemStartEntry.getKey().systemTime(), Optional.ofNullable(items.higherKey(systemStartEntry.getKey()))
+                                .filter(next -> next.businessTime().equals(businessStart))
+                                .map(Key::systemTime)
+                                .orElse(MAX)),
+                        systemStartEntry.getValue().get()));
+    }
+
+    private Instant businessEnd(Instant businessStart) {
+        return Optional.ofNullable(items.higherKey(new Key(businessStart, Instant.MAX)))
+                .map(Key::businessTime)
+                .orElse(MAX);
+    }
+
+    /**
+     * Streams the versions of the business-time keys from the first business time up to the last one,
+     * reading each entry once and taking the end of its system range from the entry that follows it.
+     */
+    private Stream<Version<T>> versions(Instant fromBusiness, Instant toBusiness, boolean toInclusive) {
+        if (toBusiness.isBefore(fromBusiness)) {
+            return Stream.empty();
+        }
+        NavigableMap<Key, Optional<T>> slice = items.subMap(
+                new Key(fromBusiness, Instant.MIN), true, new Key(toBusiness, toInclusive ? Instant.MAX : Instant.MIN), toInclusive);
+        Iterator<Map.Entry<Key, Optional<T>>> entries = slice.entrySet().iterator();
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<Version<T>>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            Map.Entry<Key, Optional<T>> next;
+            Instant businessStart;
+            Instant businessEnd;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Version<T>> action) {
+                if (next == null && entries.hasNext()) {
+                    next = entries.next();
+                }
+                while (next != null) {
+                    Map.Entry<Key, Optional<T>> entry = next;
+                    next = entries.hasNext() ? entries.next() : null;
+                    Key key = entry.getKey();
+                    if (Instant.MIN.equals(key.systemTime())) {
+                        continue;
+                    }
+                    boolean first = !key.businessTime().equals(businessStart);
+                    if (first) {
+                        businessStart = key.businessTime();
+                        businessEnd = businessEnd(businessStart);
+                    }
+                    Key following = next != null ? next.getKey() : items.higherKey(key);
+                    Instant systemEnd = following != null && following.businessTime().equals(businessStart)
+                            ? following.systemTime()
+                            : MAX;
+                    action.accept(new Version<>(businessStart, businessEnd, key.systemTime(), systemEnd, entry.getValue(), first));
+                    return true;
+                }
+                return false;
+            }
+        }, false);
+    }
+
+    private void putVersion(Key key, Optional<T> value) {
+        Optional<T> previous = items.put(key, value);
+        if (previous == null) {
+            versionCount.increment();
+            earliestSystemTime.accumulateAndGet(key.systemTime(), (a, b) -> a == null || b.isBefore(a) ? b : a);
+            latestSystemTime.accumulateAndGet(key.systemTime(), (a, b) -> a == null || b.isAfter(a) ? b : a);
+        } else if (previous.isPresent()) {
+            recordCount.decrement();
+        } else {
+            tombstoneCount.decrement();
+        }
+        if (value.isPresent()) {
+            recordCount.increment();
+        } else {
+            tombstoneCount.increment();
+        }
+    }
+
+    @FunctionalInterface
+    interface IORunnable {
+        void run() throws IOException;
+    }
+
+    @FunctionalInterface
+    interface VersionVisitor<T> {
+        void visit(Instant businessTime, Instant systemTime, Optional<T> value) throws IOException;
+    }
+
+    /**
+     * The position of a version, ordered by business time and then by system time.
+     */
+    private record Key(Instant businessTime, Instant systemTime) implements Comparable<Key> {
+        @Override
+        public int compareTo(Key other) {
+            int byBusinessTime = businessTime.compareTo(other.businessTime);
+            return byBusinessTime != 0 ? byBusinessTime : systemTime.compareTo(other.systemTime);
+        }
+    }
+
+    private record Version<T>(Instant businessStart, Instant businessEnd, Instant systemStart, Instant systemEnd,
+                              Optional<T> value, boolean isFirst) {
+        Optional<BiTemporalRecord<T>> record() {
+            return value.map(v -> new BiTemporalRecord<>(fromTo(businessStart, businessEnd), fromTo(systemStart, systemEnd), v));
+        }
+    }
+}
@@ -1,35 +1,110 @@
 package com.rifftech.temporal.collections;
 
+import com.rifftech.temporal.jfr.BiTemporalOperationEvent;
 import lombok.NonNull;
 import lombok.experimental.FieldDefaults;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.time.temporal.TemporalUnit;
 import java.util.Collection;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.BinaryOperator;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.rifftech.temporal.collections.TemporalRange.MAX;
+import static com.rifftech.temporal.collections.TemporalRange.MIN;
 import static com.rifftech.temporal.collections.TemporalRange.fromTo;
+import static com.rifftech.temporal.metrics.TemporalOperation.EFFECTIVE_AS_OF;
+import static com.rifftech.temporal.metrics.TemporalOperation.EXPIRE_AS_OF;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_ALL_AS_OF;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_AS_OF;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_AS_OF_NOW;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_IN_RANGE;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_PRIOR_TO;
 import static lombok.AccessLevel.PRIVATE;
 
 @FieldDefaults(makeFinal = true, level = PRIVATE)
 public class ConcurrentSkipListBiTemporalCollection<T> implements MutableBiTemporalCollection<T> {
+    static final int TRANSACTION_TIME_VIEW_CACHE_SIZE = 16;
+
     ConcurrentSkipListMap<Instant, ConcurrentSkipListMap<Instant, Optional<T>>> items = new ConcurrentSkipListMap<>();
+    AtomicLong modificationCount = new AtomicLong();
+    AtomicReference<Current<T>> current = new AtomicReference<>();
+    LongAdder businessKeyCount = new LongAdder();
+    LongAdder versionCount = new LongAdder();
+    LongAdder recordCount = new LongAdder();
+    LongAdder tombstoneCount = new LongAdder();
+    AtomicReference<Instant> earliestSystemTime = new AtomicReference<>();
+    AtomicReference<Instant> latestSystemTime = new AtomicReference<>();
+    BoundedCache<Instant, TemporalCollection<T>> transactionTimeViews = new BoundedCache<>(TRANSACTION_TIME_VIEW_CACHE_SIZE);
+    Clock clock;
+
+    public ConcurrentSkipListBiTemporalCollection() {
+        this(Clock.systemUTC());
+    }
+
+    public ConcurrentSkipListBiTemporalCollection(@NonNull Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public Clock clock() {
+        return clock;
+    }
+
+    /**
+     * Returns the number of {@code effectiveAsOf} and {@code expireAsOf} calls that changed this
+     * collection, counted once each change is visible to readers.
+     *
+     * @return the number of modifications made to this collection
+     * @see ConcurrentSkipListTemporalCollection#modificationCount()
+     */
+    public long modificationCount() {
+        return modificationCount.get();
+    }
 
     @Override
     public Optional<BiTemporalRecord<T>> effectiveAsOf(@NonNull Instant validTime, @NonNull Instant transactionTime, @NonNull T item) {
-        final Optional<BiTemporalRecord<T>> priorValue = getAsOf(validTime, transactionTime);
-        if (items.containsKey(validTime)) {
-            items.get(validTime).put(transactionTime, Optional.of(item));
-        } else {
+        BiTemporalOperationEvent event = new BiTemporalOperationEvent();
+        event.begin();
+        final Optional<BiTemporalRecord<T>> priorValue = findAsOf(validTime, transactionTime);
+        ConcurrentSkipListMap<Instant, Optional<T>> versions = items.get(validTime);
+        if (versions == null) {
             ConcurrentSkipListMap<Instant, Optional<T>> map = new ConcurrentSkipListMap<>();
-            map.put(transactionTime, Optional.of(item));
-            items.put(validTime, map);
+            putVersion(map, transactionTime, Optional.of(item));
+            versions = items.putIfAbsent(validTime, map);
+            if (versions == null) {
+                businessKeyCount.increment();
+            } else {
+                versionCount.decrement();
+                recordCount.decrement();
+                putVersion(versions, transactionTime, Optional.of(item));
+            }
+        } else {
+            putVersion(versions, transactionTime, Optional.of(item));
         }
+        modificationCount.incrementAndGet();
+        event.complete(getClass(), EFFECTIVE_AS_OF, validTime, validTime, transactionTime, transactionTime, priorValue.isPresent() ? 1 : 0);
         return priorValue;
     }
 
@@ -38,21 +113,100 @@ public class ConcurrentSkipListBiTemporalCollection<T> implements MutableBiTempo
         if (isEmpty()) {
             return Optional.empty();
         } else {
-            final Optional<BiTemporalRecord<T>> priorValue = getAsOf(businessTime, systemTime);
-            if (items.containsKey(businessTime)) {
-                ConcurrentSkipListMap<Instant, Optional<T>> map = items.get(businessTime);
-                if (!map.isEmpty()) {
-                    map.put(systemTime, Optional.empty());
+            BiTemporalOperationEvent event = new BiTemporalOperationEvent();
+            event.begin();
+            final Optional<BiTemporalRecord<T>> priorValue = findAsOf(businessTime, systemTime);
+            ConcurrentSkipListMap<Instant, Optional<T>> map = items.get(businessTime);
+            if (map == null) {
+                if (items.putIfAbsent(businessTime, new ConcurrentSkipListMap<>()) == null) {
+                    businessKeyCount.increment();
                 }
-            } else {
-                items.put(businessTime, new ConcurrentSkipListMap<>());
+            } else if (!map.isEmpty()) {
+                putVersion(map, systemTime, Optional.empty());
             }
+            modificationCount.incrementAndGet();
+            event.complete(getClass(), EXPIRE_AS_OF, businessTime, businessTime, systemTime, systemTime, priorValue.isPresent() ? 1 : 0);
             return priorValue;
         }
     }
 
+    /**
+     * Retrieves the bi-temporal value that is valid as of the present moment in both business and
+     * system time. A found record is remembered and returned again without searching the collection
+     * for as long as the present moment stays within both of its ranges and the collection is not modified.
+     *
+     * @return an {@code Optional} containing the value valid at the present moment,
+     * or an empty {@code Optional} if no such value exists.
+     */
+    @Override
+    public Optional<BiTemporalRecord<T>> getAsOfNow() {
+        BiTemporalOperationEvent event = new BiTemporalOperationEvent();
+        event.begin();
+        Instant now = clock.instant();
+        long version = modificationCount.get();
+        Current<T> slot = current.get();
+        if (slot != null && slot.isCurrent(now, version)) {
+            event.complete(getClass(), GET_AS_OF_NOW, now, now, now, now, 1);
+            return Optional.of(slot.record());
+        }
+        Optional<BiTemporalRecord<T>> record = findAsOf(now, now);
+        record.ifPresent(r -> current.set(new Current<>(version, r)));
+        event.complete(getClass(), GET_AS_OF_NOW, now, now, now, now, record.isPresent() ? 1 : 0);
+        return record;
+    }
+
     @Override
     public Optional<BiTemporalRecord<T>> getAsOf(@NonNull Instant validTime, @NonNull Instant transactionTime) {
+        BiTemporalOperationEvent event = new BiTemporalOperationEvent();
+        event.begin();
+        Optional<BiTemporalRecord<T>> record = findAsOf(validTime, transactionTime);
+        event.complete(getClass(), GET_AS_OF, validTime, validTime, transactionTime, transactionTime, record.isPresent() ? 1 : 0);
+        return record;
+    }
+
+    /**
+     * Retrieves the values valid at each of the specified valid times in a single forward traversal
+     * of the business keys, looking up the version known at the transaction time once per business key.
+     */
+    @Override
+    public List<Optional<BiTemporalRecord<T>>> getAllAsOf(@NonNull List<Instant> validTimes, @NonNull Instant transactionTime) {
+        FloorCursor.requireAscending(validTimes);
+        if (validTimes.isEmpty()) {
+            return List.of();
+        }
+        BiTemporalOperationEvent event = new BiTemporalOperationEvent();
+        event.begin();
+        List<Optional<BiTemporalRecord<T>>> records = new ArrayList<>(validTimes.size());
+        FloorCursor<ConcurrentSkipListMap<Instant, Optional<T>>> cursor = new FloorCursor<>(items);
+        Optional<BiTemporalRecord<T>> record = Optional.empty();
+        int found = 0;
+        for (Instant validTime : validTimes) {
+            if (cursor.advanceTo(validTime)) {
+                record = Optional.ofNullable(cursor.floor())
+                        .flatMap(businessStartEntry -> versionAsOf(businessStartEntry, cursor.end(), transactionTime));
+            }
+            found += record.isPresent() ? 1 : 0;
+            records.add(record);
+        }
+        event.complete(getClass(), GET_ALL_AS_OF, validTimes.get(0), validTimes.get(validTimes.size() - 1),
+                transactionTime, transactionTime, found);
+        return Collections.unmodifiableList(records);
+    }
+
+    private Optional<BiTemporalRecord<T>> versionAsOf(
+            Map.Entry<Instant, ConcurrentSkipListMap<Instant, Optional<T>>> businessStartEntry,
+            Instant businessEnd,
+            Instant transactionTime) {
+        ConcurrentSkipListMap<Instant, Optional<T>> versions = businessStartEntry.getValue();
+        return Optional.ofNullable(versions.floorEntry(transactionTime))
+                .filter(e -> e.getValue().isPresent())
+                .map(systemStartEntry -> new BiTemporalRecord<>(
+                        fromTo(businessStartEntry.getKey(), businessEnd),
+                        fromTo(systemStartEntry.getKey(), Optional.ofNullable(versions.higherKey(systemStartEntry.getKey())).orElse(MAX)),
+                        systemStartEntry.getValue().get()));
+    }
+
+    private Optional<BiTemporalRecord<T>> findAsOf(Instant validTime, Instant transactionTime) {
         return Optional.of(validTime)
                 .map(items::floorEntry)
                 .flatMap(businessStartEntry -> Optional.ofNullable(items.higherKey(businessStartEntry.getKey()))
@@ -71,7 +225,9 @@ public class ConcurrentSkipListBiTemporalCollection<T> implements MutableBiTempo
 
     @Override
     public Optional<BiTemporalRecord<T>> getPriorTo(@NonNull Instant validTime, @NonNull Instant transactionTime) {
-        return Optional.of(validTime)
+        BiTemporalOperationEvent event = new BiTemporalOperationEvent();
+        event.begin();
+        Optional<BiTemporalRecord<T>> record = Optional.of(validTime)
                 .map(items::floorKey)
                 .map(items::lowerEntry)
                 .flatMap(businessStartEntry -> Optional.ofNullable(items.higherKey(businessStartEntry.getKey()))
@@ -86,40 +242,263 @@ public class ConcurrentSkipListBiTemporalCollection<T> implements MutableBiTempo
                                                 fromTo(systemStartEntry.getKey(), systemEnd),
                                                 systemStartEntry.getValue().get())))))
                 .flatMap(Function.identity());
+        event.complete(getClass(), GET_PRIOR_TO, validTime, validTime, transactionTime, transactionTime, record.isPresent() ? 1 : 0);
+        return record;
     }
 
     @Override
     public Collection<BiTemporalRecord<T>> getInRange(@NonNull TemporalRange validRange) {
-        return Optional.of(validRange)
+        BiTemporalOperationEvent event = new BiTemporalOperationEvent();
+        event.begin();
+        Collection<BiTemporalRecord<T>> records = Optional.of(validRange)
                 .map(v -> items.subMap(v.start(), true, v.end(), true)
                         .entrySet()
                         .stream()
-                        .map(businessTimeEntry -> getAsOf(businessTimeEntry.getKey(), businessTimeEntry.getValue().firstKey()))
+                        .filter(businessTimeEntry -> !businessTimeEntry.getValue().isEmpty())
+                        .map(businessTimeEntry -> findAsOf(businessTimeEntry.getKey(), businessTimeEntry.getValue().firstKey()))
                         .filter(Optional::isPresent)
                         .map(Optional::get))
                 .map(Stream::toList)
                 .orElse(Collections.emptyList());
+        event.complete(getClass(), GET_IN_RANGE, validRange.start(), validRange.end(), MIN, MAX, records.size());
+        return records;
     }
 
     @Override
     public Collection<BiTemporalRecord<T>> getInRange(@NonNull TemporalRange validRange, @NonNull TemporalRange transactionRange) {
-        return Optional.of(validRange)
+        BiTemporalOperationEvent event = new BiTemporalOperationEvent();
+        event.begin();
+        Collection<BiTemporalRecord<T>> records = Optional.of(validRange)
                 .map(v -> items.subMap(v.start(), true, v.end(), true)
                         .entrySet()
                         .stream()
                         .map(businessTimeEntry -> businessTimeEntry.getValue().subMap(transactionRange.start(), true, transactionRange.end(), true)
                                 .keySet()
                                 .stream()
-                                .map(systemTime -> getAsOf(businessTimeEntry.getKey(), systemTime))
+                                .map(systemTime -> findAsOf(businessTimeEntry.getKey(), systemTime))
                                 .filter(Optional::isPresent)
                                 .map(Optional::get)))
                 .map(stream -> stream.flatMap(Function.identity()).toList())
                 .orElse(Collections.emptyList());
+        event.complete(getClass(), GET_IN_RANGE, validRange.start(), validRange.end(),
+                transactionRange.start(), transactionRange.end(), records.size());
+        return records;
+    }
+
+    /**
+     * Returns a stream of the records that {@link #getInRange(TemporalRange)} returns for the range, without
+     * collecting them first. The stream is sequential; made parallel, it splits the range by business key range.
+     *
+     * @param validRange the range of business time for which to stream the records. This parameter must not be null.
+     * @return a weakly consistent stream of the records starting within the range, in chronological order
+     */
+    public Stream<BiTemporalRecord<T>> streamInRange(@NonNull TemporalRange validRange) {
+        return StreamSupport.stream(spliteratorInRange(validRange), false);
+    }
+
+    /**
+     * Returns a stream of the records that {@link #getInRange(TemporalRange, TemporalRange)} returns for the
+     * ranges, without collecting them first. The stream is sequential; made parallel, it splits the business
+     * time range by business key range.
+     *
+     * @param validRange       the range of business time for which to stream the records. This parameter must not be null.
+     * @param transactionRange the range of system time for which to stream the records. This parameter must not be null.
+     * @return a weakly consistent stream of the records starting within the ranges, in chronological order
+     */
+    public Stream<BiTemporalRecord<T>> streamInRange(@NonNull TemporalRange validRange, @NonNull TemporalRange transactionRange) {
+        return StreamSupport.stream(spliteratorInRange(validRange, transactionRange), false);
+    }
+
+    /**
+     * Returns a spliterator over the records that {@link #getInRange(TemporalRange)} returns for the range.
+     * It splits by business key range, and the records at the boundaries of splits end at the next business
+     * key of the whole collection, as they do in a sequential scan.
+     *
+     * @param validRange the range of business time for which to traverse the records. This parameter must not be null.
+     * @return a weakly consistent spliterator of the records starting within the range
+     */
+    public Spliterator<BiTemporalRecord<T>> spliteratorInRange(@NonNull TemporalRange validRange) {
+        return new KeyRangeSpliterator<ConcurrentSkipListMap<Instant, Optional<T>>, BiTemporalRecord<T>>(items, validRange, businessKeyCount.sum(),
+                (entry, end, action) -> Optional.ofNullable(entry.getValue().firstEntry())
+                        .flatMap(first -> versionAsOf(entry, end, first.getKey()))
+                        .ifPresent(action));
+    }
+
+    /**
+     * Returns a spliterator over the records that {@link #getInRange(TemporalRange, TemporalRange)} returns for
+     * the ranges, splitting by business key range like {@link #spliteratorInRange(TemporalRange)}.
+     *
+     * @param validRange       the range of business time for which to traverse the records. This parameter must not be null.
+     * @param transactionRange the range of system time for which to traverse the records. This parameter must not be null.
+     * @return a weakly consistent spliterator of the records starting within the ranges
+     */
+    public Spliterator<BiTemporalRecord<T>> spliteratorInRange(@NonNull TemporalRange validRange, @NonNull TemporalRange transactionRange) {
+        return new KeyRangeSpliterator<ConcurrentSkipListMap<Instant, Optional<T>>, BiTemporalRecord<T>>(items, validRange, businessKeyCount.sum(),
+                (entry, end, action) -> entry.getValue().subMap(transactionRange.start(), true, transactionRange.end(), true)
+                        .keySet()
+                        .forEach(systemTime -> versionAsOf(entry, end, systemTime).ifPresent(action)));
+    }
+
+    /**
+     * Returns every system-time version of the record effective at the specified business time, in the
+     * order of their system time, each with the system range during which it was the current version.
+     * Expired versions are left out, so the versions before and after an expiration are separated by a
+     * gap in system time. The versions are read from the business key one by one as the stream is
+     * consumed, without a lookup per version.
+     *
+     * @param businessTime the point in business time whose history to return. This parameter must not be null.
+     * @return a lazy, weakly consistent stream of the versions, empty if no business key precedes the business time
+     */
+    public Stream<BiTemporalRecord<T>> getHistory(@NonNull Instant businessTime) {
+        return Stream.of(businessTime)
+                .map(items::floorEntry)
+                .filter(Objects::nonNull)
+                .flatMap(this::versionHistory);
+    }
+
+    /**
+     * Returns the history, as returned by {@link #getHistory(Instant)}, of every business key whose
+     * business range overlaps the specified range, in the order of the business keys.
+     *
+     * @param validRange the range of business time whose history to return. This parameter must not be null.
+     * @return a lazy, weakly consistent stream of the versions
+     */
+    public Stream<BiTemporalRecord<T>> getHistory(@NonNull TemporalRange validRange) {
+        return Stream.of(validRange)
+                .flatMap(v -> items.subMap(Optional.ofNullable(items.floorKey(v.start())).orElse(v.start()), true, v.end(), false)
+                        .entrySet()
+                        .stream())
+                .flatMap(this::versionHistory);
+    }
+
+    private Stream<BiTemporalRecord<T>> versionHistory(Map.Entry<Instant, ConcurrentSkipListMap<Instant, Optional<T>>> businessStartEntry) {
+        TemporalRange businessEffective = fromTo(businessStartEntry.getKey(),
+                Optional.ofNullable(items.higherKey(businessStartEntry.getKey())).orElse(MAX));
+        Iterator<Map.Entry<Instant, Optional<T>>> versions = businessStartEntry.getValue().entrySet().iterator();
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<BiTemporalRecord<T>>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            Map.Entry<Instant, Optional<T>> next;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super BiTemporalRecord<T>> action) {
+                if (next == null && versions.hasNext()) {
+                    next = versions.next();
+                }
+                while (next != null) {
+                    Map.Entry<Instant, Optional<T>> version = next;
+                    next = versions.hasNext() ? versions.next() : null;
+                    if (version.getValue().isPresent()) {
+                        action.accept(new BiTemporalRecord<>(businessEffective,
+                                fromTo(version.getKey(), next == null ? MAX : next.getKey()),
+                                version.getValue().get()));
+                        return true;
+                    }
+                }
+                return false;
+            }
+        }, false);
+    }
+
+    /**
+     * Returns the collection as it was known at the specified transaction time, as a uni-temporal
+     * collection over business time: {@code asOfTransactionTime(tx).getAsOf(validTime)} holds the value of
+     * {@code getAsOf(validTime, tx)}, and likewise for {@code getPriorTo}. The view is materialized in a
+     * single pass over the business keys when first requested, after which its queries are plain
+     * uni-temporal lookups. Views of the {@value #TRANSACTION_TIME_VIEW_CACHE_SIZE} most recently used
+     * transaction times are cached until this collection is modified.
+     *
+     * @param transactionTime the point in time representing the transaction time of the view.
+     *                        This parameter must not be null.
+     * @return an unmodifiable snapshot of this collection as known at the transaction time
+     */
+    public TemporalCollection<T> asOfTransactionTime(@NonNull Instant transactionTime) {
+        return transactionTimeViews.get(transactionTime, modificationCount(), this::materializeAsOf);
+    }
+
+    /**
+     * Copies the versions known at the transaction time into a uni-temporal skip list. Business keys
+     * without such a version become expirations, so that the value of the preceding business key ends
+     * where it ends in this collection.
+     */
+    private TemporalCollection<T> materializeAsOf(Instant transactionTime) {
+        ConcurrentSkipListMap<Instant, Optional<T>> snapshot = new ConcurrentSkipListMap<>();
+        for (Map.Entry<Instant, ConcurrentSkipListMap<Instant, Optional<T>>> entry : items.entrySet()) {
+            Map.Entry<Instant, Optional<T>> version = entry.getValue().floorEntry(transactionTime);
+            snapshot.put(entry.getKey(), version == null ? Optional.empty() : version.getValue());
+        }
+        return new ImmutableTemporalCollection<>(new ConcurrentSkipListTemporalCollection<>(clock, snapshot));
+    }
+
+    /**
+     * Reduces every record of this collection, across all business keys and all system versions, in parallel
+     * on the common fork-join pool.
+     *
+     * @see #scan(TemporalRange, TemporalRange, Predicate, Object, BiFunction, BinaryOperator, ForkJoinPool)
+     */
+    public <A> A scan(@NonNull Predicate<? super BiTemporalRecord<T>> filter,
+                      A identity,
+                      @NonNull BiFunction<A, ? super BiTemporalRecord<T>, A> accumulator,
+                      @NonNull BinaryOperator<A> combiner) {
+        return scan(TemporalRange.FOREVER, TemporalRange.FOREVER, filter, identity, accumulator, combiner, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Reduces the records that {@link #getInRange(TemporalRange, TemporalRange)} returns for the ranges in
+     * parallel. The business keys within the valid range are snapshot once and partitioned across the
+     * workers of the pool; every worker walks the system versions of its business keys, accumulates the
+     * records that pass the filter starting from the identity, and the partial results are combined in
+     * the order of the business keys. Like a {@code Stream.reduce}, the identity must be an identity of
+     * the combiner, and the accumulator and combiner must be associative and free of interference.
+     *
+     * @param validRange       the range of business time of the records to reduce. This parameter must not be null.
+     * @param transactionRange the range of system time of the records to reduce. This parameter must not be null.
+     * @param filter           the records to reduce. This parameter must not be null.
+     * @param identity         the result for no records
+     * @param accumulator      folds a record into a partial result. This parameter must not be null.
+     * @param combiner         combines two partial results. This parameter must not be null.
+     * @param pool             the pool to run the scan in. This parameter must not be null.
+     * @return the reduction of the records
+     */
+    public <A> A scan(@NonNull TemporalRange validRange,
+                      @NonNull TemporalRange transactionRange,
+                      @NonNull Predicate<? super BiTemporalRecord<T>> filter,
+                      A identity,
+                      @NonNull BiFunction<A, ? super BiTemporalRecord<T>, A> accumulator,
+                      @NonNull BinaryOperator<A> combiner,
+                      @NonNull ForkJoinPool pool) {
+        Instant[] businessKeys = items.subMap(validRange.start(), true, validRange.end(), true).keySet().toArray(Instant[]::new);
+        int threshold = Math.max(1, businessKeys.length / (pool.getParallelism() << 2));
+        return pool.invoke(new ScanTask<>(businessKeys, 0, businessKeys.length, threshold,
+                transactionRange, filter, identity, accumulator, combiner));
+    }
+
+    /**
+     * Returns statistics of this collection without visiting its keys or versions.
+     *
+     * @return the current statistics of this collection
+     */
+    public BiTemporalCollectionStatistics statistics() {
+        long businessKeys = businessKeyCount.sum();
+        long versions = versionCount.sum();
+        long records = recordCount.sum();
+        return new BiTemporalCollectionStatistics(businessKeys, versions, records, tombstoneCount.sum(),
+                Optional.ofNullable(items.isEmpty() ? null : items.firstKey()),
+                Optional.ofNullable(items.isEmpty() ? null : items.lastKey()),
+                Optional.ofNullable(earliestSystemTime.get()),
+                Optional.ofNullable(latestSystemTime.get()),
+                businessKeys * (FootprintEstimate.SKIP_LIST_ENTRY_BYTES + FootprintEstimate.EMPTY_SKIP_LIST_BYTES)
+                        + versions * FootprintEstimate.SKIP_LIST_ENTRY_BYTES
+                        + records * FootprintEstimate.OPTIONAL_BYTES);
     }
 
+    /**
+     * Returns the number of business-time keys of this collection, maintained on modification.
+     *
+     * @return the number of business-time keys of this collection
+     */
     @Override
     public int size() {
-        return items.size();
+        return (int) Math.min(Integer.MAX_VALUE, businessKeyCount.sum());
     }
 
     @Override
@@ -127,4 +506,98 @@ public class ConcurrentSkipListBiTemporalCollection<T> implements MutableBiTempo
         return items.isEmpty();
     }
 
-}
+    private void putVersion(ConcurrentSkipListMap<Instant, Optional<T>> versions, Instant systemTime, Optional<T> value) {
+        Optional<T> previous = versions.put(systemTime, value);
+        if (previous == null) {
+            versionCount.increment();
+            earliestSystemTime.accumulateAndGet(systemTime, (a, b) -> a == null || b.isBefore(a) ? b : a);
+            latestSystemTime.accumulateAndGet(systemTime, (a, b) -> a == null || b.isAfter(a) ? b : a);
+        } else if (previous.isPresent()) {
+            recordCount.decrement();
+        } else {
+            tombstoneCount.decrement();
+        }
+        if (value.isPresent()) {
+            recordCount.increment();
+        } else {
+            tombstoneCount.increment();
+        }
+    }
+
+    /**
+     * Reduces the records of a slice of a snapshot of the business keys, splitting it in halves until
+     * no more than the threshold of business keys remain.
+     */
+    @FieldDefaults(makeFinal = true, level = PRIVATE)
+    private final class ScanTask<A> extends RecursiveTask<A> {
+        private static final long serialVersionUID = 1L;
+
+        Instant[] businessKeys;
+        int from;
+        int to;
+        int threshold;
+        TemporalRange transactionRange;
+        Predicate<? super BiTemporalRecord<T>> filter;
+        A identity;
+        BiFunction<A, ? super BiTemporalRecord<T>, A> accumulator;
+        BinaryOperator<A> combiner;
+
+        ScanTask(Instant[] businessKeys, int from, int to, int threshold, TemporalRange transactionRange,
+                 Predicate<? super BiTemporalRecord<T>> filter, A identity,
+                 BiFunction<A, ? super BiTemporalRecord<T>, A> accumulator, BinaryOperator<A> combiner) {
+            this.businessKeys = businessKeys;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.transactionRange = transactionRange;
+            this.filter = filter;
+            this.identity = identity;
+            this.accumulator = accumulator;
+            this.combiner = combiner;
+        }
+
+        @Override
+        protected A compute() {
+            if (to - from > threshold) {
+                int middle = (from + to) >>> 1;
+                ScanTask<A> upper = new ScanTask<>(businessKeys, middle, to, threshold, transactionRange, filter, identity, accumulator, combiner);
+                upper.fork();
+                A lower = new ScanTask<>(businessKeys, from, middle, threshold, transactionRange, filter, identity, accumulator, combiner).compute();
+                return combiner.apply(lower, upper.join());
+            }
+            A result = identity;
+            for (int index = from; index < to; index++) {
+                Instant businessStart = businessKeys[index];
+                ConcurrentSkipListMap<Instant, Optional<T>> versions = items.get(businessStart);
+                if (versions == null) {
+                    continue;
+                }
+                Instant businessEnd = Optional.ofNullable(items.higherKey(businessStart)).orElse(MAX);
+                Iterator<Map.Entry<Instant, Optional<T>>> entries = versions.tailMap(transactionRange.start(), true).entrySet().iterator();
+                Map.Entry<Instant, Optional<T>> next = entries.hasNext() ? entries.next() : null;
+                while (next != null && !next.getKey().isAfter(transactionRange.end())) {
+                    Map.Entry<Instant, Optional<T>> version = next;
+                    next = entries.hasNext() ? entries.next() : null;
+                    if (version.getValue().isPresent()) {
+                        BiTemporalRecord<T> record = new BiTemporalRecord<>(
+                                fromTo(businessStart, businessEnd),
+                                fromTo(version.getKey(), next == null ? MAX : next.getKey()),
+                                version.getValue().get());
+                        if (filter.test(record)) {
+                            result = accumulator.apply(result, record);
+                        }
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    private record Current<T>(long version, BiTemporalRecord<T> record) {
+        boolean isCurrent(Instant now, long modificationCount) {
+            return version == modificationCount
+                    && record.businessEffective().contains(now)
+                    && record.systemEffective().contains(now);
+        }
+    }
+}
\ No newline at end of file
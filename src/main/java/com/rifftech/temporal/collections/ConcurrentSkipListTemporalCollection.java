@@ -1,26 +1,116 @@
 package com.rifftech.temporal.collections;
 
+import com.rifftech.temporal.jfr.TemporalOperationEvent;
 import lombok.NonNull;
 import lombok.experimental.FieldDefaults;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.rifftech.temporal.collections.TemporalRange.MAX;
+import static com.rifftech.temporal.collections.TemporalRange.MIN;
 import static com.rifftech.temporal.collections.TemporalRange.fromTo;
+import static com.rifftech.temporal.metrics.TemporalOperation.EFFECTIVE_AS_OF;
+import static com.rifftech.temporal.metrics.TemporalOperation.EXPIRE_AS_OF;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_ALL_AS_OF;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_AS_OF;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_AS_OF_NOW;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_IN_RANGE;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_PRIOR_TO;
 import static lombok.AccessLevel.PRIVATE;
 
 @FieldDefaults(makeFinal = true, level = PRIVATE)
 public class ConcurrentSkipListTemporalCollection<T> implements MutableTemporalCollection<T> {
-    ConcurrentSkipListMap<Instant, Optional<T>> items = new ConcurrentSkipListMap<>();
+    ConcurrentSkipListMap<Instant, Optional<T>> items;
+    AtomicLong modificationCount = new AtomicLong();
+    AtomicReference<Current<T>> current = new AtomicReference<>();
+    LongAdder keyCount = new LongAdder();
+    LongAdder recordCount = new LongAdder();
+    LongAdder tombstoneCount = new LongAdder();
+    Clock clock;
+
+    public ConcurrentSkipListTemporalCollection() {
+        this(Clock.systemUTC());
+    }
+
+    public ConcurrentSkipListTemporalCollection(@NonNull Clock clock) {
+        this(clock, new ConcurrentSkipListMap<>());
+    }
+
+    /**
+     * Creates a collection that takes ownership of the specified skip list, in which empty values mark
+     * the instants at which the collection expires.
+     */
+    ConcurrentSkipListTemporalCollection(Clock clock, ConcurrentSkipListMap<Instant, Optional<T>> items) {
+        this.clock = clock;
+        this.items = items;
+        for (Optional<T> value : items.values()) {
+            keyCount.increment();
+            (value.isPresent() ? recordCount : tombstoneCount).increment();
+        }
+    }
+
+    /**
+     * Builds a collection from records sorted by their range, with the entries that {@code effectiveAsOf} and
+     * {@code expireAsOf} of the start and end of each record in turn would leave, but without their lookups.
+     * Of several records with the same range, the first one is kept.
+     *
+     * @throws IllegalArgumentException if the records are not sorted by their range
+     */
+    static <T> ConcurrentSkipListTemporalCollection<T> fromSortedRecords(Clock clock, Iterable<TemporalRecord<T>> records) {
+        ConcurrentSkipListMap<Instant, Optional<T>> items = new ConcurrentSkipListMap<>();
+        TemporalRange previous = null;
+        for (TemporalRecord<T> record : records) {
+            TemporalRange validRange = record.validRange();
+            if (previous != null && validRange.compareTo(previous) < 0) {
+                throw new IllegalArgumentException("The records must be sorted by their range, but %s follows %s.".formatted(validRange, previous));
+            }
+            if (!validRange.equals(previous)) {
+                items.put(validRange.start(), Optional.of(record.value()));
+                items.put(validRange.end(), Optional.empty());
+            }
+            previous = validRange;
+        }
+        return new ConcurrentSkipListTemporalCollection<>(clock, items);
+    }
+
+    @Override
+    public Clock clock() {
+        return clock;
+    }
+
+    /**
+     * Returns the number of modifications made to this collection so far. The count is incremented
+     * after every {@code effectiveAsOf} and {@code expireAsOf} that changes the collection, so a
+     * result computed after reading a given count is current for as long as the count is unchanged.
+     *
+     * @return the number of modifications made to this collection
+     */
+    public long modificationCount() {
+        return modificationCount.get();
+    }
 
     @Override
     public Optional<TemporalRecord<T>> effectiveAsOf(@NonNull Instant validTime, @NonNull T item) {
-        final Optional<TemporalRecord<T>> priorValue = getAsOf(validTime);
-        items.put(validTime, Optional.of(item));
+        TemporalOperationEvent event = new TemporalOperationEvent();
+        event.begin();
+        final Optional<TemporalRecord<T>> priorValue = findAsOf(validTime);
+        put(validTime, Optional.of(item));
+        modificationCount.incrementAndGet();
+        event.complete(getClass(), EFFECTIVE_AS_OF, validTime, validTime, priorValue.isPresent() ? 1 : 0);
         return priorValue;
     }
 
@@ -29,14 +119,86 @@ public class ConcurrentSkipListTemporalCollection<T> implements MutableTemporalC
         if (isEmpty()) {
             return Optional.empty();
         } else {
-            final Optional<TemporalRecord<T>> priorValue = getAsOf(expireAt);
-            items.put(expireAt, Optional.empty());
+            TemporalOperationEvent event = new TemporalOperationEvent();
+            event.begin();
+            final Optional<TemporalRecord<T>> priorValue = findAsOf(expireAt);
+            put(expireAt, Optional.empty());
+            modificationCount.incrementAndGet();
+            event.complete(getClass(), EXPIRE_AS_OF, expireAt, expireAt, priorValue.isPresent() ? 1 : 0);
             return priorValue;
         }
     }
 
+    /**
+     * Retrieves the temporal value that is currently valid as of the present moment, if such a value exists.
+     * The result is kept together with the span of time over which it remains the answer, so repeated
+     * calls return it without searching the collection until the present moment leaves that span or
+     * the collection is modified.
+     *
+     * @return an {@code Optional} containing the value valid at the present moment,
+     * or an empty {@code Optional} if no such value exists.
+     */
+    @Override
+    public Optional<TemporalRecord<T>> getAsOfNow() {
+        TemporalOperationEvent event = new TemporalOperationEvent();
+        event.begin();
+        Instant now = clock.instant();
+        long version = modificationCount.get();
+        Current<T> slot = current.get();
+        if (slot != null && slot.isCurrent(now, version)) {
+            event.complete(getClass(), GET_AS_OF_NOW, now, now, slot.record().isPresent() ? 1 : 0);
+            return slot.record();
+        }
+        Optional<TemporalRecord<T>> record = findAsOf(now);
+        current.set(record
+                .map(r -> new Current<>(version, r.validRange().start(), r.validRange().end(), record))
+                .orElseGet(() -> new Current<>(version,
+                        Optional.ofNullable(items.floorKey(now)).orElse(MIN),
+                        Optional.ofNullable(items.higherKey(now)).orElse(MAX),
+                        record)));
+        event.complete(getClass(), GET_AS_OF_NOW, now, now, record.isPresent() ? 1 : 0);
+        return record;
+    }
+
     @Override
     public Optional<TemporalRecord<T>> getAsOf(@NonNull Instant validTime) {
+        TemporalOperationEvent event = new TemporalOperationEvent();
+        event.begin();
+        Optional<TemporalRecord<T>> record = findAsOf(validTime);
+        event.complete(getClass(), GET_AS_OF, validTime, validTime, record.isPresent() ? 1 : 0);
+        return record;
+    }
+
+    /**
+     * Retrieves the temporal values valid at each of the specified points in time in a single
+     * forward traversal of the underlying skip list.
+     */
+    @Override
+    public List<Optional<TemporalRecord<T>>> getAllAsOf(@NonNull List<Instant> validTimes) {
+        FloorCursor.requireAscending(validTimes);
+        if (validTimes.isEmpty()) {
+            return List.of();
+        }
+        TemporalOperationEvent event = new TemporalOperationEvent();
+        event.begin();
+        List<Optional<TemporalRecord<T>>> records = new ArrayList<>(validTimes.size());
+        FloorCursor<Optional<T>> cursor = new FloorCursor<>(items);
+        Optional<TemporalRecord<T>> record = Optional.empty();
+        int found = 0;
+        for (Instant validTime : validTimes) {
+            if (cursor.advanceTo(validTime)) {
+                Map.Entry<Instant, Optional<T>> floor = cursor.floor();
+                record = floor == null ? Optional.empty() : floor.getValue()
+                        .map(value -> new TemporalRecord<>(fromTo(floor.getKey(), cursor.end()), value));
+            }
+            found += record.isPresent() ? 1 : 0;
+            records.add(record);
+        }
+        event.complete(getClass(), GET_ALL_AS_OF, validTimes.get(0), validTimes.get(validTimes.size() - 1), found);
+        return Collections.unmodifiableList(records);
+    }
+
+    private Optional<TemporalRecord<T>> findAsOf(Instant validTime) {
         return Optional.of(validTime)
                 .map(items::floorEntry)
                 .filter(e -> e.getValue().isPresent())
@@ -49,35 +211,115 @@ public class ConcurrentSkipListTemporalCollection<T> implements MutableTemporalC
 
     @Override
     public Optional<TemporalRecord<T>> getPriorTo(@NonNull Instant validTime) {
-        return Optional.of(validTime)
+        TemporalOperationEvent event = new TemporalOperationEvent();
+        event.begin();
+        Optional<TemporalRecord<T>> record = Optional.of(validTime)
                 .map(items::floorKey)
                 .map(items::lowerEntry)
                 .filter(e -> e.getValue().isPresent())
                 .map(validStartKey -> new TemporalRecord<>(
                         fromTo(validStartKey.getKey(), Optional.ofNullable(items.higherKey(validStartKey.getKey())).orElse(MAX)),
                         validStartKey.getValue().get()));
+        event.complete(getClass(), GET_PRIOR_TO, validTime, validTime, record.isPresent() ? 1 : 0);
+        return record;
     }
 
     @Override
     public Collection<TemporalRecord<T>> getInRange(@NonNull TemporalRange validRange) {
-        return Optional.of(validRange)
+        TemporalOperationEvent event = new TemporalOperationEvent();
+        event.begin();
+        Collection<TemporalRecord<T>> records = Optional.of(validRange)
                 .map(v -> items.subMap(v.start(), true, v.end(), true)
                         .keySet()
                         .stream()
-                        .map(this::getAsOf)
+                        .map(this::findAsOf)
                         .filter(Optional::isPresent)
                         .map(Optional::get)
                         .toList())
                 .orElse(Collections.emptyList());
+        event.complete(getClass(), GET_IN_RANGE, validRange.start(), validRange.end(), records.size());
+        return records;
     }
 
+    /**
+     * Returns a stream of the records that {@link #getInRange(TemporalRange)} returns for the range, without
+     * collecting them first. The stream is sequential; made parallel, it splits the range by key range.
+     *
+     * @param validRange the range of time for which to stream the valid temporal values.
+     *                   This parameter must not be null.
+     * @return a weakly consistent stream of the records starting within the range, in chronological order
+     */
+    public Stream<TemporalRecord<T>> streamInRange(@NonNull TemporalRange validRange) {
+        return StreamSupport.stream(spliteratorInRange(validRange), false);
+    }
+
+    /**
+     * Returns a spliterator over the records that {@link #getInRange(TemporalRange)} returns for the range.
+     * It splits by key range, and the records at the boundaries of splits end at the next key of the whole
+     * collection, as they do in a sequential scan.
+     *
+     * @param validRange the range of time for which to traverse the valid temporal values.
+     *                   This parameter must not be null.
+     * @return a weakly consistent spliterator of the records starting within the range
+     */
+    public Spliterator<TemporalRecord<T>> spliteratorInRange(@NonNull TemporalRange validRange) {
+        return new KeyRangeSpliterator<Optional<T>, TemporalRecord<T>>(items, validRange, size(),
+                (entry, end, action) -> entry.getValue().ifPresent(value -> action.accept(new TemporalRecord<>(fromTo(entry.getKey(), end), value))));
+    }
+
+    /**
+     * Returns statistics of this collection without visiting its records.
+     *
+     * @return the current statistics of this collection
+     */
+    public TemporalCollectionStatistics statistics() {
+        long keys = keyCount.sum();
+        long records = recordCount.sum();
+        return new TemporalCollectionStatistics(keys, records, tombstoneCount.sum(),
+                Optional.ofNullable(items.isEmpty() ? null : items.firstKey()),
+                Optional.ofNullable(items.isEmpty() ? null : items.lastKey()),
+                keys * FootprintEstimate.SKIP_LIST_ENTRY_BYTES + records * FootprintEstimate.OPTIONAL_BYTES);
+    }
+
+    /**
+     * Returns the number of keys of this collection, including those at which it expires. The count is
+     * maintained on modification rather than computed by traversing the underlying skip list.
+     *
+     * @return the number of keys of this collection
+     */
     @Override
     public int size() {
-        return items.size();
+        return (int) Math.min(Integer.MAX_VALUE, keyCount.sum());
     }
 
     @Override
     public boolean isEmpty() {
         return items.isEmpty();
     }
-}
+
+    private void put(Instant key, Optional<T> value) {
+        Optional<T> previous = items.put(key, value);
+        if (previous == null) {
+            keyCount.increment();
+        } else if (previous.isPresent()) {
+            recordCount.decrement();
+        } else {
+            tombstoneCount.decrement();
+        }
+        if (value.isPresent()) {
+            recordCount.increment();
+        } else {
+            tombstoneCount.increment();
+        }
+    }
+
+    /**
+     * The result of {@link #getAsOfNow()} for any present moment in {@code [from, until)}, as long as
+     * the collection is still at the given modification count.
+     */
+    private record Current<T>(long version, Instant from, Instant until, Optional<TemporalRecord<T>> record) {
+        boolean isCurrent(Instant now, long modificationCount) {
+            return version == modificationCount && !now.isBefore(from) && now.isBefore(until);
+        }
+    }
+}
\ No newline at end of file
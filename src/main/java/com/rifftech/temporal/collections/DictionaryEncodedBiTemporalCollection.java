@@ -0,0 +1,212 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.Stream;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * A {@link MutableBiTemporalCollection} that stores the codes of its values in a {@link ValueDictionary}
+ * in a {@link CompositeKeyBiTemporalCollection}, in the same way {@link DictionaryEncodedTemporalCollection}
+ * does for uni-temporal collections.
+ *
+ * @param <T> the type of the value stored within the bi-temporal elements
+ */
+@FieldDefaults(makeFinal = true, level = PRIVATE)
+public class DictionaryEncodedBiTemporalCollection<T> implements MutableBiTemporalCollection<T> {
+    static final int SNAPSHOT_FORMAT = 1;
+
+    ValueDictionary<T> dictionary;
+    CompositeKeyBiTemporalCollection<Integer> codes;
+
+    public DictionaryEncodedBiTemporalCollection() {
+        this(new ValueDictionary<>(), Clock.systemUTC());
+    }
+
+    public DictionaryEncodedBiTemporalCollection(@NonNull Clock clock) {
+        this(new ValueDictionary<>(), clock);
+    }
+
+    public DictionaryEncodedBiTemporalCollection(@NonNull ValueDictionary<T> dictionary) {
+        this(dictionary, Clock.systemUTC());
+    }
+
+    public DictionaryEncodedBiTemporalCollection(@NonNull ValueDictionary<T> dictionary, @NonNull Clock clock) {
+        this.dictionary = dictionary;
+        this.codes = new CompositeKeyBiTemporalCollection<>(clock);
+    }
+
+    @Override
+    public Clock clock() {
+        return codes.clock();
+    }
+
+    /**
+     * @return the dictionary encoding the values of this collection
+     */
+    public ValueDictionary<T> dictionary() {
+        return dictionary;
+    }
+
+    /**
+     * @return the statistics of the underlying collection of codes
+     * @see CompositeKeyBiTemporalCollection#statistics()
+     */
+    public BiTemporalCollectionStatistics statistics() {
+        return codes.statistics();
+    }
+
+    @Override
+    public Optional<BiTemporalRecord<T>> effectiveAsOf(@NonNull Instant businessTime, @NonNull Instant systemTime, @NonNull T item) {
+        return codes.effectiveAsOf(businessTime, systemTime, dictionary.encode(item)).map(this::decode);
+    }
+
+    @Override
+    public Optional<BiTemporalRecord<T>> expireAsOf(@NonNull Instant businessTime, @NonNull Instant systemTime) {
+        return codes.expireAsOf(businessTime, systemTime).map(this::decode);
+    }
+
+    @Override
+    public Optional<BiTemporalRecord<T>> getAsOfNow() {
+        return codes.getAsOfNow().map(this::decode);
+    }
+
+    @Override
+    public Optional<BiTemporalRecord<T>> getAsOf(@NonNull Instant validTime, @NonNull Instant transactionTime) {
+        return codes.getAsOf(validTime, transactionTime).map(this::decode);
+    }
+
+    /**
+     * Retrieves the code in the dictionary of the value valid at the specified business and system time,
+     * without decoding the value.
+     *
+     * @param validTime       the point in business time for which to retrieve the code. This parameter must not be null.
+     * @param transactionTime the point in system time for which to retrieve the code. This parameter must not be null.
+     * @return an {@code OptionalInt} containing the code of the value valid at the specified times,
+     * or an empty {@code OptionalInt} if no such value exists.
+     */
+    public OptionalInt getCodeAsOf(@NonNull Instant validTime, @NonNull Instant transactionTime) {
+        return codes.getAsOf(validTime, transactionTime)
+                .map(record -> OptionalInt.of(record.value()))
+                .orElse(OptionalInt.empty());
+    }
+
+    @Override
+    public Optional<BiTemporalRecord<T>> getPriorTo(@NonNull Instant validTime, @NonNull Instant transactionTime) {
+        return codes.getPriorTo(validTime, transactionTime).map(this::decode);
+    }
+
+    @Override
+    public Collection<BiTemporalRecord<T>> getInRange(@NonNull TemporalRange validRange) {
+        return codes.getInRange(validRange).stream()
+                .map(this::decode)
+                .toList();
+    }
+
+    @Override
+    public Collection<BiTemporalRecord<T>> getInRange(@NonNull TemporalRange validRange, @NonNull TemporalRange transactionRange) {
+        return codes.getInRange(validRange, transactionRange).stream()
+                .map(this::decode)
+                .toList();
+    }
+
+    /**
+     * @return the versions of the record effective at the business time, in the order of their system time
+     * @see CompositeKeyBiTemporalCollection#getHistory(Instant)
+     */
+    public Stream<BiTemporalRecord<T>> getHistory(@NonNull Instant businessTime) {
+        return codes.getHistory(businessTime).map(this::decode);
+    }
+
+    /**
+     * @return the versions of the records whose business range overlaps the range
+     * @see CompositeKeyBiTemporalCollection#getHistory(TemporalRange)
+     */
+    public Stream<BiTemporalRecord<T>> getHistory(@NonNull TemporalRange validRange) {
+        return codes.getHistory(validRange).map(this::decode);
+    }
+
+    @Override
+    public int size() {
+        return codes.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return codes.isEmpty();
+    }
+
+    /**
+     * Writes a snapshot of this collection: the dictionary followed by every version, expiration
+     * included, with the code of its value. Modifications wait until the snapshot is written, from
+     * the dictionary on, so that the dictionary holds the code of every version written.
+     *
+     * @param out   the output to write to. This parameter must not be null.
+     * @param codec the codec of the values. This parameter must not be null.
+     * @throws IOException if writing fails
+     */
+    public void writeTo(@NonNull DataOutput out, @NonNull ValueCodec<T> codec) throws IOException {
+        ValueCodec<Instant> instants = ValueCodec.instants();
+        out.writeInt(SNAPSHOT_FORMAT);
+        codes.forEachVersion(() -> dictionary.writeTo(out, codec), (businessTime, systemTime, code) -> {
+            out.writeBoolean(true);
+            instants.write(out, businessTime);
+            instants.write(out, systemTime);
+            out.writeInt(code.orElse(-1));
+        });
+        out.writeBoolean(false);
+    }
+
+    /**
+     * Reads a collection written by {@link #writeTo(DataOutput, ValueCodec)} with the system UTC clock.
+     *
+     * @see #readFrom(DataInput, ValueCodec, Clock)
+     */
+    public static <T> DictionaryEncodedBiTemporalCollection<T> readFrom(@NonNull DataInput in, @NonNull ValueCodec<T> codec) throws IOException {
+        return readFrom(in, codec, Clock.systemUTC());
+    }
+
+    /**
+     * Reads a collection written by {@link #writeTo(DataOutput, ValueCodec)}, with a dictionary of its own
+     * that assigns the same codes as the dictionary written.
+     *
+     * @param in    the input to read from. This parameter must not be null.
+     * @param codec the codec of the values. This parameter must not be null.
+     * @param clock the clock of the collection. This parameter must not be null.
+     * @return the collection read
+     * @throws IOException if reading fails or the input is not a snapshot of this format
+     */
+    public static <T> DictionaryEncodedBiTemporalCollection<T> readFrom(@NonNull DataInput in, @NonNull ValueCodec<T> codec,
+                                                                       @NonNull Clock clock) throws IOException {
+        int format = in.readInt();
+        if (format != SNAPSHOT_FORMAT) {
+            throw new IOException("Unsupported snapshot format " + format + ".");
+        }
+        ValueCodec<Instant> instants = ValueCodec.instants();
+        DictionaryEncodedBiTemporalCollection<T> collection = new DictionaryEncodedBiTemporalCollection<>(ValueDictionary.readFrom(in, codec), clock);
+        while (in.readBoolean()) {
+            Instant businessTime = instants.read(in);
+            Instant systemTime = instants.read(in);
+            int code = in.readInt();
+            if (code < -1 || code >= collection.dictionary.size()) {
+                throw new IOException("The snapshot refers to the unknown code " + code + ".");
+            }
+            collection.codes.restoreVersion(businessTime, systemTime, code < 0 ? Optional.empty() : Optional.of(code));
+        }
+        return collection;
+    }
+
+    private BiTemporalRecord<T> decode(BiTemporalRecord<Integer> record) {
+        return new BiTemporalRecord<>(record.businessEffective(), record.systemEffective(), dictionary.decode(record.value()));
+    }
+}
@@ -0,0 +1,230 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.locks.Lock;
+
+import static com.rifftech.temporal.collections.TemporalRange.fromTo;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * A {@link MutableTemporalCollection} that stores the codes of its values in a {@link ValueDictionary}
+ * instead of the values themselves, in a {@link SortedArrayIntTemporalCollection}. Records cost an
+ * {@code int} each however large their values are, and every value equal to another is returned as the
+ * same interned instance. Collections created with the same dictionary can compare values by code.
+ *
+ * @param <T> the type of the value stored within the temporal elements
+ */
+@FieldDefaults(makeFinal = true, level = PRIVATE)
+public class DictionaryEncodedTemporalCollection<T> implements MutableTemporalCollection<T> {
+    static final int SNAPSHOT_FORMAT = 1;
+
+    ValueDictionary<T> dictionary;
+    SortedArrayIntTemporalCollection codes;
+
+    public DictionaryEncodedTemporalCollection() {
+        this(new ValueDictionary<>(), Clock.systemUTC());
+    }
+
+    public DictionaryEncodedTemporalCollection(@NonNull Clock clock) {
+        this(new ValueDictionary<>(), clock);
+    }
+
+    public DictionaryEncodedTemporalCollection(@NonNull ValueDictionary<T> dictionary) {
+        this(dictionary, Clock.systemUTC());
+    }
+
+    public DictionaryEncodedTemporalCollection(@NonNull ValueDictionary<T> dictionary, @NonNull Clock clock) {
+        this.dictionary = dictionary;
+        this.codes = new SortedArrayIntTemporalCollection(clock);
+    }
+
+    @Override
+    public Clock clock() {
+        return codes.clock();
+    }
+
+    /**
+     * @return the dictionary encoding the values of this collection
+     */
+    public ValueDictionary<T> dictionary() {
+        return dictionary;
+    }
+
+    @Override
+    public Optional<TemporalRecord<T>> effectiveAsOf(@NonNull Instant validTime, @NonNull T item) {
+        return codes.effectiveAsOf(validTime, dictionary.encode(item)).map(this::decode);
+    }
+
+    @Override
+    public Optional<TemporalRecord<T>> expireAsOf(@NonNull Instant expireAt) {
+        return codes.expireAsOf(expireAt).map(this::decode);
+    }
+
+    @Override
+    public Optional<TemporalRecord<T>> getAsOf(@NonNull Instant validTime) {
+        return codes.getAsOf(validTime).map(this::decode);
+    }
+
+    /**
+     * Retrieves the code in the dictionary of the value valid at the specified point in time, without
+     * creating a record or decoding the value.
+     *
+     * @param validTime the point in time for which to retrieve the code. This parameter must not be null.
+     * @return an {@code OptionalInt} containing the code of the value valid at the specified time,
+     * or an empty {@code OptionalInt} if no such value exists at that time.
+     */
+    public OptionalInt getCodeAsOf(@NonNull Instant validTime) {
+        return codes.getIntAsOf(validTime);
+    }
+
+    @Override
+    public List<Optional<TemporalRecord<T>>> getAllAsOf(@NonNull List<Instant> validTimes) {
+        return codes.getAllAsOf(validTimes).stream()
+                .map(record -> record.map(this::decode))
+                .toList();
+    }
+
+    @Override
+    public Optional<TemporalRecord<T>> getPriorTo(@NonNull Instant validTime) {
+        return codes.getPriorTo(validTime).map(this::decode);
+    }
+
+    @Override
+    public Collection<TemporalRecord<T>> getInRange(@NonNull TemporalRange validRange) {
+        return codes.getInRange(validRange).stream()
+                .map(this::decode)
+                .toList();
+    }
+
+    /**
+     * Retrieves the records that {@link #getInRange(TemporalRange)} returns for the specified range, with
+     * every run of adjacent records holding equal values merged into a single record. Values are compared
+     * by their codes.
+     *
+     * @param validRange the range of time for which to retrieve the records. This parameter must not be null.
+     * @return the coalesced records within the specified range, in temporal order.
+     */
+    public Collection<TemporalRecord<T>> getCoalescedInRange(@NonNull TemporalRange validRange) {
+        List<TemporalRecord<T>> coalesced = new ArrayList<>();
+        TemporalRecord<Integer> run = null;
+        for (TemporalRecord<Integer> record : codes.getInRange(validRange)) {
+            if (run != null && run.validRange().end().equals(record.validRange().start())
+                    && run.value().intValue() == record.value().intValue()) {
+                run = new TemporalRecord<>(fromTo(run.validRange().start(), record.validRange().end()), run.value());
+            } else {
+                if (run != null) {
+                    coalesced.add(decode(run));
+                }
+                run = record;
+            }
+        }
+        if (run != null) {
+            coalesced.add(decode(run));
+        }
+        return coalesced;
+    }
+
+    @Override
+    public int size() {
+        return codes.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return codes.isEmpty();
+    }
+
+    /**
+     * Writes a snapshot of this collection: the dictionary followed by the effective instants and the
+     * codes of their values. Modifications wait until the snapshot is written.
+     *
+     * @param out   the output to write to. This parameter must not be null.
+     * @param codec the codec of the values. This parameter must not be null.
+     * @throws IOException if writing fails
+     */
+    public void writeTo(@NonNull DataOutput out, @NonNull ValueCodec<T> codec) throws IOException {
+        Lock readLock = codes.lock.readLock();
+        readLock.lock();
+        try {
+            out.writeInt(SNAPSHOT_FORMAT);
+            dictionary.writeTo(out, codec);
+            out.writeInt(codes.size);
+            for (int index = 0; index < codes.size; index++) {
+                out.writeLong(codes.seconds[index]);
+                out.writeInt(codes.nanos[index]);
+                out.writeBoolean(codes.present[index]);
+                if (codes.present[index]) {
+                    out.writeInt(codes.boxedValue(index));
+                }
+            }
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Reads a collection written by {@link #writeTo(DataOutput, ValueCodec)} with the system UTC clock.
+     *
+     * @see #readFrom(DataInput, ValueCodec, Clock)
+     */
+    public static <T> DictionaryEncodedTemporalCollection<T> readFrom(@NonNull DataInput in, @NonNull ValueCodec<T> codec) throws IOException {
+        return readFrom(in, codec, Clock.systemUTC());
+    }
+
+    /**
+     * Reads a collection written by {@link #writeTo(DataOutput, ValueCodec)}, with a dictionary of its own
+     * that assigns the same codes as the dictionary written.
+     *
+     * @param in    the input to read from. This parameter must not be null.
+     * @param codec the codec of the values. This parameter must not be null.
+     * @param clock the clock of the collection. This parameter must not be null.
+     * @return the collection read
+     * @throws IOException if reading fails or the input is not a snapshot of this format
+     */
+    public static <T> DictionaryEncodedTemporalCollection<T> readFrom(@NonNull DataInput in, @NonNull ValueCodec<T> codec,
+                                                                     @NonNull Clock clock) throws IOException {
+        int format = in.readInt();
+        if (format != SNAPSHOT_FORMAT) {
+            throw new IOException("Unsupported snapshot format " + format + ".");
+        }
+        DictionaryEncodedTemporalCollection<T> collection = new DictionaryEncodedTemporalCollection<>(ValueDictionary.readFrom(in, codec), clock);
+        List<Instant> leadingExpirations = new ArrayList<>();
+        int count = in.readInt();
+        for (int index = 0; index < count; index++) {
+            Instant key = Instant.ofEpochSecond(in.readLong(), in.readInt());
+            if (in.readBoolean()) {
+                collection.codes.effectiveIntAsOf(key, collection.readCode(in));
+            } else if (collection.isEmpty()) {
+                leadingExpirations.add(key);
+            } else {
+                collection.codes.expireAsOf(key);
+            }
+        }
+        leadingExpirations.forEach(collection.codes::expireAsOf);
+        return collection;
+    }
+
+    private int readCode(DataInput in) throws IOException {
+        int code = in.readInt();
+        if (code < 0 || code >= dictionary.size()) {
+            throw new IOException("The snapshot refers to the unknown code " + code + ".");
+        }
+        return code;
+    }
+
+    private TemporalRecord<T> decode(TemporalRecord<Integer> record) {
+        return new TemporalRecord<>(record.validRange(), dictionary.decode(record.value()));
+    }
+}
@@ -0,0 +1,68 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+
+import java.time.Instant;
+import java.util.OptionalDouble;
+import java.util.function.DoubleBinaryOperator;
+import java.util.stream.DoubleStream;
+
+/**
+ * A {@link TemporalCollection} of {@code double} values. In addition to the record-based lookups it offers
+ * lookups and range reductions that neither box the values nor wrap them in records.
+ */
+public interface DoubleTemporalCollection extends TemporalCollection<Double> {
+    /**
+     * Retrieves the value that is currently valid as of the present moment, if such a value exists.
+     *
+     * @return an {@code OptionalDouble} containing the value valid at the present moment,
+     * or an empty {@code OptionalDouble} if no such value exists.
+     */
+    default OptionalDouble getDoubleAsOfNow() {
+        return getDoubleAsOf(clock().instant());
+    }
+
+    /**
+     * Retrieves the value that was valid at the specified point in time, if such a value exists.
+     *
+     * @param validTime the point in time for which to retrieve the valid value. This parameter must not be null.
+     * @return an {@code OptionalDouble} containing the value valid at the specified time,
+     * or an empty {@code OptionalDouble} if no such value exists at that time.
+     */
+    OptionalDouble getDoubleAsOf(@NonNull Instant validTime);
+
+    /**
+     * Retrieves the value that was valid immediately prior to the specified point in time, if such a value exists.
+     *
+     * @param validTime the point in time for which to retrieve the most recent value that was valid before it.
+     *                  This parameter must not be null.
+     * @return an {@code OptionalDouble} containing the most recent value that was valid before the specified time,
+     * or an empty {@code OptionalDouble} if no such value exists.
+     */
+    OptionalDouble getDoublePriorTo(@NonNull Instant validTime);
+
+    /**
+     * Retrieves the values of the temporal records that {@link #getInRange(TemporalRange)} returns
+     * for the specified range, in temporal order.
+     *
+     * @param validRange the range of time for which to retrieve the valid values. This parameter must not be null.
+     * @return the values valid within the specified range.
+     */
+    DoubleStream valuesInRange(@NonNull TemporalRange validRange);
+
+    default double sumInRange(@NonNull TemporalRange validRange) {
+        return valuesInRange(validRange).sum();
+    }
+
+    default OptionalDouble minInRange(@NonNull TemporalRange validRange) {
+        return valuesInRange(validRange).min();
+    }
+
+    default OptionalDouble maxInRange(@NonNull TemporalRange validRange) {
+        return valuesInRange(validRange).max();
+    }
+
+    default double reduceInRange(@NonNull TemporalRange validRange, double identity, @NonNull DoubleBinaryOperator operator) {
+        return valuesInRange(validRange).reduce(identity, operator);
+    }
+}
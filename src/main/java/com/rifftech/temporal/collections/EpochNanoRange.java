@@ -0,0 +1,377 @@
+package com.rifftech.temporal.collections;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * A {@link TemporalRange} held as two {@code long} counts of nanoseconds since the epoch, so that the Allen
+ * relations between ranges are comparisons of primitives that neither allocate nor validate their operands
+ * beyond a null check. The relations have the same definitions as those of {@link TemporalRange}, and each
+ * one is also available as a static method on the bounds of two ranges for loops over columns of bounds.
+ * <p>
+ * Epoch nanoseconds cover the years 1677 to 2262. The bounds {@link TemporalRange#MIN} and
+ * {@link TemporalRange#MAX} lie outside of them and are represented by the sentinels {@link #MIN} and
+ * {@link #MAX}, which are thus not available for the instants they would otherwise stand for.
+ *
+ * @param start the start of the range in nanoseconds since the epoch, must be less than {@code end}
+ * @param end   the end of the range in nanoseconds since the epoch, must be greater than {@code start}
+ */
+public record EpochNanoRange(long start, long end) implements Comparable<EpochNanoRange> {
+    /**
+     * The epoch nanoseconds standing for {@link TemporalRange#MIN}.
+     */
+    public static final long MIN = Long.MIN_VALUE;
+
+    /**
+     * The epoch nanoseconds standing for {@link TemporalRange#MAX}.
+     */
+    public static final long MAX = Long.MAX_VALUE;
+
+    /**
+     * The range standing for {@link TemporalRange#FOREVER}.
+     */
+    public static final EpochNanoRange FOREVER = new EpochNanoRange(MIN, MAX);
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /**
+     * Constructs an EpochNanoRange and validates that the start is before the end.
+     *
+     * @param start the start of the range in nanoseconds since the epoch
+     * @param end   the end of the range in nanoseconds since the epoch
+     */
+    public EpochNanoRange {
+        if (start >= end) {
+            throw new IllegalArgumentException("Start must be before end.");
+        }
+    }
+
+    /**
+     * Converts a TemporalRange to epoch nanoseconds.
+     *
+     * @param range the range to convert; must not be null.
+     * @return the range in epoch nanoseconds
+     * @throws IllegalArgumentException if a bound of the range is neither a bound of {@link TemporalRange#FOREVER}
+     *                                  nor representable in epoch nanoseconds
+     */
+    public static EpochNanoRange of(TemporalRange range) {
+        validateNotNull(range, "The range cannot be null.");
+        return new EpochNanoRange(toEpochNanos(range.start()), toEpochNanos(range.end()));
+    }
+
+    /**
+     * Converts an instant to epoch nanoseconds, mapping {@link TemporalRange#MIN} and {@link TemporalRange#MAX}
+     * to {@link #MIN} and {@link #MAX}.
+     *
+     * @param instant the instant to convert; must not be null.
+     * @return the instant in nanoseconds since the epoch
+     * @throws IllegalArgumentException if the instant is not representable in epoch nanoseconds
+     */
+    public static long toEpochNanos(Instant instant) {
+        validateNotNull(instant, "The instant cannot be null.");
+        if (instant.equals(TemporalRange.MIN)) {
+            return MIN;
+        }
+        if (instant.equals(TemporalRange.MAX)) {
+            return MAX;
+        }
+        long seconds = instant.getEpochSecond();
+        long nanos;
+        if (seconds < 0) {
+            seconds++;
+            nanos = instant.getNano() - NANOS_PER_SECOND;
+        } else {
+            nanos = instant.getNano();
+        }
+        long epochNanos;
+        try {
+            epochNanos = Math.addExact(Math.multiplyExact(seconds, NANOS_PER_SECOND), nanos);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("%s is not representable in epoch nanoseconds.".formatted(instant), e);
+        }
+        if (epochNanos == MIN || epochNanos == MAX) {
+            throw new IllegalArgumentException("%s is reserved for the bounds of TemporalRange.FOREVER.".formatted(instant));
+        }
+        return epochNanos;
+    }
+
+    /**
+     * Converts epoch nanoseconds to an instant, mapping {@link #MIN} and {@link #MAX} to
+     * {@link TemporalRange#MIN} and {@link TemporalRange#MAX}.
+     *
+     * @param epochNanos the nanoseconds since the epoch
+     * @return the instant
+     */
+    public static Instant toInstant(long epochNanos) {
+        if (epochNanos == MIN) {
+            return TemporalRange.MIN;
+        }
+        if (epochNanos == MAX) {
+            return TemporalRange.MAX;
+        }
+        return Instant.ofEpochSecond(Math.floorDiv(epochNanos, NANOS_PER_SECOND), Math.floorMod(epochNanos, NANOS_PER_SECOND));
+    }
+
+    /**
+     * @return this range as a TemporalRange
+     */
+    public TemporalRange toTemporalRange() {
+        return new TemporalRange(toInstant(start), toInstant(end));
+    }
+
+    /**
+     * @return the length of this range in nanoseconds, saturated to {@code Long.MAX_VALUE}, which is also
+     * the length of a range bounded by {@link #MIN} or {@link #MAX}
+     */
+    public long durationInNanos() {
+        if (start == MIN || end == MAX) {
+            return Long.MAX_VALUE;
+        }
+        long duration = end - start;
+        return duration < 0 ? Long.MAX_VALUE : duration;
+    }
+
+    /**
+     * Shifts the bounds of this range by the specified duration, like {@link TemporalRange#plus(Duration)}.
+     * The sentinels {@link #MIN} and {@link #MAX} stay in place, so that a range open at either end remains
+     * open.
+     *
+     * @param nanos the non-negative number of nanoseconds to add
+     * @return a new range with the nanoseconds added to the bounds other than the sentinels
+     * @throws ArithmeticException if a bound overflows or reaches a sentinel
+     */
+    public EpochNanoRange plusNanos(long nanos) {
+        validateDuration(nanos);
+        return new EpochNanoRange(shift(start, nanos), shift(end, nanos));
+    }
+
+    /**
+     * Shifts the bounds of this range back by the specified duration, like {@link TemporalRange#minus(Duration)}.
+     * The sentinels {@link #MIN} and {@link #MAX} stay in place, so that a range open at either end remains
+     * open.
+     *
+     * @param nanos the non-negative number of nanoseconds to subtract
+     * @return a new range with the nanoseconds subtracted from the bounds other than the sentinels
+     * @throws ArithmeticException if a bound overflows or reaches a sentinel
+     */
+    public EpochNanoRange minusNanos(long nanos) {
+        validateDuration(nanos);
+        return new EpochNanoRange(shift(start, -nanos), shift(end, -nanos));
+    }
+
+    /**
+     * Compares based on the start first and, if they are equal, on the end, like {@link TemporalRange#compareTo(TemporalRange)}.
+     */
+    @Override
+    public int compareTo(EpochNanoRange other) {
+        int startComparison = Long.compare(start, other.start);
+        return startComparison != 0 ? startComparison : Long.compare(end, other.end);
+    }
+
+    /**
+     * @see TemporalRange#contains(Instant)
+     */
+    public boolean contains(long epochNanos) {
+        return contains(start, end, epochNanos);
+    }
+
+    /**
+     * @see TemporalRange#isBefore(TemporalRange)
+     */
+    public boolean isBefore(EpochNanoRange other) {
+        validateNotNull(other, "The other range cannot be null.");
+        return isBefore(start, end, other.start, other.end);
+    }
+
+    /**
+     * @see TemporalRange#isAfter(TemporalRange)
+     */
+    public boolean isAfter(EpochNanoRange other) {
+        validateNotNull(other, "The other range cannot be null.");
+        return isAfter(start, end, other.start, other.end);
+    }
+
+    /**
+     * @see TemporalRange#meets(TemporalRange)
+     */
+    public boolean meets(EpochNanoRange other) {
+        validateNotNull(other, "The other range cannot be null.");
+        return meets(start, end, other.start, other.end);
+    }
+
+    /**
+     * @see TemporalRange#isMetBy(TemporalRange)
+     */
+    public boolean isMetBy(EpochNanoRange other) {
+        validateNotNull(other, "The other range cannot be null.");
+        return isMetBy(start, end, other.start, other.end);
+    }
+
+    /**
+     * @see TemporalRange#overlapsBefore(TemporalRange)
+     */
+    public boolean overlapsBefore(EpochNanoRange other) {
+        validateNotNull(other, "The other range cannot be null.");
+        return overlapsBefore(start, end, other.start, other.end);
+    }
+
+    /**
+     * @see TemporalRange#overlapsAfter(TemporalRange)
+     */
+    public boolean overlapsAfter(EpochNanoRange other) {
+        validateNotNull(other, "The other range cannot be null.");
+        return overlapsAfter(start, end, other.start, other.end);
+    }
+
+    /**
+     * @see TemporalRange#finishes(TemporalRange)
+     */
+    public boolean finishes(EpochNanoRange other) {
+        validateNotNull(other, "The other range cannot be null.");
+        return finishes(start, end, other.start, other.end);
+    }
+
+    /**
+     * @see TemporalRange#isFinishedBy(TemporalRange)
+     */
+    public boolean isFinishedBy(EpochNanoRange other) {
+        validateNotNull(other, "The other range cannot be null.");
+        return isFinishedBy(start, end, other.start, other.end);
+    }
+
+    /**
+     * @see TemporalRange#includes(TemporalRange)
+     */
+    public boolean includes(EpochNanoRange other) {
+        validateNotNull(other, "The other range cannot be null.");
+        return includes(start, end, other.start, other.end);
+    }
+
+    /**
+     * @see TemporalRange#isDuring(TemporalRange)
+     */
+    public boolean isDuring(EpochNanoRange other) {
+        validateNotNull(other, "The other range cannot be null.");
+        return isDuring(start, end, other.start, other.end);
+    }
+
+    /**
+     * @see TemporalRange#starts(TemporalRange)
+     */
+    public boolean starts(EpochNanoRange other) {
+        validateNotNull(other, "The other range cannot be null.");
+        return starts(start, end, other.start, other.end);
+    }
+
+    /**
+     * @see TemporalRange#isStartedBy(TemporalRange)
+     */
+    public boolean isStartedBy(EpochNanoRange other) {
+        validateNotNull(other, "The other range cannot be null.");
+        return isStartedBy(start, end, other.start, other.end);
+    }
+
+    /**
+     * @see TemporalRange#isContiguousWith(TemporalRange)
+     */
+    public boolean isContiguousWith(EpochNanoRange other) {
+        validateNotNull(other, "The other range cannot be null.");
+        return isContiguousWith(start, end, other.start, other.end);
+    }
+
+    /**
+     * @see TemporalRange#overlaps(TemporalRange)
+     */
+    public boolean overlaps(EpochNanoRange other) {
+        validateNotNull(other, "The other range cannot be null.");
+        return overlaps(start, end, other.start, other.end);
+    }
+
+    public static boolean contains(long start, long end, long epochNanos) {
+        return epochNanos >= start && epochNanos < end;
+    }
+
+    public static boolean isBefore(long start, long end, long otherStart, long otherEnd) {
+        return end < otherStart;
+    }
+
+    public static boolean isAfter(long start, long end, long otherStart, long otherEnd) {
+        return start > otherEnd;
+    }
+
+    public static boolean meets(long start, long end, long otherStart, long otherEnd) {
+        return end == otherStart;
+    }
+
+    public static boolean isMetBy(long start, long end, long otherStart, long otherEnd) {
+        return start == otherEnd;
+    }
+
+    public static boolean overlapsBefore(long start, long end, long otherStart, long otherEnd) {
+        return start < otherStart && contains(start, end, otherEnd);
+    }
+
+    public static boolean overlapsAfter(long start, long end, long otherStart, long otherEnd) {
+        return end > otherEnd && contains(start, end, otherStart);
+    }
+
+    public static boolean finishes(long start, long end, long otherStart, long otherEnd) {
+        return start > otherStart && end == otherEnd;
+    }
+
+    public static boolean isFinishedBy(long start, long end, long otherStart, long otherEnd) {
+        return start < otherStart && end == otherEnd;
+    }
+
+    public static boolean includes(long start, long end, long otherStart, long otherEnd) {
+        return start < otherStart && end > otherEnd;
+    }
+
+    public static boolean isDuring(long start, long end, long otherStart, long otherEnd) {
+        return start > otherStart && end < otherEnd;
+    }
+
+    public static boolean starts(long start, long end, long otherStart, long otherEnd) {
+        return end < otherEnd && start == otherStart;
+    }
+
+    public static boolean isStartedBy(long start, long end, long otherStart, long otherEnd) {
+        return end > otherEnd && start == otherStart;
+    }
+
+    public static boolean isContiguousWith(long start, long end, long otherStart, long otherEnd) {
+        return end == otherStart || start == otherEnd;
+    }
+
+    public static boolean overlaps(long start, long end, long otherStart, long otherEnd) {
+        return overlapsBefore(start, end, otherStart, otherEnd) || overlapsAfter(start, end, otherStart, otherEnd);
+    }
+
+    @Override
+    public String toString() {
+        return "EpochNanoRange[" + toInstant(start) + " to " + toInstant(end) + "]";
+    }
+
+    private static void validateNotNull(Object obj, String message) {
+        if (obj == null) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    private static void validateDuration(long nanos) {
+        if (nanos < 0) {
+            throw new IllegalArgumentException("Duration must be positive.");
+        }
+    }
+
+    private static long shift(long epochNanos, long nanos) {
+        if (epochNanos == MIN || epochNanos == MAX) {
+            return epochNanos;
+        }
+        long shifted = Math.addExact(epochNanos, nanos);
+        if (shifted == MIN || shifted == MAX) {
+            throw new ArithmeticException("Shifting %d by %d nanoseconds reaches a sentinel.".formatted(epochNanos, nanos));
+        }
+        return shifted;
+    }
+}
@@ -1,58 +1,187 @@
 package com.rifftech.temporal.collections;
 
+import com.rifftech.temporal.events.ChangeSubscription;
+import com.rifftech.temporal.events.BiTemporalEvent;
 import com.rifftech.temporal.events.BiTemporalEventProducer;
 import com.rifftech.temporal.events.BiTemporalRecordDeleted;
 import com.rifftech.temporal.events.BiTemporalRecordInserted;
 import com.rifftech.temporal.events.BiTemporalRecordUpdated;
+import com.rifftech.temporal.jfr.EventPublicationEvent;
 import lombok.NonNull;
 import lombok.experimental.FieldDefaults;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.time.temporal.TemporalUnit;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static java.util.function.Predicate.not;
 import static lombok.AccessLevel.PRIVATE;
 
+/**
+ * A {@link MutableBiTemporalCollection} that publishes an event for every record its modifications insert,
+ * update or delete, and retains the most recent events for {@link #subscribeFrom(long, Consumer)}.
+ * <p>
+ * Modifications are serialized with each other: one writer at a time changes the underlying
+ * collection and assigns sequence numbers to its events. The events are handed to the
+ * {@link BiTemporalEventProducer} and the subscribed consumers after that, outside the lock, by one
+ * writer at a time and in sequence order; a modification returns once its events have been
+ * delivered. A slow or blocking producer therefore delays the writers that wait for their events
+ * to be delivered, but does not keep other writers from modifying the collection.
+ *
+ * @param <T> the type of the value stored within the bi-temporal elements
+ */
 @FieldDefaults(makeFinal = true, level = PRIVATE)
 public class EventPublishingBiTemporalCollection<T> implements MutableBiTemporalCollection<T> {
     ConcurrentSkipListBiTemporalCollection<T> collection;
     BiTemporalEventProducer<T> eventProducer;
+    ChangeLog<BiTemporalEvent<T>> changeLog;
 
     public EventPublishingBiTemporalCollection(
             @NonNull ConcurrentSkipListBiTemporalCollection<T> collection,
             @NonNull BiTemporalEventProducer<T> eventProducer) {
+        this(collection, eventProducer, ChangeLog.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param changeLogCapacity the number of most recent events retained for
+     *                          {@link #subscribeFrom(long, Consumer)}; must not be negative.
+     */
+    public EventPublishingBiTemporalCollection(
+            @NonNull ConcurrentSkipListBiTemporalCollection<T> collection,
+            @NonNull BiTemporalEventProducer<T> eventProducer,
+            int changeLogCapacity) {
         this.collection = collection;
         this.eventProducer = eventProducer;
+        this.changeLog = new ChangeLog<>(changeLogCapacity);
+    }
+
+    @Override
+    public Clock clock() {
+        return collection.clock();
+    }
+
+    /**
+     * @return the statistics of the underlying collection
+     * @see ConcurrentSkipListBiTemporalCollection#statistics()
+     */
+    public BiTemporalCollectionStatistics statistics() {
+        return collection.statistics();
+    }
+
+    /**
+     * @return the sequence number of the most recent event, or zero if no event has been
+     * sequenced yet. The event may still be in the course of being published.
+     */
+    public long lastSequence() {
+        return changeLog.lastSequence();
+    }
+
+    /**
+     * @return the smallest sequence number {@link #subscribeFrom(long, Consumer)} accepts.
+     */
+    public long firstSequence() {
+        return changeLog.firstSequence();
+    }
+
+    /**
+     * Replays the retained events with a sequence number of at least {@code sequence} to the
+     * consumer and then delivers every newly published event to it, in sequence order, on one of
+     * the threads that modify the collection. A consumer that restarts resumes by passing the
+     * sequence number following the last event it processed. Events are sequenced in the order
+     * their modifications took effect, so replaying the events in sequence order reproduces the
+     * state of the collection even with concurrent writers.
+     *
+     * @param sequence the sequence number of the first event to deliver; at most one more than
+     *                 {@link #lastSequence()}.
+     * @param consumer the consumer of the events. This parameter must not be null.
+     * @return a subscription that stops the delivery of events when closed.
+     * @throws IllegalStateException if events from the requested sequence number on are no
+     *                               longer retained, in which case the consumer must reload from a snapshot.
+     */
+    public ChangeSubscription subscribeFrom(long sequence, @NonNull Consumer<? super BiTemporalEvent<T>> consumer) {
+        return changeLog.subscribeFrom(sequence, consumer);
+    }
+
+    /**
+     * @return the underlying collection as known at the transaction time
+     * @see ConcurrentSkipListBiTemporalCollection#asOfTransactionTime(Instant)
+     */
+    public TemporalCollection<T> asOfTransactionTime(@NonNull Instant transactionTime) {
+        return collection.asOfTransactionTime(transactionTime);
+    }
+
+    /**
+     * @return the versions of the record of the underlying collection effective at the business time
+     * @see ConcurrentSkipListBiTemporalCollection#getHistory(Instant)
+     */
+    public Stream<BiTemporalRecord<T>> getHistory(@NonNull Instant businessTime) {
+        return collection.getHistory(businessTime);
+    }
+
+    /**
+     * @return the versions of the records of the underlying collection overlapping the range
+     * @see ConcurrentSkipListBiTemporalCollection#getHistory(TemporalRange)
+     */
+    public Stream<BiTemporalRecord<T>> getHistory(@NonNull TemporalRange validRange) {
+        return collection.getHistory(validRange);
+    }
+
+    /**
+     * @return a stream of the records of the underlying collection within the range
+     * @see ConcurrentSkipListBiTemporalCollection#streamInRange(TemporalRange)
+     */
+    public Stream<BiTemporalRecord<T>> streamInRange(@NonNull TemporalRange validRange) {
+        return collection.streamInRange(validRange);
+    }
+
+    /**
+     * @return a stream of the records of the underlying collection within the ranges
+     * @see ConcurrentSkipListBiTemporalCollection#streamInRange(TemporalRange, TemporalRange)
+     */
+    public Stream<BiTemporalRecord<T>> streamInRange(@NonNull TemporalRange validRange, @NonNull TemporalRange transactionRange) {
+        return collection.streamInRange(validRange, transactionRange);
     }
 
     @Override
     public Optional<BiTemporalRecord<T>> effectiveAsOf(@NonNull Instant validTime, @NonNull Instant transactionTime, @NonNull T item) {
-        Optional<BiTemporalRecord<T>> priorValue = collection.effectiveAsOf(validTime, transactionTime, item);
-        priorValue.flatMap(r -> getAsOf(r.businessEffective().start(), r.systemEffective().start()))
-                .map(BiTemporalRecordUpdated::new)
-                .ifPresent(eventProducer::publish);
-        getAsOf(validTime, transactionTime)
-                .filter(not(record -> priorValue.map(record::compareTo).map(i -> i == 0).orElse(false)))
-                .map(BiTemporalRecordInserted::new)
-                .ifPresent(eventProducer::publish);
-        return priorValue;
+        return changeLog.modify(() -> {
+            Optional<BiTemporalRecord<T>> priorValue = collection.effectiveAsOf(validTime, transactionTime, item);
+            priorValue.flatMap(r -> getAsOf(r.businessEffective().start(), r.systemEffective().start()))
+                    .map(BiTemporalRecordUpdated::new)
+                    .ifPresent(this::publish);
+            getAsOf(validTime, transactionTime)
+                    .filter(not(record -> priorValue.map(record::compareTo).map(i -> i == 0).orElse(false)))
+                    .map(BiTemporalRecordInserted::new)
+                    .ifPresent(this::publish);
+            return priorValue;
+        });
     }
 
     @Override
     public Optional<BiTemporalRecord<T>> expireAsOf(@NonNull Instant businessTime, @NonNull Instant systemTime) {
-        Optional<BiTemporalRecord<T>> asOf = getAsOf(businessTime, systemTime);
-        Optional<BiTemporalRecord<T>> priorValue = collection.expireAsOf(businessTime, systemTime);
-        priorValue.ifPresent(record -> {
-            Boolean isDelete = asOf.map(r -> businessTime.equals(r.businessEffective().start()) && systemTime.equals(r.systemEffective().start())).orElse(false);
-            if (isDelete) {
-                eventProducer.publish(new BiTemporalRecordDeleted<>(record));
-            } else {
-                eventProducer.publish(new BiTemporalRecordUpdated<>(getAsOf(record.businessEffective().start(), record.systemEffective().start()).orElseThrow()));
-            }
+        return changeLog.modify(() -> {
+            Optional<BiTemporalRecord<T>> asOf = getAsOf(businessTime, systemTime);
+            Optional<BiTemporalRecord<T>> priorValue = collection.expireAsOf(businessTime, systemTime);
+            priorValue.ifPresent(record -> {
+                Boolean isDelete = asOf.map(r -> businessTime.equals(r.businessEffective().start()) && systemTime.equals(r.systemEffective().start())).orElse(false);
+                if (isDelete) {
+                    publish(new BiTemporalRecordDeleted<>(record));
+                } else {
+                    publish(new BiTemporalRecordUpdated<>(getAsOf(record.businessEffective().start(), record.systemEffective().start()).orElseThrow()));
+                }
+            });
+            return priorValue;
         });
-        return priorValue;
+    }
+
+    @Override
+    public Optional<BiTemporalRecord<T>> getAsOfNow() {
+        return collection.getAsOfNow();
     }
 
     @Override
@@ -60,6 +189,11 @@ public class EventPublishingBiTemporalCollection<T> implements MutableBiTemporal
         return collection.getAsOf(validTime, transactionTime);
     }
 
+    @Override
+    public List<Optional<BiTemporalRecord<T>>> getAllAsOf(@NonNull List<Instant> validTimes, @NonNull Instant transactionTime) {
+        return collection.getAllAsOf(validTimes, transactionTime);
+    }
+
     @Override
     public Optional<BiTemporalRecord<T>> getPriorTo(@NonNull Instant validTime, @NonNull Instant transactionTime) {
         return collection.getPriorTo(validTime, transactionTime);
@@ -84,4 +218,13 @@ public class EventPublishingBiTemporalCollection<T> implements MutableBiTemporal
     public boolean isEmpty() {
         return collection.isEmpty();
     }
+
+    private void publish(BiTemporalEvent<T> temporalEvent) {
+        changeLog.append(temporalEvent::withSequence, sequencedEvent -> {
+            EventPublicationEvent event = new EventPublicationEvent();
+            event.begin();
+            eventProducer.publish(sequencedEvent);
+            event.complete(eventProducer.getClass(), sequencedEvent);
+        });
+    }
 }
\ No newline at end of file
@@ -1,57 +1,154 @@
 package com.rifftech.temporal.collections;
 
+import com.rifftech.temporal.events.ChangeSubscription;
+import com.rifftech.temporal.events.TemporalEvent;
 import com.rifftech.temporal.events.TemporalEventProducer;
 import com.rifftech.temporal.events.TemporalRecordDeleted;
 import com.rifftech.temporal.events.TemporalRecordInserted;
 import com.rifftech.temporal.events.TemporalRecordUpdated;
+import com.rifftech.temporal.jfr.EventPublicationEvent;
 import lombok.NonNull;
 import lombok.experimental.FieldDefaults;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static java.util.function.Predicate.not;
 import static lombok.AccessLevel.PRIVATE;
 
+/**
+ * A {@link MutableTemporalCollection} that publishes an event for every record its modifications insert,
+ * update or delete, and retains the most recent events for {@link #subscribeFrom(long, Consumer)}.
+ * <p>
+ * Modifications are serialized with each other: one writer at a time changes the underlying
+ * collection and assigns sequence numbers to its events. The events are handed to the
+ * {@link TemporalEventProducer} and the subscribed consumers after that, outside the lock, by one
+ * writer at a time and in sequence order; a modification returns once its events have been
+ * delivered. A slow or blocking producer therefore delays the writers that wait for their events
+ * to be delivered, but does not keep other writers from modifying the collection.
+ *
+ * @param <T> the type of the value stored within the temporal elements
+ */
 @FieldDefaults(makeFinal = true, level = PRIVATE)
 public class EventPublishingTemporalCollection<T> implements MutableTemporalCollection<T> {
     ConcurrentSkipListTemporalCollection<T> collection;
     TemporalEventProducer<T> eventProducer;
+    ChangeLog<TemporalEvent<T>> changeLog;
 
     public EventPublishingTemporalCollection(
             @NonNull ConcurrentSkipListTemporalCollection<T> collection,
             @NonNull TemporalEventProducer<T> eventProducer) {
+        this(collection, eventProducer, ChangeLog.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param changeLogCapacity the number of most recent events retained for
+     *                          {@link #subscribeFrom(long, Consumer)}; must not be negative.
+     */
+    public EventPublishingTemporalCollection(
+            @NonNull ConcurrentSkipListTemporalCollection<T> collection,
+            @NonNull TemporalEventProducer<T> eventProducer,
+            int changeLogCapacity) {
         this.collection = collection;
         this.eventProducer = eventProducer;
+        this.changeLog = new ChangeLog<>(changeLogCapacity);
+    }
+
+    @Override
+    public Clock clock() {
+        return collection.clock();
+    }
+
+    /**
+     * @return the statistics of the underlying collection
+     * @see ConcurrentSkipListTemporalCollection#statistics()
+     */
+    public TemporalCollectionStatistics statistics() {
+        return collection.statistics();
+    }
+
+    /**
+     * @return the sequence number of the most recent event, or zero if no event has been
+     * sequenced yet. The event may still be in the course of being published.
+     */
+    public long lastSequence() {
+        return changeLog.lastSequence();
+    }
+
+    /**
+     * @return the smallest sequence number {@link #subscribeFrom(long, Consumer)} accepts.
+     */
+    public long firstSequence() {
+        return changeLog.firstSequence();
+    }
+
+    /**
+     * Replays the retained events with a sequence number of at least {@code sequence} to the
+     * consumer and then delivers every newly published event to it, in sequence order, on one of
+     * the threads that modify the collection. A consumer that restarts resumes by passing the
+     * sequence number following the last event it processed. Events are sequenced in the order
+     * their modifications took effect, so replaying the events in sequence order reproduces the
+     * state of the collection even with concurrent writers.
+     *
+     * @param sequence the sequence number of the first event to deliver; at most one more than
+     *                 {@link #lastSequence()}.
+     * @param consumer the consumer of the events. This parameter must not be null.
+     * @return a subscription that stops the delivery of events when closed.
+     * @throws IllegalStateException if events from the requested sequence number on are no
+     *                               longer retained, in which case the consumer must reload from a snapshot.
+     */
+    public ChangeSubscription subscribeFrom(long sequence, @NonNull Consumer<? super TemporalEvent<T>> consumer) {
+        return changeLog.subscribeFrom(sequence, consumer);
+    }
+
+    /**
+     * @return a stream of the records of the underlying collection within the range
+     * @see ConcurrentSkipListTemporalCollection#streamInRange(TemporalRange)
+     */
+    public Stream<TemporalRecord<T>> streamInRange(@NonNull TemporalRange validRange) {
+        return collection.streamInRange(validRange);
     }
 
     @Override
     public Optional<TemporalRecord<T>> effectiveAsOf(@NonNull Instant validTime, @NonNull T item) {
-        Optional<TemporalRecord<T>> priorValue = collection.effectiveAsOf(validTime, item);
-        priorValue.flatMap(r -> getAsOf(r.validRange().start()))
-                .map(TemporalRecordUpdated::new)
-                .ifPresent(eventProducer::publish);
-        getAsOf(validTime)
-                .filter(not(record -> priorValue.map(record::compareTo).map(i -> i == 0).orElse(false)))
-                .map(TemporalRecordInserted::new)
-                .ifPresent(eventProducer::publish);
-        return priorValue;
+        return changeLog.modify(() -> {
+            Optional<TemporalRecord<T>> priorValue = collection.effectiveAsOf(validTime, item);
+            priorValue.flatMap(r -> getAsOf(r.validRange().start()))
+                    .map(TemporalRecordUpdated::new)
+                    .ifPresent(this::publish);
+            getAsOf(validTime)
+                    .filter(not(record -> priorValue.map(record::compareTo).map(i -> i == 0).orElse(false)))
+                    .map(TemporalRecordInserted::new)
+                    .ifPresent(this::publish);
+            return priorValue;
+        });
     }
 
     @Override
     public Optional<TemporalRecord<T>> expireAsOf(@NonNull Instant expireAt) {
-        Optional<TemporalRecord<T>> asOf = getAsOf(expireAt);
-        Optional<TemporalRecord<T>> priorValue = collection.expireAsOf(expireAt);
-        priorValue.ifPresent(record -> {
-            Boolean isDeleted = asOf.map(r -> expireAt.equals(r.validRange().start())).orElse(false);
-            if (isDeleted) {
-                eventProducer.publish(new TemporalRecordDeleted<>(record));
-            } else {
-                eventProducer.publish(new TemporalRecordUpdated<>(getAsOf(record.validRange().start()).orElseThrow()));
-            }
+        return changeLog.modify(() -> {
+            Optional<TemporalRecord<T>> asOf = getAsOf(expireAt);
+            Optional<TemporalRecord<T>> priorValue = collection.expireAsOf(expireAt);
+            priorValue.ifPresent(record -> {
+                Boolean isDeleted = asOf.map(r -> expireAt.equals(r.validRange().start())).orElse(false);
+                if (isDeleted) {
+                    publish(new TemporalRecordDeleted<>(record));
+                } else {
+                    publish(new TemporalRecordUpdated<>(getAsOf(record.validRange().start()).orElseThrow()));
+                }
+            });
+            return priorValue;
         });
-        return priorValue;
+    }
+
+    @Override
+    public Optional<TemporalRecord<T>> getAsOfNow() {
+        return collection.getAsOfNow();
     }
 
     @Override
@@ -59,6 +156,11 @@ public class EventPublishingTemporalCollection<T> implements MutableTemporalColl
         return collection.getAsOf(validTime);
     }
 
+    @Override
+    public List<Optional<TemporalRecord<T>>> getAllAsOf(@NonNull List<Instant> validTimes) {
+        return collection.getAllAsOf(validTimes);
+    }
+
     @Override
     public Optional<TemporalRecord<T>> getPriorTo(@NonNull Instant validTime) {
         return collection.getPriorTo(validTime);
@@ -78,4 +180,13 @@ public class EventPublishingTemporalCollection<T> implements MutableTemporalColl
     public boolean isEmpty() {
         return collection.isEmpty();
     }
+
+    private void publish(TemporalEvent<T> temporalEvent) {
+        changeLog.append(temporalEvent::withSequence, sequencedEvent -> {
+            EventPublicationEvent event = new EventPublicationEvent();
+            event.begin();
+            eventProducer.publish(sequencedEvent);
+            event.complete(eventProducer.getClass(), sequencedEvent);
+        });
+    }
 }
\ No newline at end of file
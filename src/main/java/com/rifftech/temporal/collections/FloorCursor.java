@@ -0,0 +1,94 @@
+package com.rifftech.temporal.collections;
+
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+
+import static com.rifftech.temporal.collections.TemporalRange.MAX;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Tracks the floor entry of a navigable map, and the key following it, for a non-decreasing
+ * sequence of instants. Moving forward steps through the entries in order, which costs a constant
+ * amount per entry passed instead of a logarithmic search per instant, and falls back to a search
+ * once more than {@link #LINEAR_PROBE_LIMIT} entries would have to be skipped.
+ *
+ * @param <V> the type of the values of the map
+ */
+@FieldDefaults(level = PRIVATE)
+final class FloorCursor<V> {
+    static final int LINEAR_PROBE_LIMIT = 16;
+
+    final NavigableMap<Instant, V> map;
+    Iterator<Map.Entry<Instant, V>> entries;
+    Map.Entry<Instant, V> floor;
+    Map.Entry<Instant, V> next;
+
+    FloorCursor(NavigableMap<Instant, V> map) {
+        this.map = map;
+    }
+
+    /**
+     * Checks that the instants are in ascending order, allowing repetitions.
+     *
+     * @throws IllegalArgumentException if an instant precedes the one before it
+     */
+    static void requireAscending(List<Instant> instants) {
+        Instant previous = null;
+        for (Instant instant : instants) {
+            if (previous != null && instant.isBefore(previous)) {
+                throw new IllegalArgumentException("The instants must be in ascending order.");
+            }
+            previous = instant;
+        }
+    }
+
+    /**
+     * Moves the cursor to the floor entry of the specified instant, which must not precede the
+     * instant of the previous call.
+     *
+     * @return true if the floor entry changed, which is always the case on the first call.
+     */
+    boolean advanceTo(Instant instant) {
+        if (entries == null) {
+            seek(instant);
+            return true;
+        }
+        if (next == null || next.getKey().isAfter(instant)) {
+            return false;
+        }
+        for (int step = 0; step < LINEAR_PROBE_LIMIT; step++) {
+            floor = next;
+            next = entries.hasNext() ? entries.next() : null;
+            if (next == null || next.getKey().isAfter(instant)) {
+                return true;
+            }
+        }
+        seek(instant);
+        return true;
+    }
+
+    /**
+     * @return the greatest entry with a key less than or equal to the current instant, or null.
+     */
+    Map.Entry<Instant, V> floor() {
+        return floor;
+    }
+
+    /**
+     * @return the least key greater than the key of the floor entry, or {@link TemporalRange#MAX}.
+     */
+    Instant end() {
+        return next == null ? MAX : next.getKey();
+    }
+
+    private void seek(Instant instant) {
+        floor = map.floorEntry(instant);
+        entries = (floor == null ? map : map.tailMap(floor.getKey(), false)).entrySet().iterator();
+        next = entries.hasNext() ? entries.next() : null;
+    }
+}
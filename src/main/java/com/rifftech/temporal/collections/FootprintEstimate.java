@@ -0,0 +1,31 @@
+package com.rifftech.temporal.collections;
+
+/**
+ * Per-object heap sizes used to estimate the footprint of the skip-list based collections on a
+ * 64-bit JVM with compressed references, as measured with the footprint report of the benchmarks.
+ */
+final class FootprintEstimate {
+    /**
+     * An {@link java.time.Instant} key, its skip-list node and its expected share of index nodes.
+     */
+    static final long SKIP_LIST_ENTRY_BYTES = 24 + 24 + 8;
+
+    /**
+     * The key pairing a business and a system time in a single skip list, and the second
+     * {@link java.time.Instant} it holds on top of the one counted by {@link #SKIP_LIST_ENTRY_BYTES}.
+     */
+    static final long COMPOSITE_KEY_BYTES = 24 + 24;
+
+    /**
+     * The {@link java.util.Optional} wrapping a value; the empty optional of a tombstone is shared.
+     */
+    static final long OPTIONAL_BYTES = 16;
+
+    /**
+     * An empty {@link java.util.concurrent.ConcurrentSkipListMap} including its head node and index.
+     */
+    static final long EMPTY_SKIP_LIST_BYTES = 136;
+
+    private FootprintEstimate() {
+    }
+}
@@ -4,8 +4,10 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import static lombok.AccessLevel.PRIVATE;
@@ -15,6 +17,10 @@ import static lombok.AccessLevel.PRIVATE;
 class ImmutableBiTemporalCollection<T> implements BiTemporalCollection<T> {
     BiTemporalCollection<T> delegate;
 
+    public Clock clock() {
+        return delegate.clock();
+    }
+
     public Optional<BiTemporalRecord<T>> getAsOfNow() {
         return delegate.getAsOfNow();
     }
@@ -27,6 +33,11 @@ class ImmutableBiTemporalCollection<T> implements BiTemporalCollection<T> {
         return delegate.getAsOf(validTime, transactionTime);
     }
 
+    @Override
+    public List<Optional<BiTemporalRecord<T>>> getAllAsOf(@NonNull List<Instant> validTimes, @NonNull Instant transactionTime) {
+        return delegate.getAllAsOf(validTimes, transactionTime);
+    }
+
     public Optional<BiTemporalRecord<T>> getPriorToNow() {
         return delegate.getPriorToNow();
     }
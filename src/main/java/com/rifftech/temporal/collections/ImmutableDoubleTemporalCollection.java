@@ -0,0 +1,107 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.function.DoubleBinaryOperator;
+import java.util.stream.DoubleStream;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@RequiredArgsConstructor
+@FieldDefaults(makeFinal = true, level = PRIVATE)
+final class ImmutableDoubleTemporalCollection implements DoubleTemporalCollection {
+    DoubleTemporalCollection delegate;
+
+    @Override
+    public Clock clock() {
+        return delegate.clock();
+    }
+
+    @Override
+    public Optional<TemporalRecord<Double>> getAsOfNow() {
+        return delegate.getAsOfNow();
+    }
+
+    @Override
+    public Optional<TemporalRecord<Double>> getAsOf(@NonNull Instant validTime) {
+        return delegate.getAsOf(validTime);
+    }
+
+    @Override
+    public List<Optional<TemporalRecord<Double>>> getAllAsOf(@NonNull List<Instant> validTimes) {
+        return delegate.getAllAsOf(validTimes);
+    }
+
+    @Override
+    public Optional<TemporalRecord<Double>> getPriorToNow() {
+        return delegate.getPriorToNow();
+    }
+
+    @Override
+    public Optional<TemporalRecord<Double>> getPriorTo(@NonNull Instant validTime) {
+        return delegate.getPriorTo(validTime);
+    }
+
+    @Override
+    public Collection<TemporalRecord<Double>> getInRange(@NonNull TemporalRange validRange) {
+        return delegate.getInRange(validRange);
+    }
+
+    @Override
+    public OptionalDouble getDoubleAsOfNow() {
+        return delegate.getDoubleAsOfNow();
+    }
+
+    @Override
+    public OptionalDouble getDoubleAsOf(@NonNull Instant validTime) {
+        return delegate.getDoubleAsOf(validTime);
+    }
+
+    @Override
+    public OptionalDouble getDoublePriorTo(@NonNull Instant validTime) {
+        return delegate.getDoublePriorTo(validTime);
+    }
+
+    @Override
+    public DoubleStream valuesInRange(@NonNull TemporalRange validRange) {
+        return delegate.valuesInRange(validRange);
+    }
+
+    @Override
+    public double sumInRange(@NonNull TemporalRange validRange) {
+        return delegate.sumInRange(validRange);
+    }
+
+    @Override
+    public OptionalDouble minInRange(@NonNull TemporalRange validRange) {
+        return delegate.minInRange(validRange);
+    }
+
+    @Override
+    public OptionalDouble maxInRange(@NonNull TemporalRange validRange) {
+        return delegate.maxInRange(validRange);
+    }
+
+    @Override
+    public double reduceInRange(@NonNull TemporalRange validRange, double identity, @NonNull DoubleBinaryOperator operator) {
+        return delegate.reduceInRange(validRange, identity, operator);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+}
@@ -0,0 +1,107 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.IntBinaryOperator;
+import java.util.stream.IntStream;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@RequiredArgsConstructor
+@FieldDefaults(makeFinal = true, level = PRIVATE)
+final class ImmutableIntTemporalCollection implements IntTemporalCollection {
+    IntTemporalCollection delegate;
+
+    @Override
+    public Clock clock() {
+        return delegate.clock();
+    }
+
+    @Override
+    public Optional<TemporalRecord<Integer>> getAsOfNow() {
+        return delegate.getAsOfNow();
+    }
+
+    @Override
+    public Optional<TemporalRecord<Integer>> getAsOf(@NonNull Instant validTime) {
+        return delegate.getAsOf(validTime);
+    }
+
+    @Override
+    public List<Optional<TemporalRecord<Integer>>> getAllAsOf(@NonNull List<Instant> validTimes) {
+        return delegate.getAllAsOf(validTimes);
+    }
+
+    @Override
+    public Optional<TemporalRecord<Integer>> getPriorToNow() {
+        return delegate.getPriorToNow();
+    }
+
+    @Override
+    public Optional<TemporalRecord<Integer>> getPriorTo(@NonNull Instant validTime) {
+        return delegate.getPriorTo(validTime);
+    }
+
+    @Override
+    public Collection<TemporalRecord<Integer>> getInRange(@NonNull TemporalRange validRange) {
+        return delegate.getInRange(validRange);
+    }
+
+    @Override
+    public OptionalInt getIntAsOfNow() {
+        return delegate.getIntAsOfNow();
+    }
+
+    @Override
+    public OptionalInt getIntAsOf(@NonNull Instant validTime) {
+        return delegate.getIntAsOf(validTime);
+    }
+
+    @Override
+    public OptionalInt getIntPriorTo(@NonNull Instant validTime) {
+        return delegate.getIntPriorTo(validTime);
+    }
+
+    @Override
+    public IntStream valuesInRange(@NonNull TemporalRange validRange) {
+        return delegate.valuesInRange(validRange);
+    }
+
+    @Override
+    public long sumInRange(@NonNull TemporalRange validRange) {
+        return delegate.sumInRange(validRange);
+    }
+
+    @Override
+    public OptionalInt minInRange(@NonNull TemporalRange validRange) {
+        return delegate.minInRange(validRange);
+    }
+
+    @Override
+    public OptionalInt maxInRange(@NonNull TemporalRange validRange) {
+        return delegate.maxInRange(validRange);
+    }
+
+    @Override
+    public int reduceInRange(@NonNull TemporalRange validRange, int identity, @NonNull IntBinaryOperator operator) {
+        return delegate.reduceInRange(validRange, identity, operator);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+}
@@ -0,0 +1,107 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.LongBinaryOperator;
+import java.util.stream.LongStream;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@RequiredArgsConstructor
+@FieldDefaults(makeFinal = true, level = PRIVATE)
+final class ImmutableLongTemporalCollection implements LongTemporalCollection {
+    LongTemporalCollection delegate;
+
+    @Override
+    public Clock clock() {
+        return delegate.clock();
+    }
+
+    @Override
+    public Optional<TemporalRecord<Long>> getAsOfNow() {
+        return delegate.getAsOfNow();
+    }
+
+    @Override
+    public Optional<TemporalRecord<Long>> getAsOf(@NonNull Instant validTime) {
+        return delegate.getAsOf(validTime);
+    }
+
+    @Override
+    public List<Optional<TemporalRecord<Long>>> getAllAsOf(@NonNull List<Instant> validTimes) {
+        return delegate.getAllAsOf(validTimes);
+    }
+
+    @Override
+    public Optional<TemporalRecord<Long>> getPriorToNow() {
+        return delegate.getPriorToNow();
+    }
+
+    @Override
+    public Optional<TemporalRecord<Long>> getPriorTo(@NonNull Instant validTime) {
+        return delegate.getPriorTo(validTime);
+    }
+
+    @Override
+    public Collection<TemporalRecord<Long>> getInRange(@NonNull TemporalRange validRange) {
+        return delegate.getInRange(validRange);
+    }
+
+    @Override
+    public OptionalLong getLongAsOfNow() {
+        return delegate.getLongAsOfNow();
+    }
+
+    @Override
+    public OptionalLong getLongAsOf(@NonNull Instant validTime) {
+        return delegate.getLongAsOf(validTime);
+    }
+
+    @Override
+    public OptionalLong getLongPriorTo(@NonNull Instant validTime) {
+        return delegate.getLongPriorTo(validTime);
+    }
+
+    @Override
+    public LongStream valuesInRange(@NonNull TemporalRange validRange) {
+        return delegate.valuesInRange(validRange);
+    }
+
+    @Override
+    public long sumInRange(@NonNull TemporalRange validRange) {
+        return delegate.sumInRange(validRange);
+    }
+
+    @Override
+    public OptionalLong minInRange(@NonNull TemporalRange validRange) {
+        return delegate.minInRange(validRange);
+    }
+
+    @Override
+    public OptionalLong maxInRange(@NonNull TemporalRange validRange) {
+        return delegate.maxInRange(validRange);
+    }
+
+    @Override
+    public long reduceInRange(@NonNull TemporalRange validRange, long identity, @NonNull LongBinaryOperator operator) {
+        return delegate.reduceInRange(validRange, identity, operator);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+}
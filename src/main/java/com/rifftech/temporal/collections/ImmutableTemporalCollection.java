@@ -4,8 +4,10 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import static lombok.AccessLevel.PRIVATE;
@@ -15,6 +17,11 @@ import static lombok.AccessLevel.PRIVATE;
 final class ImmutableTemporalCollection<T> implements TemporalCollection<T> {
     TemporalCollection<T> delegate;
 
+    @Override
+    public Clock clock() {
+        return delegate.clock();
+    }
+
     @Override
     public Optional<TemporalRecord<T>> getAsOfNow() {
         return delegate.getAsOfNow();
@@ -25,6 +32,11 @@ final class ImmutableTemporalCollection<T> implements TemporalCollection<T> {
         return delegate.getAsOf(validTime);
     }
 
+    @Override
+    public List<Optional<TemporalRecord<T>>> getAllAsOf(@NonNull List<Instant> validTimes) {
+        return delegate.getAllAsOf(validTimes);
+    }
+
     @Override
     public Optional<TemporalRecord<T>> getPriorToNow() {
         return delegate.getPriorToNow();
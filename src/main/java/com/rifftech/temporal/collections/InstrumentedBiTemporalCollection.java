@@ -0,0 +1,116 @@
+package com.rifftech.temporal.collections;
+
+import com.rifftech.temporal.metrics.TemporalMetrics;
+import lombok.NonNull;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_ALL_AS_OF;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_AS_OF;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_AS_OF_NOW;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_IN_RANGE;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_PRIOR_TO;
+
+/**
+ * The bi-temporal counterpart of {@link InstrumentedTemporalCollection}. Both range queries are
+ * reported as {@link com.rifftech.temporal.metrics.TemporalOperation#GET_IN_RANGE}.
+ *
+ * @param <T> the type of the value stored within the bi-temporal elements
+ */
+public class InstrumentedBiTemporalCollection<T> implements BiTemporalCollection<T> {
+    final BiTemporalCollection<T> collection;
+    final TemporalMetrics metrics;
+
+    public InstrumentedBiTemporalCollection(@NonNull BiTemporalCollection<T> collection, @NonNull TemporalMetrics metrics) {
+        this.collection = collection;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Clock clock() {
+        return collection.clock();
+    }
+
+    @Override
+    public Optional<BiTemporalRecord<T>> getAsOfNow() {
+        if (!metrics.isEnabled()) {
+            return collection.getAsOfNow();
+        }
+        long start = System.nanoTime();
+        Optional<BiTemporalRecord<T>> result = collection.getAsOfNow();
+        metrics.recordLatency(GET_AS_OF_NOW, System.nanoTime() - start, null, null);
+        return result;
+    }
+
+    @Override
+    public Optional<BiTemporalRecord<T>> getAsOf(@NonNull Instant validTime, @NonNull Instant transactionTime) {
+        if (!metrics.isEnabled()) {
+            return collection.getAsOf(validTime, transactionTime);
+        }
+        long start = System.nanoTime();
+        Optional<BiTemporalRecord<T>> result = collection.getAsOf(validTime, transactionTime);
+        metrics.recordLatency(GET_AS_OF, System.nanoTime() - start, validTime, transactionTime);
+        return result;
+    }
+
+    @Override
+    public List<Optional<BiTemporalRecord<T>>> getAllAsOf(@NonNull List<Instant> validTimes, @NonNull Instant transactionTime) {
+        if (!metrics.isEnabled()) {
+            return collection.getAllAsOf(validTimes, transactionTime);
+        }
+        long start = System.nanoTime();
+        List<Optional<BiTemporalRecord<T>>> result = collection.getAllAsOf(validTimes, transactionTime);
+        metrics.recordLatency(GET_ALL_AS_OF, System.nanoTime() - start, validTimes.size(), transactionTime);
+        metrics.recordResultSize(GET_ALL_AS_OF, result.size());
+        return result;
+    }
+
+    @Override
+    public Optional<BiTemporalRecord<T>> getPriorTo(@NonNull Instant validTime, @NonNull Instant transactionTime) {
+        if (!metrics.isEnabled()) {
+            return collection.getPriorTo(validTime, transactionTime);
+        }
+        long start = System.nanoTime();
+        Optional<BiTemporalRecord<T>> result = collection.getPriorTo(validTime, transactionTime);
+        metrics.recordLatency(GET_PRIOR_TO, System.nanoTime() - start, validTime, transactionTime);
+        return result;
+    }
+
+    @Override
+    public Collection<BiTemporalRecord<T>> getInRange(@NonNull TemporalRange validRange) {
+        if (!metrics.isEnabled()) {
+            return collection.getInRange(validRange);
+        }
+        long start = System.nanoTime();
+        Collection<BiTemporalRecord<T>> result = collection.getInRange(validRange);
+        metrics.recordLatency(GET_IN_RANGE, System.nanoTime() - start, validRange, null);
+        metrics.recordResultSize(GET_IN_RANGE, result.size());
+        return result;
+    }
+
+    @Override
+    public Collection<BiTemporalRecord<T>> getInRange(@NonNull TemporalRange validRange, @NonNull TemporalRange transactionRange) {
+        if (!metrics.isEnabled()) {
+            return collection.getInRange(validRange, transactionRange);
+        }
+        long start = System.nanoTime();
+        Collection<BiTemporalRecord<T>> result = collection.getInRange(validRange, transactionRange);
+        metrics.recordLatency(GET_IN_RANGE, System.nanoTime() - start, validRange, transactionRange);
+        metrics.recordResultSize(GET_IN_RANGE, result.size());
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return collection.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return collection.isEmpty();
+    }
+}
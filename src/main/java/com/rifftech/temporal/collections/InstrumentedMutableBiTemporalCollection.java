@@ -0,0 +1,46 @@
+package com.rifftech.temporal.collections;
+
+import com.rifftech.temporal.metrics.TemporalMetrics;
+import lombok.NonNull;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static com.rifftech.temporal.metrics.TemporalOperation.EFFECTIVE_AS_OF;
+import static com.rifftech.temporal.metrics.TemporalOperation.EXPIRE_AS_OF;
+
+/**
+ * An {@link InstrumentedBiTemporalCollection} that also measures modifications.
+ *
+ * @param <T> the type of the value stored within the bi-temporal elements
+ */
+public class InstrumentedMutableBiTemporalCollection<T> extends InstrumentedBiTemporalCollection<T> implements MutableBiTemporalCollection<T> {
+    final MutableBiTemporalCollection<T> mutableCollection;
+
+    public InstrumentedMutableBiTemporalCollection(@NonNull MutableBiTemporalCollection<T> collection, @NonNull TemporalMetrics metrics) {
+        super(collection, metrics);
+        this.mutableCollection = collection;
+    }
+
+    @Override
+    public Optional<BiTemporalRecord<T>> effectiveAsOf(@NonNull Instant businessTime, @NonNull Instant systemTime, @NonNull T item) {
+        if (!metrics.isEnabled()) {
+            return mutableCollection.effectiveAsOf(businessTime, systemTime, item);
+        }
+        long start = System.nanoTime();
+        Optional<BiTemporalRecord<T>> result = mutableCollection.effectiveAsOf(businessTime, systemTime, item);
+        metrics.recordLatency(EFFECTIVE_AS_OF, System.nanoTime() - start, businessTime, systemTime);
+        return result;
+    }
+
+    @Override
+    public Optional<BiTemporalRecord<T>> expireAsOf(@NonNull Instant businessTime, @NonNull Instant systemTime) {
+        if (!metrics.isEnabled()) {
+            return mutableCollection.expireAsOf(businessTime, systemTime);
+        }
+        long start = System.nanoTime();
+        Optional<BiTemporalRecord<T>> result = mutableCollection.expireAsOf(businessTime, systemTime);
+        metrics.recordLatency(EXPIRE_AS_OF, System.nanoTime() - start, businessTime, systemTime);
+        return result;
+    }
+}
@@ -0,0 +1,46 @@
+package com.rifftech.temporal.collections;
+
+import com.rifftech.temporal.metrics.TemporalMetrics;
+import lombok.NonNull;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static com.rifftech.temporal.metrics.TemporalOperation.EFFECTIVE_AS_OF;
+import static com.rifftech.temporal.metrics.TemporalOperation.EXPIRE_AS_OF;
+
+/**
+ * An {@link InstrumentedTemporalCollection} that also measures modifications.
+ *
+ * @param <T> the type of the value stored within the temporal elements
+ */
+public class InstrumentedMutableTemporalCollection<T> extends InstrumentedTemporalCollection<T> implements MutableTemporalCollection<T> {
+    final MutableTemporalCollection<T> mutableCollection;
+
+    public InstrumentedMutableTemporalCollection(@NonNull MutableTemporalCollection<T> collection, @NonNull TemporalMetrics metrics) {
+        super(collection, metrics);
+        this.mutableCollection = collection;
+    }
+
+    @Override
+    public Optional<TemporalRecord<T>> effectiveAsOf(@NonNull Instant validTime, @NonNull T item) {
+        if (!metrics.isEnabled()) {
+            return mutableCollection.effectiveAsOf(validTime, item);
+        }
+        long start = System.nanoTime();
+        Optional<TemporalRecord<T>> result = mutableCollection.effectiveAsOf(validTime, item);
+        metrics.recordLatency(EFFECTIVE_AS_OF, System.nanoTime() - start, validTime, null);
+        return result;
+    }
+
+    @Override
+    public Optional<TemporalRecord<T>> expireAsOf(@NonNull Instant expireAt) {
+        if (!metrics.isEnabled()) {
+            return mutableCollection.expireAsOf(expireAt);
+        }
+        long start = System.nanoTime();
+        Optional<TemporalRecord<T>> result = mutableCollection.expireAsOf(expireAt);
+        metrics.recordLatency(EXPIRE_AS_OF, System.nanoTime() - start, expireAt, null);
+        return result;
+    }
+}
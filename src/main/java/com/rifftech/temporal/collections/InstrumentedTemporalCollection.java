@@ -0,0 +1,105 @@
+package com.rifftech.temporal.collections;
+
+import com.rifftech.temporal.metrics.TemporalMetrics;
+import lombok.NonNull;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_ALL_AS_OF;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_AS_OF;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_AS_OF_NOW;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_IN_RANGE;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_PRIOR_TO;
+
+/**
+ * A {@link TemporalCollection} that reports the latency of every query, and the number of records
+ * returned by range queries, to {@link TemporalMetrics}. When the metrics are not enabled the queries
+ * are delegated without reading the time.
+ *
+ * @param <T> the type of the value stored within the temporal elements
+ */
+public class InstrumentedTemporalCollection<T> implements TemporalCollection<T> {
+    final TemporalCollection<T> collection;
+    final TemporalMetrics metrics;
+
+    public InstrumentedTemporalCollection(@NonNull TemporalCollection<T> collection, @NonNull TemporalMetrics metrics) {
+        this.collection = collection;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Clock clock() {
+        return collection.clock();
+    }
+
+    @Override
+    public Optional<TemporalRecord<T>> getAsOfNow() {
+        if (!metrics.isEnabled()) {
+            return collection.getAsOfNow();
+        }
+        long start = System.nanoTime();
+        Optional<TemporalRecord<T>> result = collection.getAsOfNow();
+        metrics.recordLatency(GET_AS_OF_NOW, System.nanoTime() - start, null, null);
+        return result;
+    }
+
+    @Override
+    public Optional<TemporalRecord<T>> getAsOf(@NonNull Instant validTime) {
+        if (!metrics.isEnabled()) {
+            return collection.getAsOf(validTime);
+        }
+        long start = System.nanoTime();
+        Optional<TemporalRecord<T>> result = collection.getAsOf(validTime);
+        metrics.recordLatency(GET_AS_OF, System.nanoTime() - start, validTime, null);
+        return result;
+    }
+
+    @Override
+    public List<Optional<TemporalRecord<T>>> getAllAsOf(@NonNull List<Instant> validTimes) {
+        if (!metrics.isEnabled()) {
+            return collection.getAllAsOf(validTimes);
+        }
+        long start = System.nanoTime();
+        List<Optional<TemporalRecord<T>>> result = collection.getAllAsOf(validTimes);
+        metrics.recordLatency(GET_ALL_AS_OF, System.nanoTime() - start, validTimes.size(), null);
+        metrics.recordResultSize(GET_ALL_AS_OF, result.size());
+        return result;
+    }
+
+    @Override
+    public Optional<TemporalRecord<T>> getPriorTo(@NonNull Instant validTime) {
+        if (!metrics.isEnabled()) {
+            return collection.getPriorTo(validTime);
+        }
+        long start = System.nanoTime();
+        Optional<TemporalRecord<T>> result = collection.getPriorTo(validTime);
+        metrics.recordLatency(GET_PRIOR_TO, System.nanoTime() - start, validTime, null);
+        return result;
+    }
+
+    @Override
+    public Collection<TemporalRecord<T>> getInRange(@NonNull TemporalRange validRange) {
+        if (!metrics.isEnabled()) {
+            return collection.getInRange(validRange);
+        }
+        long start = System.nanoTime();
+        Collection<TemporalRecord<T>> result = collection.getInRange(validRange);
+        metrics.recordLatency(GET_IN_RANGE, System.nanoTime() - start, validRange, null);
+        metrics.recordResultSize(GET_IN_RANGE, result.size());
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return collection.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return collection.isEmpty();
+    }
+}
@@ -0,0 +1,68 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+
+import java.time.Instant;
+import java.util.OptionalInt;
+import java.util.function.IntBinaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link TemporalCollection} of {@code int} values. In addition to the record-based lookups it offers
+ * lookups and range reductions that neither box the values nor wrap them in records.
+ */
+public interface IntTemporalCollection extends TemporalCollection<Integer> {
+    /**
+     * Retrieves the value that is currently valid as of the present moment, if such a value exists.
+     *
+     * @return an {@code OptionalInt} containing the value valid at the present moment,
+     * or an empty {@code OptionalInt} if no such value exists.
+     */
+    default OptionalInt getIntAsOfNow() {
+        return getIntAsOf(clock().instant());
+    }
+
+    /**
+     * Retrieves the value that was valid at the specified point in time, if such a value exists.
+     *
+     * @param validTime the point in time for which to retrieve the valid value. This parameter must not be null.
+     * @return an {@code OptionalInt} containing the value valid at the specified time,
+     * or an empty {@code OptionalInt} if no such value exists at that time.
+     */
+    OptionalInt getIntAsOf(@NonNull Instant validTime);
+
+    /**
+     * Retrieves the value that was valid immediately prior to the specified point in time, if such a value exists.
+     *
+     * @param validTime the point in time for which to retrieve the most recent value that was valid before it.
+     *                  This parameter must not be null.
+     * @return an {@code OptionalInt} containing the most recent value that was valid before the specified time,
+     * or an empty {@code OptionalInt} if no such value exists.
+     */
+    OptionalInt getIntPriorTo(@NonNull Instant validTime);
+
+    /**
+     * Retrieves the values of the temporal records that {@link #getInRange(TemporalRange)} returns
+     * for the specified range, in temporal order.
+     *
+     * @param validRange the range of time for which to retrieve the valid values. This parameter must not be null.
+     * @return the values valid within the specified range.
+     */
+    IntStream valuesInRange(@NonNull TemporalRange validRange);
+
+    default long sumInRange(@NonNull TemporalRange validRange) {
+        return valuesInRange(validRange).asLongStream().sum();
+    }
+
+    default OptionalInt minInRange(@NonNull TemporalRange validRange) {
+        return valuesInRange(validRange).min();
+    }
+
+    default OptionalInt maxInRange(@NonNull TemporalRange validRange) {
+        return valuesInRange(validRange).max();
+    }
+
+    default int reduceInRange(@NonNull TemporalRange validRange, int identity, @NonNull IntBinaryOperator operator) {
+        return valuesInRange(validRange).reduce(identity, operator);
+    }
+}
@@ -0,0 +1,126 @@
+package com.rifftech.temporal.collections;
+
+import java.time.Instant;
+
+/**
+ * Parses instants in the ISO-8601 form {@code [+-]yyyy-MM-ddTHH:mm:ss[.fraction]Z} straight from characters,
+ * without the formatter machinery and intermediate objects of {@link Instant#parse(CharSequence)}. Years have
+ * four to nine digits and the fraction one to nine; everything else has exactly the digits of the form.
+ */
+final class Iso8601 {
+    private static final long DAYS_0000_TO_1970 = 719_528;
+    private static final int[] NANO_SCALE = {0, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1};
+
+    private Iso8601() {
+    }
+
+    static Instant parseInstant(CharSequence text) {
+        char[] chars = new char[text.length()];
+        for (int index = 0; index < chars.length; index++) {
+            chars[index] = text.charAt(index);
+        }
+        return parseInstant(chars, 0, chars.length);
+    }
+
+    /**
+     * Parses the instant held by {@code text[from, to)}.
+     *
+     * @throws IllegalArgumentException if the characters are not an instant of the supported form
+     */
+    static Instant parseInstant(char[] text, int from, int to) {
+        int index = from;
+        boolean negative = false;
+        if (index < to && (text[index] == '-' || text[index] == '+')) {
+            negative = text[index] == '-';
+            index++;
+        }
+        int yearStart = index;
+        long year = 0;
+        while (index < to && isDigit(text[index]) && index - yearStart < 9) {
+            year = year * 10 + (text[index++] - '0');
+        }
+        if (index - yearStart < 4) {
+            throw invalid(text, from, to);
+        }
+        year = negative ? -year : year;
+        int month = twoDigits(text, expect(text, index, to, '-', from), to, from);
+        int day = twoDigits(text, expect(text, index + 3, to, '-', from), to, from);
+        int hour = twoDigits(text, expect(text, index + 6, to, 'T', from), to, from);
+        int minute = twoDigits(text, expect(text, index + 9, to, ':', from), to, from);
+        int second = twoDigits(text, expect(text, index + 12, to, ':', from), to, from);
+        index += 15;
+        int nano = 0;
+        if (index < to && text[index] == '.') {
+            int fractionStart = ++index;
+            while (index < to && isDigit(text[index]) && index - fractionStart < 9) {
+                nano = nano * 10 + (text[index++] - '0');
+            }
+            if (index == fractionStart) {
+                throw invalid(text, from, to);
+            }
+            nano *= NANO_SCALE[index - fractionStart];
+        }
+        if (index != to - 1 || text[index] != 'Z'
+                || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+                || hour > 23 || minute > 59 || second > 59) {
+            throw invalid(text, from, to);
+        }
+        long seconds = (epochDay(year, month, day) * 24 + hour) * 3600 + minute * 60 + second;
+        return Instant.ofEpochSecond(seconds, nano);
+    }
+
+    private static int expect(char[] text, int index, int to, char expected, int from) {
+        if (index >= to || text[index] != expected) {
+            throw invalid(text, from, to);
+        }
+        return index + 1;
+    }
+
+    private static int twoDigits(char[] text, int index, int to, int from) {
+        if (index + 1 >= to || !isDigit(text[index]) || !isDigit(text[index + 1])) {
+            throw invalid(text, from, to);
+        }
+        return (text[index] - '0') * 10 + (text[index + 1] - '0');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLeapYear(long year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int lengthOfMonth(long year, int month) {
+        return switch (month) {
+            case 2 -> isLeapYear(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * The number of days from 1970-01-01 to the date, computed like {@link java.time.LocalDate#toEpochDay()}.
+     */
+    private static long epochDay(long year, int month, int day) {
+        long total = 365 * year;
+        if (year >= 0) {
+            total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        } else {
+            total -= year / -4 - year / -100 + year / -400;
+        }
+        total += (367L * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    private static IllegalArgumentException invalid(char[] text, int from, int to) {
+        return new IllegalArgumentException("%s must be an ISO-8601 instant like \"2024-10-30T13:00:00Z\"".formatted(new String(text, from, to - from)));
+    }
+}
@@ -0,0 +1,19 @@
+package com.rifftech.temporal.collections;
+
+/**
+ * Determines which aligned intervals a {@link TemporalJoin} emits.
+ */
+public enum JoinType {
+    /**
+     * Only intervals in which every joined collection has a value.
+     */
+    INNER,
+    /**
+     * Only intervals in which the first joined collection has a value.
+     */
+    LEFT_OUTER,
+    /**
+     * Every interval in which at least one joined collection has a value.
+     */
+    FULL_OUTER
+}
@@ -0,0 +1,18 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+
+import java.util.Optional;
+
+/**
+ * An interval of a {@link TemporalJoin} of two collections together with the value each of them
+ * holds throughout the interval.
+ *
+ * @param validRange the interval within which both values are constant
+ * @param left       the value of the left collection, if it has one within the interval
+ * @param right      the value of the right collection, if it has one within the interval
+ * @param <L>        the type of the values of the left collection
+ * @param <R>        the type of the values of the right collection
+ */
+public record JoinedRecord<L, R>(@NonNull TemporalRange validRange, @NonNull Optional<L> left, @NonNull Optional<R> right) {
+}
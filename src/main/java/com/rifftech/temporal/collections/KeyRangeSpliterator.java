@@ -0,0 +1,155 @@
+package com.rifftech.temporal.collections;
+
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+
+import static com.rifftech.temporal.collections.TemporalRange.MAX;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * A {@link Spliterator} over the records of the entries of a skip list whose keys lie within a range.
+ * It splits by key range: the keys between the first and the last key of the range are cut at the key
+ * nearest to their midpoint in time, so splitting costs a few searches and never copies entries. The
+ * end of the record of the last entry of a split is taken from the whole skip list, so records at
+ * split boundaries end where they do in a sequential scan.
+ * <p>
+ * Like the iterators of {@link ConcurrentSkipListMap}, the spliterator is weakly consistent.
+ *
+ * @param <V> the type of the values of the skip list
+ * @param <R> the type of the records
+ */
+@FieldDefaults(level = PRIVATE)
+final class KeyRangeSpliterator<V, R> implements Spliterator<R> {
+    final ConcurrentSkipListMap<Instant, V> map;
+    final RecordEmitter<V, R> emitter;
+    final Instant high;
+    final boolean highInclusive;
+    Instant low;
+    long estimatedSize;
+    Iterator<Map.Entry<Instant, V>> entries;
+    Map.Entry<Instant, V> pending;
+    final ArrayDeque<R> buffer = new ArrayDeque<>();
+
+    /**
+     * Emits the records of an entry of the skip list.
+     */
+    @FunctionalInterface
+    interface RecordEmitter<V, R> {
+        /**
+         * @param entry  the entry of the skip list
+         * @param end    the key of the entry that follows it in the whole skip list, or {@link TemporalRange#MAX}
+         * @param action the consumer of the records of the entry
+         */
+        void emit(Map.Entry<Instant, V> entry, Instant end, Consumer<? super R> action);
+    }
+
+    /**
+     * Creates a spliterator over the entries with keys from {@code low} to {@code high}, both inclusive.
+     */
+    KeyRangeSpliterator(ConcurrentSkipListMap<Instant, V> map, TemporalRange range, long estimatedSize, RecordEmitter<V, R> emitter) {
+        this(map, range.start(), range.end(), true, estimatedSize, emitter);
+    }
+
+    private KeyRangeSpliterator(ConcurrentSkipListMap<Instant, V> map, Instant low, Instant high, boolean highInclusive,
+                                long estimatedSize, RecordEmitter<V, R> emitter) {
+        this.map = map;
+        this.low = low;
+        this.high = high;
+        this.highInclusive = highInclusive;
+        this.estimatedSize = estimatedSize;
+        this.emitter = emitter;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super R> action) {
+        while (buffer.isEmpty()) {
+            if (!emitNext(buffer::add)) {
+                return false;
+            }
+        }
+        action.accept(buffer.poll());
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super R> action) {
+        while (!buffer.isEmpty()) {
+            action.accept(buffer.poll());
+        }
+        while (emitNext(action)) {
+            // every call emits the records of one entry
+        }
+    }
+
+    /**
+     * Emits the records of the next entry of this split.
+     *
+     * @return false if the split has no more entries.
+     */
+    private boolean emitNext(Consumer<? super R> action) {
+        if (entries == null) {
+            if (low.isAfter(high) || (low.equals(high) && !highInclusive)) {
+                return false;
+            }
+            entries = map.subMap(low, true, high, highInclusive).entrySet().iterator();
+            pending = entries.hasNext() ? entries.next() : null;
+        }
+        if (pending == null) {
+            return false;
+        }
+        Map.Entry<Instant, V> entry = pending;
+        pending = entries.hasNext() ? entries.next() : null;
+        Instant end = pending != null ? pending.getKey() : map.higherKey(entry.getKey());
+        emitter.emit(entry, end == null ? MAX : end, action);
+        return true;
+    }
+
+    @Override
+    public Spliterator<R> trySplit() {
+        if (entries != null || !low.isBefore(high)) {
+            return null;
+        }
+        Instant first = map.ceilingKey(low);
+        Instant last = highInclusive ? map.floorKey(high) : map.lowerKey(high);
+        if (first == null || last == null || !first.isBefore(last)) {
+            return null;
+        }
+        Instant midpoint = midpoint(first, last);
+        Instant split = map.ceilingKey(midpoint);
+        if (split == null || !split.isAfter(first) || split.isAfter(last)) {
+            split = map.floorKey(midpoint);
+            if (split == null || !split.isAfter(first)) {
+                return null;
+            }
+        }
+        long prefixSize = estimatedSize >>> 1;
+        KeyRangeSpliterator<V, R> prefix = new KeyRangeSpliterator<>(map, low, split, false, prefixSize, emitter);
+        low = split;
+        estimatedSize -= prefixSize;
+        return prefix;
+    }
+
+    private static Instant midpoint(Instant low, Instant high) {
+        long seconds = high.getEpochSecond() - low.getEpochSecond();
+        return seconds > 1
+                ? Instant.ofEpochSecond(low.getEpochSecond() + seconds / 2)
+                : low.plusNanos((seconds * 1_000_000_000L + high.getNano() - low.getNano()) / 2);
+    }
+
+    @Override
+    public long estimateSize() {
+        return estimatedSize;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | CONCURRENT;
+    }
+}
@@ -36,7 +36,7 @@ public interface MutableBiTemporalCollection<T> extends BiTemporalCollection<T>
     }
 
     default Optional<BiTemporalRecord<T>> effectiveAsOfNow(@NonNull T item, @NonNull TemporalUnit precision) {
-        return effectiveAsOf(Instant.now(), item, precision);
+        return effectiveAsOf(clock().instant(), item, precision);
     }
 
     /**
@@ -59,7 +59,7 @@ public interface MutableBiTemporalCollection<T> extends BiTemporalCollection<T>
     }
 
     default Optional<BiTemporalRecord<T>> effectiveAsOf(@NonNull Instant businessTime, @NonNull T item, @NonNull TemporalUnit precision) {
-        return effectiveAsOf(businessTime, Instant.now(), item, precision);
+        return effectiveAsOf(businessTime, clock().instant(), item, precision);
     }
 
     /**
@@ -89,7 +89,7 @@ public interface MutableBiTemporalCollection<T> extends BiTemporalCollection<T>
     }
 
     default Optional<BiTemporalRecord<T>> expireAsOfNow(@NonNull TemporalUnit precision) {
-        return expireAsOf(Instant.now().truncatedTo(precision));
+        return expireAsOf(clock().instant().truncatedTo(precision));
     }
 
     /**
@@ -106,7 +106,7 @@ public interface MutableBiTemporalCollection<T> extends BiTemporalCollection<T>
     }
 
     default Optional<BiTemporalRecord<T>> expireAsOf(@NonNull Instant expireAt, @NonNull TemporalUnit precision) {
-        return expireAsOf(expireAt, Instant.now(), precision);
+        return expireAsOf(expireAt, clock().instant(), precision);
     }
 
     /**
@@ -0,0 +1,33 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+
+import java.time.Instant;
+import java.util.OptionalInt;
+
+/**
+ * A {@link MutableTemporalCollection} of {@code int} values that can also be modified without boxing.
+ */
+public interface MutableIntTemporalCollection extends IntTemporalCollection, MutableTemporalCollection<Integer> {
+    /**
+     * Associates the specified value with the current moment.
+     *
+     * @param value the value to make effective.
+     * @return an {@code OptionalInt} containing the previously effective value,
+     * or an empty {@code OptionalInt} if no such value exists.
+     */
+    default OptionalInt effectiveIntAsOfNow(int value) {
+        return effectiveIntAsOf(clock().instant(), value);
+    }
+
+    /**
+     * Marks the specified value as effective at the given valid time, with the same semantics as
+     * {@link #effectiveAsOf(Instant, Object)}.
+     *
+     * @param validTime the time at which the value should be marked as effective. Must not be null.
+     * @param value     the value to be marked as effective at the specified valid time.
+     * @return an {@code OptionalInt} containing the prior value that was effective at the specified valid time,
+     * or an empty {@code OptionalInt} if no prior value was present.
+     */
+    OptionalInt effectiveIntAsOf(@NonNull Instant validTime, int value);
+}
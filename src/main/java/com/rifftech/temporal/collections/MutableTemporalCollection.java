@@ -22,7 +22,7 @@ public interface MutableTemporalCollection<T> extends TemporalCollection<T> {
      * or an empty {@code Optional} if no such value exists.
      */
     default Optional<TemporalRecord<T>> effectiveAsOfNow(@NonNull T item) {
-        return effectiveAsOf(Instant.now(), item);
+        return effectiveAsOf(clock().instant(), item);
     }
 
     /**
@@ -51,7 +51,7 @@ public interface MutableTemporalCollection<T> extends TemporalCollection<T> {
      * if no such value exists.
      */
     default Optional<TemporalRecord<T>> expireAsOfNow() {
-        return expireAsOf(Instant.now());
+        return expireAsOf(clock().instant());
     }
 
     /**
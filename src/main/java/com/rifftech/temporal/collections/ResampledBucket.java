@@ -0,0 +1,34 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.OptionalDouble;
+
+/**
+ * The numeric values of a temporal collection within one fixed-width bucket of a
+ * {@link TemporalResampler resampled} range. All figures are empty if the collection has no value
+ * anywhere within the bucket.
+ *
+ * @param range               the bucket
+ * @param last                the last value valid within the bucket
+ * @param min                 the smallest value valid within the bucket
+ * @param max                 the largest value valid within the bucket
+ * @param timeWeightedAverage the average of the values valid within the bucket, each weighted by how long
+ *                            it is valid within the bucket; time without a value does not count
+ * @param coverage            how long within the bucket the collection has a value
+ */
+public record ResampledBucket(@NonNull TemporalRange range,
+                              @NonNull OptionalDouble last,
+                              @NonNull OptionalDouble min,
+                              @NonNull OptionalDouble max,
+                              @NonNull OptionalDouble timeWeightedAverage,
+                              @NonNull Duration coverage) {
+
+    /**
+     * @return true if the collection has no value within the bucket
+     */
+    public boolean isEmpty() {
+        return coverage.isZero();
+    }
+}
@@ -0,0 +1,123 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.DoubleStream;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * A {@link MutableDoubleTemporalCollection} storing its values in a sorted primitive array.
+ */
+@FieldDefaults(level = PRIVATE)
+public class SortedArrayDoubleTemporalCollection extends SortedArrayTemporalCollection<Double> implements MutableDoubleTemporalCollection {
+    double[] values = new double[INITIAL_CAPACITY];
+
+    public SortedArrayDoubleTemporalCollection() {
+        this(Clock.systemUTC());
+    }
+
+    public SortedArrayDoubleTemporalCollection(@NonNull Clock clock) {
+        super(clock);
+    }
+
+    @Override
+    public Optional<TemporalRecord<Double>> effectiveAsOf(@NonNull Instant validTime, @NonNull Double item) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            Optional<TemporalRecord<Double>> priorValue = recordAsOf(validTime);
+            put(validTime, item);
+            return priorValue;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public OptionalDouble effectiveDoubleAsOf(@NonNull Instant validTime, double value) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            OptionalDouble priorValue = valueAt(floorIndex(validTime));
+            put(validTime, value);
+            return priorValue;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public OptionalDouble getDoubleAsOf(@NonNull Instant validTime) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return valueAt(floorIndex(validTime));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public OptionalDouble getDoublePriorTo(@NonNull Instant validTime) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return valueAt(floorIndex(validTime) - 1);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public DoubleStream valuesInRange(@NonNull TemporalRange validRange) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            int first = ceilingIndex(validRange.start());
+            int last = floorIndex(validRange.end());
+            double[] inRange = new double[Math.max(0, last - first + 1)];
+            int count = 0;
+            for (int index = first; index <= last; index++) {
+                if (present[index]) {
+                    inRange[count++] = values[index];
+                }
+            }
+            return Arrays.stream(inRange, 0, count);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    Double boxedValue(int index) {
+        return values[index];
+    }
+
+    @Override
+    void resizeValues(int capacity) {
+        values = Arrays.copyOf(values, capacity);
+    }
+
+    @Override
+    void shiftValues(int index) {
+        System.arraycopy(values, index, values, index + 1, size - index);
+    }
+
+    private void put(Instant validTime, double value) {
+        int index = insertKey(validTime);
+        values[index] = value;
+        present[index] = true;
+    }
+
+    private OptionalDouble valueAt(int index) {
+        return index >= 0 && present[index] ? OptionalDouble.of(values[index]) : OptionalDouble.empty();
+    }
+}
@@ -0,0 +1,123 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.IntStream;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * A {@link MutableIntTemporalCollection} storing its values in a sorted primitive array.
+ */
+@FieldDefaults(level = PRIVATE)
+public class SortedArrayIntTemporalCollection extends SortedArrayTemporalCollection<Integer> implements MutableIntTemporalCollection {
+    int[] values = new int[INITIAL_CAPACITY];
+
+    public SortedArrayIntTemporalCollection() {
+        this(Clock.systemUTC());
+    }
+
+    public SortedArrayIntTemporalCollection(@NonNull Clock clock) {
+        super(clock);
+    }
+
+    @Override
+    public Optional<TemporalRecord<Integer>> effectiveAsOf(@NonNull Instant validTime, @NonNull Integer item) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            Optional<TemporalRecord<Integer>> priorValue = recordAsOf(validTime);
+            put(validTime, item);
+            return priorValue;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public OptionalInt effectiveIntAsOf(@NonNull Instant validTime, int value) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            OptionalInt priorValue = valueAt(floorIndex(validTime));
+            put(validTime, value);
+            return priorValue;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public OptionalInt getIntAsOf(@NonNull Instant validTime) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return valueAt(floorIndex(validTime));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public OptionalInt getIntPriorTo(@NonNull Instant validTime) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return valueAt(floorIndex(validTime) - 1);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public IntStream valuesInRange(@NonNull TemporalRange validRange) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            int first = ceilingIndex(validRange.start());
+            int last = floorIndex(validRange.end());
+            int[] inRange = new int[Math.max(0, last - first + 1)];
+            int count = 0;
+            for (int index = first; index <= last; index++) {
+                if (present[index]) {
+                    inRange[count++] = values[index];
+                }
+            }
+            return Arrays.stream(inRange, 0, count);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    Integer boxedValue(int index) {
+        return values[index];
+    }
+
+    @Override
+    void resizeValues(int capacity) {
+        values = Arrays.copyOf(values, capacity);
+    }
+
+    @Override
+    void shiftValues(int index) {
+        System.arraycopy(values, index, values, index + 1, size - index);
+    }
+
+    private void put(Instant validTime, int value) {
+        int index = insertKey(validTime);
+        values[index] = value;
+        present[index] = true;
+    }
+
+    private OptionalInt valueAt(int index) {
+        return index >= 0 && present[index] ? OptionalInt.of(values[index]) : OptionalInt.empty();
+    }
+}
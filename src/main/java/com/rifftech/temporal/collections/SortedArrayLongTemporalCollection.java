@@ -0,0 +1,123 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.LongStream;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * A {@link MutableLongTemporalCollection} storing its values in a sorted primitive array.
+ */
+@FieldDefaults(level = PRIVATE)
+public class SortedArrayLongTemporalCollection extends SortedArrayTemporalCollection<Long> implements MutableLongTemporalCollection {
+    long[] values = new long[INITIAL_CAPACITY];
+
+    public SortedArrayLongTemporalCollection() {
+        this(Clock.systemUTC());
+    }
+
+    public SortedArrayLongTemporalCollection(@NonNull Clock clock) {
+        super(clock);
+    }
+
+    @Override
+    public Optional<TemporalRecord<Long>> effectiveAsOf(@NonNull Instant validTime, @NonNull Long item) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            Optional<TemporalRecord<Long>> priorValue = recordAsOf(validTime);
+            put(validTime, item);
+            return priorValue;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public OptionalLong effectiveLongAsOf(@NonNull Instant validTime, long value) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            OptionalLong priorValue = valueAt(floorIndex(validTime));
+            put(validTime, value);
+            return priorValue;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public OptionalLong getLongAsOf(@NonNull Instant validTime) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return valueAt(floorIndex(validTime));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public OptionalLong getLongPriorTo(@NonNull Instant validTime) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return valueAt(floorIndex(validTime) - 1);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public LongStream valuesInRange(@NonNull TemporalRange validRange) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            int first = ceilingIndex(validRange.start());
+            int last = floorIndex(validRange.end());
+            long[] inRange = new long[Math.max(0, last - first + 1)];
+            int count = 0;
+            for (int index = first; index <= last; index++) {
+                if (present[index]) {
+                    inRange[count++] = values[index];
+                }
+            }
+            return Arrays.stream(inRange, 0, count);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    Long boxedValue(int index) {
+        return values[index];
+    }
+
+    @Override
+    void resizeValues(int capacity) {
+        values = Arrays.copyOf(values, capacity);
+    }
+
+    @Override
+    void shiftValues(int index) {
+        System.arraycopy(values, index, values, index + 1, size - index);
+    }
+
+    private void put(Instant validTime, long value) {
+        int index = insertKey(validTime);
+        values[index] = value;
+        present[index] = true;
+    }
+
+    private OptionalLong valueAt(int index) {
+        return index >= 0 && present[index] ? OptionalLong.of(values[index]) : OptionalLong.empty();
+    }
+}
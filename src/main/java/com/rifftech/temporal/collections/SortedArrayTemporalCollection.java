@@ -0,0 +1,268 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.rifftech.temporal.collections.TemporalRange.MAX;
+import static com.rifftech.temporal.collections.TemporalRange.fromTo;
+import static lombok.AccessLevel.PACKAGE;
+
+/**
+ * Base class of the primitive-specialized temporal collections. Effective instants are kept
+ * as parallel arrays of epoch seconds and nanosecond adjustments, sorted ascending, alongside
+ * a presence flag distinguishing effective entries from expirations. Subclasses store the
+ * values themselves in a primitive array kept parallel to the instants.
+ * <p>
+ * Lookups are binary searches and run concurrently with each other; mutations take an
+ * exclusive lock and shift the arrays in place.
+ *
+ * @param <T> the boxed type of the primitive values
+ */
+@FieldDefaults(level = PACKAGE)
+abstract class SortedArrayTemporalCollection<T> implements MutableTemporalCollection<T> {
+    static final int INITIAL_CAPACITY = 16;
+
+    final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    final Clock clock;
+    long[] seconds = new long[INITIAL_CAPACITY];
+    int[] nanos = new int[INITIAL_CAPACITY];
+    boolean[] present = new boolean[INITIAL_CAPACITY];
+    int size;
+
+    SortedArrayTemporalCollection(@NonNull Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the value at the specified index boxed for the generic {@link TemporalCollection} API.
+     */
+    abstract T boxedValue(int index);
+
+    /**
+     * Resizes the value array to the specified capacity.
+     */
+    abstract void resizeValues(int capacity);
+
+    /**
+     * Moves the values at {@code [index, size)} one position up to make room at {@code index}.
+     */
+    abstract void shiftValues(int index);
+
+    @Override
+    public Clock clock() {
+        return clock;
+    }
+
+    @Override
+    public Optional<TemporalRecord<T>> expireAsOf(@NonNull Instant expireAt) {
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            if (size == 0) {
+                return Optional.empty();
+            }
+            Optional<TemporalRecord<T>> priorValue = recordAsOf(expireAt);
+            int index = insertKey(expireAt);
+            present[index] = false;
+            return priorValue;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<TemporalRecord<T>> getAsOf(@NonNull Instant validTime) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return recordAsOf(validTime);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the temporal values valid at each of the specified points in time with a single
+     * binary search for the first of them, stepping forward through the sorted keys for the others.
+     */
+    @Override
+    public List<Optional<TemporalRecord<T>>> getAllAsOf(@NonNull List<Instant> validTimes) {
+        FloorCursor.requireAscending(validTimes);
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            List<Optional<TemporalRecord<T>>> records = new ArrayList<>(validTimes.size());
+            int index = validTimes.isEmpty() ? -1 : floorIndex(validTimes.get(0));
+            Optional<TemporalRecord<T>> record = index >= 0 && present[index] ? Optional.of(recordAt(index)) : Optional.empty();
+            for (Instant validTime : validTimes) {
+                int floor = advanceFloorIndex(index, validTime);
+                if (floor != index) {
+                    index = floor;
+                    record = present[index] ? Optional.of(recordAt(index)) : Optional.empty();
+                }
+                records.add(record);
+            }
+            return Collections.unmodifiableList(records);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<TemporalRecord<T>> getPriorTo(@NonNull Instant validTime) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            int index = floorIndex(validTime) - 1;
+            return index >= 0 && present[index] ? Optional.of(recordAt(index)) : Optional.empty();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public Collection<TemporalRecord<T>> getInRange(@NonNull TemporalRange validRange) {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            int last = floorIndex(validRange.end());
+            List<TemporalRecord<T>> records = new ArrayList<>();
+            for (int index = ceilingIndex(validRange.start()); index <= last; index++) {
+                if (present[index]) {
+                    records.add(recordAt(index));
+                }
+            }
+            return Collections.unmodifiableList(records);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return size;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    Optional<TemporalRecord<T>> recordAsOf(Instant validTime) {
+        int index = floorIndex(validTime);
+        return index >= 0 && present[index] ? Optional.of(recordAt(index)) : Optional.empty();
+    }
+
+    TemporalRecord<T> recordAt(int index) {
+        return new TemporalRecord<>(fromTo(keyAt(index), endAt(index)), boxedValue(index));
+    }
+
+    Instant keyAt(int index) {
+        return Instant.ofEpochSecond(seconds[index], nanos[index]);
+    }
+
+    Instant endAt(int index) {
+        return index + 1 < size ? keyAt(index + 1) : MAX;
+    }
+
+    /**
+     * Returns the index of the specified instant, inserting it with no value if it is not present yet.
+     */
+    int insertKey(Instant key) {
+        int index = search(key);
+        if (index >= 0) {
+            return index;
+        }
+        index = -(index + 1);
+        if (size == seconds.length) {
+            int capacity = size * 2;
+            seconds = Arrays.copyOf(seconds, capacity);
+            nanos = Arrays.copyOf(nanos, capacity);
+            present = Arrays.copyOf(present, capacity);
+            resizeValues(capacity);
+        }
+        int length = size - index;
+        System.arraycopy(seconds, index, seconds, index + 1, length);
+        System.arraycopy(nanos, index, nanos, index + 1, length);
+        System.arraycopy(present, index, present, index + 1, length);
+        shiftValues(index);
+        seconds[index] = key.getEpochSecond();
+        nanos[index] = key.getNano();
+        size++;
+        return index;
+    }
+
+    /**
+     * Returns the index of the greatest instant less than or equal to the specified one, or -1.
+     */
+    int floorIndex(Instant instant) {
+        int index = search(instant);
+        return index >= 0 ? index : -(index + 1) - 1;
+    }
+
+    /**
+     * Returns the index of the least instant greater than or equal to the specified one, or {@code size}.
+     */
+    int ceilingIndex(Instant instant) {
+        int index = search(instant);
+        return index >= 0 ? index : -(index + 1);
+    }
+
+    /**
+     * Returns the index of the floor of the specified instant, given the index of the floor of a preceding
+     * instant, by stepping forward a few keys before falling back to a binary search.
+     */
+    private int advanceFloorIndex(int index, Instant instant) {
+        for (int step = 0; step < FloorCursor.LINEAR_PROBE_LIMIT; step++) {
+            if (index + 1 >= size || compareKey(index + 1, instant) > 0) {
+                return index;
+            }
+            index++;
+        }
+        return floorIndex(instant);
+    }
+
+    private int compareKey(int index, Instant instant) {
+        int comparison = Long.compare(seconds[index], instant.getEpochSecond());
+        return comparison != 0 ? comparison : Integer.compare(nanos[index], instant.getNano());
+    }
+
+    private int search(Instant instant) {
+        long second = instant.getEpochSecond();
+        int nano = instant.getNano();
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = Long.compare(seconds[middle], second);
+            if (comparison == 0) {
+                comparison = Integer.compare(nanos[middle], nano);
+            }
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+}
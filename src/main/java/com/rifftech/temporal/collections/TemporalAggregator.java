@@ -0,0 +1,89 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+
+import java.time.Instant;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Describes an associative aggregate over temporal records. An aggregator lifts every
+ * record into an aggregate value and combines aggregates of adjacent records, in
+ * temporal order, into the aggregate of the records they cover.
+ * <p>
+ * {@link #combine(Object, Object)} must be associative and {@link #identity()} must be
+ * its identity element; commutativity is not required.
+ *
+ * @param <T> the type of the value stored within the temporal elements
+ * @param <A> the type of the aggregate
+ */
+public interface TemporalAggregator<T, A> {
+    /**
+     * Returns the aggregate of no records.
+     *
+     * @return the identity element of {@link #combine(Object, Object)}
+     */
+    A identity();
+
+    /**
+     * Lifts a single temporal record into an aggregate.
+     *
+     * @param record the temporal record to lift. Must not be null.
+     * @return the aggregate of the single record
+     */
+    A lift(@NonNull TemporalRecord<T> record);
+
+    /**
+     * Lifts the part of a single temporal record before an instant, for the last record of an
+     * aggregated range when it ends after the range does. The part is empty when the record
+     * starts at that instant. By default the whole record is lifted, which suits aggregates that
+     * do not depend on the duration of the records.
+     *
+     * @param record the temporal record to lift. Must not be null.
+     * @param end    the end of the aggregated range, not before the start of the record. Must not be null.
+     * @return the aggregate of the part of the record before {@code end}
+     */
+    default A liftUntil(@NonNull TemporalRecord<T> record, @NonNull Instant end) {
+        return lift(record);
+    }
+
+    /**
+     * Combines the aggregate of earlier records with the aggregate of later records.
+     *
+     * @param earlier the aggregate of the earlier records
+     * @param later   the aggregate of the later records
+     * @return the aggregate of both groups of records
+     */
+    A combine(A earlier, A later);
+
+    /**
+     * Creates an aggregator from its identity, lifting function and combining operator.
+     *
+     * @param identity the aggregate of no records
+     * @param lift     the function lifting a single record into an aggregate. Must not be null.
+     * @param combine  the associative operator combining two aggregates. Must not be null.
+     * @param <T>      the type of the value stored within the temporal elements
+     * @param <A>      the type of the aggregate
+     * @return a new {@code TemporalAggregator}
+     */
+    static <T, A> TemporalAggregator<T, A> of(A identity,
+                                              @NonNull Function<TemporalRecord<T>, A> lift,
+                                              @NonNull BinaryOperator<A> combine) {
+        return new TemporalAggregator<>() {
+            @Override
+            public A identity() {
+                return identity;
+            }
+
+            @Override
+            public A lift(@NonNull TemporalRecord<T> record) {
+                return lift.apply(record);
+            }
+
+            @Override
+            public A combine(A earlier, A later) {
+                return combine.apply(earlier, later);
+            }
+        };
+    }
+}
@@ -0,0 +1,90 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Commonly used {@link TemporalAggregator} implementations.
+ */
+public class TemporalAggregators {
+
+    public static <T> TemporalAggregator<T, Long> count() {
+        return TemporalAggregator.of(0L, record -> 1L, Long::sum);
+    }
+
+    public static <T> TemporalAggregator<T, Long> sum(@NonNull ToLongFunction<? super T> mapper) {
+        return TemporalAggregator.of(0L, record -> mapper.applyAsLong(record.value()), Long::sum);
+    }
+
+    public static <T> TemporalAggregator<T, Optional<T>> min(@NonNull Comparator<? super T> comparator) {
+        return TemporalAggregator.of(Optional.empty(), record -> Optional.of(record.value()),
+                (earlier, later) -> earlier.isEmpty() ? later : later.isEmpty() ? earlier
+                        : comparator.compare(later.get(), earlier.get()) < 0 ? later : earlier);
+    }
+
+    public static <T> TemporalAggregator<T, Optional<T>> max(@NonNull Comparator<? super T> comparator) {
+        return TemporalAggregator.of(Optional.empty(), record -> Optional.of(record.value()),
+                (earlier, later) -> earlier.isEmpty() ? later : later.isEmpty() ? earlier
+                        : comparator.compare(later.get(), earlier.get()) > 0 ? later : earlier);
+    }
+
+    /**
+     * Sums every value multiplied by the duration in seconds of its valid range within the
+     * aggregated range, so that a record open until {@link TemporalRange#MAX} is weighted by
+     * the part of it up to the end of the aggregated range.
+     *
+     * @param mapper the function extracting the numeric value of a record. Must not be null.
+     * @param <T>    the type of the value stored within the temporal elements
+     * @return an aggregator of time-weighted sums
+     */
+    public static <T> TemporalAggregator<T, Double> timeWeightedSum(@NonNull ToDoubleFunction<? super T> mapper) {
+        return weighted(0d, (value, durationInSeconds) -> mapper.applyAsDouble(value) * durationInSeconds, Double::sum);
+    }
+
+    /**
+     * Summarizes the values, weighting every value by the duration in seconds of its valid range
+     * within the aggregated range for the time-weighted figures of the {@link TemporalSummary}.
+     *
+     * @param mapper the function extracting the numeric value of a record. Must not be null.
+     * @param <T>    the type of the value stored within the temporal elements
+     * @return an aggregator of summaries
+     */
+    public static <T> TemporalAggregator<T, TemporalSummary> summary(@NonNull ToDoubleFunction<? super T> mapper) {
+        return weighted(TemporalSummary.EMPTY,
+                (value, durationInSeconds) -> TemporalSummary.of(mapper.applyAsDouble(value), durationInSeconds),
+                TemporalSummary::combine);
+    }
+
+    private static <T, A> TemporalAggregator<T, A> weighted(A identity, BiFunction<T, Long, A> weigh, BinaryOperator<A> combine) {
+        return new TemporalAggregator<>() {
+            @Override
+            public A identity() {
+                return identity;
+            }
+
+            @Override
+            public A lift(@NonNull TemporalRecord<T> record) {
+                return weigh.apply(record.value(), record.validRange().durationInSeconds());
+            }
+
+            @Override
+            public A liftUntil(@NonNull TemporalRecord<T> record, @NonNull Instant end) {
+                Instant start = record.validRange().start();
+                Instant until = end.isBefore(record.validRange().end()) ? end : record.validRange().end();
+                return weigh.apply(record.value(), until.getEpochSecond() - start.getEpochSecond());
+            }
+
+            @Override
+            public A combine(A earlier, A later) {
+                return combine.apply(earlier, later);
+            }
+        };
+    }
+}
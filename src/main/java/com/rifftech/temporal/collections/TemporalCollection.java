@@ -2,8 +2,10 @@ package com.rifftech.temporal.collections;
 
 import lombok.NonNull;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,6 +17,16 @@ import java.util.Optional;
  * @param <T> the type of the value stored within the temporal elements
  */
 public interface TemporalCollection<T> {
+    /**
+     * Returns the clock that determines the present moment for the methods relative to now.
+     *
+     * @return the clock of this collection, which is the system UTC clock unless the
+     * implementation was given another one.
+     */
+    default Clock clock() {
+        return Clock.systemUTC();
+    }
+
     /**
      * Retrieves the temporal value that is currently valid as of the present moment,
      * if such a value exists.
@@ -23,7 +35,7 @@ public interface TemporalCollection<T> {
      * or an empty {@code Optional} if no such value exists.
      */
     default Optional<TemporalRecord<T>> getAsOfNow() {
-        return getAsOf(Instant.now());
+        return getAsOf(clock().instant());
     }
 
     /**
@@ -36,6 +48,21 @@ public interface TemporalCollection<T> {
      */
     Optional<TemporalRecord<T>> getAsOf(@NonNull Instant validTime);
 
+    /**
+     * Retrieves the temporal values that were valid at each of the specified points in time. Implementations
+     * may take advantage of the order of the points in time to find all values in a single traversal.
+     *
+     * @param validTimes the points in time for which to retrieve the valid temporal values, in ascending
+     *                   order. This parameter must not be null.
+     * @return a list holding, at each position, the result of {@link #getAsOf(Instant)} for the point
+     * in time at the same position.
+     * @throws IllegalArgumentException if the points in time are not in ascending order.
+     */
+    default List<Optional<TemporalRecord<T>>> getAllAsOf(@NonNull List<Instant> validTimes) {
+        FloorCursor.requireAscending(validTimes);
+        return validTimes.stream().map(this::getAsOf).toList();
+    }
+
     /**
      * Retrieves the temporal value that was valid immediately prior to the present moment,
      * if such a value exists.
@@ -44,7 +71,7 @@ public interface TemporalCollection<T> {
      * or an empty {@code Optional} if no such value exists.
      */
     default Optional<TemporalRecord<T>> getPriorToNow() {
-        return getPriorTo(Instant.now());
+        return getPriorTo(clock().instant());
     }
 
     /**
@@ -0,0 +1,26 @@
+package com.rifftech.temporal.collections;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Statistics of a {@link ConcurrentSkipListTemporalCollection}, maintained as the collection is modified
+ * so that obtaining them does not visit its records. The figures are read one after the other and may
+ * therefore reflect different moments when the collection is modified concurrently.
+ *
+ * @param keyCount               the number of instants at which a record starts or the collection expires,
+ *                               which is what {@link TemporalCollection#size()} reports
+ * @param recordCount            the number of records, each starting at one of the keys
+ * @param tombstoneCount         the number of keys at which the collection expires
+ * @param earliest               the earliest key, if any
+ * @param latest                 the latest key, if any
+ * @param estimatedRetainedBytes an estimate of the heap retained by the keys and the structure holding
+ *                               them on a 64-bit JVM with compressed references, excluding the values
+ */
+public record TemporalCollectionStatistics(long keyCount,
+                                           long recordCount,
+                                           long tombstoneCount,
+                                           Optional<Instant> earliest,
+                                           Optional<Instant> latest,
+                                           long estimatedRetainedBytes) {
+}
@@ -1,16 +1,26 @@
 package com.rifftech.temporal.collections;
 
 import com.rifftech.temporal.events.TemporalEventProducer;
+import com.rifftech.temporal.metrics.TemporalMetrics;
 
+import java.time.Clock;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.Executor;
 
 public class TemporalCollections {
     private static <T> ConcurrentSkipListTemporalCollection<T> createTemporalCollection(Collection<TemporalRecord<T>> temporalRecords) {
+        return createTemporalCollection(temporalRecords, Clock.systemUTC());
+    }
+
+    private static <T> ConcurrentSkipListTemporalCollection<T> createTemporalCollection(Collection<TemporalRecord<T>> temporalRecords, Clock clock) {
+        return ConcurrentSkipListTemporalCollection.fromSortedRecords(clock, new TreeSet<>(temporalRecords));
+    }
+
+    private static <T, C extends MutableTemporalCollection<T>> C loadTemporalCollection(C collection, Collection<TemporalRecord<T>> temporalRecords) {
         SortedSet<TemporalRecord<T>> sorted = new TreeSet<>(temporalRecords);
-        ConcurrentSkipListTemporalCollection<T> collection = new ConcurrentSkipListTemporalCollection<>();
         sorted.forEach(r -> {
             collection.effectiveAsOf(r.validRange().start(), r.value());
             collection.expireAsOf(r.validRange().end());
@@ -34,7 +44,79 @@ public class TemporalCollections {
         return createTemporalCollection(temporalRecords);
     }
 
+    public static <T> MutableTemporalCollection<T> mutableTemporalCollection(Collection<TemporalRecord<T>> temporalRecords, Clock clock) {
+        return createTemporalCollection(temporalRecords, clock);
+    }
+
     public static <T> EventPublishingTemporalCollection<T> mutableTemporalCollection(Collection<TemporalRecord<T>> temporalRecords, TemporalEventProducer<T> producer) {
         return new EventPublishingTemporalCollection<>(createTemporalCollection(temporalRecords), producer);
     }
+
+    public static <T> CachingTemporalCollection<T> cachingTemporalCollection(Collection<TemporalRecord<T>> temporalRecords, int maximumSize) {
+        return new CachingTemporalCollection<>(createTemporalCollection(temporalRecords), maximumSize);
+    }
+
+    public static <T> TemporalCollection<T> instrumentedTemporalCollection(TemporalCollection<T> collection, TemporalMetrics metrics) {
+        return metrics.isEnabled() ? new InstrumentedTemporalCollection<>(collection, metrics) : collection;
+    }
+
+    public static <T> MutableTemporalCollection<T> instrumentedMutableTemporalCollection(MutableTemporalCollection<T> collection, TemporalMetrics metrics) {
+        return metrics.isEnabled() ? new InstrumentedMutableTemporalCollection<>(collection, metrics) : collection;
+    }
+
+    public static <T> AsyncTemporalCollection<T> asyncTemporalCollection(TemporalCollection<T> collection, Executor executor) {
+        return new AsyncTemporalCollection<>(collection, executor);
+    }
+
+    public static <T> AsyncTemporalCollection<T> asyncTemporalCollection(TemporalCollection<T> collection, int maxConcurrency) {
+        return new AsyncTemporalCollection<>(collection, BoundedExecutor.withMaxConcurrency(maxConcurrency));
+    }
+
+    public static <T, A> AggregatingTemporalCollection<T, A> aggregatingTemporalCollection(Collection<TemporalRecord<T>> temporalRecords, TemporalAggregator<T, A> aggregator) {
+        return loadTemporalCollection(new AggregatingTemporalCollection<>(aggregator), temporalRecords);
+    }
+
+    public static MutableIntTemporalCollection mutableIntTemporalCollection(Collection<TemporalRecord<Integer>> temporalRecords) {
+        return loadTemporalCollection(new SortedArrayIntTemporalCollection(), temporalRecords);
+    }
+
+    public static IntTemporalCollection immutableIntTemporalCollection(IntTemporalCollection collection) {
+        return new ImmutableIntTemporalCollection(collection);
+    }
+
+    public static IntTemporalCollection immutableIntTemporalCollection(Collection<TemporalRecord<Integer>> temporalRecords) {
+        return new ImmutableIntTemporalCollection(mutableIntTemporalCollection(temporalRecords));
+    }
+
+    public static MutableLongTemporalCollection mutableLongTemporalCollection(Collection<TemporalRecord<Long>> temporalRecords) {
+        return loadTemporalCollection(new SortedArrayLongTemporalCollection(), temporalRecords);
+    }
+
+    public static LongTemporalCollection immutableLongTemporalCollection(LongTemporalCollection collection) {
+        return new ImmutableLongTemporalCollection(collection);
+    }
+
+    public static LongTemporalCollection immutableLongTemporalCollection(Collection<TemporalRecord<Long>> temporalRecords) {
+        return new ImmutableLongTemporalCollection(mutableLongTemporalCollection(temporalRecords));
+    }
+
+    public static MutableDoubleTemporalCollection mutableDoubleTemporalCollection(Collection<TemporalRecord<Double>> temporalRecords) {
+        return loadTemporalCollection(new SortedArrayDoubleTemporalCollection(), temporalRecords);
+    }
+
+    public static DoubleTemporalCollection immutableDoubleTemporalCollection(DoubleTemporalCollection collection) {
+        return new ImmutableDoubleTemporalCollection(collection);
+    }
+
+    public static DoubleTemporalCollection immutableDoubleTemporalCollection(Collection<TemporalRecord<Double>> temporalRecords) {
+        return new ImmutableDoubleTemporalCollection(mutableDoubleTemporalCollection(temporalRecords));
+    }
+
+    public static <T> DictionaryEncodedTemporalCollection<T> dictionaryEncodedTemporalCollection(Collection<TemporalRecord<T>> temporalRecords) {
+        return loadTemporalCollection(new DictionaryEncodedTemporalCollection<>(), temporalRecords);
+    }
+
+    public static <T> DictionaryEncodedTemporalCollection<T> dictionaryEncodedTemporalCollection(Collection<TemporalRecord<T>> temporalRecords, ValueDictionary<T> dictionary) {
+        return loadTemporalCollection(new DictionaryEncodedTemporalCollection<>(dictionary), temporalRecords);
+    }
 }
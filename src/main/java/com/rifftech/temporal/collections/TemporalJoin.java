@@ -0,0 +1,207 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.rifftech.temporal.collections.TemporalRange.fromTo;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Joins temporal collections on time: the valid ranges of their records are cut at every point at which
+ * any of the collections changes, and every resulting interval is emitted once with the value each
+ * collection holds throughout it. The intervals are produced by a single sweep over the records of all
+ * collections in the order of their start, clipped to the range of the join.
+ * <p>
+ * The returned streams are lazy: the records of the collections are only fetched once the stream is
+ * consumed, and every interval is computed when it is requested.
+ */
+public class TemporalJoin {
+
+    public static <L, R> Stream<JoinedRecord<L, R>> innerJoin(
+            @NonNull TemporalCollection<L> left, @NonNull TemporalCollection<R> right, @NonNull TemporalRange range) {
+        return join(left, right, range, JoinType.INNER);
+    }
+
+    public static <L, R> Stream<JoinedRecord<L, R>> leftOuterJoin(
+            @NonNull TemporalCollection<L> left, @NonNull TemporalCollection<R> right, @NonNull TemporalRange range) {
+        return join(left, right, range, JoinType.LEFT_OUTER);
+    }
+
+    public static <L, R> Stream<JoinedRecord<L, R>> fullOuterJoin(
+            @NonNull TemporalCollection<L> left, @NonNull TemporalCollection<R> right, @NonNull TemporalRange range) {
+        return join(left, right, range, JoinType.FULL_OUTER);
+    }
+
+    /**
+     * Joins two collections within the specified range.
+     *
+     * @param left     the first collection of the join. This parameter must not be null.
+     * @param right    the second collection of the join. This parameter must not be null.
+     * @param range    the range to which the intervals of the join are clipped. This parameter must not be null.
+     * @param joinType which intervals to emit. This parameter must not be null.
+     * @return a lazy stream of the aligned intervals in chronological order
+     */
+    @SuppressWarnings("unchecked")
+    public static <L, R> Stream<JoinedRecord<L, R>> join(
+            @NonNull TemporalCollection<L> left,
+            @NonNull TemporalCollection<R> right,
+            @NonNull TemporalRange range,
+            @NonNull JoinType joinType) {
+        return join(List.<TemporalCollection<?>>of(left, right), range, joinType)
+                .map(record -> new JoinedRecord<>(record.validRange(),
+                        (Optional<L>) record.value().get(0),
+                        (Optional<R>) record.value().get(1)));
+    }
+
+    /**
+     * Joins any number of collections within the specified range. For a {@link JoinType#LEFT_OUTER} join
+     * the first collection is the one that must have a value.
+     *
+     * @param collections the collections to join; at least one. This parameter must not be null.
+     * @param range       the range to which the intervals of the join are clipped. This parameter must not be null.
+     * @param joinType    which intervals to emit. This parameter must not be null.
+     * @return a lazy stream of the aligned intervals in chronological order, each holding the values of the
+     * collections in the order in which the collections were given
+     * @throws IllegalArgumentException if no collections are given
+     */
+    public static <T> Stream<TemporalRecord<List<Optional<T>>>> join(
+            @NonNull List<? extends TemporalCollection<? extends T>> collections,
+            @NonNull TemporalRange range,
+            @NonNull JoinType joinType) {
+        if (collections.isEmpty()) {
+            throw new IllegalArgumentException("At least one collection must be joined.");
+        }
+        List<TemporalCollection<? extends T>> sources = List.copyOf(collections);
+        return StreamSupport.stream(
+                () -> Spliterators.spliteratorUnknownSize(new Sweep<T>(sources, range, joinType),
+                        Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE,
+                false);
+    }
+
+    /**
+     * The records of a collection that overlap the range, in the order of their start and clipped to the range.
+     */
+    static <T> List<TemporalRecord<T>> recordsWithin(TemporalCollection<T> collection, TemporalRange range) {
+        List<TemporalRecord<T>> records = new ArrayList<>();
+        collection.getAsOf(range.start()).ifPresent(record -> records.add(clip(record, range)));
+        for (TemporalRecord<T> record : collection.getInRange(range)) {
+            Instant start = record.validRange().start();
+            if (start.isAfter(range.start()) && start.isBefore(range.end())) {
+                records.add(clip(record, range));
+            }
+        }
+        Collections.sort(records);
+        return records;
+    }
+
+    private static <T> TemporalRecord<T> clip(TemporalRecord<T> record, TemporalRange range) {
+        Instant start = record.validRange().start();
+        Instant end = record.validRange().end();
+        if (!start.isBefore(range.start()) && !end.isAfter(range.end())) {
+            return record;
+        }
+        return new TemporalRecord<>(fromTo(start.isBefore(range.start()) ? range.start() : start,
+                end.isAfter(range.end()) ? range.end() : end), record.value());
+    }
+
+    @FieldDefaults(level = PRIVATE)
+    private static final class Sweep<T> implements Iterator<TemporalRecord<List<Optional<T>>>> {
+        final List<TemporalCollection<? extends T>> collections;
+        final TemporalRange range;
+        final JoinType joinType;
+        List<List<? extends TemporalRecord<? extends T>>> records;
+        int[] positions;
+        Instant cursor;
+        TemporalRecord<List<Optional<T>>> next;
+
+        Sweep(List<TemporalCollection<? extends T>> collections, TemporalRange range, JoinType joinType) {
+            this.collections = collections;
+            this.range = range;
+            this.joinType = joinType;
+            this.cursor = range.start();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public TemporalRecord<List<Optional<T>>> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            TemporalRecord<List<Optional<T>>> record = next;
+            next = null;
+            return record;
+        }
+
+        /**
+         * Moves the cursor from interval to interval until one qualifies for the join type.
+         *
+         * @return the next qualifying interval, or null once the end of the range is reached.
+         */
+        private TemporalRecord<List<Optional<T>>> advance() {
+            if (records == null) {
+                records = new ArrayList<>(collections.size());
+                for (TemporalCollection<? extends T> collection : collections) {
+                    records.add(recordsWithin(collection, range));
+                }
+                positions = new int[collections.size()];
+            }
+            while (cursor.isBefore(range.end())) {
+                Instant boundary = range.end();
+                List<Optional<T>> values = new ArrayList<>(records.size());
+                int present = 0;
+                for (int side = 0; side < records.size(); side++) {
+                    List<? extends TemporalRecord<? extends T>> sideRecords = records.get(side);
+                    while (positions[side] < sideRecords.size()
+                            && !sideRecords.get(positions[side]).validRange().end().isAfter(cursor)) {
+                        positions[side]++;
+                    }
+                    Optional<T> value = Optional.empty();
+                    if (positions[side] < sideRecords.size()) {
+                        TemporalRecord<? extends T> record = sideRecords.get(positions[side]);
+                        Instant start = record.validRange().start();
+                        if (start.isAfter(cursor)) {
+                            boundary = start.isBefore(boundary) ? start : boundary;
+                        } else {
+                            value = Optional.of(record.value());
+                            present++;
+                            Instant end = record.validRange().end();
+                            boundary = end.isBefore(boundary) ? end : boundary;
+                        }
+                    }
+                    values.add(value);
+                }
+                TemporalRange interval = fromTo(cursor, boundary);
+                cursor = boundary;
+                boolean qualifies = switch (joinType) {
+                    case INNER -> present == values.size();
+                    case LEFT_OUTER -> values.get(0).isPresent();
+                    case FULL_OUTER -> present > 0;
+                };
+                if (qualifies) {
+                    return new TemporalRecord<>(interval, Collections.unmodifiableList(values));
+                }
+            }
+            return null;
+        }
+    }
+}
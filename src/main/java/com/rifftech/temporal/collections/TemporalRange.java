@@ -1,5 +1,6 @@
 package com.rifftech.temporal.collections;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -25,6 +26,8 @@ public record TemporalRange(Instant start, Instant end) implements Comparable<Te
      */
     public static final TemporalRange FOREVER = new TemporalRange(MIN, MAX);
 
+    private static final Pattern INSTANT_PATTERN = Pattern.compile("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}Z");
+
     /**
      * Constructs a TemporalRange object and validates that the start and end instants are not null
      * and that the start is before the end.
@@ -44,8 +47,7 @@ public record TemporalRange(Instant start, Instant end) implements Comparable<Te
 
     public static TemporalRange parse(String text) {
         String[] split = text.split(" to ");
-        Pattern pattern = Pattern.compile("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}Z");
-        if (split.length != 2 || !pattern.matcher(split[0]).matches() || !pattern.matcher(split[1]).matches()) {
+        if (split.length != 2 || !INSTANT_PATTERN.matcher(split[0]).matches() || !INSTANT_PATTERN.matcher(split[1]).matches()) {
             throw new IllegalArgumentException("%s must be formatted as 'start to end' like \"2024-10-30T13:00:00Z to 2024-10-30T14:00:00Z\"".formatted(text));
         }
         return new TemporalRange(Instant.parse(split[0]), Instant.parse(split[1]));
@@ -58,21 +60,59 @@ public record TemporalRange(Instant start, Instant end) implements Comparable<Te
      * @return a TemporalRange object from the current instant to the specified end instant
      */
     public static TemporalRange nowUntil(Instant end) {
+        return nowUntil(Clock.systemUTC(), end);
+    }
+
+    /**
+     * Creates a TemporalRange starting from the current instant of the given clock until a specified end instant.
+     *
+     * @param clock the clock providing the current instant; must not be null.
+     * @param end   the ending point in time of the range; must not be null.
+     * @return a TemporalRange object from the clock's current instant to the specified end instant
+     */
+    public static TemporalRange nowUntil(Clock clock, Instant end) {
+        validateNotNull(clock, "The clock cannot be null.");
         validateNotNull(end, "The end cannot be null.");
-        return new TemporalRange(Instant.now(), end);
+        return new TemporalRange(clock.instant(), end);
     }
 
     public static TemporalRange nowUntil(Instant end, ChronoUnit precision) {
+        return nowUntil(Clock.systemUTC(), end, precision);
+    }
+
+    /**
+     * Creates a TemporalRange starting from the current instant of the given clock until a specified end instant,
+     * both truncated to the specified precision.
+     *
+     * @param clock     the clock providing the current instant; must not be null.
+     * @param end       the ending point in time of the range; must not be null.
+     * @param precision the ChronoUnit to which the start and end instants should be truncated; must not be null.
+     * @return a TemporalRange object from the clock's current instant to the specified end instant, truncated to the given precision.
+     */
+    public static TemporalRange nowUntil(Clock clock, Instant end, ChronoUnit precision) {
+        validateNotNull(clock, "The clock cannot be null.");
         validateNotNull(end, "The end cannot be null.");
         validateNotNull(precision, "The precision cannot be null.");
-        return new TemporalRange(Instant.now().truncatedTo(precision), end.truncatedTo(precision));
+        return new TemporalRange(clock.instant().truncatedTo(precision), end.truncatedTo(precision));
     }
 
     /**
      *
      */
     public static TemporalRange nowUntilMax() {
-        return new TemporalRange(Instant.now(), MAX);
+        return nowUntilMax(Clock.systemUTC());
+    }
+
+    /**
+     * Creates a {@code TemporalRange} that starts from the current instant of the given clock and extends
+     * to the maximum possible time.
+     *
+     * @param clock the clock providing the current instant; must not be null.
+     * @return a {@code TemporalRange} starting from the clock's current instant to the maximum time.
+     */
+    public static TemporalRange nowUntilMax(Clock clock) {
+        validateNotNull(clock, "The clock cannot be null.");
+        return new TemporalRange(clock.instant(), MAX);
     }
 
     /**
@@ -83,8 +123,21 @@ public record TemporalRange(Instant start, Instant end) implements Comparable<Te
      * @return a {@code TemporalRange} starting from the current time to the maximum time, truncated to the given precision.
      */
     public static TemporalRange nowUntilMax(ChronoUnit precision) {
+        return nowUntilMax(Clock.systemUTC(), precision);
+    }
+
+    /**
+     * Creates a {@code TemporalRange} that starts from the current instant of the given clock and extends to the
+     * maximum possible time, both truncated to the specified precision.
+     *
+     * @param clock     the clock providing the current instant; must not be null.
+     * @param precision the {@code ChronoUnit} indicating the desired precision for truncating the start and end instants.
+     * @return a {@code TemporalRange} starting from the clock's current instant to the maximum time, truncated to the given precision.
+     */
+    public static TemporalRange nowUntilMax(Clock clock, ChronoUnit precision) {
+        validateNotNull(clock, "The clock cannot be null.");
         validateNotNull(precision, "The precision cannot be null.");
-        return new TemporalRange(Instant.now().truncatedTo(precision), MAX.truncatedTo(precision));
+        return new TemporalRange(clock.instant().truncatedTo(precision), MAX.truncatedTo(precision));
     }
 
 
@@ -95,9 +148,22 @@ public record TemporalRange(Instant start, Instant end) implements Comparable<Te
      * @return a {@code TemporalRange} starting from the current instant and extending for the given duration.
      */
     public static TemporalRange nowFor(Duration duration) {
+        return nowFor(Clock.systemUTC(), duration);
+    }
+
+    /**
+     * Creates a {@code TemporalRange} that starts at the current instant of the given clock and extends
+     * for the specified duration.
+     *
+     * @param clock    the clock providing the current instant; must not be null.
+     * @param duration the duration for which the temporal range should extend; must not be null.
+     * @return a {@code TemporalRange} starting from the clock's current instant and extending for the given duration.
+     */
+    public static TemporalRange nowFor(Clock clock, Duration duration) {
+        validateNotNull(clock, "The clock cannot be null.");
         validateNotNull(duration, "The duration cannot be null.");
         validateDuration(duration);
-        Instant now = Instant.now();
+        Instant now = clock.instant();
         return new TemporalRange(now, now.plus(duration));
     }
 
@@ -111,10 +177,25 @@ public record TemporalRange(Instant start, Instant end) implements Comparable<Te
      * truncated to the given precision.
      */
     public static TemporalRange nowFor(Duration duration, ChronoUnit precision) {
+        return nowFor(Clock.systemUTC(), duration, precision);
+    }
+
+    /**
+     * Creates a TemporalRange starting from the current instant of the given clock, truncated to a given precision,
+     * and lasting for a specified duration.
+     *
+     * @param clock     the clock providing the current instant; must not be null.
+     * @param duration  the duration for which the temporal range should last; must not be null.
+     * @param precision the ChronoUnit to which the start instant should be truncated; must not be null.
+     * @return a TemporalRange object representing the time from the clock's current instant until the specified
+     * duration has passed, truncated to the given precision.
+     */
+    public static TemporalRange nowFor(Clock clock, Duration duration, ChronoUnit precision) {
+        validateNotNull(clock, "The clock cannot be null.");
         validateNotNull(duration, "The duration cannot be null.");
         validateNotNull(precision, "The precision cannot be null.");
         validateDuration(duration);
-        Instant now = Instant.now().truncatedTo(precision);
+        Instant now = clock.instant().truncatedTo(precision);
         return new TemporalRange(now, now.plus(duration));
     }
 
@@ -155,8 +236,20 @@ public record TemporalRange(Instant start, Instant end) implements Comparable<Te
      * @return a TemporalRange object from the specified start instant to the current instant.
      */
     public static TemporalRange fromToNow(Instant start) {
+        return fromToNow(Clock.systemUTC(), start);
+    }
+
+    /**
+     * Creates a TemporalRange starting from the specified start instant until the current instant of the given clock.
+     *
+     * @param clock the clock providing the current instant; must not be null.
+     * @param start the starting point in time of the range; must not be null.
+     * @return a TemporalRange object from the specified start instant to the clock's current instant.
+     */
+    public static TemporalRange fromToNow(Clock clock, Instant start) {
+        validateNotNull(clock, "The clock cannot be null.");
         validateNotNull(start, "The start cannot be null.");
-        return new TemporalRange(start, Instant.now());
+        return new TemporalRange(start, clock.instant());
     }
 
     /**
@@ -168,9 +261,23 @@ public record TemporalRange(Instant start, Instant end) implements Comparable<Te
      * @return a TemporalRange object from the specified start instant to the current instant, truncated to the given precision.
      */
     public static TemporalRange fromToNow(Instant start, ChronoUnit precision) {
+        return fromToNow(Clock.systemUTC(), start, precision);
+    }
+
+    /**
+     * Creates a TemporalRange starting from the specified start instant until the current instant of the given clock,
+     * truncated to the specified precision.
+     *
+     * @param clock     the clock providing the current instant; must not be null.
+     * @param start     the starting point in time of the range; must not be null.
+     * @param precision the ChronoUnit to which the start and end instants should be truncated; must not be null.
+     * @return a TemporalRange object from the specified start instant to the clock's current instant, truncated to the given precision.
+     */
+    public static TemporalRange fromToNow(Clock clock, Instant start, ChronoUnit precision) {
+        validateNotNull(clock, "The clock cannot be null.");
         validateNotNull(start, "The start cannot be null.");
         validateNotNull(precision, "The precision cannot be null.");
-        return new TemporalRange(start.truncatedTo(precision), Instant.now().truncatedTo(precision));
+        return new TemporalRange(start.truncatedTo(precision), clock.instant().truncatedTo(precision));
     }
 
     /**
@@ -459,6 +566,17 @@ public record TemporalRange(Instant start, Instant end) implements Comparable<Te
         return this.overlapsBefore(other) || this.overlapsAfter(other);
     }
 
+    /**
+     * Converts this TemporalRange to epoch nanoseconds, for comparing it with many other ranges without allocating.
+     *
+     * @return this range in epoch nanoseconds
+     * @throws IllegalArgumentException if a bound is neither a bound of {@link #FOREVER} nor representable in epoch nanoseconds
+     * @see EpochNanoRange#of(TemporalRange)
+     */
+    public EpochNanoRange toEpochNanoRange() {
+        return EpochNanoRange.of(this);
+    }
+
     /**
      * Adjusts the precision of the TemporalRange to the specified {@code precision}.
      *
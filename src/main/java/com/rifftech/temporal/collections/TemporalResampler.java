@@ -0,0 +1,143 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.rifftech.temporal.collections.TemporalRange.fromTo;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Resamples the numeric values of a temporal collection into consecutive fixed-width buckets, the first
+ * starting at the start of the range and the last one ending at its end, possibly shorter than the others.
+ * <p>
+ * The buckets are computed in a single lazy pass over the records of the collection: the records are
+ * fetched in windows of {@value #BUCKETS_PER_WINDOW} buckets with one range query each, and every record
+ * is visited once per bucket it overlaps, instead of looking up the value at every bucket boundary.
+ */
+public class TemporalResampler {
+    static final int BUCKETS_PER_WINDOW = 1024;
+
+    /**
+     * Resamples the values of the collection within the range.
+     *
+     * @param collection  the collection to resample. This parameter must not be null.
+     * @param range       the range to divide into buckets. This parameter must not be null.
+     * @param bucketWidth the width of every bucket; must be positive.
+     * @param mapper      the function extracting the numeric value of a record. This parameter must not be null.
+     * @return a lazy stream of the buckets in chronological order, including the empty ones
+     * @throws IllegalArgumentException if the bucket width is not positive
+     */
+    public static <T> Stream<ResampledBucket> resample(
+            @NonNull TemporalCollection<T> collection,
+            @NonNull TemporalRange range,
+            @NonNull Duration bucketWidth,
+            @NonNull ToDoubleFunction<? super T> mapper) {
+        if (bucketWidth.isZero() || bucketWidth.isNegative()) {
+            throw new IllegalArgumentException("The bucket width must be positive.");
+        }
+        return StreamSupport.stream(
+                () -> Spliterators.spliteratorUnknownSize(new Pass<>(collection, range, bucketWidth, mapper),
+                        Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE,
+                false);
+    }
+
+    /**
+     * Adds the duration to the instant without passing the limit.
+     */
+    private static Instant plusAtMost(Instant instant, Duration duration, Instant limit) {
+        return Duration.between(instant, limit).compareTo(duration) <= 0 ? limit : instant.plus(duration);
+    }
+
+    private static double seconds(Instant start, Instant end) {
+        return (end.getEpochSecond() - start.getEpochSecond()) + (end.getNano() - start.getNano()) / 1e9;
+    }
+
+    @FieldDefaults(level = PRIVATE)
+    private static final class Pass<T> implements Iterator<ResampledBucket> {
+        final TemporalCollection<T> collection;
+        final TemporalRange range;
+        final Duration bucketWidth;
+        final Duration windowWidth;
+        final ToDoubleFunction<? super T> mapper;
+        Instant bucketStart;
+        Instant windowEnd;
+        List<TemporalRecord<T>> window = List.of();
+        int position;
+
+        Pass(TemporalCollection<T> collection, TemporalRange range, Duration bucketWidth, ToDoubleFunction<? super T> mapper) {
+            this.collection = collection;
+            this.range = range;
+            this.bucketWidth = bucketWidth;
+            this.windowWidth = bucketWidth.multipliedBy(BUCKETS_PER_WINDOW);
+            this.mapper = mapper;
+            this.bucketStart = range.start();
+            this.windowEnd = range.start();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return bucketStart.isBefore(range.end());
+        }
+
+        @Override
+        public ResampledBucket next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (!bucketStart.isBefore(windowEnd)) {
+                windowEnd = plusAtMost(bucketStart, windowWidth, range.end());
+                window = TemporalJoin.recordsWithin(collection, fromTo(bucketStart, windowEnd));
+                position = 0;
+            }
+            Instant bucketEnd = plusAtMost(bucketStart, bucketWidth, windowEnd);
+            double last = 0;
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            double weightedSum = 0;
+            double coveredSeconds = 0;
+            Duration coverage = Duration.ZERO;
+            for (int index = position; index < window.size(); index++) {
+                TemporalRecord<T> record = window.get(index);
+                Instant start = record.validRange().start();
+                if (!start.isBefore(bucketEnd)) {
+                    break;
+                }
+                Instant end = record.validRange().end();
+                if (!end.isAfter(bucketEnd)) {
+                    position = index + 1;
+                }
+                Instant overlapStart = start.isAfter(bucketStart) ? start : bucketStart;
+                Instant overlapEnd = end.isBefore(bucketEnd) ? end : bucketEnd;
+                double value = mapper.applyAsDouble(record.value());
+                double seconds = seconds(overlapStart, overlapEnd);
+                last = value;
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+                weightedSum += value * seconds;
+                coveredSeconds += seconds;
+                coverage = coverage.plus(Duration.between(overlapStart, overlapEnd));
+            }
+            TemporalRange bucket = fromTo(bucketStart, bucketEnd);
+            bucketStart = bucketEnd;
+            if (coverage.isZero()) {
+                return new ResampledBucket(bucket, OptionalDouble.empty(), OptionalDouble.empty(),
+                        OptionalDouble.empty(), OptionalDouble.empty(), Duration.ZERO);
+            }
+            return new ResampledBucket(bucket, OptionalDouble.of(last), OptionalDouble.of(min),
+                    OptionalDouble.of(max), OptionalDouble.of(weightedSum / coveredSeconds), coverage);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.rifftech.temporal.collections;
+
+/**
+ * Summary statistics of the numeric values of a group of temporal records, including
+ * time-weighted figures where every value is weighted by the duration of its valid range
+ * in seconds, as far as it lies within the range being summarized.
+ *
+ * @param count             the number of records summarized
+ * @param sum               the sum of the values
+ * @param min               the smallest value, or {@code Double.POSITIVE_INFINITY} if no records were summarized
+ * @param max               the largest value, or {@code Double.NEGATIVE_INFINITY} if no records were summarized
+ * @param timeWeightedSum   the sum of every value multiplied by the duration of its valid range in seconds
+ * @param durationInSeconds the total duration of the valid ranges in seconds
+ */
+public record TemporalSummary(long count,
+                              double sum,
+                              double min,
+                              double max,
+                              double timeWeightedSum,
+                              long durationInSeconds) {
+    /**
+     * The summary of no records.
+     */
+    public static final TemporalSummary EMPTY = new TemporalSummary(0, 0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 0, 0);
+
+    /**
+     * Creates the summary of a single value valid for the given number of seconds.
+     *
+     * @param value             the value
+     * @param durationInSeconds the duration of the value's valid range in seconds
+     * @return the summary of the single value
+     */
+    public static TemporalSummary of(double value, long durationInSeconds) {
+        return new TemporalSummary(1, value, value, value, value * durationInSeconds, durationInSeconds);
+    }
+
+    /**
+     * Combines this summary with another one.
+     *
+     * @param other the summary to combine with
+     * @return the summary of the records summarized by both
+     */
+    public TemporalSummary combine(TemporalSummary other) {
+        return new TemporalSummary(
+                count + other.count,
+                sum + other.sum,
+                Math.min(min, other.min),
+                Math.max(max, other.max),
+                timeWeightedSum + other.timeWeightedSum,
+                durationInSeconds + other.durationInSeconds);
+    }
+
+    /**
+     * Returns the arithmetic mean of the values, or zero if no records were summarized.
+     *
+     * @return the average value
+     */
+    public double average() {
+        return count == 0 ? 0 : sum / count;
+    }
+
+    /**
+     * Returns the mean of the values weighted by the duration of their valid ranges,
+     * or zero if the summarized ranges have no duration.
+     *
+     * @return the time-weighted average value
+     */
+    public double timeWeightedAverage() {
+        return durationInSeconds == 0 ? 0 : timeWeightedSum / durationInSeconds;
+    }
+}
@@ -0,0 +1,273 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Reads temporal ranges and records from text, one per line, as lazily as the lines are consumed.
+ * A range is written as its start and end instant separated by {@code " to "}, as {@link TemporalRange#parse(String)}
+ * expects, or by a comma; a record is a range followed by a comma and its value, which extends to the end of the
+ * line. Blank lines are skipped and lines may end with {@code \r\n}:
+ * <pre>
+ * 2024-10-30T13:00:00Z to 2024-10-30T14:00:00Z
+ * 2024-10-30T13:00:00Z,2024-10-30T14:00:00.5Z,gold
+ * </pre>
+ * Instants are ISO-8601 instants in UTC with an optional fraction of a second. Lines are scanned in a reused
+ * buffer and their instants parsed in place, so that only the parsed ranges and the text of the values are
+ * allocated. A malformed line fails the stream with an {@link IllegalArgumentException} naming its line number.
+ */
+public class TemporalTextLoader {
+    static final int BUFFER_SIZE = 8192;
+
+    private TemporalTextLoader() {
+    }
+
+    /**
+     * Streams the ranges of the reader, which the caller remains responsible for closing.
+     *
+     * @param reader the text to read; must not be null.
+     * @return a sequential stream of the ranges, read as the stream is consumed
+     */
+    public static Stream<TemporalRange> ranges(@NonNull Reader reader) {
+        return StreamSupport.stream(new LineSpliterator<>(reader, TemporalTextLoader::parseRange), false);
+    }
+
+    /**
+     * Streams the ranges of the UTF-8 file, which is closed when the stream is closed.
+     *
+     * @param path the file to read; must not be null.
+     * @return a sequential stream of the ranges, read as the stream is consumed
+     * @throws IOException if the file cannot be opened
+     */
+    public static Stream<TemporalRange> ranges(@NonNull Path path) throws IOException {
+        Reader reader = open(path);
+        return ranges(reader).onClose(() -> close(reader));
+    }
+
+    /**
+     * Streams the records of the reader, which the caller remains responsible for closing.
+     *
+     * @param reader      the text to read; must not be null.
+     * @param valueParser creates the value of a record from its text; must not be null.
+     * @return a sequential stream of the records, read as the stream is consumed
+     */
+    public static <T> Stream<TemporalRecord<T>> records(@NonNull Reader reader, @NonNull Function<String, ? extends T> valueParser) {
+        return StreamSupport.stream(new LineSpliterator<>(reader, (line, from, to) -> parseRecord(line, from, to, valueParser)), false);
+    }
+
+    /**
+     * Streams the records of the UTF-8 file, which is closed when the stream is closed.
+     *
+     * @param path        the file to read; must not be null.
+     * @param valueParser creates the value of a record from its text; must not be null.
+     * @return a sequential stream of the records, read as the stream is consumed
+     * @throws IOException if the file cannot be opened
+     */
+    public static <T> Stream<TemporalRecord<T>> records(@NonNull Path path, @NonNull Function<String, ? extends T> valueParser) throws IOException {
+        Reader reader = open(path);
+        return TemporalTextLoader.<T>records(reader, valueParser).onClose(() -> close(reader));
+    }
+
+    /**
+     * Loads the records of the reader into a new collection with the system UTC clock.
+     *
+     * @see #loadTemporalCollection(Reader, Function, Clock)
+     */
+    public static <T> MutableTemporalCollection<T> loadTemporalCollection(@NonNull Reader reader,
+                                                                         @NonNull Function<String, ? extends T> valueParser) {
+        return loadTemporalCollection(reader, valueParser, Clock.systemUTC());
+    }
+
+    /**
+     * Loads the records of the reader into a new collection holding what
+     * {@link TemporalCollections#mutableTemporalCollection(java.util.Collection, Clock)} would hold for them.
+     * Records already in order of their range, as most feeds are, are added to the collection without
+     * sorting or searching it.
+     *
+     * @param reader      the text to read; must not be null.
+     * @param valueParser creates the value of a record from its text; must not be null.
+     * @param clock       the clock of the collection; must not be null.
+     * @return the collection of the records
+     */
+    public static <T> MutableTemporalCollection<T> loadTemporalCollection(@NonNull Reader reader,
+                                                                         @NonNull Function<String, ? extends T> valueParser,
+                                                                         @NonNull Clock clock) {
+        List<TemporalRecord<T>> records = new ArrayList<>();
+        try (Stream<TemporalRecord<T>> stream = TemporalTextLoader.<T>records(reader, valueParser)) {
+            stream.forEach(records::add);
+        }
+        records.sort(null);
+        return ConcurrentSkipListTemporalCollection.fromSortedRecords(clock, records);
+    }
+
+    private static TemporalRange parseRange(char[] line, int from, int to) {
+        int separator = endOfInstant(line, from, to);
+        Instant start = Iso8601.parseInstant(line, from, separator);
+        int endFrom = skipSeparator(line, separator, to);
+        if (endOfInstant(line, endFrom, to) != to) {
+            throw new IllegalArgumentException("The range must end the line.");
+        }
+        return TemporalRange.fromTo(start, Iso8601.parseInstant(line, endFrom, to));
+    }
+
+    private static <T> TemporalRecord<T> parseRecord(char[] line, int from, int to, Function<String, ? extends T> valueParser) {
+        int separator = endOfInstant(line, from, to);
+        Instant start = Iso8601.parseInstant(line, from, separator);
+        int endFrom = skipSeparator(line, separator, to);
+        int endTo = endOfInstant(line, endFrom, to);
+        if (endTo == to || line[endTo] != ',') {
+            throw new IllegalArgumentException("The range must be followed by a comma and the value.");
+        }
+        TemporalRange validRange = TemporalRange.fromTo(start, Iso8601.parseInstant(line, endFrom, endTo));
+        return new TemporalRecord<>(validRange, valueParser.apply(new String(line, endTo + 1, to - endTo - 1)));
+    }
+
+    private static int endOfInstant(char[] line, int from, int to) {
+        int index = from;
+        while (index < to && line[index] != ',' && line[index] != ' ') {
+            index++;
+        }
+        if (index < to && line[index] == ' ' && !isToSeparator(line, index, to)) {
+            throw new IllegalArgumentException("Instants must be separated by \" to \" or a comma.");
+        }
+        return index;
+    }
+
+    private static int skipSeparator(char[] line, int index, int to) {
+        if (index == to) {
+            throw new IllegalArgumentException("The start must be followed by \" to \" or a comma and the end.");
+        }
+        return line[index] == ',' ? index + 1 : index + 4;
+    }
+
+    private static boolean isToSeparator(char[] line, int index, int to) {
+        return index + 4 <= to && line[index + 1] == 't' && line[index + 2] == 'o' && line[index + 3] == ' ';
+    }
+
+    private static Reader open(Path path) throws IOException {
+        return Channels.newReader(FileChannel.open(path, StandardOpenOption.READ), StandardCharsets.UTF_8);
+    }
+
+    private static void close(Reader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface LineParser<R> {
+        R parse(char[] line, int from, int to);
+    }
+
+    /**
+     * Splits the text of a reader into lines within a buffer that grows to the longest line, and parses
+     * each line that is not blank where it lies in the buffer.
+     */
+    @FieldDefaults(level = PRIVATE)
+    private static final class LineSpliterator<R> extends Spliterators.AbstractSpliterator<R> {
+        final Reader reader;
+        final LineParser<R> parser;
+        char[] buffer = new char[BUFFER_SIZE];
+        int position;
+        int scanned;
+        int limit;
+        long lineNumber;
+        boolean endOfInput;
+
+        LineSpliterator(Reader reader, LineParser<R> parser) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.reader = reader;
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            try {
+                while (true) {
+                    while (scanned < limit && buffer[scanned] != '\n') {
+                        scanned++;
+                    }
+                    if (scanned == limit && !endOfInput) {
+                        fill();
+                        continue;
+                    }
+                    if (position == limit) {
+                        return false;
+                    }
+                    int from = position;
+                    int to = scanned;
+                    position = scanned = Math.min(scanned + 1, limit);
+                    lineNumber++;
+                    if (to > from && buffer[to - 1] == '\r') {
+                        to--;
+                    }
+                    if (!isBlank(from, to)) {
+                        action.accept(parse(from, to));
+                        return true;
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private R parse(int from, int to) {
+            try {
+                return parser.parse(buffer, from, to);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Line %d \"%s\": %s".formatted(lineNumber, new String(buffer, from, to - from), e.getMessage()), e);
+            }
+        }
+
+        private boolean isBlank(int from, int to) {
+            for (int index = from; index < to; index++) {
+                if (!Character.isWhitespace(buffer[index])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void fill() throws IOException {
+            if (position > 0) {
+                System.arraycopy(buffer, position, buffer, 0, limit - position);
+                limit -= position;
+                scanned -= position;
+                position = 0;
+            }
+            if (limit == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            int read = reader.read(buffer, limit, buffer.length - limit);
+            if (read < 0) {
+                endOfInput = true;
+            } else {
+                limit += read;
+            }
+        }
+    }
+}
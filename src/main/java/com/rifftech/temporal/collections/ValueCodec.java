@@ -0,0 +1,82 @@
+package com.rifftech.temporal.collections;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * Writes values to and reads them from the binary snapshots of the dictionary-encoded collections.
+ * A value written by {@link #write(DataOutput, Object)} must be read back by {@link #read(DataInput)}
+ * as an equal value.
+ *
+ * @param <T> the type of the values
+ */
+public interface ValueCodec<T> {
+    void write(DataOutput out, T value) throws IOException;
+
+    T read(DataInput in) throws IOException;
+
+    /**
+     * @return a codec writing strings in modified UTF-8, limited to 65535 bytes per string
+     */
+    static ValueCodec<String> strings() {
+        return new ValueCodec<>() {
+            @Override
+            public void write(DataOutput out, String value) throws IOException {
+                out.writeUTF(value);
+            }
+
+            @Override
+            public String read(DataInput in) throws IOException {
+                return in.readUTF();
+            }
+        };
+    }
+
+    static ValueCodec<Integer> integers() {
+        return new ValueCodec<>() {
+            @Override
+            public void write(DataOutput out, Integer value) throws IOException {
+                out.writeInt(value);
+            }
+
+            @Override
+            public Integer read(DataInput in) throws IOException {
+                return in.readInt();
+            }
+        };
+    }
+
+    static ValueCodec<Long> longs() {
+        return new ValueCodec<>() {
+            @Override
+            public void write(DataOutput out, Long value) throws IOException {
+                out.writeLong(value);
+            }
+
+            @Override
+            public Long read(DataInput in) throws IOException {
+                return in.readLong();
+            }
+        };
+    }
+
+    /**
+     * @return a codec writing instants as their epoch second and nanosecond adjustment
+     */
+    static ValueCodec<Instant> instants() {
+        return new ValueCodec<>() {
+            @Override
+            public void write(DataOutput out, Instant value) throws IOException {
+                out.writeLong(value.getEpochSecond());
+                out.writeInt(value.getNano());
+            }
+
+            @Override
+            public Instant read(DataInput in) throws IOException {
+                return Instant.ofEpochSecond(in.readLong(), in.readInt());
+            }
+        };
+    }
+}
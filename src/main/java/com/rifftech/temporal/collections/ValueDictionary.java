@@ -0,0 +1,140 @@
+package com.rifftech.temporal.collections;
+
+import lombok.NonNull;
+import lombok.Synchronized;
+import lombok.experimental.FieldDefaults;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Interns values and numbers them with dense {@code int} codes in the order they are first seen,
+ * so that collections holding the same few values many times store a code per record and share a
+ * single instance per distinct value. Equal codes stand for equal values, which makes comparing
+ * the values of two records of collections sharing a dictionary an integer comparison.
+ * <p>
+ * Looking up the code of a known value and the value of a code is lock-free; assigning codes to
+ * new values is serialized. Codes are never reassigned, so the dictionary only grows.
+ *
+ * @param <T> the type of the values
+ */
+@FieldDefaults(level = PRIVATE)
+public class ValueDictionary<T> {
+    static final int INITIAL_CAPACITY = 16;
+
+    final ConcurrentHashMap<T, Integer> codes = new ConcurrentHashMap<>();
+    volatile Object[] values = new Object[INITIAL_CAPACITY];
+    volatile int size;
+
+    /**
+     * Returns the code of the value, assigning the next code if the value is not in the dictionary yet.
+     *
+     * @param value the value to encode. This parameter must not be null.
+     * @return the code of the value
+     */
+    public int encode(@NonNull T value) {
+        Integer code = codes.get(value);
+        return code != null ? code : assign(value);
+    }
+
+    /**
+     * Returns the value of the code.
+     *
+     * @param code a code returned by {@link #encode(Object)}
+     * @return the interned value of the code
+     * @throws IllegalArgumentException if no value has the code
+     */
+    @SuppressWarnings("unchecked")
+    public T decode(int code) {
+        if (code < 0 || code >= size) {
+            throw new IllegalArgumentException("Unknown code " + code + ".");
+        }
+        return (T) values[code];
+    }
+
+    /**
+     * Returns the code of the value without adding it to the dictionary.
+     *
+     * @param value the value to look up. This parameter must not be null.
+     * @return an {@code OptionalInt} containing the code of the value, or an empty one if it has none.
+     */
+    public OptionalInt codeOf(@NonNull T value) {
+        Integer code = codes.get(value);
+        return code != null ? OptionalInt.of(code) : OptionalInt.empty();
+    }
+
+    /**
+     * Returns the instance of the dictionary equal to the value, adding the value if there is none.
+     *
+     * @param value the value to intern. This parameter must not be null.
+     * @return the interned instance equal to the value
+     */
+    public T intern(@NonNull T value) {
+        return decode(encode(value));
+    }
+
+    /**
+     * @return the number of distinct values of this dictionary, which is also the next code to be assigned.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Writes the values of this dictionary in the order of their codes.
+     *
+     * @param out   the output to write to. This parameter must not be null.
+     * @param codec the codec of the values. This parameter must not be null.
+     * @throws IOException if writing fails
+     */
+    public void writeTo(@NonNull DataOutput out, @NonNull ValueCodec<T> codec) throws IOException {
+        int count = size;
+        out.writeInt(count);
+        for (int code = 0; code < count; code++) {
+            codec.write(out, decode(code));
+        }
+    }
+
+    /**
+     * Reads a dictionary written by {@link #writeTo(DataOutput, ValueCodec)}, with the same codes.
+     *
+     * @param in    the input to read from. This parameter must not be null.
+     * @param codec the codec of the values. This parameter must not be null.
+     * @return the dictionary read
+     * @throws IOException if reading fails or the input holds the same value twice
+     */
+    public static <T> ValueDictionary<T> readFrom(@NonNull DataInput in, @NonNull ValueCodec<T> codec) throws IOException {
+        ValueDictionary<T> dictionary = new ValueDictionary<>();
+        int count = in.readInt();
+        for (int code = 0; code < count; code++) {
+            if (dictionary.encode(codec.read(in)) != code) {
+                throw new IOException("The dictionary holds a value twice at code " + code + ".");
+            }
+        }
+        return dictionary;
+    }
+
+    @Synchronized
+    private int assign(T value) {
+        Integer existing = codes.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        int code = size;
+        Object[] current = values;
+        if (code == current.length) {
+            current = Arrays.copyOf(current, code * 2);
+        }
+        current[code] = value;
+        values = current;
+        size = code + 1;
+        codes.put(value, code);
+        return code;
+    }
+}
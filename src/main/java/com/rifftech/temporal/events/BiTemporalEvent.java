@@ -2,9 +2,9 @@ package com.rifftech.temporal.events;
 
 import com.rifftech.temporal.collections.BiTemporalRecord;
 import com.rifftech.temporal.collections.TemporalRecord;
+import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.experimental.Accessors;
 import lombok.experimental.FieldDefaults;
@@ -15,9 +15,28 @@ import static lombok.AccessLevel.PRIVATE;
 @Getter
 @EqualsAndHashCode
 @ToString
-@RequiredArgsConstructor
+@AllArgsConstructor
 @FieldDefaults(makeFinal = true, level = PRIVATE)
 public sealed class BiTemporalEvent<T> permits BiTemporalRecordInserted, BiTemporalRecordUpdated, BiTemporalRecordDeleted {
     BiTemporalRecord<T> record;
     BiTemporalEventType eventType;
+    /**
+     * The position of the event in the change log of the collection that published it, starting
+     * at one, or zero if the event was not published by a collection. The sequence is not part of
+     * the identity of the event.
+     */
+    @EqualsAndHashCode.Exclude
+    long sequence;
+
+    public BiTemporalEvent(BiTemporalRecord<T> record, BiTemporalEventType eventType) {
+        this(record, eventType, 0L);
+    }
+
+    /**
+     * @param sequence the sequence number to assign
+     * @return an equal event carrying the specified sequence number
+     */
+    public BiTemporalEvent<T> withSequence(long sequence) {
+        return new BiTemporalEvent<>(record, eventType, sequence);
+    }
 }
@@ -0,0 +1,28 @@
+package com.rifftech.temporal.events;
+
+import lombok.NonNull;
+
+import java.util.concurrent.Executor;
+
+/**
+ * A {@link BiTemporalEventProducer} that makes the events of a bi-temporal collection available as a
+ * {@link java.util.concurrent.Flow.Publisher}, with a bounded buffer for each subscriber.
+ *
+ * @param <T> the type of the value stored within the bi-temporal elements
+ * @see BufferedEventPublisher
+ */
+public class BiTemporalEventPublisher<T> extends BufferedEventPublisher<BiTemporalEvent<T>> implements BiTemporalEventProducer<T> {
+
+    public BiTemporalEventPublisher(@NonNull OverflowPolicy overflowPolicy) {
+        super(overflowPolicy);
+    }
+
+    public BiTemporalEventPublisher(@NonNull Executor executor, int bufferCapacity, @NonNull OverflowPolicy overflowPolicy) {
+        super(executor, bufferCapacity, overflowPolicy);
+    }
+
+    @Override
+    public void publish(@NonNull BiTemporalEvent<T> event) {
+        super.publish(event);
+    }
+}
@@ -10,6 +10,15 @@ import static com.rifftech.temporal.events.BiTemporalEventType.BI_TEMPORAL_RECOR
 @ToString(callSuper = true)
 public final class BiTemporalRecordDeleted<T> extends BiTemporalEvent<T> {
     public BiTemporalRecordDeleted(BiTemporalRecord<T> record) {
-        super(record, BI_TEMPORAL_RECORD_DELETED);
+        this(record, 0L);
+    }
+
+    public BiTemporalRecordDeleted(BiTemporalRecord<T> record, long sequence) {
+        super(record, BI_TEMPORAL_RECORD_DELETED, sequence);
+    }
+
+    @Override
+    public BiTemporalRecordDeleted<T> withSequence(long sequence) {
+        return new BiTemporalRecordDeleted<>(record(), sequence);
     }
 }
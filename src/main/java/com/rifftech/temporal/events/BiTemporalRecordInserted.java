@@ -11,6 +11,15 @@ import static com.rifftech.temporal.events.BiTemporalEventType.BI_TEMPORAL_RECOR
 @ToString(callSuper = true)
 public final class BiTemporalRecordInserted<T> extends BiTemporalEvent<T> {
     public BiTemporalRecordInserted(BiTemporalRecord<T> record) {
-        super(record, BI_TEMPORAL_RECORD_INSERTED);
+        this(record, 0L);
+    }
+
+    public BiTemporalRecordInserted(BiTemporalRecord<T> record, long sequence) {
+        super(record, BI_TEMPORAL_RECORD_INSERTED, sequence);
+    }
+
+    @Override
+    public BiTemporalRecordInserted<T> withSequence(long sequence) {
+        return new BiTemporalRecordInserted<>(record(), sequence);
     }
 }
@@ -11,6 +11,15 @@ import static com.rifftech.temporal.events.BiTemporalEventType.BI_TEMPORAL_RECOR
 @ToString(callSuper = true)
 public final class BiTemporalRecordUpdated<T> extends BiTemporalEvent<T> {
     public BiTemporalRecordUpdated(BiTemporalRecord<T> record) {
-        super(record, BI_TEMPORAL_RECORD_UPDATED);
+        this(record, 0L);
+    }
+
+    public BiTemporalRecordUpdated(BiTemporalRecord<T> record, long sequence) {
+        super(record, BI_TEMPORAL_RECORD_UPDATED, sequence);
+    }
+
+    @Override
+    public BiTemporalRecordUpdated<T> withSequence(long sequence) {
+        return new BiTemporalRecordUpdated<>(record(), sequence);
     }
 }
@@ -0,0 +1,291 @@
+package com.rifftech.temporal.events;
+
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * A {@link Flow.Publisher} that hands every published event to each of its subscribers through a
+ * bounded buffer of its own. Events are delivered only as far as a subscriber has requested them,
+ * by at most one task at a time per subscriber on the configured executor, so a slow subscriber
+ * neither delays the others nor makes the buffers of the publisher grow without bound. What happens
+ * when the buffer of a subscriber is full is decided by the {@link OverflowPolicy} of the publisher.
+ * <p>
+ * Subscribers only receive the events published after they subscribed. Closing the publisher
+ * completes every subscriber once its buffered events have been delivered.
+ *
+ * @param <E> the type of the published events
+ */
+@FieldDefaults(makeFinal = true, level = PRIVATE)
+public abstract class BufferedEventPublisher<E> implements Flow.Publisher<E>, AutoCloseable {
+    Executor executor;
+    int bufferCapacity;
+    OverflowPolicy overflowPolicy;
+    CopyOnWriteArrayList<BufferedSubscription<E>> subscriptions = new CopyOnWriteArrayList<>();
+    LongAdder droppedCount = new LongAdder();
+    AtomicBoolean closed = new AtomicBoolean();
+
+    protected BufferedEventPublisher(@NonNull OverflowPolicy overflowPolicy) {
+        this(ForkJoinPool.commonPool(), Flow.defaultBufferSize(), overflowPolicy);
+    }
+
+    protected BufferedEventPublisher(@NonNull Executor executor, int bufferCapacity, @NonNull OverflowPolicy overflowPolicy) {
+        if (bufferCapacity <= 0) {
+            throw new IllegalArgumentException("The buffer capacity must be positive.");
+        }
+        this.executor = executor;
+        this.bufferCapacity = bufferCapacity;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    @Override
+    public void subscribe(@NonNull Flow.Subscriber<? super E> subscriber) {
+        BufferedSubscription<E> subscription = new BufferedSubscription<>(this, subscriber);
+        subscriptions.add(subscription);
+        if (closed.get()) {
+            subscription.complete();
+        }
+        subscription.signal();
+    }
+
+    /**
+     * Offers the event to every current subscriber. Depending on the overflow policy this may
+     * block until a subscriber with a full buffer has consumed an event.
+     *
+     * @param event the event to publish. This parameter must not be null.
+     * @throws IllegalStateException if the publisher has been closed
+     */
+    public void publish(@NonNull E event) {
+        if (isClosed()) {
+            throw new IllegalStateException("The publisher is closed.");
+        }
+        for (BufferedSubscription<E> subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    /**
+     * Closes the publisher. Subscribers receive their buffered events and are then completed;
+     * later subscribers are completed right away.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        for (BufferedSubscription<E> subscription : subscriptions) {
+            subscription.complete();
+            subscription.signal();
+        }
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    public int bufferCapacity() {
+        return bufferCapacity;
+    }
+
+    public OverflowPolicy overflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * @return the number of events discarded for any subscriber because its buffer was full.
+     */
+    public long droppedCount() {
+        return droppedCount.sum();
+    }
+
+    @FieldDefaults(level = PRIVATE)
+    private static final class BufferedSubscription<E> implements Flow.Subscription {
+        final BufferedEventPublisher<E> publisher;
+        final Flow.Subscriber<? super E> subscriber;
+        final Queue<E> buffer = new ArrayDeque<>();
+        final ReentrantLock lock = new ReentrantLock();
+        final Condition notFull = lock.newCondition();
+        final AtomicInteger wip = new AtomicInteger();
+        long demand;
+        boolean completed;
+        Throwable failure;
+        volatile boolean cancelled;
+        boolean subscribed;
+
+        BufferedSubscription(BufferedEventPublisher<E> publisher, Flow.Subscriber<? super E> subscriber) {
+            this.publisher = publisher;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            lock.lock();
+            try {
+                if (n <= 0) {
+                    failure = new IllegalArgumentException("The number of requested events must be positive.");
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+            } finally {
+                lock.unlock();
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            lock.lock();
+            try {
+                cancelled = true;
+                buffer.clear();
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            publisher.subscriptions.remove(this);
+        }
+
+        void offer(E event) {
+            lock.lock();
+            try {
+                while (!cancelled && failure == null && buffer.size() >= publisher.bufferCapacity) {
+                    switch (publisher.overflowPolicy) {
+                        case DROP_OLDEST -> {
+                            buffer.poll();
+                            publisher.droppedCount.increment();
+                        }
+                        case DROP_LATEST -> {
+                            publisher.droppedCount.increment();
+                            return;
+                        }
+                        case FAIL -> failure = new IllegalStateException(
+                                "The buffer of the subscriber overflowed after " + publisher.bufferCapacity + " events.");
+                        case BLOCK -> {
+                            try {
+                                notFull.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                publisher.droppedCount.increment();
+                                return;
+                            }
+                        }
+                    }
+                }
+                if (cancelled) {
+                    return;
+                }
+                if (failure == null) {
+                    buffer.add(event);
+                }
+            } finally {
+                lock.unlock();
+            }
+            signal();
+        }
+
+        void complete() {
+            lock.lock();
+            try {
+                completed = true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void signal() {
+            if (wip.getAndIncrement() == 0) {
+                try {
+                    publisher.executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    cancel();
+                    subscriber.onError(e);
+                }
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                if (!subscribed) {
+                    subscribed = true;
+                    try {
+                        subscriber.onSubscribe(this);
+                    } catch (Throwable t) {
+                        cancel();
+                        return;
+                    }
+                }
+                if (!deliver()) {
+                    return;
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        /**
+         * Delivers the buffered events the subscriber has requested.
+         *
+         * @return false once the subscription has terminated and must not be drained again.
+         */
+        private boolean deliver() {
+            while (!cancelled) {
+                E next = null;
+                Throwable error = null;
+                boolean complete = false;
+                lock.lock();
+                try {
+                    if (failure != null) {
+                        error = failure;
+                    } else if (demand > 0 && !buffer.isEmpty()) {
+                        next = buffer.poll();
+                        if (demand != Long.MAX_VALUE) {
+                            demand--;
+                        }
+                        notFull.signalAll();
+                    } else if (completed && buffer.isEmpty()) {
+                        complete = true;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                if (error != null || complete) {
+                    cancel();
+                    if (error != null) {
+                        subscriber.onError(error);
+                    } else {
+                        subscriber.onComplete();
+                    }
+                    return false;
+                }
+                if (next == null) {
+                    return true;
+                }
+                try {
+                    subscriber.onNext(next);
+                } catch (Throwable t) {
+                    cancel();
+                    return false;
+                }
+            }
+            return false;
+        }
+    }
+}
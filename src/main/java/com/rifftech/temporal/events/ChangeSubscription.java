@@ -0,0 +1,16 @@
+package com.rifftech.temporal.events;
+
+/**
+ * A handle to a consumer attached to the change log of an event publishing collection.
+ * Closing it stops the delivery of further events to the consumer.
+ */
+public interface ChangeSubscription extends AutoCloseable {
+
+    /**
+     * @return true until the subscription has been closed
+     */
+    boolean isActive();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,23 @@
+package com.rifftech.temporal.events;
+
+/**
+ * What a {@link BufferedEventPublisher} does with an event for a subscriber whose buffer is full.
+ */
+public enum OverflowPolicy {
+    /**
+     * Discards the oldest buffered event of the subscriber to make room for the new one.
+     */
+    DROP_OLDEST,
+    /**
+     * Discards the new event for the subscriber and keeps the buffered ones.
+     */
+    DROP_LATEST,
+    /**
+     * Cancels the subscription and signals an {@link IllegalStateException} to the subscriber.
+     */
+    FAIL,
+    /**
+     * Blocks the publishing thread until the subscriber has consumed an event.
+     */
+    BLOCK
+}
@@ -1,9 +1,9 @@
 package com.rifftech.temporal.events;
 
 import com.rifftech.temporal.collections.TemporalRecord;
+import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.experimental.Accessors;
 import lombok.experimental.FieldDefaults;
@@ -14,9 +14,28 @@ import static lombok.AccessLevel.PRIVATE;
 @Getter
 @EqualsAndHashCode
 @ToString
-@RequiredArgsConstructor
+@AllArgsConstructor
 @FieldDefaults(makeFinal = true, level = PRIVATE)
 public sealed class TemporalEvent<T> permits TemporalRecordInserted, TemporalRecordUpdated, TemporalRecordDeleted {
     TemporalRecord<T> record;
     TemporalEventType eventType;
+    /**
+     * The position of the event in the change log of the collection that published it, starting
+     * at one, or zero if the event was not published by a collection. The sequence is not part of
+     * the identity of the event.
+     */
+    @EqualsAndHashCode.Exclude
+    long sequence;
+
+    public TemporalEvent(TemporalRecord<T> record, TemporalEventType eventType) {
+        this(record, eventType, 0L);
+    }
+
+    /**
+     * @param sequence the sequence number to assign
+     * @return an equal event carrying the specified sequence number
+     */
+    public TemporalEvent<T> withSequence(long sequence) {
+        return new TemporalEvent<>(record, eventType, sequence);
+    }
 }
@@ -0,0 +1,28 @@
+package com.rifftech.temporal.events;
+
+import lombok.NonNull;
+
+import java.util.concurrent.Executor;
+
+/**
+ * A {@link TemporalEventProducer} that makes the events of a temporal collection available as a
+ * {@link java.util.concurrent.Flow.Publisher}, with a bounded buffer for each subscriber.
+ *
+ * @param <T> the type of the value stored within the temporal elements
+ * @see BufferedEventPublisher
+ */
+public class TemporalEventPublisher<T> extends BufferedEventPublisher<TemporalEvent<T>> implements TemporalEventProducer<T> {
+
+    public TemporalEventPublisher(@NonNull OverflowPolicy overflowPolicy) {
+        super(overflowPolicy);
+    }
+
+    public TemporalEventPublisher(@NonNull Executor executor, int bufferCapacity, @NonNull OverflowPolicy overflowPolicy) {
+        super(executor, bufferCapacity, overflowPolicy);
+    }
+
+    @Override
+    public void publish(@NonNull TemporalEvent<T> event) {
+        super.publish(event);
+    }
+}
@@ -10,6 +10,15 @@ import static com.rifftech.temporal.events.TemporalEventType.TEMPORAL_RECORD_DEL
 @ToString(callSuper = true)
 public final class TemporalRecordDeleted<T> extends TemporalEvent<T> {
     public TemporalRecordDeleted(TemporalRecord<T> record) {
-        super(record, TEMPORAL_RECORD_DELETED);
+        this(record, 0L);
+    }
+
+    public TemporalRecordDeleted(TemporalRecord<T> record, long sequence) {
+        super(record, TEMPORAL_RECORD_DELETED, sequence);
+    }
+
+    @Override
+    public TemporalRecordDeleted<T> withSequence(long sequence) {
+        return new TemporalRecordDeleted<>(record(), sequence);
     }
 }
@@ -10,6 +10,15 @@ import static com.rifftech.temporal.events.TemporalEventType.TEMPORAL_RECORD_INS
 @ToString(callSuper = true)
 public final class TemporalRecordInserted<T> extends TemporalEvent<T> {
     public TemporalRecordInserted(TemporalRecord<T> record) {
-        super(record, TEMPORAL_RECORD_INSERTED);
+        this(record, 0L);
+    }
+
+    public TemporalRecordInserted(TemporalRecord<T> record, long sequence) {
+        super(record, TEMPORAL_RECORD_INSERTED, sequence);
+    }
+
+    @Override
+    public TemporalRecordInserted<T> withSequence(long sequence) {
+        return new TemporalRecordInserted<>(record(), sequence);
     }
 }
@@ -10,6 +10,15 @@ import static com.rifftech.temporal.events.TemporalEventType.TEMPORAL_RECORD_UPD
 @ToString(callSuper = true)
 public final class TemporalRecordUpdated<T> extends TemporalEvent<T> {
     public TemporalRecordUpdated(TemporalRecord<T> record) {
-        super(record, TEMPORAL_RECORD_UPDATED);
+        this(record, 0L);
+    }
+
+    public TemporalRecordUpdated(TemporalRecord<T> record, long sequence) {
+        super(record, TEMPORAL_RECORD_UPDATED, sequence);
+    }
+
+    @Override
+    public TemporalRecordUpdated<T> withSequence(long sequence) {
+        return new TemporalRecordUpdated<>(record(), sequence);
     }
 }
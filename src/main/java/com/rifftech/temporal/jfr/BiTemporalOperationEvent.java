@@ -0,0 +1,72 @@
+package com.rifftech.temporal.jfr;
+
+import com.rifftech.temporal.metrics.TemporalOperation;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timestamp;
+
+import java.time.Instant;
+
+/**
+ * The bi-temporal counterpart of {@link TemporalOperationEvent}, which additionally records the
+ * transaction time or range. When a range operation does not restrict transaction time, the
+ * transaction fields span from the earliest to the latest supported instant.
+ */
+@Name(BiTemporalOperationEvent.NAME)
+@Label("Bi-Temporal Collection Operation")
+@Description("An operation on a bi-temporal collection")
+@Category("Temporal Collections")
+@StackTrace(false)
+public class BiTemporalOperationEvent extends Event {
+    public static final String NAME = "com.rifftech.temporal.BiTemporalOperation";
+
+    @Label("Collection")
+    Class<?> collection;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Valid Time")
+    @Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+    long validTime;
+
+    @Label("Valid Time End")
+    @Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+    long validTimeEnd;
+
+    @Label("Transaction Time")
+    @Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+    long transactionTime;
+
+    @Label("Transaction Time End")
+    @Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+    long transactionTimeEnd;
+
+    @Label("Result Count")
+    int resultCount;
+
+    /**
+     * Ends the event and commits it if it is enabled and exceeds its threshold.
+     *
+     * @see TemporalOperationEvent#complete(Class, TemporalOperation, Instant, Instant, int)
+     */
+    public void complete(Class<?> collection, TemporalOperation operation,
+                         Instant validTime, Instant validTimeEnd,
+                         Instant transactionTime, Instant transactionTimeEnd,
+                         int resultCount) {
+        if (shouldCommit()) {
+            this.collection = collection;
+            this.operation = operation.name();
+            this.validTime = validTime.toEpochMilli();
+            this.validTimeEnd = validTimeEnd.toEpochMilli();
+            this.transactionTime = transactionTime.toEpochMilli();
+            this.transactionTimeEnd = transactionTimeEnd.toEpochMilli();
+            this.resultCount = resultCount;
+            commit();
+        }
+    }
+}
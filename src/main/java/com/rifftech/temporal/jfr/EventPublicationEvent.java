@@ -0,0 +1,58 @@
+package com.rifftech.temporal.jfr;
+
+import com.rifftech.temporal.events.BiTemporalEvent;
+import com.rifftech.temporal.events.TemporalEvent;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timestamp;
+
+/**
+ * A Flight Recorder event spanning the hand-off of a temporal or bi-temporal event to its producer,
+ * so that time spent in slow producers shows up next to the collection operations that caused it.
+ * The transaction time is only set for bi-temporal events.
+ */
+@Name(EventPublicationEvent.NAME)
+@Label("Temporal Event Publication")
+@Description("The publication of a temporal event to an event producer")
+@Category("Temporal Collections")
+@StackTrace(false)
+public class EventPublicationEvent extends Event {
+    public static final String NAME = "com.rifftech.temporal.EventPublication";
+
+    @Label("Producer")
+    Class<?> producer;
+
+    @Label("Event Type")
+    String eventType;
+
+    @Label("Valid Time")
+    @Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+    long validTime;
+
+    @Label("Transaction Time")
+    @Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+    long transactionTime;
+
+    public void complete(Class<?> producer, TemporalEvent<?> event) {
+        if (shouldCommit()) {
+            this.producer = producer;
+            this.eventType = event.eventType().name();
+            this.validTime = event.record().validRange().start().toEpochMilli();
+            commit();
+        }
+    }
+
+    public void complete(Class<?> producer, BiTemporalEvent<?> event) {
+        if (shouldCommit()) {
+            this.producer = producer;
+            this.eventType = event.eventType().name();
+            this.validTime = event.record().businessEffective().start().toEpochMilli();
+            this.transactionTime = event.record().systemEffective().start().toEpochMilli();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.rifftech.temporal.jfr;
+
+import com.rifftech.temporal.metrics.TemporalOperation;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timestamp;
+
+import java.time.Instant;
+
+/**
+ * A Flight Recorder event spanning one operation on a temporal collection. It is enabled, and given a
+ * duration threshold, through the usual JFR settings under the name {@value #NAME}. For point operations
+ * both valid time fields hold the instant the operation was called with, for range operations they hold
+ * the bounds of the range.
+ */
+@Name(TemporalOperationEvent.NAME)
+@Label("Temporal Collection Operation")
+@Description("An operation on a temporal collection")
+@Category("Temporal Collections")
+@StackTrace(false)
+public class TemporalOperationEvent extends Event {
+    public static final String NAME = "com.rifftech.temporal.TemporalOperation";
+
+    @Label("Collection")
+    Class<?> collection;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Valid Time")
+    @Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+    long validTime;
+
+    @Label("Valid Time End")
+    @Timestamp(Timestamp.MILLISECONDS_SINCE_EPOCH)
+    long validTimeEnd;
+
+    @Label("Result Count")
+    int resultCount;
+
+    /**
+     * Ends the event and commits it if it is enabled and exceeds its threshold. The fields are only
+     * populated in that case, so the cost of a disabled event is its {@code begin()} and this check.
+     *
+     * @param collection   the class of the collection the operation was performed on.
+     * @param operation    the operation performed.
+     * @param validTime    the valid time, or start of the valid range, the operation was called with.
+     * @param validTimeEnd the end of the valid range, or the valid time again for point operations.
+     * @param resultCount  the number of records the operation returned.
+     */
+    public void complete(Class<?> collection, TemporalOperation operation, Instant validTime, Instant validTimeEnd, int resultCount) {
+        if (shouldCommit()) {
+            this.collection = collection;
+            this.operation = operation.name();
+            this.validTime = validTime.toEpochMilli();
+            this.validTimeEnd = validTimeEnd.toEpochMilli();
+            this.resultCount = resultCount;
+            commit();
+        }
+    }
+}
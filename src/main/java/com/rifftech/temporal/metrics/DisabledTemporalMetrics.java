@@ -0,0 +1,18 @@
+package com.rifftech.temporal.metrics;
+
+enum DisabledTemporalMetrics implements TemporalMetrics {
+    INSTANCE;
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void recordLatency(TemporalOperation operation, long elapsedNanos, Object firstArgument, Object secondArgument) {
+    }
+
+    @Override
+    public void recordResultSize(TemporalOperation operation, int size) {
+    }
+}
@@ -0,0 +1,113 @@
+package com.rifftech.temporal.metrics;
+
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * {@link TemporalMetrics} kept in memory: a latency histogram in nanoseconds and a result size histogram
+ * per operation, and a log of the most recent operations that took longer than a threshold. Slow queries
+ * are also handed to an optional listener, for instance to write them to an application log.
+ */
+@FieldDefaults(makeFinal = true, level = PRIVATE)
+public class InMemoryTemporalMetrics implements TemporalMetrics {
+    Map<TemporalOperation, LogLinearHistogram> latencies = new EnumMap<>(TemporalOperation.class);
+    Map<TemporalOperation, LogLinearHistogram> resultSizes = new EnumMap<>(TemporalOperation.class);
+    long slowQueryThresholdNanos;
+    int slowQueryLogSize;
+    Deque<SlowQuery> slowQueries = new ArrayDeque<>();
+    Consumer<SlowQuery> slowQueryListener;
+    Clock clock = Clock.systemUTC();
+
+    public InMemoryTemporalMetrics() {
+        this(Duration.ofMillis(100), 100, slowQuery -> {
+        });
+    }
+
+    public InMemoryTemporalMetrics(@NonNull Duration slowQueryThreshold, int slowQueryLogSize) {
+        this(slowQueryThreshold, slowQueryLogSize, slowQuery -> {
+        });
+    }
+
+    public InMemoryTemporalMetrics(@NonNull Duration slowQueryThreshold, int slowQueryLogSize, @NonNull Consumer<SlowQuery> slowQueryListener) {
+        if (slowQueryThreshold.isNegative()) {
+            throw new IllegalArgumentException("The slow query threshold cannot be negative.");
+        }
+        if (slowQueryLogSize < 0) {
+            throw new IllegalArgumentException("The slow query log size cannot be negative.");
+        }
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+        this.slowQueryLogSize = slowQueryLogSize;
+        this.slowQueryListener = slowQueryListener;
+        for (TemporalOperation operation : TemporalOperation.values()) {
+            latencies.put(operation, new LogLinearHistogram());
+            resultSizes.put(operation, new LogLinearHistogram());
+        }
+    }
+
+    @Override
+    public void recordLatency(TemporalOperation operation, long elapsedNanos, Object firstArgument, Object secondArgument) {
+        latencies.get(operation).record(elapsedNanos);
+        if (elapsedNanos >= slowQueryThresholdNanos) {
+            String arguments = secondArgument == null ? String.valueOf(firstArgument) : firstArgument + ", " + secondArgument;
+            SlowQuery slowQuery = new SlowQuery(operation, arguments, Duration.ofNanos(elapsedNanos), clock.instant());
+            synchronized (slowQueries) {
+                if (slowQueryLogSize > 0) {
+                    if (slowQueries.size() == slowQueryLogSize) {
+                        slowQueries.removeFirst();
+                    }
+                    slowQueries.addLast(slowQuery);
+                }
+            }
+            slowQueryListener.accept(slowQuery);
+        }
+    }
+
+    @Override
+    public void recordResultSize(TemporalOperation operation, int size) {
+        resultSizes.get(operation).record(size);
+    }
+
+    /**
+     * @param operation the operation of interest.
+     * @return the number of times the operation completed.
+     */
+    public long count(@NonNull TemporalOperation operation) {
+        return latencies.get(operation).count();
+    }
+
+    /**
+     * @param operation the operation of interest.
+     * @return the histogram of the latencies of the operation in nanoseconds.
+     */
+    public LogLinearHistogram latency(@NonNull TemporalOperation operation) {
+        return latencies.get(operation);
+    }
+
+    /**
+     * @param operation the operation of interest.
+     * @return the histogram of the number of records returned by the operation.
+     */
+    public LogLinearHistogram resultSize(@NonNull TemporalOperation operation) {
+        return resultSizes.get(operation);
+    }
+
+    /**
+     * @return the most recent slow queries, oldest first.
+     */
+    public List<SlowQuery> slowQueries() {
+        synchronized (slowQueries) {
+            return List.copyOf(slowQueries);
+        }
+    }
+}
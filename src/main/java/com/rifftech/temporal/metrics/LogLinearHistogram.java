@@ -0,0 +1,115 @@
+package com.rifftech.temporal.metrics;
+
+import lombok.experimental.FieldDefaults;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * A lock-free histogram of non-negative long values. Values below {@value #SUB_BUCKETS} are counted
+ * exactly; larger values fall into one of {@value #SUB_BUCKETS} linear sub-buckets of their power of two,
+ * which bounds the relative error of reported percentiles to 1/{@value #SUB_BUCKETS}. Recording a value is
+ * a handful of atomic increments and never allocates, so it is suitable for the hot path.
+ */
+@FieldDefaults(makeFinal = true, level = PRIVATE)
+public final class LogLinearHistogram {
+    static final int SUB_BUCKET_BITS = 3;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    AtomicLongArray buckets = new AtomicLongArray(Long.SIZE * SUB_BUCKETS);
+    LongAdder count = new LongAdder();
+    LongAdder sum = new LongAdder();
+    AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * Records a value; negative values are recorded as zero.
+     *
+     * @param value the value to record.
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        buckets.incrementAndGet(bucketIndex(v));
+        count.increment();
+        sum.add(v);
+        if (v < min.get()) {
+            min.accumulateAndGet(v, Math::min);
+        }
+        if (v > max.get()) {
+            max.accumulateAndGet(v, Math::max);
+        }
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public long sum() {
+        return sum.sum();
+    }
+
+    public long min() {
+        return count() == 0 ? 0 : min.get();
+    }
+
+    public long max() {
+        return count() == 0 ? 0 : max.get();
+    }
+
+    public double mean() {
+        long n = count();
+        return n == 0 ? 0 : (double) sum() / n;
+    }
+
+    /**
+     * Returns an upper bound of the value below which the given percentage of recorded values fall.
+     * The bound is exact for values below {@value #SUB_BUCKETS} and never exceeds {@link #max()}.
+     *
+     * @param percentile the percentile, between 0 and 100 inclusive.
+     * @return the value at the percentile, or 0 if no values were recorded.
+     */
+    public long valueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100.");
+        }
+        long total = 0;
+        long[] snapshot = new long[buckets.length()];
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), max());
+            }
+        }
+        return max();
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long highestValueOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowest + ((1L << shift) - 1);
+    }
+}
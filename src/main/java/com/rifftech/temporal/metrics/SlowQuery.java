@@ -0,0 +1,15 @@
+package com.rifftech.temporal.metrics;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * An operation whose latency exceeded the slow query threshold of {@link InMemoryTemporalMetrics}.
+ *
+ * @param operation  the operation that was slow.
+ * @param arguments  the arguments the operation was called with, rendered as text.
+ * @param elapsed    the time the operation took.
+ * @param observedAt the instant the operation completed.
+ */
+public record SlowQuery(TemporalOperation operation, String arguments, Duration elapsed, Instant observedAt) {
+}
@@ -0,0 +1,46 @@
+package com.rifftech.temporal.metrics;
+
+/**
+ * Receives measurements of operations on temporal collections. Implementations are called on the
+ * thread performing the operation and must therefore be thread-safe and cheap; adapters to metrics
+ * libraries are expected to implement this interface so that no such library is required here.
+ */
+public interface TemporalMetrics {
+
+    /**
+     * Returns metrics that record nothing. Collections decorated with them are left undecorated.
+     *
+     * @return the disabled metrics.
+     */
+    static TemporalMetrics disabled() {
+        return DisabledTemporalMetrics.INSTANCE;
+    }
+
+    /**
+     * Indicates whether measurements should be taken at all. When false, instrumented collections
+     * skip reading the time and calling the record methods.
+     *
+     * @return true if measurements are recorded, true by default.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Records the latency of a completed operation.
+     *
+     * @param operation      the operation that completed.
+     * @param elapsedNanos   the time taken by the operation in nanoseconds.
+     * @param firstArgument  the first argument of the operation, or null if it has none.
+     * @param secondArgument the second argument of the operation, or null if it has none.
+     */
+    void recordLatency(TemporalOperation operation, long elapsedNanos, Object firstArgument, Object secondArgument);
+
+    /**
+     * Records the number of records returned by an operation.
+     *
+     * @param operation the operation that completed.
+     * @param size      the number of records it returned.
+     */
+    void recordResultSize(TemporalOperation operation, int size);
+}
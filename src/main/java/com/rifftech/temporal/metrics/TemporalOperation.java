@@ -0,0 +1,15 @@
+package com.rifftech.temporal.metrics;
+
+/**
+ * The operations of temporal and bi-temporal collections that are measured by {@link TemporalMetrics}.
+ * Convenience overloads are recorded as the operation they delegate to.
+ */
+public enum TemporalOperation {
+    GET_AS_OF_NOW,
+    GET_AS_OF,
+    GET_ALL_AS_OF,
+    GET_PRIOR_TO,
+    GET_IN_RANGE,
+    EFFECTIVE_AS_OF,
+    EXPIRE_AS_OF
+}
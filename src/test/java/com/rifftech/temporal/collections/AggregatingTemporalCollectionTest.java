@@ -0,0 +1,167 @@
+package com.rifftech.temporal.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static com.rifftech.temporal.collections.TemporalRange.FOREVER;
+import static com.rifftech.temporal.collections.TemporalRange.MIN;
+import static com.rifftech.temporal.collections.TemporalRange.fromTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public class AggregatingTemporalCollectionTest {
+
+    @Test
+    public void aggregate_WhenEmpty() {
+        AggregatingTemporalCollection<Integer, Long> collection = new AggregatingTemporalCollection<>(TemporalAggregators.sum(Integer::longValue));
+        assertThat(collection.aggregate(FOREVER)).isZero();
+        assertThat(collection.expireAsOf(Instant.now())).isEmpty();
+        assertThat(collection.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void aggregate_WhenUsingNull() {
+        AggregatingTemporalCollection<Integer, Long> collection = new AggregatingTemporalCollection<>(TemporalAggregators.sum(Integer::longValue));
+        assertThatNullPointerException().isThrownBy(() -> collection.aggregate(null));
+        assertThatNullPointerException().isThrownBy(() -> new AggregatingTemporalCollection<>(null));
+    }
+
+    @Test
+    public void aggregate_WhenRecordsAreExpired() {
+        AggregatingTemporalCollection<Integer, Long> collection = new AggregatingTemporalCollection<>(TemporalAggregators.sum(Integer::longValue));
+        Instant now = Instant.now();
+        collection.effectiveAsOf(now.minusSeconds(10), 1);
+        collection.effectiveAsOf(now.minusSeconds(5), 2);
+        collection.expireAsOf(now);
+        collection.effectiveAsOf(now.plusSeconds(5), 4);
+        assertThat(collection.aggregate(FOREVER)).isEqualTo(7);
+        assertThat(collection.aggregate(fromTo(MIN, now))).isEqualTo(3);
+        assertThat(collection.aggregate(fromTo(now.minusSeconds(5), now.plusSeconds(5)))).isEqualTo(6);
+
+        collection.effectiveAsOf(now, 3);
+        assertThat(collection.aggregate(FOREVER)).isEqualTo(10);
+        collection.effectiveAsOf(now.minusSeconds(5), 20);
+        assertThat(collection.aggregate(FOREVER)).isEqualTo(28);
+    }
+
+    @Test
+    public void aggregate_WhenUsingTimeWeightedSummary() {
+        AggregatingTemporalCollection<Integer, TemporalSummary> collection = new AggregatingTemporalCollection<>(TemporalAggregators.summary(Integer::doubleValue));
+        Instant now = Instant.now();
+        collection.effectiveAsOf(now, 10);
+        collection.effectiveAsOf(now.plusSeconds(10), 40);
+        collection.effectiveAsOf(now.plusSeconds(40), 5);
+        collection.expireAsOf(now.plusSeconds(50));
+
+        TemporalSummary summary = collection.aggregate(FOREVER);
+        assertThat(summary.count()).isEqualTo(3);
+        assertThat(summary.sum()).isEqualTo(55);
+        assertThat(summary.min()).isEqualTo(5);
+        assertThat(summary.max()).isEqualTo(40);
+        assertThat(summary.durationInSeconds()).isEqualTo(50);
+        assertThat(summary.timeWeightedSum()).isEqualTo(10 * 10 + 40 * 30 + 5 * 10);
+        assertThat(summary.timeWeightedAverage()).isEqualTo(27);
+    }
+
+    @Test
+    public void aggregate_WhenLastRecordIsOpen_ThenWeightsItUntilEndOfRange() {
+        AggregatingTemporalCollection<Integer, TemporalSummary> collection = new AggregatingTemporalCollection<>(TemporalAggregators.summary(Integer::doubleValue));
+        AggregatingTemporalCollection<Integer, Double> sums = new AggregatingTemporalCollection<>(TemporalAggregators.timeWeightedSum(Integer::doubleValue));
+        Instant now = Instant.now();
+        List.of(collection, sums).forEach(aggregating -> {
+            aggregating.effectiveAsOf(now, 10);
+            aggregating.effectiveAsOf(now.plusSeconds(10), 20);
+        });
+
+        TemporalSummary summary = collection.aggregate(fromTo(now, now.plusSeconds(30)));
+        assertThat(summary.count()).isEqualTo(2);
+        assertThat(summary.durationInSeconds()).isEqualTo(30);
+        assertThat(summary.timeWeightedSum()).isEqualTo(10 * 10 + 20 * 20);
+        assertThat(summary.timeWeightedAverage()).isEqualTo(500d / 30);
+        assertThat(sums.aggregate(fromTo(now, now.plusSeconds(30)))).isEqualTo(10 * 10 + 20 * 20);
+        assertThat(sums.aggregate(fromTo(now.plusSeconds(10), now.plusSeconds(11)))).isEqualTo(20);
+    }
+
+    @Test
+    public void aggregate_WhenRangeEndsWithinRecord_ThenWeightsOnlyItsOverlap() {
+        AggregatingTemporalCollection<Integer, TemporalSummary> collection = new AggregatingTemporalCollection<>(TemporalAggregators.summary(Integer::doubleValue));
+        Instant now = Instant.now();
+        collection.effectiveAsOf(now, 10);
+        collection.effectiveAsOf(now.plusSeconds(10), 40);
+        collection.effectiveAsOf(now.plusSeconds(40), 5);
+        collection.expireAsOf(now.plusSeconds(50));
+
+        TemporalSummary cut = collection.aggregate(fromTo(now, now.plusSeconds(25)));
+        assertThat(cut.count()).isEqualTo(2);
+        assertThat(cut.max()).isEqualTo(40);
+        assertThat(cut.durationInSeconds()).isEqualTo(25);
+        assertThat(cut.timeWeightedSum()).isEqualTo(10 * 10 + 40 * 15);
+
+        TemporalSummary touching = collection.aggregate(fromTo(now, now.plusSeconds(10)));
+        assertThat(touching.count()).isEqualTo(2);
+        assertThat(touching.durationInSeconds()).isEqualTo(10);
+        assertThat(touching.timeWeightedSum()).isEqualTo(10 * 10);
+
+        TemporalSummary within = collection.aggregate(fromTo(now.plusSeconds(10), now.plusSeconds(45)));
+        assertThat(within.count()).isEqualTo(2);
+        assertThat(within.durationInSeconds()).isEqualTo(35);
+        assertThat(within.timeWeightedSum()).isEqualTo(40 * 30 + 5 * 5);
+    }
+
+    @Test
+    public void aggregate_WhenUsingMinAndMax() {
+        AggregatingTemporalCollection<String, Optional<String>> min = new AggregatingTemporalCollection<>(TemporalAggregators.<String>min(Comparator.naturalOrder()));
+        AggregatingTemporalCollection<String, Optional<String>> max = new AggregatingTemporalCollection<>(TemporalAggregators.<String>max(Comparator.naturalOrder()));
+        Instant now = Instant.now();
+        List.of("m", "z", "a", "q").forEach(value -> {
+            Instant validTime = now.plusSeconds(min.size());
+            min.effectiveAsOf(validTime, value);
+            max.effectiveAsOf(validTime, value);
+        });
+        assertThat(min.aggregate(FOREVER)).hasValue("a");
+        assertThat(max.aggregate(FOREVER)).hasValue("z");
+        assertThat(min.aggregate(fromTo(now, now.plusSeconds(1)))).hasValue("m");
+        assertThat(max.aggregate(fromTo(now.plusSeconds(2), now.plusSeconds(3)))).hasValue("q");
+    }
+
+    @Test
+    public void aggregate_MatchesGetInRange() {
+        AggregatingTemporalCollection<Integer, TemporalSummary> collection = new AggregatingTemporalCollection<>(TemporalAggregators.summary(Integer::doubleValue));
+        Random random = new Random(42);
+        Instant now = Instant.now();
+        for (int i = 0; i < 2_000; i++) {
+            Instant instant = now.plusSeconds(random.nextInt(500));
+            if (random.nextInt(5) == 0) {
+                collection.expireAsOf(instant);
+            } else {
+                collection.effectiveAsOf(instant, random.nextInt(1_000));
+            }
+            if (i % 50 == 0) {
+                Instant start = now.plusSeconds(random.nextInt(250));
+                TemporalRange range = fromTo(start, start.plusSeconds(1 + random.nextInt(250)));
+                TemporalSummary expected = collection.getInRange(range).stream()
+                        .map(record -> TemporalSummary.of(record.value(),
+                                Math.min(record.validRange().end().getEpochSecond(), range.end().getEpochSecond())
+                                        - record.validRange().start().getEpochSecond()))
+                        .reduce(TemporalSummary.EMPTY, TemporalSummary::combine);
+                assertThat(collection.aggregate(range)).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    public void aggregatingTemporalCollection_WhenRecordsAreProvided() {
+        Instant now = Instant.now();
+        AggregatingTemporalCollection<Integer, Long> collection = TemporalCollections.aggregatingTemporalCollection(List.of(
+                new TemporalRecord<>(fromTo(now, now.plusSeconds(5)), 1),
+                new TemporalRecord<>(fromTo(now.plusSeconds(10), now.plusSeconds(15)), 2)
+        ), TemporalAggregators.count());
+        assertThat(collection.getInRange(FOREVER)).hasSize(2);
+        assertThat(collection.aggregate(FOREVER)).isEqualTo(2);
+    }
+}
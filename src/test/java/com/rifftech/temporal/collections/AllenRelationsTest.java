@@ -0,0 +1,116 @@
+package com.rifftech.temporal.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.BiPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class AllenRelationsTest {
+    private static final Map<AllenRelation, BiPredicate<EpochNanoRange, EpochNanoRange>> SCALAR = Map.ofEntries(
+            Map.entry(AllenRelation.BEFORE, EpochNanoRange::isBefore),
+            Map.entry(AllenRelation.AFTER, EpochNanoRange::isAfter),
+            Map.entry(AllenRelation.MEETS, EpochNanoRange::meets),
+            Map.entry(AllenRelation.MET_BY, EpochNanoRange::isMetBy),
+            Map.entry(AllenRelation.OVERLAPS_BEFORE, EpochNanoRange::overlapsBefore),
+            Map.entry(AllenRelation.OVERLAPS_AFTER, EpochNanoRange::overlapsAfter),
+            Map.entry(AllenRelation.FINISHES, EpochNanoRange::finishes),
+            Map.entry(AllenRelation.FINISHED_BY, EpochNanoRange::isFinishedBy),
+            Map.entry(AllenRelation.INCLUDES, EpochNanoRange::includes),
+            Map.entry(AllenRelation.DURING, EpochNanoRange::isDuring),
+            Map.entry(AllenRelation.STARTS, EpochNanoRange::starts),
+            Map.entry(AllenRelation.STARTED_BY, EpochNanoRange::isStartedBy),
+            Map.entry(AllenRelation.CONTIGUOUS_WITH, EpochNanoRange::isContiguousWith),
+            Map.entry(AllenRelation.OVERLAPS, EpochNanoRange::overlaps));
+
+    @Test
+    public void evaluateAll_WhenComparedWithEpochNanoRange_ThenAgree() {
+        Random random = new Random(50);
+        int length = 1_000;
+        long[] starts = new long[length];
+        long[] ends = new long[length];
+        for (int i = 0; i < length; i++) {
+            starts[i] = random.nextInt(20);
+            ends[i] = starts[i] + 1 + random.nextInt(10);
+        }
+        for (int probeIndex = 0; probeIndex < 50; probeIndex++) {
+            long probeStart = random.nextInt(20);
+            EpochNanoRange probe = new EpochNanoRange(probeStart, probeStart + 1 + random.nextInt(10));
+
+            Map<AllenRelation, long[]> masks = AllenRelations.evaluateAll(starts, ends, probe);
+
+            assertThat(masks).containsOnlyKeys(AllenRelation.values());
+            for (AllenRelation relation : AllenRelation.values()) {
+                long[] mask = masks.get(relation);
+                assertThat(mask).hasSize(16);
+                for (int i = 0; i < length; i++) {
+                    boolean expected = SCALAR.get(relation).test(new EpochNanoRange(starts[i], ends[i]), probe);
+                    assertThat(AllenRelations.isSet(mask, i)).as("%s of range %d", relation, i).isEqualTo(expected);
+                }
+                assertThat(BitSet.valueOf(mask).length()).isLessThanOrEqualTo(length);
+            }
+        }
+    }
+
+    @Test
+    public void test_WhenBoundsAreSentinels_ThenComparesWithoutOverflow() {
+        EpochNanoRange forever = EpochNanoRange.FOREVER;
+        EpochNanoRange untilMax = new EpochNanoRange(-5, EpochNanoRange.MAX);
+        EpochNanoRange fromMin = new EpochNanoRange(EpochNanoRange.MIN, 5);
+
+        for (EpochNanoRange range : new EpochNanoRange[]{forever, untilMax, fromMin}) {
+            for (EpochNanoRange probe : new EpochNanoRange[]{forever, untilMax, fromMin, new EpochNanoRange(0, 1)}) {
+                for (AllenRelation relation : AllenRelation.values()) {
+                    assertThat(relation.holds(range, probe)).as("%s %s %s", range, relation, probe)
+                            .isEqualTo(SCALAR.get(relation).test(range, probe));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void evaluate_WhenMaskSupplied_ThenOverwritesOnlyCoveredWords() {
+        long[] starts = new long[70];
+        long[] ends = new long[70];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = i;
+            ends[i] = i + 2;
+        }
+        long[] mask = {-1L, -1L, -1L};
+
+        AllenRelations.evaluate(AllenRelation.BEFORE, starts, ends, 65, new EpochNanoRange(10, 20), mask);
+
+        assertThat(mask[0]).isEqualTo((1L << 8) - 1);
+        assertThat(mask[1]).isZero();
+        assertThat(mask[2]).isEqualTo(-1L);
+        assertThat(AllenRelations.cardinality(mask)).isEqualTo(8 + 64);
+    }
+
+    @Test
+    public void intersecting_WhenRangesShareAnInstantWithProbe_ThenSet() {
+        long[] starts = {0, 5, 10, 12, 15, 20, 10};
+        long[] ends = {5, 10, 15, 13, 25, 30, 15};
+
+        long[] mask = AllenRelations.intersecting(starts, ends, new EpochNanoRange(10, 15));
+
+        assertThat(BitSet.valueOf(mask)).isEqualTo(BitSet.valueOf(new long[]{0b1001100}));
+        assertThat(AllenRelations.cardinality(AllenRelations.evaluate(AllenRelation.OVERLAPS, starts, ends, new EpochNanoRange(10, 15))))
+                .isZero();
+    }
+
+    @Test
+    public void evaluate_WhenColumnsAreInvalid_ThenThrows() {
+        long[] starts = {0, 1};
+        EpochNanoRange probe = new EpochNanoRange(0, 1);
+
+        assertThatIllegalArgumentException().isThrownBy(() -> AllenRelations.evaluate(AllenRelation.MEETS, starts, new long[]{1}, probe));
+        assertThatIllegalArgumentException().isThrownBy(() -> AllenRelations.evaluate(AllenRelation.MEETS, starts, new long[]{1, 2}, 3, probe, new long[1]));
+        assertThatIllegalArgumentException().isThrownBy(() -> AllenRelations.evaluate(AllenRelation.MEETS, new long[65], new long[65], 65, probe, new long[1]));
+        assertThatIllegalArgumentException().isThrownBy(() -> AllenRelations.isSet(new long[1], 64));
+        assertThat(AllenRelations.evaluate(AllenRelation.MEETS, new long[0], new long[0], probe)).isEmpty();
+    }
+}
@@ -0,0 +1,38 @@
+package com.rifftech.temporal.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static com.rifftech.temporal.collections.TemporalRange.FOREVER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public class AsyncBiTemporalCollectionTest {
+
+    @Test
+    public void asyncBiTemporalCollection_WithNull() {
+        BiTemporalCollection<String> collection = BiTemporalCollections.emptyBiTemporalCollection();
+        assertThatNullPointerException().isThrownBy(() -> new AsyncBiTemporalCollection<>(null, Runnable::run));
+        assertThatNullPointerException().isThrownBy(() -> new AsyncBiTemporalCollection<>(collection, null));
+    }
+
+    @Test
+    public void queries_WhenCompleted_ThenMatchSynchronousResults() {
+        Instant now = Instant.now();
+        ConcurrentSkipListBiTemporalCollection<String> collection = new ConcurrentSkipListBiTemporalCollection<>();
+        collection.effectiveAsOf(now.minusSeconds(60), now.minusSeconds(60), "first");
+        collection.effectiveAsOf(now.minusSeconds(60), now.minusSeconds(30), "correction");
+        collection.effectiveAsOf(now.minusSeconds(10), now.minusSeconds(10), "second");
+        AsyncBiTemporalCollection<String> async = BiTemporalCollections.asyncBiTemporalCollection(collection, 2);
+
+        assertThat(async.collection()).isSameAs(collection);
+        assertThat(async.getAsOfNow().join()).map(BiTemporalRecord::value).hasValue("second");
+        assertThat(async.getAsOf(now.minusSeconds(30)).join()).map(BiTemporalRecord::value).hasValue("correction");
+        assertThat(async.getAsOf(now.minusSeconds(30), now.minusSeconds(45)).join()).map(BiTemporalRecord::value).hasValue("first");
+        assertThat(async.getPriorTo(now).join()).isEqualTo(collection.getPriorTo(now));
+        assertThat(async.getPriorTo(now, now.minusSeconds(45)).join()).isEqualTo(collection.getPriorTo(now, now.minusSeconds(45)));
+        assertThat(async.getInRange(FOREVER).join()).isEqualTo(collection.getInRange(FOREVER));
+        assertThat(async.getInRange(FOREVER, FOREVER).join()).isEqualTo(collection.getInRange(FOREVER, FOREVER));
+    }
+}
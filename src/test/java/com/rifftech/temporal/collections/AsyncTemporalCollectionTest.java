@@ -0,0 +1,75 @@
+package com.rifftech.temporal.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static com.rifftech.temporal.collections.TemporalRange.FOREVER;
+import static com.rifftech.temporal.collections.TemporalRange.fromTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AsyncTemporalCollectionTest {
+
+    @Test
+    public void asyncTemporalCollection_WithNull() {
+        TemporalCollection<Integer> collection = TemporalCollections.emptyTemporalCollection();
+        assertThatNullPointerException().isThrownBy(() -> new AsyncTemporalCollection<>(null, Runnable::run));
+        assertThatNullPointerException().isThrownBy(() -> new AsyncTemporalCollection<>(collection, null));
+        assertThatNullPointerException().isThrownBy(() -> new AsyncTemporalCollection<>(collection, Runnable::run).getAsOf(null));
+    }
+
+    @Test
+    public void queries_WhenCompleted_ThenMatchSynchronousResults() {
+        Instant now = Instant.now();
+        TemporalCollection<Integer> collection = TemporalCollections.immutableTemporalCollection(List.of(
+                new TemporalRecord<>(fromTo(now.minusSeconds(20), now.minusSeconds(10)), 1),
+                new TemporalRecord<>(fromTo(now.minusSeconds(10), now.plusSeconds(10)), 2)));
+        AsyncTemporalCollection<Integer> async = TemporalCollections.asyncTemporalCollection(collection, 2);
+
+        assertThat(async.collection()).isSameAs(collection);
+        assertThat(async.getAsOfNow().join()).isEqualTo(collection.getAsOfNow());
+        assertThat(async.getAsOf(now.minusSeconds(15)).join()).map(TemporalRecord::value).hasValue(1);
+        assertThat(async.getPriorToNow().join()).map(TemporalRecord::value).hasValue(1);
+        assertThat(async.getPriorTo(now.minusSeconds(15)).join()).isEmpty();
+        assertThat(async.getInRange(FOREVER).join()).isEqualTo(collection.getInRange(FOREVER));
+    }
+
+    @Test
+    public void allOf_WhenManyCollectionsAreQueried_ThenResultsKeepOrder() {
+        Instant now = Instant.now();
+        BoundedExecutor executor = BoundedExecutor.withMaxConcurrency(4);
+        Map<String, AsyncTemporalCollection<Integer>> collections = new LinkedHashMap<>();
+        for (int i = 0; i < 20; i++) {
+            collections.put("collection-" + i, new AsyncTemporalCollection<>(TemporalCollections.immutableTemporalCollection(
+                    List.of(new TemporalRecord<>(fromTo(now.minusSeconds(10), now.plusSeconds(10)), i))), executor));
+        }
+
+        List<Optional<TemporalRecord<Integer>>> results = AsyncTemporalQueries.allOf(collections.values().stream()
+                .map(collection -> collection.getAsOf(now))
+                .toList()).join();
+        assertThat(results).extracting(r -> r.map(TemporalRecord::value).orElseThrow())
+                .containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19);
+
+        Map<String, CompletableFuture<Optional<TemporalRecord<Integer>>>> byName = new LinkedHashMap<>();
+        collections.forEach((name, collection) -> byName.put(name, collection.getAsOf(now)));
+        Map<String, Optional<TemporalRecord<Integer>>> named = AsyncTemporalQueries.allOf(byName).join();
+        assertThat(named.keySet()).containsExactlyElementsOf(collections.keySet());
+        assertThat(named.get("collection-7")).map(TemporalRecord::value).hasValue(7);
+    }
+
+    @Test
+    public void allOf_WhenQueryFails_ThenCompletesExceptionally() {
+        CompletableFuture<Integer> failed = CompletableFuture.failedFuture(new IllegalStateException("failure"));
+        assertThatThrownBy(() -> AsyncTemporalQueries.allOf(List.of(CompletableFuture.completedFuture(1), failed)).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,129 @@
+package com.rifftech.temporal.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BoundedExecutorTest {
+
+    @Test
+    public void boundedExecutor_WithInvalidArguments() {
+        assertThatNullPointerException().isThrownBy(() -> new BoundedExecutor(null, 1));
+        assertThatIllegalArgumentException().isThrownBy(() -> new BoundedExecutor(Runnable::run, 0));
+        assertThatIllegalArgumentException().isThrownBy(() -> BoundedExecutor.withMaxConcurrency(-1));
+        assertThatNullPointerException().isThrownBy(() -> BoundedExecutor.withMaxConcurrency(1).execute(null));
+    }
+
+    @Test
+    public void execute_WhenSaturated_ThenRunsAtMostMaxConcurrencyTasks() throws InterruptedException {
+        ExecutorService delegate = Executors.newFixedThreadPool(8);
+        BoundedExecutor executor = new BoundedExecutor(delegate, 3);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger highWaterMark = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(50);
+        for (int i = 0; i < 50; i++) {
+            executor.execute(() -> {
+                highWaterMark.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                    done.countDown();
+                }
+            });
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        delegate.shutdown();
+
+        assertThat(highWaterMark.get()).isEqualTo(3);
+        assertThat(executor.pendingCount()).isZero();
+        assertThat(executor.maxConcurrency()).isEqualTo(3);
+    }
+
+    @Test
+    public void execute_WhenTaskFails_ThenPermitIsReleased() throws InterruptedException {
+        BoundedExecutor executor = BoundedExecutor.withMaxConcurrency(1);
+        CountDownLatch done = new CountDownLatch(1);
+        executor.execute(() -> {
+            throw new IllegalStateException("failure");
+        });
+        executor.execute(done::countDown);
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void execute_WhenDelegateRejectsAfterTaskCompletes_ThenPendingTaskIsKept() {
+        ManualExecutor delegate = new ManualExecutor();
+        BoundedExecutor executor = new BoundedExecutor(delegate, 1);
+        List<String> ran = new ArrayList<>();
+        executor.execute(() -> ran.add("first"));
+        executor.execute(() -> ran.add("second"));
+        assertThat(executor.pendingCount()).isEqualTo(1);
+
+        delegate.rejecting = true;
+        delegate.runNext();
+        assertThat(ran).containsExactly("first");
+        assertThat(executor.pendingCount()).isEqualTo(1);
+
+        delegate.rejecting = false;
+        executor.execute(() -> ran.add("third"));
+        delegate.runNext();
+        delegate.runNext();
+        assertThat(ran).containsExactly("first", "second", "third");
+        assertThat(executor.pendingCount()).isZero();
+    }
+
+    @Test
+    public void execute_WhenDelegateRejectsAndNothingRuns_ThenSubmittedTaskIsWithdrawnAndRejected() {
+        ManualExecutor delegate = new ManualExecutor();
+        BoundedExecutor executor = new BoundedExecutor(delegate, 1);
+        List<String> ran = new ArrayList<>();
+        executor.execute(() -> ran.add("first"));
+        executor.execute(() -> ran.add("second"));
+        delegate.rejecting = true;
+        delegate.runNext();
+
+        assertThatThrownBy(() -> executor.execute(() -> ran.add("rejected"))).isInstanceOf(RejectedExecutionException.class);
+        assertThat(executor.pendingCount()).isEqualTo(1);
+
+        delegate.rejecting = false;
+        executor.execute(() -> ran.add("third"));
+        delegate.runNext();
+        delegate.runNext();
+        assertThat(ran).containsExactly("first", "second", "third");
+    }
+
+    private static final class ManualExecutor implements Executor {
+        private final Queue<Runnable> accepted = new ArrayDeque<>();
+        private boolean rejecting;
+
+        @Override
+        public void execute(Runnable command) {
+            if (rejecting) {
+                throw new RejectedExecutionException("rejecting");
+            }
+            accepted.add(command);
+        }
+
+        private void runNext() {
+            accepted.remove().run();
+        }
+    }
+}
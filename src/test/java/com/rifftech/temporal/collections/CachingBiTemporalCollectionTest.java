@@ -0,0 +1,51 @@
+package com.rifftech.temporal.collections;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Instant;
+
+import static com.rifftech.temporal.collections.TemporalRange.FOREVER;
+import static com.rifftech.temporal.collections.TemporalRange.fromTo;
+import static com.rifftech.temporal.collections.TemporalRange.fromToMax;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class CachingBiTemporalCollectionTest {
+
+    @Test
+    public void getAsOf_WhenRepeated_ThenServedFromCache() {
+        ConcurrentSkipListBiTemporalCollection<Integer> delegate = Mockito.spy(new ConcurrentSkipListBiTemporalCollection<>());
+        CachingBiTemporalCollection<Integer> collection = new CachingBiTemporalCollection<>(delegate, 10);
+        Instant now = Instant.now();
+        collection.effectiveAsOf(now, now, 1);
+
+        Instant later = now.plusSeconds(1);
+        assertThat(collection.getAsOf(later, later)).map(BiTemporalRecord::value).hasValue(1);
+        assertThat(collection.getAsOf(later, later)).map(BiTemporalRecord::value).hasValue(1);
+        assertThat(collection.getInRange(FOREVER, FOREVER)).hasSize(1);
+        assertThat(collection.getInRange(FOREVER, FOREVER)).hasSize(1);
+
+        verify(delegate, times(1)).getAsOf(later, later);
+        verify(delegate, times(1)).getInRange(FOREVER, FOREVER);
+    }
+
+    @Test
+    public void getAsOf_WhenModified_ThenCacheIsInvalidated() {
+        CachingBiTemporalCollection<Integer> collection = new CachingBiTemporalCollection<>(new ConcurrentSkipListBiTemporalCollection<>(), 10);
+        Instant now = Instant.now();
+        collection.effectiveAsOf(now, now, 1);
+        Instant later = now.plusSeconds(10);
+        assertThat(collection.getAsOf(later, later))
+                .hasValueSatisfying(record -> assertThat(record.systemEffective()).isEqualTo(fromToMax(now)));
+
+        collection.effectiveAsOf(now, now.plusSeconds(5), 2);
+        assertThat(collection.getAsOf(later, later))
+                .hasValueSatisfying(record -> assertThat(record.systemEffective()).isEqualTo(fromToMax(now.plusSeconds(5))))
+                .map(BiTemporalRecord::value)
+                .hasValue(2);
+        assertThat(collection.getPriorTo(later, later)).isEmpty();
+        assertThat(collection.getInRange(fromTo(now, later))).hasSize(1);
+    }
+}
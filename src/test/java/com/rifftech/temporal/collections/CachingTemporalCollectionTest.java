@@ -0,0 +1,91 @@
+package com.rifftech.temporal.collections;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Instant;
+import java.util.List;
+
+import static com.rifftech.temporal.collections.TemporalRange.FOREVER;
+import static com.rifftech.temporal.collections.TemporalRange.fromTo;
+import static com.rifftech.temporal.collections.TemporalRange.fromToMax;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class CachingTemporalCollectionTest {
+
+    @Test
+    public void cachingTemporalCollection_WithInvalidArguments() {
+        ConcurrentSkipListTemporalCollection<Integer> collection = new ConcurrentSkipListTemporalCollection<>();
+        assertThatNullPointerException().isThrownBy(() -> new CachingTemporalCollection<>(null, 10));
+        assertThatIllegalArgumentException().isThrownBy(() -> new CachingTemporalCollection<>(collection, 0));
+    }
+
+    @Test
+    public void getAsOf_WhenRepeated_ThenServedFromCache() {
+        ConcurrentSkipListTemporalCollection<Integer> delegate = Mockito.spy(new ConcurrentSkipListTemporalCollection<>());
+        CachingTemporalCollection<Integer> collection = new CachingTemporalCollection<>(delegate, 10);
+        Instant now = Instant.now();
+        collection.effectiveAsOf(now, 1);
+
+        assertThat(collection.getAsOf(now)).map(TemporalRecord::value).hasValue(1);
+        assertThat(collection.getAsOf(now)).map(TemporalRecord::value).hasValue(1);
+        verify(delegate, times(1)).getAsOf(now);
+
+        assertThat(collection.getPriorTo(now)).isEmpty();
+        assertThat(collection.getPriorTo(now)).isEmpty();
+        assertThat(collection.getInRange(FOREVER)).hasSize(1);
+        assertThat(collection.getInRange(FOREVER)).hasSize(1);
+        verify(delegate, times(1)).getPriorTo(now);
+        verify(delegate, times(1)).getInRange(FOREVER);
+    }
+
+    @Test
+    public void getAsOf_WhenModified_ThenCacheIsInvalidated() {
+        ConcurrentSkipListTemporalCollection<Integer> delegate = new ConcurrentSkipListTemporalCollection<>();
+        CachingTemporalCollection<Integer> collection = new CachingTemporalCollection<>(delegate, 10);
+        Instant now = Instant.now();
+        collection.effectiveAsOf(now, 1);
+        assertThat(collection.getAsOf(now.plusSeconds(10)))
+                .hasValueSatisfying(record -> assertThat(record.validRange()).isEqualTo(fromToMax(now)));
+
+        collection.expireAsOf(now.plusSeconds(5));
+        assertThat(collection.getAsOf(now.plusSeconds(10))).isEmpty();
+
+        delegate.effectiveAsOf(now.plusSeconds(10), 2);
+        assertThat(collection.getAsOf(now.plusSeconds(10))).map(TemporalRecord::value).hasValue(2);
+        assertThat(collection.getInRange(FOREVER))
+                .extracting(TemporalRecord::validRange)
+                .containsExactly(fromTo(now, now.plusSeconds(5)), fromToMax(now.plusSeconds(10)));
+    }
+
+    @Test
+    public void getAsOf_WhenMaximumSizeIsExceeded_ThenLeastRecentlyUsedIsEvicted() {
+        ConcurrentSkipListTemporalCollection<Integer> delegate = Mockito.spy(new ConcurrentSkipListTemporalCollection<>());
+        CachingTemporalCollection<Integer> collection = new CachingTemporalCollection<>(delegate, 2);
+        Instant now = Instant.now();
+        collection.getAsOf(now);
+        collection.getAsOf(now.plusSeconds(1));
+        collection.getAsOf(now);
+        collection.getAsOf(now.plusSeconds(2));
+        collection.getAsOf(now);
+        collection.getAsOf(now.plusSeconds(1));
+
+        verify(delegate, times(1)).getAsOf(now);
+        verify(delegate, times(2)).getAsOf(now.plusSeconds(1));
+    }
+
+    @Test
+    public void cachingTemporalCollection_WhenRecordsAreProvided() {
+        Instant now = Instant.now();
+        CachingTemporalCollection<Integer> collection = TemporalCollections.cachingTemporalCollection(List.of(
+                new TemporalRecord<>(fromTo(now, now.plusSeconds(5)), 1)
+        ), 100);
+        assertThat(collection.getAsOf(now)).map(TemporalRecord::value).hasValue(1);
+        assertThat(collection.getAsOf(now.plusSeconds(5))).isEmpty();
+        assertThat(collection.size()).isEqualTo(2);
+    }
+}
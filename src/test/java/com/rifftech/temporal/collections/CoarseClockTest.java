@@ -0,0 +1,102 @@
+package com.rifftech.temporal.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public class CoarseClockTest {
+
+    @Test
+    public void coarseClock_WithInvalidArguments() {
+        assertThatNullPointerException().isThrownBy(() -> CoarseClock.of(null));
+        assertThatNullPointerException().isThrownBy(() -> CoarseClock.of(null, Duration.ofMillis(1)));
+        assertThatIllegalArgumentException().isThrownBy(() -> CoarseClock.of(Duration.ZERO));
+        assertThatIllegalArgumentException().isThrownBy(() -> CoarseClock.of(Duration.ofMillis(-1)));
+    }
+
+    @Test
+    public void instant_WhenSourceAdvances_ThenFollowsAtGranularity() throws InterruptedException {
+        Instant start = Instant.parse("2024-10-30T13:00:00Z");
+        AtomicReference<Instant> source = new AtomicReference<>(start);
+        try (CoarseClock clock = CoarseClock.of(new SettableClock(source), Duration.ofMillis(5))) {
+            assertThat(clock.instant()).isEqualTo(start);
+            assertThat(clock.granularity()).isEqualTo(Duration.ofMillis(5));
+
+            source.set(start.plusSeconds(1));
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (!clock.instant().equals(start.plusSeconds(1)) && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertThat(clock.instant()).isEqualTo(start.plusSeconds(1));
+            assertThat(clock.millis()).isEqualTo(start.plusSeconds(1).toEpochMilli());
+        }
+    }
+
+    @Test
+    public void close_WhenClosed_ThenKeepsLastInstant() throws InterruptedException {
+        Instant start = Instant.parse("2024-10-30T13:00:00Z");
+        AtomicReference<Instant> source = new AtomicReference<>(start);
+        CoarseClock clock = CoarseClock.of(new SettableClock(source), Duration.ofMillis(1));
+        clock.close();
+        Thread.sleep(20);
+        source.set(start.plusSeconds(1));
+        Thread.sleep(20);
+        assertThat(clock.instant()).isEqualTo(start);
+    }
+
+    @Test
+    public void withZone_WhenZoneDiffers_ThenSharesTicker() {
+        try (CoarseClock clock = CoarseClock.of(Clock.fixed(Instant.EPOCH, ZoneOffset.UTC), Duration.ofMillis(10))) {
+            ZoneId paris = ZoneId.of("Europe/Paris");
+            Clock zoned = clock.withZone(paris);
+            assertThat(clock.getZone()).isEqualTo(ZoneOffset.UTC);
+            assertThat(zoned.getZone()).isEqualTo(paris);
+            assertThat(zoned.instant()).isEqualTo(clock.instant());
+            assertThat(clock.withZone(ZoneOffset.UTC)).isSameAs(clock);
+        }
+    }
+
+    @Test
+    public void coarseClock_WhenUsedByCollection_ThenNowIsCoarse() {
+        Instant now = Instant.parse("2024-10-30T13:00:00Z");
+        try (CoarseClock clock = CoarseClock.of(Clock.fixed(now, ZoneOffset.UTC), Duration.ofMillis(10))) {
+            MutableTemporalCollection<Integer> collection = TemporalCollections.mutableTemporalCollection(List.of(), clock);
+            collection.effectiveAsOfNow(1);
+            assertThat(collection.clock()).isSameAs(clock);
+            assertThat(collection.getAsOf(now)).map(TemporalRecord::value).hasValue(1);
+        }
+    }
+
+    static final class SettableClock extends Clock {
+        private final AtomicReference<Instant> instant;
+
+        SettableClock(AtomicReference<Instant> instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant.get();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.rifftech.temporal.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+
+import static com.rifftech.temporal.collections.TemporalRange.FOREVER;
+import static com.rifftech.temporal.collections.TemporalRange.fromTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public class CompositeKeyBiTemporalCollectionTest {
+
+    @Test
+    public void queries_WhenModifiedRandomly_ThenMatchNestedSkipLists() {
+        ConcurrentSkipListBiTemporalCollection<Integer> expected = new ConcurrentSkipListBiTemporalCollection<>();
+        CompositeKeyBiTemporalCollection<Integer> collection = new CompositeKeyBiTemporalCollection<>();
+        Random random = new Random(23);
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < 3_000; i++) {
+            Instant businessTime = origin.plusSeconds(random.nextInt(20_000));
+            Instant systemTime = origin.plusSeconds(random.nextInt(1_000));
+            if (random.nextInt(6) == 0) {
+                assertThat(collection.expireAsOf(businessTime, systemTime)).isEqualTo(expected.expireAsOf(businessTime, systemTime));
+            } else {
+                assertThat(collection.effectiveAsOf(businessTime, systemTime, i)).isEqualTo(expected.effectiveAsOf(businessTime, systemTime, i));
+            }
+        }
+
+        assertThat(collection.size()).isEqualTo(expected.size());
+        for (int second = -100; second < 20_100; second += 1 + random.nextInt(50)) {
+            Instant validTime = origin.plusSeconds(second);
+            Instant transactionTime = origin.plusSeconds(random.nextInt(1_100) - 50);
+            assertThat(collection.getAsOf(validTime, transactionTime)).isEqualTo(expected.getAsOf(validTime, transactionTime));
+            assertThat(collection.getPriorTo(validTime, transactionTime)).isEqualTo(expected.getPriorTo(validTime, transactionTime));
+            assertThat(collection.getHistory(validTime)).containsExactlyElementsOf(expected.getHistory(validTime).toList());
+        }
+        for (int i = 0; i < 20; i++) {
+            Instant start = origin.plusSeconds(random.nextInt(20_000));
+            TemporalRange validRange = fromTo(start, start.plusSeconds(1 + random.nextInt(2_000)));
+            Instant transactionStart = origin.plusSeconds(random.nextInt(1_000));
+            TemporalRange transactionRange = fromTo(transactionStart, transactionStart.plusSeconds(1 + random.nextInt(500)));
+            assertThat(collection.getInRange(validRange)).containsExactlyElementsOf(expected.getInRange(validRange));
+            assertThat(collection.getInRange(validRange, transactionRange))
+                    .containsExactlyElementsOf(expected.getInRange(validRange, transactionRange));
+            assertThat(collection.getHistory(validRange)).containsExactlyElementsOf(expected.getHistory(validRange).toList());
+        }
+        assertThat(collection.getInRange(FOREVER, FOREVER)).containsExactlyElementsOf(expected.getInRange(FOREVER, FOREVER));
+    }
+
+    @Test
+    public void statistics_WhenMostlySingleVersions_ThenEstimateBelowNestedSkipLists() {
+        ConcurrentSkipListBiTemporalCollection<String> nested = new ConcurrentSkipListBiTemporalCollection<>();
+        CompositeKeyBiTemporalCollection<String> collection = new CompositeKeyBiTemporalCollection<>();
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < 100; i++) {
+            nested.effectiveAsOf(origin.plusSeconds(i), origin, "value");
+            collection.effectiveAsOf(origin.plusSeconds(i), origin, "value");
+        }
+        collection.effectiveAsOf(origin, origin.plusSeconds(1), "corrected");
+        collection.expireAsOf(origin.plusSeconds(100), origin);
+
+        BiTemporalCollectionStatistics statistics = collection.statistics();
+
+        assertThat(statistics.businessKeyCount()).isEqualTo(101);
+        assertThat(statistics.versionCount()).isEqualTo(101);
+        assertThat(statistics.recordCount()).isEqualTo(101);
+        assertThat(statistics.tombstoneCount()).isZero();
+        assertThat(statistics.earliestBusinessTime()).hasValue(origin);
+        assertThat(statistics.latestBusinessTime()).hasValue(origin.plusSeconds(100));
+        assertThat(statistics.latestSystemTime()).hasValue(origin.plusSeconds(1));
+        assertThat(statistics.estimatedRetainedBytes()).isLessThan(nested.statistics().estimatedRetainedBytes());
+    }
+
+    @Test
+    public void expireAsOf_WhenBusinessKeyHasNoVersion_ThenKeyEndsPriorRecordUntilEffective() {
+        CompositeKeyBiTemporalCollection<String> collection = new CompositeKeyBiTemporalCollection<>();
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        collection.effectiveAsOf(origin, origin, "first");
+        collection.expireAsOf(origin.plusSeconds(10), origin);
+
+        assertThat(collection.getAsOf(origin.plusSeconds(5), origin)).map(BiTemporalRecord::businessEffective)
+                .hasValue(fromTo(origin, origin.plusSeconds(10)));
+        assertThat(collection.getAsOf(origin.plusSeconds(15), origin)).isEmpty();
+        assertThat(collection.getInRange(FOREVER)).hasSize(1);
+
+        collection.effectiveAsOf(origin.plusSeconds(10), origin.plusSeconds(5), "second");
+
+        assertThat(collection.size()).isEqualTo(2);
+        assertThat(collection.getAsOf(origin.plusSeconds(15), origin)).isEmpty();
+        assertThat(collection.getAsOf(origin.plusSeconds(15), origin.plusSeconds(5))).map(BiTemporalRecord::value).hasValue("second");
+        assertThat(collection.getInRange(FOREVER).stream().map(BiTemporalRecord::value)).containsExactly("first", "second");
+        assertThat(collection.statistics().versionCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void effectiveAsOf_WhenInvalidArguments() {
+        CompositeKeyBiTemporalCollection<String> collection = new CompositeKeyBiTemporalCollection<>();
+        Instant now = Instant.now();
+        assertThatIllegalArgumentException().isThrownBy(() -> collection.effectiveAsOf(now, Instant.MIN, "value"));
+        assertThatIllegalArgumentException().isThrownBy(() -> collection.expireAsOf(now, Instant.MIN));
+        assertThatNullPointerException().isThrownBy(() -> collection.effectiveAsOf(null, now, "value"));
+        assertThatNullPointerException().isThrownBy(() -> collection.effectiveAsOf(now, now, null));
+        assertThat(collection.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void compositeKeyBiTemporalCollection_WhenCreatedFromRecords_ThenMatchesMutableCollection() {
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        List<BiTemporalRecord<String>> records = List.of(
+                new BiTemporalRecord<>(fromTo(origin, origin.plusSeconds(10)), fromTo(origin, origin.plusSeconds(20)), "a"),
+                new BiTemporalRecord<>(fromTo(origin.plusSeconds(10), origin.plusSeconds(30)), fromTo(origin, origin.plusSeconds(20)), "b"));
+
+        BiTemporalCollection<String> expected = BiTemporalCollections.mutableBiTemporalCollection(records);
+        CompositeKeyBiTemporalCollection<String> collection = BiTemporalCollections.compositeKeyBiTemporalCollection(records);
+
+        assertThat(collection.getInRange(FOREVER, FOREVER)).containsExactlyElementsOf(expected.getInRange(FOREVER, FOREVER));
+        assertThat(collection.getAsOf(origin.plusSeconds(15), origin.plusSeconds(5)))
+                .isEqualTo(expected.getAsOf(origin.plusSeconds(15), origin.plusSeconds(5)));
+    }
+}
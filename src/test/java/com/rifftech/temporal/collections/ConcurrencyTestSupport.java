@@ -0,0 +1,43 @@
+package com.rifftech.temporal.collections;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Waits for the states of other threads that the concurrency tests interleave writers on.
+ */
+final class ConcurrencyTestSupport {
+    private static final long TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private ConcurrencyTestSupport() {
+    }
+
+    /**
+     * Waits until the other writer completes or blocks on a lock held by the waiting writer.
+     */
+    static void awaitDoneOrBlocked(CountDownLatch done, AtomicReference<Thread> writer) {
+        awaitCondition(() -> {
+            Thread thread = writer.get();
+            return done.getCount() == 0 || thread != null && thread.getState() == Thread.State.BLOCKED;
+        });
+    }
+
+    /**
+     * Waits until the condition holds or ten seconds have passed.
+     *
+     * @return whether the condition holds
+     */
+    static boolean awaitCondition(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT_NANOS;
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        return true;
+    }
+}
@@ -2,13 +2,20 @@ package com.rifftech.temporal.collections;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
 import java.time.Instant;
+import java.util.concurrent.ForkJoinPool;
+import java.util.Random;
+import java.util.List;
+import java.util.ArrayList;
+import java.time.ZoneOffset;
 
 import static com.rifftech.temporal.collections.TemporalRange.FOREVER;
 import static com.rifftech.temporal.collections.TemporalRange.MAX;
 import static com.rifftech.temporal.collections.TemporalRange.fromTo;
 import static com.rifftech.temporal.collections.TemporalRange.fromToMax;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
 public class ConcurrentSkipListBiTemporalCollectionTest {
@@ -215,4 +222,282 @@ public class ConcurrentSkipListBiTemporalCollectionTest {
         assertThat(collection.getInRange(FOREVER)).hasSize(2);
         assertThat(collection.getInRange(FOREVER, FOREVER)).hasSize(3);
     }
+
+    @Test
+    public void getAsOfNow_WhenRepeated_ThenReturnsSameRecord() {
+        ConcurrentSkipListBiTemporalCollection<String> collection = new ConcurrentSkipListBiTemporalCollection<>();
+        Instant now = Instant.now();
+        collection.effectiveAsOf(now.minusSeconds(60), now.minusSeconds(60), "first");
+        BiTemporalRecord<String> record = collection.getAsOfNow().orElseThrow();
+        assertThat(record.businessEffective()).isEqualTo(fromToMax(now.minusSeconds(60)));
+        assertThat(collection.getAsOfNow()).hasValueSatisfying(r -> assertThat(r).isSameAs(record));
+    }
+
+    @Test
+    public void getAsOfNow_WhenModified_ThenReflectsModification() {
+        ConcurrentSkipListBiTemporalCollection<String> collection = new ConcurrentSkipListBiTemporalCollection<>();
+        Instant now = Instant.now();
+        assertThat(collection.getAsOfNow()).isEmpty();
+        collection.effectiveAsOf(now.minusSeconds(60), now.minusSeconds(60), "first");
+        assertThat(collection.getAsOfNow()).map(BiTemporalRecord::value).hasValue("first");
+        collection.effectiveAsOf(now.minusSeconds(60), now.minusSeconds(30), "correction");
+        assertThat(collection.getAsOfNow()).map(BiTemporalRecord::value).hasValue("correction");
+        collection.expireAsOf(now.minusSeconds(60), now.minusSeconds(10));
+        assertThat(collection.getAsOfNow()).isEmpty();
+    }
+
+    @Test
+    public void clock_WhenProvided_ThenNowIsReadFromClock() {
+        Instant now = Instant.parse("2024-10-30T13:00:00Z");
+        ConcurrentSkipListBiTemporalCollection<String> collection = new ConcurrentSkipListBiTemporalCollection<>(Clock.fixed(now, ZoneOffset.UTC));
+        assertThatNullPointerException().isThrownBy(() -> new ConcurrentSkipListBiTemporalCollection<String>(null));
+
+        collection.effectiveAsOfNow("current");
+        assertThat(collection.getAsOfNow()).hasValueSatisfying(record -> {
+            assertThat(record.businessEffective()).isEqualTo(fromToMax(now));
+            assertThat(record.systemEffective()).isEqualTo(fromToMax(now));
+        });
+        assertThat(collection.getAsOf(now)).map(BiTemporalRecord::value).hasValue("current");
+        assertThat(collection.getAsOf(now.minusSeconds(1))).isEmpty();
+    }
+
+    @Test
+    public void statistics_WhenModified_ThenMaintained() {
+        ConcurrentSkipListBiTemporalCollection<String> collection = new ConcurrentSkipListBiTemporalCollection<>();
+        Instant now = Instant.now();
+        collection.effectiveAsOf(now, now, "first");
+        collection.effectiveAsOf(now, now.plusSeconds(10), "correction");
+        collection.effectiveAsOf(now.plusSeconds(30), now.plusSeconds(5), "second");
+        collection.expireAsOf(now, now.plusSeconds(20));
+        collection.expireAsOf(now.plusSeconds(60), now.plusSeconds(20));
+
+        BiTemporalCollectionStatistics statistics = collection.statistics();
+        assertThat(statistics.businessKeyCount()).isEqualTo(3);
+        assertThat(statistics.versionCount()).isEqualTo(4);
+        assertThat(statistics.recordCount()).isEqualTo(3);
+        assertThat(statistics.tombstoneCount()).isEqualTo(1);
+        assertThat(statistics.versionsPerBusinessKey()).isEqualTo(4.0 / 3);
+        assertThat(statistics.earliestBusinessTime()).hasValue(now);
+        assertThat(statistics.latestBusinessTime()).hasValue(now.plusSeconds(60));
+        assertThat(statistics.earliestSystemTime()).hasValue(now);
+        assertThat(statistics.latestSystemTime()).hasValue(now.plusSeconds(20));
+        assertThat(statistics.estimatedRetainedBytes()).isPositive();
+        assertThat(collection.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void statistics_WhenEmpty() {
+        BiTemporalCollectionStatistics statistics = new ConcurrentSkipListBiTemporalCollection<String>().statistics();
+        assertThat(statistics.businessKeyCount()).isZero();
+        assertThat(statistics.versionsPerBusinessKey()).isZero();
+        assertThat(statistics.earliestSystemTime()).isEmpty();
+        assertThat(statistics.latestBusinessTime()).isEmpty();
+    }
+
+    @Test
+    public void getAllAsOf_WhenValidTimesAreSorted_ThenMatchesGetAsOf() {
+        ConcurrentSkipListBiTemporalCollection<Integer> collection = new ConcurrentSkipListBiTemporalCollection<>();
+        Random random = new Random(7);
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < 500; i++) {
+            Instant businessTime = origin.plusSeconds(random.nextInt(5_000));
+            Instant systemTime = origin.plusSeconds(random.nextInt(1_000));
+            if (random.nextInt(5) == 0) {
+                collection.expireAsOf(businessTime, systemTime);
+            } else {
+                collection.effectiveAsOf(businessTime, systemTime, i);
+            }
+        }
+        List<Instant> validTimes = new ArrayList<>();
+        for (long second = -50; second < 5_050; second += 1 + random.nextInt(random.nextBoolean() ? 3 : 300)) {
+            validTimes.add(origin.plusSeconds(second));
+        }
+
+        for (Instant transactionTime : List.of(origin.minusSeconds(1), origin.plusSeconds(500), origin.plusSeconds(2_000))) {
+            assertThat(collection.getAllAsOf(validTimes, transactionTime)).containsExactlyElementsOf(validTimes.stream()
+                    .map(validTime -> collection.getAsOf(validTime, transactionTime))
+                    .toList());
+        }
+        assertThatIllegalArgumentException().isThrownBy(() -> collection.getAllAsOf(List.of(origin, origin.minusSeconds(1)), origin));
+    }
+
+    @Test
+    public void streamInRange_WhenParallel_ThenMatchesGetInRange() {
+        ConcurrentSkipListBiTemporalCollection<Integer> collection = new ConcurrentSkipListBiTemporalCollection<>();
+        Random random = new Random(5);
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < 3_000; i++) {
+            Instant businessTime = origin.plusSeconds(random.nextInt(500_000));
+            Instant systemTime = origin.plusSeconds(random.nextInt(1_000));
+            if (random.nextInt(10) == 0) {
+                collection.expireAsOf(businessTime, systemTime);
+            } else {
+                collection.effectiveAsOf(businessTime, systemTime, i);
+            }
+        }
+        TemporalRange validRange = fromTo(origin.plusSeconds(10_000), origin.plusSeconds(400_000));
+        TemporalRange transactionRange = fromTo(origin.plusSeconds(100), origin.plusSeconds(700));
+
+        assertThat(collection.streamInRange(FOREVER).parallel().toList()).containsExactlyElementsOf(collection.getInRange(FOREVER));
+        assertThat(collection.streamInRange(validRange).parallel().toList()).containsExactlyElementsOf(collection.getInRange(validRange));
+        assertThat(collection.streamInRange(validRange, transactionRange).parallel().toList())
+                .containsExactlyElementsOf(collection.getInRange(validRange, transactionRange));
+    }
+
+    @Test
+    public void scan_WhenRunInParallel_ThenMatchesSequentialReduction() {
+        ConcurrentSkipListBiTemporalCollection<Integer> collection = new ConcurrentSkipListBiTemporalCollection<>();
+        Random random = new Random(9);
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < 5_000; i++) {
+            Instant businessTime = origin.plusSeconds(random.nextInt(200_000));
+            Instant systemTime = origin.plusSeconds(random.nextInt(5_000));
+            if (random.nextInt(10) == 0) {
+                collection.expireAsOf(businessTime, systemTime);
+            } else {
+                collection.effectiveAsOf(businessTime, systemTime, i);
+            }
+        }
+        TemporalRange validRange = fromTo(origin.plusSeconds(20_000), origin.plusSeconds(150_000));
+        TemporalRange transactionRange = fromTo(origin.plusSeconds(1_000), origin.plusSeconds(4_000));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<BiTemporalRecord<Integer>> expected = collection.getInRange(validRange, transactionRange).stream()
+                    .filter(record -> record.value() % 2 == 0)
+                    .toList();
+            List<BiTemporalRecord<Integer>> scanned = collection.scan(validRange, transactionRange,
+                    record -> record.value() % 2 == 0,
+                    List.of(),
+                    (records, record) -> {
+                        List<BiTemporalRecord<Integer>> accumulated = new ArrayList<>(records);
+                        accumulated.add(record);
+                        return accumulated;
+                    },
+                    (left, right) -> {
+                        List<BiTemporalRecord<Integer>> combined = new ArrayList<>(left);
+                        combined.addAll(right);
+                        return combined;
+                    },
+                    pool);
+            assertThat(scanned).containsExactlyElementsOf(expected);
+
+            long count = collection.scan(record -> true, 0L, (sum, record) -> sum + 1, Long::sum);
+            assertThat(count).isEqualTo(collection.getInRange(FOREVER, FOREVER).size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void scan_WhenEmpty_ThenReturnsIdentity() {
+        ConcurrentSkipListBiTemporalCollection<Integer> collection = new ConcurrentSkipListBiTemporalCollection<>();
+        assertThat(collection.scan(record -> true, 0L, (sum, record) -> sum + 1, Long::sum)).isZero();
+        assertThatNullPointerException().isThrownBy(() -> collection.scan(null, 0L, (sum, record) -> sum + 1, Long::sum));
+    }
+
+    @Test
+    public void asOfTransactionTime_WhenQueried_ThenMatchesBiTemporalLookups() {
+        ConcurrentSkipListBiTemporalCollection<Integer> collection = new ConcurrentSkipListBiTemporalCollection<>();
+        Random random = new Random(13);
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < 2_000; i++) {
+            Instant businessTime = origin.plusSeconds(random.nextInt(100_000));
+            Instant systemTime = origin.plusSeconds(random.nextInt(1_000));
+            if (random.nextInt(8) == 0) {
+                collection.expireAsOf(businessTime, systemTime);
+            } else {
+                collection.effectiveAsOf(businessTime, systemTime, i);
+            }
+        }
+
+        for (Instant transactionTime : List.of(origin.minusSeconds(1), origin.plusSeconds(250), origin.plusSeconds(999))) {
+            TemporalCollection<Integer> view = collection.asOfTransactionTime(transactionTime);
+            for (int second = -100; second < 100_100; second += 1 + random.nextInt(200)) {
+                Instant validTime = origin.plusSeconds(second);
+                assertThat(view.getAsOf(validTime)).isEqualTo(collection.getAsOf(validTime, transactionTime)
+                        .map(record -> new TemporalRecord<>(record.businessEffective(), record.value())));
+                assertThat(view.getPriorTo(validTime)).isEqualTo(collection.getPriorTo(validTime, transactionTime)
+                        .map(record -> new TemporalRecord<>(record.businessEffective(), record.value())));
+            }
+            assertThat(view).isNotInstanceOf(MutableTemporalCollection.class);
+        }
+    }
+
+    @Test
+    public void asOfTransactionTime_WhenModified_ThenViewIsRebuilt() {
+        ConcurrentSkipListBiTemporalCollection<String> collection = new ConcurrentSkipListBiTemporalCollection<>();
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        collection.effectiveAsOf(origin, origin, "first");
+        Instant transactionTime = origin.plusSeconds(60);
+
+        TemporalCollection<String> view = collection.asOfTransactionTime(transactionTime);
+        assertThat(collection.asOfTransactionTime(transactionTime)).isSameAs(view);
+        assertThat(view.getAsOf(origin.plusSeconds(30))).map(TemporalRecord::value).hasValue("first");
+
+        collection.effectiveAsOf(origin.plusSeconds(10), origin.plusSeconds(30), "second");
+        TemporalCollection<String> rebuilt = collection.asOfTransactionTime(transactionTime);
+
+        assertThat(rebuilt).isNotSameAs(view);
+        assertThat(view.getAsOf(origin.plusSeconds(30))).map(TemporalRecord::value).hasValue("first");
+        assertThat(rebuilt.getAsOf(origin.plusSeconds(30))).map(TemporalRecord::value).hasValue("second");
+        assertThat(rebuilt.getAsOf(origin.plusSeconds(5))).map(TemporalRecord::value).hasValue("first");
+        assertThatNullPointerException().isThrownBy(() -> collection.asOfTransactionTime(null));
+    }
+
+    @Test
+    public void getHistory_WhenVersionsExpired_ThenReturnsVersionsWithSystemRanges() {
+        ConcurrentSkipListBiTemporalCollection<String> collection = new ConcurrentSkipListBiTemporalCollection<>();
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        Instant next = origin.plusSeconds(3_600);
+        collection.effectiveAsOf(origin, origin, "first");
+        collection.effectiveAsOf(origin, origin.plusSeconds(10), "second");
+        collection.expireAsOf(origin, origin.plusSeconds(20));
+        collection.effectiveAsOf(origin, origin.plusSeconds(30), "third");
+        collection.effectiveAsOf(next, origin, "other");
+
+        assertThat(collection.getHistory(origin.plusSeconds(60))).containsExactly(
+                new BiTemporalRecord<>(fromTo(origin, next), fromTo(origin, origin.plusSeconds(10)), "first"),
+                new BiTemporalRecord<>(fromTo(origin, next), fromTo(origin.plusSeconds(10), origin.plusSeconds(20)), "second"),
+                new BiTemporalRecord<>(fromTo(origin, next), fromToMax(origin.plusSeconds(30)), "third"));
+        assertThat(collection.getHistory(next)).containsExactly(
+                new BiTemporalRecord<>(fromToMax(next), fromToMax(origin), "other"));
+        assertThat(collection.getHistory(origin.minusSeconds(1))).isEmpty();
+        assertThatNullPointerException().isThrownBy(() -> collection.getHistory((Instant) null));
+    }
+
+    @Test
+    public void getHistory_WhenQueriedForRange_ThenReturnsHistoryOfOverlappingBusinessKeys() {
+        ConcurrentSkipListBiTemporalCollection<Integer> collection = new ConcurrentSkipListBiTemporalCollection<>();
+        Random random = new Random(17);
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < 2_000; i++) {
+            Instant businessTime = origin.plusSeconds(random.nextInt(10_000));
+            Instant systemTime = origin.plusSeconds(random.nextInt(1_000));
+            if (random.nextInt(8) == 0) {
+                collection.expireAsOf(businessTime, systemTime);
+            } else {
+                collection.effectiveAsOf(businessTime, systemTime, i);
+            }
+        }
+
+        TemporalRange validRange = fromTo(origin.plusSeconds(2_500), origin.plusSeconds(7_500));
+        List<BiTemporalRecord<Integer>> history = collection.getHistory(validRange).toList();
+
+        List<BiTemporalRecord<Integer>> expected = new ArrayList<>();
+        collection.getHistory(validRange.start()).forEach(expected::add);
+        collection.getInRange(validRange, FOREVER).stream()
+                .map(BiTemporalRecord::businessEffective)
+                .map(TemporalRange::start)
+                .filter(start -> start.isAfter(validRange.start()) && start.isBefore(validRange.end()))
+                .distinct()
+                .sorted()
+                .flatMap(collection::getHistory)
+                .forEach(expected::add);
+        assertThat(history).isNotEmpty().containsExactlyElementsOf(expected);
+        for (BiTemporalRecord<Integer> record : history) {
+            assertThat(record.businessEffective().start()).isBefore(validRange.end());
+            assertThat(record.businessEffective().end()).isAfter(validRange.start());
+            assertThat(collection.getAsOf(record.businessEffective().start(), record.systemEffective().start())).hasValue(record);
+        }
+    }
 }
@@ -2,12 +2,25 @@ package com.rifftech.temporal.collections;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.time.Clock;
 import java.time.Instant;
+import java.util.stream.StreamSupport;
+import java.util.Spliterator;
+import java.util.Random;
+import java.util.List;
+import java.util.ArrayList;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.rifftech.temporal.collections.TemporalRange.FOREVER;
 import static com.rifftech.temporal.collections.TemporalRange.fromTo;
 import static com.rifftech.temporal.collections.TemporalRange.fromToMax;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
 
@@ -259,4 +272,189 @@ public class ConcurrentSkipListTemporalCollectionTest {
                     assertThat(record.value()).isEqualTo(5);
                 });
     }
+
+    @Test
+    public void getAsOfNow_WhenRepeated_ThenReturnsSameRecord() {
+        ConcurrentSkipListTemporalCollection<Integer> collection = new ConcurrentSkipListTemporalCollection<>();
+        Instant now = Instant.now();
+        collection.effectiveAsOf(now.minusSeconds(60), 1);
+        collection.effectiveAsOf(now.plusSeconds(60), 2);
+        Optional<TemporalRecord<Integer>> first = collection.getAsOfNow();
+        assertThat(first)
+                .hasValueSatisfying(record -> assertThat(record.validRange()).isEqualTo(fromTo(now.minusSeconds(60), now.plusSeconds(60))));
+        assertThat(collection.getAsOfNow()).isSameAs(first);
+    }
+
+    @Test
+    public void getAsOfNow_WhenModified_ThenReflectsModification() {
+        ConcurrentSkipListTemporalCollection<Integer> collection = new ConcurrentSkipListTemporalCollection<>();
+        Instant now = Instant.now();
+        assertThat(collection.getAsOfNow()).isEmpty();
+        collection.effectiveAsOf(now.minusSeconds(60), 1);
+        assertThat(collection.getAsOfNow()).map(TemporalRecord::value).hasValue(1);
+        collection.effectiveAsOf(now.minusSeconds(30), 2);
+        assertThat(collection.getAsOfNow()).map(TemporalRecord::value).hasValue(2);
+        collection.expireAsOf(now.minusSeconds(10));
+        assertThat(collection.getAsOfNow()).isEmpty();
+        collection.effectiveAsOf(now.minusSeconds(5), 3);
+        assertThat(collection.getAsOfNow()).map(TemporalRecord::value).hasValue(3);
+    }
+
+    @Test
+    public void getAsOfNow_WhenCurrentRecordEnds_ThenReturnsNextRecord() {
+        AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2024-10-30T13:00:00Z"));
+        ConcurrentSkipListTemporalCollection<Integer> collection = new ConcurrentSkipListTemporalCollection<>(new CoarseClockTest.SettableClock(now));
+        collection.effectiveAsOf(now.get().minusSeconds(60), 1);
+        collection.effectiveAsOf(now.get().plusMillis(50), 2);
+        assertThat(collection.getAsOfNow()).map(TemporalRecord::value).hasValue(1);
+        now.set(now.get().plusMillis(49));
+        assertThat(collection.getAsOfNow()).map(TemporalRecord::value).hasValue(1);
+        now.set(now.get().plusMillis(1));
+        assertThat(collection.getAsOfNow()).map(TemporalRecord::value).hasValue(2);
+    }
+
+    @Test
+    public void clock_WhenProvided_ThenNowIsReadFromClock() {
+        Instant now = Instant.parse("2024-10-30T13:00:00Z");
+        ConcurrentSkipListTemporalCollection<Integer> collection = new ConcurrentSkipListTemporalCollection<>(Clock.fixed(now, ZoneOffset.UTC));
+        assertThatNullPointerException().isThrownBy(() -> new ConcurrentSkipListTemporalCollection<Integer>(null));
+
+        collection.effectiveAsOfNow(1);
+        collection.effectiveAsOf(now.plusSeconds(60), 2);
+        assertThat(collection.getAsOfNow())
+                .hasValueSatisfying(record -> assertThat(record.validRange()).isEqualTo(fromTo(now, now.plusSeconds(60))));
+        assertThat(collection.getPriorToNow()).isEmpty();
+
+        collection.expireAsOfNow();
+        assertThat(collection.getAsOf(now)).isEmpty();
+        assertThat(collection.getAsOf(now.plusSeconds(60))).map(TemporalRecord::value).hasValue(2);
+    }
+
+    @Test
+    public void statistics_WhenEmpty() {
+        ConcurrentSkipListTemporalCollection<Integer> collection = new ConcurrentSkipListTemporalCollection<>();
+        assertThat(collection.statistics()).isEqualTo(new TemporalCollectionStatistics(0, 0, 0, Optional.empty(), Optional.empty(), 0));
+    }
+
+    @Test
+    public void statistics_WhenModified_ThenMaintained() {
+        ConcurrentSkipListTemporalCollection<Integer> collection = new ConcurrentSkipListTemporalCollection<>();
+        Instant now = Instant.now();
+        collection.effectiveAsOf(now, 1);
+        collection.effectiveAsOf(now.plusSeconds(10), 2);
+        collection.expireAsOf(now.plusSeconds(20));
+        collection.effectiveAsOf(now.plusSeconds(10), 3);
+        collection.expireAsOf(now.plusSeconds(10));
+
+        TemporalCollectionStatistics statistics = collection.statistics();
+        assertThat(statistics.keyCount()).isEqualTo(3);
+        assertThat(statistics.recordCount()).isEqualTo(1);
+        assertThat(statistics.tombstoneCount()).isEqualTo(2);
+        assertThat(statistics.earliest()).hasValue(now);
+        assertThat(statistics.latest()).hasValue(now.plusSeconds(20));
+        assertThat(statistics.estimatedRetainedBytes()).isPositive();
+        assertThat(collection.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void statistics_WhenModifiedConcurrently_ThenCountsAreExact() throws InterruptedException {
+        ConcurrentSkipListTemporalCollection<Integer> collection = new ConcurrentSkipListTemporalCollection<>();
+        Instant now = Instant.now();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    collection.effectiveAsOf(now.plusSeconds(i), i);
+                    if (i % 10 == 0) {
+                        collection.expireAsOf(now.plusSeconds(i));
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        TemporalCollectionStatistics statistics = collection.statistics();
+        long records = collection.getInRange(TemporalRange.FOREVER).size();
+        assertThat(statistics.keyCount()).isEqualTo(1000);
+        assertThat(statistics.recordCount() + statistics.tombstoneCount()).isEqualTo(1000);
+        assertThat(statistics.recordCount()).isEqualTo(records);
+    }
+
+    @Test
+    public void getAllAsOf_WhenInstantsAreSorted_ThenMatchesGetAsOf() {
+        ConcurrentSkipListTemporalCollection<Integer> collection = new ConcurrentSkipListTemporalCollection<>();
+        Random random = new Random(42);
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < 500; i++) {
+            Instant validTime = origin.plusSeconds(random.nextInt(10_000));
+            if (random.nextInt(5) == 0) {
+                collection.expireAsOf(validTime);
+            } else {
+                collection.effectiveAsOf(validTime, i);
+            }
+        }
+        List<Instant> validTimes = new ArrayList<>();
+        for (long second = -100; second < 10_100; second += 1 + random.nextInt(random.nextBoolean() ? 3 : 400)) {
+            validTimes.add(origin.plusSeconds(second));
+            if (random.nextInt(10) == 0) {
+                validTimes.add(origin.plusSeconds(second));
+            }
+        }
+
+        assertThat(collection.getAllAsOf(validTimes))
+                .containsExactlyElementsOf(validTimes.stream().map(collection::getAsOf).toList());
+    }
+
+    @Test
+    public void getAllAsOf_WhenInstantsAreNotSorted() {
+        ConcurrentSkipListTemporalCollection<Integer> collection = new ConcurrentSkipListTemporalCollection<>();
+        Instant now = Instant.now();
+        assertThat(collection.getAllAsOf(List.of())).isEmpty();
+        assertThat(collection.getAllAsOf(List.of(now))).containsExactly(Optional.empty());
+        assertThatNullPointerException().isThrownBy(() -> collection.getAllAsOf(null));
+        assertThatIllegalArgumentException().isThrownBy(() -> collection.getAllAsOf(List.of(now, now.minusSeconds(1))));
+    }
+
+    @Test
+    public void streamInRange_WhenParallel_ThenMatchesGetInRange() {
+        ConcurrentSkipListTemporalCollection<Integer> collection = new ConcurrentSkipListTemporalCollection<>();
+        Random random = new Random(3);
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < 5_000; i++) {
+            Instant validTime = origin.plusSeconds(random.nextInt(1_000_000));
+            if (random.nextInt(10) == 0) {
+                collection.expireAsOf(validTime);
+            } else {
+                collection.effectiveAsOf(validTime, i);
+            }
+        }
+
+        for (TemporalRange range : List.of(FOREVER, fromTo(origin.plusSeconds(1_000), origin.plusSeconds(600_000)), fromTo(origin, origin.plusSeconds(1)))) {
+            assertThat(collection.streamInRange(range).parallel().toList()).containsExactlyElementsOf(collection.getInRange(range));
+            assertThat(collection.streamInRange(range).toList()).containsExactlyElementsOf(collection.getInRange(range));
+        }
+    }
+
+    @Test
+    public void spliteratorInRange_WhenSplit_ThenPartsCoverTheRangeWithCorrectEnds() {
+        ConcurrentSkipListTemporalCollection<Integer> collection = new ConcurrentSkipListTemporalCollection<>();
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < 100; i++) {
+            collection.effectiveAsOf(origin.plusSeconds(i * 10L), i);
+        }
+
+        Spliterator<TemporalRecord<Integer>> suffix = collection.spliteratorInRange(FOREVER);
+        Spliterator<TemporalRecord<Integer>> prefix = suffix.trySplit();
+
+        assertThat(prefix).isNotNull();
+        List<TemporalRecord<Integer>> first = StreamSupport.stream(prefix, false).toList();
+        List<TemporalRecord<Integer>> second = StreamSupport.stream(suffix, false).toList();
+        assertThat(first).isNotEmpty();
+        assertThat(second).isNotEmpty();
+        assertThat(first.get(first.size() - 1).validRange().end()).isEqualTo(second.get(0).validRange().start());
+        assertThat(suffix.trySplit()).isNull();
+        assertThat(collection.spliteratorInRange(fromTo(origin, origin.plusSeconds(1))).trySplit()).isNull();
+        assertThatNullPointerException().isThrownBy(() -> collection.streamInRange(null));
+    }
 }
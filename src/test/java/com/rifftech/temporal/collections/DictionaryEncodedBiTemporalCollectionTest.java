@@ -0,0 +1,120 @@
+package com.rifftech.temporal.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.rifftech.temporal.collections.ConcurrencyTestSupport.awaitDoneOrBlocked;
+import static com.rifftech.temporal.collections.TemporalRange.FOREVER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DictionaryEncodedBiTemporalCollectionTest {
+    private static final List<String> STATUSES = List.of("open", "pending", "closed");
+
+    @Test
+    public void queries_WhenModifiedRandomly_ThenMatchSkipListCollection() {
+        ConcurrentSkipListBiTemporalCollection<String> expected = new ConcurrentSkipListBiTemporalCollection<>();
+        DictionaryEncodedBiTemporalCollection<String> collection = new DictionaryEncodedBiTemporalCollection<>();
+        populate(expected, collection, new Random(31));
+
+        Random random = new Random(37);
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        for (int second = -10; second < 10_010; second += 1 + random.nextInt(20)) {
+            Instant validTime = origin.plusSeconds(second);
+            Instant transactionTime = origin.plusSeconds(random.nextInt(600));
+            assertThat(collection.getAsOf(validTime, transactionTime)).isEqualTo(expected.getAsOf(validTime, transactionTime));
+            assertThat(collection.getPriorTo(validTime, transactionTime)).isEqualTo(expected.getPriorTo(validTime, transactionTime));
+            assertThat(collection.getCodeAsOf(validTime, transactionTime).isPresent())
+                    .isEqualTo(expected.getAsOf(validTime, transactionTime).isPresent());
+        }
+        assertThat(collection.getInRange(FOREVER)).containsExactlyElementsOf(expected.getInRange(FOREVER));
+        assertThat(collection.getInRange(FOREVER, FOREVER)).containsExactlyElementsOf(expected.getInRange(FOREVER, FOREVER));
+        assertThat(collection.getHistory(FOREVER)).containsExactlyElementsOf(expected.getHistory(FOREVER).toList());
+        assertThat(collection.dictionary().size()).isEqualTo(STATUSES.size());
+    }
+
+    @Test
+    public void readFrom_WhenWritten_ThenRestoresVersionsAndStatistics() throws IOException {
+        ConcurrentSkipListBiTemporalCollection<String> expected = new ConcurrentSkipListBiTemporalCollection<>();
+        DictionaryEncodedBiTemporalCollection<String> collection = new DictionaryEncodedBiTemporalCollection<>();
+        populate(expected, collection, new Random(41));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        collection.writeTo(new DataOutputStream(bytes), ValueCodec.strings());
+
+        DictionaryEncodedBiTemporalCollection<String> read = DictionaryEncodedBiTemporalCollection.readFrom(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), ValueCodec.strings());
+
+        assertThat(read.statistics()).isEqualTo(collection.statistics());
+        assertThat(read.getInRange(FOREVER, FOREVER)).containsExactlyElementsOf(collection.getInRange(FOREVER, FOREVER));
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        for (int second = 0; second < 10_000; second += 97) {
+            Instant validTime = origin.plusSeconds(second);
+            assertThat(read.getPriorTo(validTime, origin.plusSeconds(300))).isEqualTo(collection.getPriorTo(validTime, origin.plusSeconds(300)));
+        }
+    }
+
+    @Test
+    public void writeTo_WhenModifiedWhileDictionaryIsWritten_ThenSnapshotIsConsistent() throws Exception {
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        DictionaryEncodedBiTemporalCollection<String> collection = new DictionaryEncodedBiTemporalCollection<>();
+        collection.effectiveAsOf(origin, origin, "open");
+        CountDownLatch modified = new CountDownLatch(1);
+        AtomicReference<Thread> writer = new AtomicReference<>();
+        ValueCodec<String> strings = ValueCodec.strings();
+        ValueCodec<String> interleaving = new ValueCodec<>() {
+            @Override
+            public void write(DataOutput out, String value) throws IOException {
+                strings.write(out, value);
+                writer.set(new Thread(() -> {
+                    collection.effectiveAsOf(origin.plusSeconds(10), origin.plusSeconds(10), "closed");
+                    modified.countDown();
+                }));
+                writer.get().start();
+                awaitDoneOrBlocked(modified, writer);
+            }
+
+            @Override
+            public String read(DataInput in) throws IOException {
+                return strings.read(in);
+            }
+        };
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        collection.writeTo(new DataOutputStream(bytes), interleaving);
+        writer.get().join();
+        DictionaryEncodedBiTemporalCollection<String> read = DictionaryEncodedBiTemporalCollection.readFrom(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), strings);
+
+        assertThat(collection.getAsOf(origin.plusSeconds(10), origin.plusSeconds(10))).map(BiTemporalRecord::value).hasValue("closed");
+        assertThat(read.dictionary().size()).isEqualTo(1);
+        assertThat(read.getInRange(FOREVER, FOREVER)).extracting(BiTemporalRecord::value).containsExactly("open");
+    }
+
+    private static void populate(ConcurrentSkipListBiTemporalCollection<String> expected,
+                                 DictionaryEncodedBiTemporalCollection<String> collection,
+                                 Random random) {
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < 2_000; i++) {
+            Instant businessTime = origin.plusSeconds(random.nextInt(10_000));
+            Instant systemTime = origin.plusSeconds(random.nextInt(600));
+            if (random.nextInt(6) == 0) {
+                assertThat(collection.expireAsOf(businessTime, systemTime)).isEqualTo(expected.expireAsOf(businessTime, systemTime));
+            } else {
+                String status = STATUSES.get(random.nextInt(STATUSES.size()));
+                assertThat(collection.effectiveAsOf(businessTime, systemTime, status))
+                        .isEqualTo(expected.effectiveAsOf(businessTime, systemTime, status));
+            }
+        }
+    }
+}
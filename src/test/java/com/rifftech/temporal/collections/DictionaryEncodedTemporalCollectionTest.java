@@ -0,0 +1,129 @@
+package com.rifftech.temporal.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+
+import static com.rifftech.temporal.collections.TemporalRange.FOREVER;
+import static com.rifftech.temporal.collections.TemporalRange.fromTo;
+import static com.rifftech.temporal.collections.TemporalRange.fromToMax;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DictionaryEncodedTemporalCollectionTest {
+    private static final List<String> TIERS = List.of("bronze", "silver", "gold", "platinum");
+
+    @Test
+    public void queries_WhenModifiedRandomly_ThenMatchSkipListCollection() {
+        ConcurrentSkipListTemporalCollection<String> expected = new ConcurrentSkipListTemporalCollection<>();
+        DictionaryEncodedTemporalCollection<String> collection = new DictionaryEncodedTemporalCollection<>();
+        Random random = new Random(29);
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < 2_000; i++) {
+            Instant validTime = origin.plusSeconds(random.nextInt(10_000));
+            if (random.nextInt(6) == 0) {
+                assertThat(collection.expireAsOf(validTime)).isEqualTo(expected.expireAsOf(validTime));
+            } else {
+                String tier = new String(TIERS.get(random.nextInt(TIERS.size())));
+                assertThat(collection.effectiveAsOf(validTime, tier)).isEqualTo(expected.effectiveAsOf(validTime, tier));
+            }
+        }
+
+        assertThat(collection.dictionary().size()).isEqualTo(TIERS.size());
+        for (int second = -10; second < 10_010; second += 1 + random.nextInt(20)) {
+            Instant validTime = origin.plusSeconds(second);
+            assertThat(collection.getAsOf(validTime)).isEqualTo(expected.getAsOf(validTime));
+            assertThat(collection.getPriorTo(validTime)).isEqualTo(expected.getPriorTo(validTime));
+        }
+        List<Instant> validTimes = List.of(origin, origin.plusSeconds(500), origin.plusSeconds(9_000));
+        assertThat(collection.getAllAsOf(validTimes)).isEqualTo(expected.getAllAsOf(validTimes));
+        assertThat(collection.getInRange(FOREVER)).containsExactlyElementsOf(expected.getInRange(FOREVER));
+    }
+
+    @Test
+    public void getAsOf_WhenEqualValues_ThenReturnsInternedInstance() {
+        DictionaryEncodedTemporalCollection<String> collection = new DictionaryEncodedTemporalCollection<>();
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        String gold = new String("gold");
+        collection.effectiveAsOf(origin, gold);
+        collection.effectiveAsOf(origin.plusSeconds(10), new String("gold"));
+
+        assertThat(collection.getAsOf(origin.plusSeconds(20))).map(TemporalRecord::value).get().isSameAs(gold);
+        assertThat(collection.getCodeAsOf(origin.plusSeconds(20))).hasValue(0);
+        assertThat(collection.getCodeAsOf(origin.minusSeconds(1))).isEmpty();
+    }
+
+    @Test
+    public void getCoalescedInRange_WhenAdjacentRecordsEqual_ThenMergesThem() {
+        DictionaryEncodedTemporalCollection<String> collection = new DictionaryEncodedTemporalCollection<>();
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        collection.effectiveAsOf(origin, "gold");
+        collection.effectiveAsOf(origin.plusSeconds(10), "gold");
+        collection.effectiveAsOf(origin.plusSeconds(20), "silver");
+        collection.expireAsOf(origin.plusSeconds(30));
+        collection.effectiveAsOf(origin.plusSeconds(40), "silver");
+        collection.effectiveAsOf(origin.plusSeconds(50), "silver");
+
+        assertThat(collection.getCoalescedInRange(FOREVER)).containsExactly(
+                new TemporalRecord<>(fromTo(origin, origin.plusSeconds(20)), "gold"),
+                new TemporalRecord<>(fromTo(origin.plusSeconds(20), origin.plusSeconds(30)), "silver"),
+                new TemporalRecord<>(fromToMax(origin.plusSeconds(40)), "silver"));
+        assertThat(collection.getCoalescedInRange(fromTo(origin.minusSeconds(10), origin.minusSeconds(5)))).isEmpty();
+    }
+
+    @Test
+    public void readFrom_WhenWritten_ThenRestoresRecordsAndCodes() throws IOException {
+        ValueDictionary<String> dictionary = new ValueDictionary<>();
+        dictionary.encode("unused");
+        DictionaryEncodedTemporalCollection<String> collection = new DictionaryEncodedTemporalCollection<>(dictionary);
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        collection.effectiveAsOf(origin.plusSeconds(10), "gold");
+        collection.expireAsOf(origin);
+        collection.expireAsOf(origin.plusSeconds(20));
+        collection.effectiveAsOf(origin.plusSeconds(30).plusNanos(5), "silver");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        collection.writeTo(new DataOutputStream(bytes), ValueCodec.strings());
+
+        DictionaryEncodedTemporalCollection<String> read = DictionaryEncodedTemporalCollection.readFrom(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), ValueCodec.strings());
+
+        assertThat(read.size()).isEqualTo(collection.size());
+        assertThat(read.getInRange(FOREVER)).containsExactlyElementsOf(collection.getInRange(FOREVER));
+        assertThat(read.getPriorTo(origin.plusSeconds(10))).isEqualTo(collection.getPriorTo(origin.plusSeconds(10)));
+        assertThat(read.getCodeAsOf(origin.plusSeconds(40))).isEqualTo(collection.getCodeAsOf(origin.plusSeconds(40)));
+        assertThat(read.dictionary().size()).isEqualTo(3);
+    }
+
+    @Test
+    public void readFrom_WhenNotSnapshot_ThenThrows() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new DataOutputStream(bytes).writeInt(42);
+
+        assertThatThrownBy(() -> DictionaryEncodedTemporalCollection.readFrom(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), ValueCodec.strings()))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("42");
+    }
+
+    @Test
+    public void dictionaryEncodedTemporalCollection_WhenSharingDictionary_ThenCodesAreComparable() {
+        ValueDictionary<String> dictionary = new ValueDictionary<>();
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        DictionaryEncodedTemporalCollection<String> left = TemporalCollections.dictionaryEncodedTemporalCollection(
+                List.of(new TemporalRecord<>(fromToMax(origin), "gold")), dictionary);
+        DictionaryEncodedTemporalCollection<String> right = TemporalCollections.dictionaryEncodedTemporalCollection(
+                List.of(new TemporalRecord<>(fromTo(origin, origin.plusSeconds(10)), "silver"),
+                        new TemporalRecord<>(fromToMax(origin.plusSeconds(10)), "gold")), dictionary);
+
+        assertThat(left.getCodeAsOf(origin.plusSeconds(5))).isNotEqualTo(right.getCodeAsOf(origin.plusSeconds(5)));
+        assertThat(left.getCodeAsOf(origin.plusSeconds(15))).isEqualTo(right.getCodeAsOf(origin.plusSeconds(15)));
+        assertThat(dictionary.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,110 @@
+package com.rifftech.temporal.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiPredicate;
+
+import static com.rifftech.temporal.collections.TemporalRange.FOREVER;
+import static com.rifftech.temporal.collections.TemporalRange.MAX;
+import static com.rifftech.temporal.collections.TemporalRange.MIN;
+import static com.rifftech.temporal.collections.TemporalRange.fromTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EpochNanoRangeTest {
+
+    @Test
+    public void relations_WhenComparedWithTemporalRange_ThenAgree() {
+        List<Relation> relations = List.of(
+                new Relation(TemporalRange::isBefore, EpochNanoRange::isBefore),
+                new Relation(TemporalRange::isAfter, EpochNanoRange::isAfter),
+                new Relation(TemporalRange::meets, EpochNanoRange::meets),
+                new Relation(TemporalRange::isMetBy, EpochNanoRange::isMetBy),
+                new Relation(TemporalRange::overlapsBefore, EpochNanoRange::overlapsBefore),
+                new Relation(TemporalRange::overlapsAfter, EpochNanoRange::overlapsAfter),
+                new Relation(TemporalRange::finishes, EpochNanoRange::finishes),
+                new Relation(TemporalRange::isFinishedBy, EpochNanoRange::isFinishedBy),
+                new Relation(TemporalRange::includes, EpochNanoRange::includes),
+                new Relation(TemporalRange::isDuring, EpochNanoRange::isDuring),
+                new Relation(TemporalRange::starts, EpochNanoRange::starts),
+                new Relation(TemporalRange::isStartedBy, EpochNanoRange::isStartedBy),
+                new Relation(TemporalRange::isContiguousWith, EpochNanoRange::isContiguousWith),
+                new Relation(TemporalRange::overlaps, EpochNanoRange::overlaps));
+        Random random = new Random(43);
+        Instant origin = Instant.parse("1969-12-31T23:59:50Z");
+        for (int i = 0; i < 5_000; i++) {
+            TemporalRange left = randomRange(random, origin);
+            TemporalRange right = randomRange(random, origin);
+            EpochNanoRange leftNanos = left.toEpochNanoRange();
+            EpochNanoRange rightNanos = EpochNanoRange.of(right);
+            for (Relation relation : relations) {
+                assertThat(relation.nanos().test(leftNanos, rightNanos)).isEqualTo(relation.instants().test(left, right));
+            }
+            assertThat(Integer.signum(leftNanos.compareTo(rightNanos))).isEqualTo(Integer.signum(left.compareTo(right)));
+            assertThat(leftNanos.contains(EpochNanoRange.toEpochNanos(right.start()))).isEqualTo(left.contains(right.start()));
+        }
+    }
+
+    @Test
+    public void toTemporalRange_WhenConverted_ThenRoundTrips() {
+        TemporalRange range = fromTo(Instant.parse("1969-12-31T23:59:59.999999999Z"), Instant.parse("2262-04-11T23:47:16.854775806Z"));
+
+        assertThat(range.toEpochNanoRange()).isEqualTo(new EpochNanoRange(-1, Long.MAX_VALUE - 1));
+        assertThat(range.toEpochNanoRange().toTemporalRange()).isEqualTo(range);
+        assertThat(EpochNanoRange.of(FOREVER)).isEqualTo(EpochNanoRange.FOREVER);
+        assertThat(EpochNanoRange.FOREVER.toTemporalRange()).isEqualTo(FOREVER);
+        assertThat(EpochNanoRange.toInstant(EpochNanoRange.MIN)).isEqualTo(MIN);
+        assertThat(EpochNanoRange.toEpochNanos(MAX)).isEqualTo(EpochNanoRange.MAX);
+        assertThat(EpochNanoRange.toInstant(-1_500_000_000L)).isEqualTo(Instant.parse("1969-12-31T23:59:58.500Z"));
+    }
+
+    @Test
+    public void of_WhenNotRepresentable_ThenThrows() {
+        assertThatIllegalArgumentException().isThrownBy(() -> EpochNanoRange.toEpochNanos(Instant.parse("1500-01-01T00:00:00Z")));
+        assertThatIllegalArgumentException().isThrownBy(() -> EpochNanoRange.of(fromTo(Instant.EPOCH, Instant.parse("3000-01-01T00:00:00Z"))));
+        assertThatIllegalArgumentException().isThrownBy(() -> EpochNanoRange.toEpochNanos(EpochNanoRange.toInstant(Long.MAX_VALUE - 1).plusNanos(1)));
+        assertThatIllegalArgumentException().isThrownBy(() -> EpochNanoRange.of(null));
+        assertThatIllegalArgumentException().isThrownBy(() -> new EpochNanoRange(5, 5));
+    }
+
+    @Test
+    public void plusNanos_WhenShifted_ThenMovesBothBounds() {
+        EpochNanoRange range = new EpochNanoRange(10, 20);
+
+        assertThat(range.plusNanos(5)).isEqualTo(new EpochNanoRange(15, 25));
+        assertThat(range.minusNanos(15)).isEqualTo(new EpochNanoRange(-5, 5));
+        assertThat(range.durationInNanos()).isEqualTo(10);
+        assertThat(EpochNanoRange.FOREVER.durationInNanos()).isEqualTo(Long.MAX_VALUE);
+        assertThatIllegalArgumentException().isThrownBy(() -> range.plusNanos(-1));
+        assertThatThrownBy(() -> new EpochNanoRange(0, EpochNanoRange.MAX - 1).plusNanos(1)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> new EpochNanoRange(EpochNanoRange.MIN + 1, 0).minusNanos(1)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    public void plusNanos_WhenRangeIsOpen_ThenSentinelsStayInPlace() {
+        EpochNanoRange fromMin = new EpochNanoRange(EpochNanoRange.MIN, -5);
+        EpochNanoRange untilMax = new EpochNanoRange(5, EpochNanoRange.MAX);
+
+        assertThat(fromMin.plusNanos(10)).isEqualTo(new EpochNanoRange(EpochNanoRange.MIN, 5));
+        assertThat(fromMin.minusNanos(10)).isEqualTo(new EpochNanoRange(EpochNanoRange.MIN, -15));
+        assertThat(untilMax.plusNanos(10)).isEqualTo(new EpochNanoRange(15, EpochNanoRange.MAX));
+        assertThat(untilMax.minusNanos(10)).isEqualTo(new EpochNanoRange(-5, EpochNanoRange.MAX));
+        assertThat(EpochNanoRange.FOREVER.plusNanos(1)).isEqualTo(EpochNanoRange.FOREVER);
+        assertThat(untilMax.minusNanos(10).toTemporalRange().end()).isEqualTo(TemporalRange.MAX);
+        assertThat(fromMin.durationInNanos()).isEqualTo(Long.MAX_VALUE);
+        assertThat(untilMax.durationInNanos()).isEqualTo(Long.MAX_VALUE);
+        assertThat(new EpochNanoRange(EpochNanoRange.MIN, Long.MIN_VALUE + 10).durationInNanos()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    private static TemporalRange randomRange(Random random, Instant origin) {
+        Instant start = origin.plusNanos(random.nextInt(20) * 1_000_000_000L + random.nextInt(3));
+        return fromTo(start, start.plusNanos(1 + random.nextInt(10) * 1_000_000_000L));
+    }
+
+    private record Relation(BiPredicate<TemporalRange, TemporalRange> instants, BiPredicate<EpochNanoRange, EpochNanoRange> nanos) {
+    }
+}
@@ -1,13 +1,25 @@
 package com.rifftech.temporal.collections;
 
+import com.rifftech.temporal.events.BiTemporalEvent;
 import com.rifftech.temporal.events.BiTemporalEventProducer;
+import lombok.NonNull;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.time.Instant;
-
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.rifftech.temporal.collections.ConcurrencyTestSupport.awaitDoneOrBlocked;
 import static com.rifftech.temporal.collections.TemporalRange.FOREVER;
+import static com.rifftech.temporal.events.BiTemporalEventType.BI_TEMPORAL_RECORD_DELETED;
+import static com.rifftech.temporal.events.BiTemporalEventType.BI_TEMPORAL_RECORD_INSERTED;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.mockito.Mockito.when;
 
@@ -115,4 +127,65 @@ public class EventPublishingBiTemporalCollectionTest {
 
         assertThat(collection.isEmpty()).isFalse();
     }
+
+    @Test
+    public void subscribeFrom_WhenConsumerRestarts_ThenResumesAfterLastProcessedSequence() {
+        List<BiTemporalEvent<String>> published = new ArrayList<>();
+        EventPublishingBiTemporalCollection<String> collection = new EventPublishingBiTemporalCollection<>(
+                new ConcurrentSkipListBiTemporalCollection<>(), published::add, 8);
+        Instant now = Instant.now();
+        collection.effectiveAsOf(now.minusSeconds(20), now.minusSeconds(20), "first");
+        collection.effectiveAsOf(now.minusSeconds(10), now.minusSeconds(10), "second");
+        long lastProcessed = collection.lastSequence();
+        collection.effectiveAsOf(now, now, "third");
+
+        List<BiTemporalEvent<String>> received = new ArrayList<>();
+        collection.subscribeFrom(lastProcessed + 1, received::add);
+
+        assertThat(received).containsExactlyElementsOf(published.subList((int) lastProcessed, published.size()));
+        assertThat(received).extracting(BiTemporalEvent::sequence).first().isEqualTo(lastProcessed + 1);
+        assertThat(published).extracting(BiTemporalEvent::sequence).isSorted().doesNotHaveDuplicates();
+
+        for (int i = 0; i < 8; i++) {
+            collection.effectiveAsOf(now.plusSeconds(i + 1), now.plusSeconds(i + 1), "later");
+        }
+        assertThat(received).hasSize(published.size() - (int) lastProcessed);
+        assertThatIllegalStateException().isThrownBy(() -> collection.subscribeFrom(lastProcessed + 1, event -> {}));
+    }
+
+    @Test
+    public void expireAsOf_WhenWriterInterleaves_ThenSequenceOrderIsModificationOrder() throws InterruptedException {
+        Instant time = Instant.parse("2024-10-30T13:00:00Z");
+        CountDownLatch expired = new CountDownLatch(1);
+        CountDownLatch reinserted = new CountDownLatch(1);
+        AtomicReference<Thread> reinserting = new AtomicReference<>();
+        ConcurrentSkipListBiTemporalCollection<Integer> delegate = new ConcurrentSkipListBiTemporalCollection<>() {
+            @Override
+            public Optional<BiTemporalRecord<Integer>> expireAsOf(@NonNull Instant businessTime, @NonNull Instant systemTime) {
+                Optional<BiTemporalRecord<Integer>> priorValue = super.expireAsOf(businessTime, systemTime);
+                expired.countDown();
+                awaitDoneOrBlocked(reinserted, reinserting);
+                return priorValue;
+            }
+        };
+        EventPublishingBiTemporalCollection<Integer> collection = new EventPublishingBiTemporalCollection<>(delegate, event -> {});
+        List<BiTemporalEvent<Integer>> received = new ArrayList<>();
+        collection.subscribeFrom(1, received::add);
+        collection.effectiveAsOf(time, time, 1);
+
+        Thread expiring = new Thread(() -> collection.expireAsOf(time, time));
+        expiring.start();
+        assertThat(expired.await(10, TimeUnit.SECONDS)).isTrue();
+        reinserting.set(new Thread(() -> {
+            collection.effectiveAsOf(time, time, 2);
+            reinserted.countDown();
+        }));
+        reinserting.get().start();
+        expiring.join();
+        reinserting.get().join();
+
+        assertThat(received).extracting(BiTemporalEvent::eventType)
+                .containsExactly(BI_TEMPORAL_RECORD_INSERTED, BI_TEMPORAL_RECORD_DELETED, BI_TEMPORAL_RECORD_INSERTED);
+        assertThat(received.get(2).record()).isEqualTo(collection.getAsOf(time, time).orElseThrow());
+    }
 }
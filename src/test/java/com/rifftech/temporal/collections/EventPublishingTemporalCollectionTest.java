@@ -1,17 +1,30 @@
 package com.rifftech.temporal.collections;
 
+import com.rifftech.temporal.events.ChangeSubscription;
+import com.rifftech.temporal.events.TemporalEvent;
 import com.rifftech.temporal.events.TemporalEventProducer;
+import com.rifftech.temporal.events.TemporalRecordInserted;
 import lombok.NonNull;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static com.rifftech.temporal.collections.ConcurrencyTestSupport.awaitCondition;
+import static com.rifftech.temporal.collections.ConcurrencyTestSupport.awaitDoneOrBlocked;
 import static com.rifftech.temporal.collections.TemporalRange.fromToMax;
+import static com.rifftech.temporal.events.TemporalEventType.TEMPORAL_RECORD_DELETED;
+import static com.rifftech.temporal.events.TemporalEventType.TEMPORAL_RECORD_INSERTED;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.mockito.Mockito.when;
 
@@ -224,4 +237,161 @@ public class EventPublishingTemporalCollectionTest {
 
         assertThat(collection.isEmpty()).isFalse();
     }
+
+    @Test
+    public void publish_WhenModified_ThenEventsCarryConsecutiveSequences() {
+        List<TemporalEvent<Integer>> published = new ArrayList<>();
+        EventPublishingTemporalCollection<Integer> collection =
+                new EventPublishingTemporalCollection<>(new ConcurrentSkipListTemporalCollection<>(), published::add);
+        Instant now = Instant.now();
+
+        assertThat(collection.lastSequence()).isZero();
+        collection.effectiveAsOf(now.minusSeconds(10), 1);
+        collection.effectiveAsOf(now, 2);
+        collection.expireAsOf(now);
+
+        assertThat(published).extracting(TemporalEvent::sequence).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(collection.lastSequence()).isEqualTo(4);
+        assertThat(collection.firstSequence()).isEqualTo(1);
+        assertThat(published.get(0)).isEqualTo(new TemporalRecordInserted<>(published.get(0).record()));
+    }
+
+    @Test
+    public void subscribeFrom_WhenEventsAreRetained_ThenReplaysAndTails() {
+        List<TemporalEvent<Integer>> published = new ArrayList<>();
+        EventPublishingTemporalCollection<Integer> collection =
+                new EventPublishingTemporalCollection<>(new ConcurrentSkipListTemporalCollection<>(), published::add);
+        Instant now = Instant.now();
+        collection.effectiveAsOf(now.minusSeconds(30), 1);
+        collection.effectiveAsOf(now.minusSeconds(20), 2);
+
+        List<TemporalEvent<Integer>> received = new ArrayList<>();
+        ChangeSubscription subscription = collection.subscribeFrom(2, received::add);
+        collection.effectiveAsOf(now.minusSeconds(10), 3);
+        subscription.close();
+        collection.effectiveAsOf(now, 4);
+
+        assertThat(subscription.isActive()).isFalse();
+        assertThat(received).extracting(TemporalEvent::sequence).containsExactly(2L, 3L, 4L, 5L);
+        assertThat(received).containsExactlyElementsOf(published.subList(1, 5));
+    }
+
+    @Test
+    public void subscribeFrom_WhenEventsAreTruncated_ThenThrowsIllegalStateException() {
+        EventPublishingTemporalCollection<Integer> collection =
+                new EventPublishingTemporalCollection<>(new ConcurrentSkipListTemporalCollection<>(), event -> {}, 2);
+        Instant now = Instant.now();
+        for (int i = 0; i < 5; i++) {
+            collection.effectiveAsOf(now.plusSeconds(i), i);
+        }
+
+        assertThat(collection.lastSequence()).isEqualTo(9);
+        assertThat(collection.firstSequence()).isEqualTo(8);
+        assertThatIllegalStateException().isThrownBy(() -> collection.subscribeFrom(7, event -> {}));
+        assertThatIllegalArgumentException().isThrownBy(() -> collection.subscribeFrom(11, event -> {}));
+        assertThatIllegalArgumentException().isThrownBy(() -> collection.subscribeFrom(0, event -> {}));
+        assertThatNullPointerException().isThrownBy(() -> collection.subscribeFrom(8, null));
+
+        List<TemporalEvent<Integer>> received = new ArrayList<>();
+        collection.subscribeFrom(8, received::add);
+        collection.subscribeFrom(10, event -> {});
+        assertThat(received).extracting(TemporalEvent::sequence).containsExactly(8L, 9L);
+    }
+
+    @Test
+    public void eventPublishingTemporalCollection_WithNegativeChangeLogCapacity() {
+        assertThatIllegalArgumentException().isThrownBy(() ->
+                new EventPublishingTemporalCollection<>(new ConcurrentSkipListTemporalCollection<Integer>(), event -> {}, -1));
+    }
+
+    @Test
+    public void subscribeFrom_WhenConsumerThrows_ThenOnlyItsSubscriptionIsClosed() {
+        EventPublishingTemporalCollection<Integer> collection =
+                new EventPublishingTemporalCollection<>(new ConcurrentSkipListTemporalCollection<>(), event -> {});
+        ChangeSubscription failing = collection.subscribeFrom(1, event -> {
+            throw new IllegalStateException("consumer failure");
+        });
+        List<TemporalEvent<Integer>> received = new ArrayList<>();
+        ChangeSubscription recording = collection.subscribeFrom(1, received::add);
+        Instant now = Instant.parse("2024-10-30T13:00:00Z");
+
+        collection.effectiveAsOf(now, 1);
+        collection.effectiveAsOf(now.plusSeconds(10), 2);
+
+        assertThat(collection.getAsOf(now.plusSeconds(10))).map(TemporalRecord::value).hasValue(2);
+        assertThat(failing.isActive()).isFalse();
+        assertThat(recording.isActive()).isTrue();
+        assertThat(received).extracting(TemporalEvent::sequence).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    public void expireAsOf_WhenWriterInterleaves_ThenSequenceOrderIsModificationOrder() throws InterruptedException {
+        Instant validTime = Instant.parse("2024-10-30T13:00:00Z");
+        CountDownLatch expired = new CountDownLatch(1);
+        CountDownLatch reinserted = new CountDownLatch(1);
+        AtomicReference<Thread> reinserting = new AtomicReference<>();
+        ConcurrentSkipListTemporalCollection<Integer> delegate = new ConcurrentSkipListTemporalCollection<>() {
+            @Override
+            public Optional<TemporalRecord<Integer>> expireAsOf(@NonNull Instant expireAt) {
+                Optional<TemporalRecord<Integer>> priorValue = super.expireAsOf(expireAt);
+                expired.countDown();
+                awaitDoneOrBlocked(reinserted, reinserting);
+                return priorValue;
+            }
+        };
+        EventPublishingTemporalCollection<Integer> collection = new EventPublishingTemporalCollection<>(delegate, event -> {});
+        List<TemporalEvent<Integer>> received = new ArrayList<>();
+        collection.subscribeFrom(1, received::add);
+        collection.effectiveAsOf(validTime, 1);
+
+        Thread expiring = new Thread(() -> collection.expireAsOf(validTime));
+        expiring.start();
+        assertThat(expired.await(10, TimeUnit.SECONDS)).isTrue();
+        reinserting.set(new Thread(() -> {
+            collection.effectiveAsOf(validTime, 2);
+            reinserted.countDown();
+        }));
+        reinserting.get().start();
+        expiring.join();
+        reinserting.get().join();
+
+        assertThat(received).extracting(TemporalEvent::eventType)
+                .containsExactly(TEMPORAL_RECORD_INSERTED, TEMPORAL_RECORD_DELETED, TEMPORAL_RECORD_INSERTED);
+        assertThat(received.get(2).record()).isEqualTo(collection.getAsOf(validTime).orElseThrow());
+    }
+
+    @Test
+    public void effectiveAsOf_WhenProducerBlocks_ThenOtherWritersStillModify() throws InterruptedException {
+        Instant validTime = Instant.parse("2024-10-30T13:00:00Z");
+        CountDownLatch publishing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<TemporalEvent<Integer>> published = new ArrayList<>();
+        EventPublishingTemporalCollection<Integer> collection = new EventPublishingTemporalCollection<>(new ConcurrentSkipListTemporalCollection<>(), event -> {
+            if (event.sequence() == 1) {
+                publishing.countDown();
+                try {
+                    release.await(1, TimeUnit.MINUTES);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            published.add(event);
+        });
+        List<TemporalEvent<Integer>> received = new ArrayList<>();
+        collection.subscribeFrom(1, received::add);
+
+        Thread blocked = new Thread(() -> collection.effectiveAsOf(validTime, 1));
+        blocked.start();
+        assertThat(publishing.await(10, TimeUnit.SECONDS)).isTrue();
+        Thread other = new Thread(() -> collection.effectiveAsOf(validTime.plusSeconds(10), 2));
+        other.start();
+        boolean modifiedWhileBlocked = awaitCondition(() -> collection.size() == 2);
+        release.countDown();
+        blocked.join();
+        other.join();
+
+        assertThat(modifiedWhileBlocked).isTrue();
+        assertThat(published).extracting(TemporalEvent::sequence).containsExactly(1L, 2L, 3L);
+        assertThat(received).containsExactlyElementsOf(published);
+    }
 }
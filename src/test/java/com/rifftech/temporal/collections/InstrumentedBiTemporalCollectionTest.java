@@ -0,0 +1,62 @@
+package com.rifftech.temporal.collections;
+
+import com.rifftech.temporal.metrics.InMemoryTemporalMetrics;
+import com.rifftech.temporal.metrics.TemporalMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static com.rifftech.temporal.collections.TemporalRange.FOREVER;
+import static com.rifftech.temporal.metrics.TemporalOperation.EFFECTIVE_AS_OF;
+import static com.rifftech.temporal.metrics.TemporalOperation.EXPIRE_AS_OF;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_AS_OF;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_AS_OF_NOW;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_IN_RANGE;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_PRIOR_TO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public class InstrumentedBiTemporalCollectionTest {
+
+    @Test
+    public void instrumentedBiTemporalCollection_WithNull() {
+        MutableBiTemporalCollection<String> collection = new ConcurrentSkipListBiTemporalCollection<>();
+        assertThatNullPointerException().isThrownBy(() -> new InstrumentedBiTemporalCollection<>(null, TemporalMetrics.disabled()));
+        assertThatNullPointerException().isThrownBy(() -> new InstrumentedMutableBiTemporalCollection<>(collection, null));
+    }
+
+    @Test
+    public void operations_WhenEnabled_ThenRecorded() {
+        InMemoryTemporalMetrics metrics = new InMemoryTemporalMetrics(Duration.ZERO, 1);
+        MutableBiTemporalCollection<String> collection = BiTemporalCollections.instrumentedMutableBiTemporalCollection(
+                new ConcurrentSkipListBiTemporalCollection<>(), metrics);
+        Instant now = Instant.now();
+        collection.effectiveAsOf(now.minusSeconds(60), now.minusSeconds(60), "first");
+        collection.effectiveAsOf(now.minusSeconds(30), now.minusSeconds(30), "second");
+        collection.expireAsOf(now.minusSeconds(60), now.minusSeconds(10));
+
+        assertThat(collection.getAsOfNow()).map(BiTemporalRecord::value).hasValue("second");
+        assertThat(collection.getAsOf(now.minusSeconds(45), now.minusSeconds(20))).map(BiTemporalRecord::value).hasValue("first");
+        collection.getPriorTo(now);
+        assertThat(collection.getInRange(FOREVER)).isNotEmpty();
+        assertThat(collection.getInRange(FOREVER, FOREVER)).isNotEmpty();
+
+        assertThat(metrics.count(EFFECTIVE_AS_OF)).isEqualTo(2);
+        assertThat(metrics.count(EXPIRE_AS_OF)).isEqualTo(1);
+        assertThat(metrics.count(GET_AS_OF_NOW)).isEqualTo(1);
+        assertThat(metrics.count(GET_AS_OF)).isEqualTo(1);
+        assertThat(metrics.count(GET_PRIOR_TO)).isEqualTo(1);
+        assertThat(metrics.count(GET_IN_RANGE)).isEqualTo(2);
+        assertThat(metrics.resultSize(GET_IN_RANGE).count()).isEqualTo(2);
+        assertThat(metrics.slowQueries()).hasSize(1);
+        assertThat(metrics.slowQueries().get(0).arguments()).isEqualTo(FOREVER + ", " + FOREVER);
+    }
+
+    @Test
+    public void instrumentedBiTemporalCollection_WhenDisabled_ThenNotDecorated() {
+        MutableBiTemporalCollection<String> delegate = new ConcurrentSkipListBiTemporalCollection<>();
+        assertThat(BiTemporalCollections.instrumentedMutableBiTemporalCollection(delegate, TemporalMetrics.disabled())).isSameAs(delegate);
+        assertThat(BiTemporalCollections.instrumentedBiTemporalCollection(delegate, TemporalMetrics.disabled())).isSameAs(delegate);
+    }
+}
@@ -0,0 +1,88 @@
+package com.rifftech.temporal.collections;
+
+import com.rifftech.temporal.metrics.InMemoryTemporalMetrics;
+import com.rifftech.temporal.metrics.TemporalMetrics;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static com.rifftech.temporal.collections.TemporalRange.FOREVER;
+import static com.rifftech.temporal.collections.TemporalRange.fromTo;
+import static com.rifftech.temporal.metrics.TemporalOperation.EFFECTIVE_AS_OF;
+import static com.rifftech.temporal.metrics.TemporalOperation.EXPIRE_AS_OF;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_AS_OF;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_AS_OF_NOW;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_IN_RANGE;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_PRIOR_TO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class InstrumentedTemporalCollectionTest {
+
+    @Test
+    public void instrumentedTemporalCollection_WithNull() {
+        MutableTemporalCollection<Integer> collection = new ConcurrentSkipListTemporalCollection<>();
+        assertThatNullPointerException().isThrownBy(() -> new InstrumentedTemporalCollection<>(null, TemporalMetrics.disabled()));
+        assertThatNullPointerException().isThrownBy(() -> new InstrumentedMutableTemporalCollection<>(collection, null));
+    }
+
+    @Test
+    public void operations_WhenEnabled_ThenRecorded() {
+        InMemoryTemporalMetrics metrics = new InMemoryTemporalMetrics();
+        MutableTemporalCollection<Integer> collection = TemporalCollections.instrumentedMutableTemporalCollection(
+                new ConcurrentSkipListTemporalCollection<>(), metrics);
+        Instant now = Instant.now();
+        collection.effectiveAsOf(now.minusSeconds(10), 1);
+        collection.effectiveAsOf(now.minusSeconds(5), 2);
+        collection.expireAsOf(now.plusSeconds(5));
+
+        assertThat(collection.getAsOfNow()).map(TemporalRecord::value).hasValue(2);
+        assertThat(collection.getAsOf(now.minusSeconds(7))).map(TemporalRecord::value).hasValue(1);
+        assertThat(collection.getPriorToNow()).map(TemporalRecord::value).hasValue(1);
+        assertThat(collection.getInRange(FOREVER)).hasSize(2);
+        assertThat(collection.getInRange(fromTo(now.minusSeconds(6), now.minusSeconds(4)))).hasSize(1);
+
+        assertThat(metrics.count(EFFECTIVE_AS_OF)).isEqualTo(2);
+        assertThat(metrics.count(EXPIRE_AS_OF)).isEqualTo(1);
+        assertThat(metrics.count(GET_AS_OF_NOW)).isEqualTo(1);
+        assertThat(metrics.count(GET_AS_OF)).isEqualTo(1);
+        assertThat(metrics.count(GET_PRIOR_TO)).isEqualTo(1);
+        assertThat(metrics.count(GET_IN_RANGE)).isEqualTo(2);
+        assertThat(metrics.resultSize(GET_IN_RANGE).max()).isEqualTo(2);
+        assertThat(metrics.resultSize(GET_IN_RANGE).min()).isEqualTo(1);
+    }
+
+    @Test
+    public void getInRange_WhenSlow_ThenLogged() {
+        InMemoryTemporalMetrics metrics = new InMemoryTemporalMetrics(Duration.ZERO, 10);
+        TemporalCollection<Integer> collection = TemporalCollections.instrumentedTemporalCollection(
+                TemporalCollections.immutableTemporalCollection(List.of(new TemporalRecord<>(FOREVER, 1))), metrics);
+        collection.getInRange(FOREVER);
+
+        assertThat(metrics.slowQueries()).hasSize(1);
+        assertThat(metrics.slowQueries().get(0).operation()).isEqualTo(GET_IN_RANGE);
+        assertThat(metrics.slowQueries().get(0).arguments()).isEqualTo(FOREVER.toString());
+    }
+
+    @Test
+    public void operations_WhenDisabled_ThenNotDecoratedAndNotRecorded() {
+        MutableTemporalCollection<Integer> delegate = new ConcurrentSkipListTemporalCollection<>();
+        assertThat(TemporalCollections.instrumentedMutableTemporalCollection(delegate, TemporalMetrics.disabled())).isSameAs(delegate);
+        assertThat(TemporalCollections.instrumentedTemporalCollection(delegate, TemporalMetrics.disabled())).isSameAs(delegate);
+
+        TemporalMetrics metrics = Mockito.mock(TemporalMetrics.class);
+        MutableTemporalCollection<Integer> collection = new InstrumentedMutableTemporalCollection<>(delegate, metrics);
+        collection.effectiveAsOfNow(1);
+        collection.getInRange(FOREVER);
+        verify(metrics, never()).recordLatency(any(), anyLong(), any(), any());
+        verify(metrics, never()).recordResultSize(any(), anyInt());
+    }
+}
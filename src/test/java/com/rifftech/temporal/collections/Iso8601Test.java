@@ -0,0 +1,42 @@
+package com.rifftech.temporal.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class Iso8601Test {
+
+    @Test
+    public void parseInstant_WhenRandomInstants_ThenMatchesInstantParse() {
+        Random random = new Random(47);
+        for (int i = 0; i < 20_000; i++) {
+            Instant instant = Instant.ofEpochSecond(random.nextLong(TemporalRange.MIN.getEpochSecond(), TemporalRange.MAX.getEpochSecond()),
+                    random.nextBoolean() ? 0 : random.nextInt(1_000_000_000));
+            String text = instant.toString();
+            assertThat(Iso8601.parseInstant(text)).as(text).isEqualTo(instant);
+        }
+    }
+
+    @Test
+    public void parseInstant_WhenEdgeCases_ThenMatchesInstantParse() {
+        for (String text : new String[]{"1970-01-01T00:00:00Z", "1969-12-31T23:59:59.999999999Z", "2024-02-29T12:30:45.5Z",
+                "2000-02-29T00:00:00.120Z", "-0001-12-31T23:59:59Z", "+10000-01-01T00:00:00Z", "-9999-01-01T00:00:00Z",
+                "9999-12-31T23:59:59Z"}) {
+            assertThat(Iso8601.parseInstant(text)).as(text).isEqualTo(Instant.parse(text));
+        }
+    }
+
+    @Test
+    public void parseInstant_WhenMalformed_ThenThrows() {
+        for (String text : new String[]{"", "2024-10-30", "2024-10-30T13:00:00", "2024-10-30T13:00:00z", "2024-13-01T00:00:00Z",
+                "2023-02-29T00:00:00Z", "2024-04-31T00:00:00Z", "2024-10-30T24:00:00Z", "2024-10-30T13:60:00Z",
+                "2024-10-30T13:00:60Z", "2024-10-30T13:00:00.Z", "2024-10-30T13:00:00.1234567890Z", "024-10-30T13:00:00Z",
+                "2024-1-30T13:00:00Z", "2024-10-30T13:00:00ZZ", "2024-10-30 13:00:00Z"}) {
+            assertThatIllegalArgumentException().as(text).isThrownBy(() -> Iso8601.parseInstant(text));
+        }
+    }
+}
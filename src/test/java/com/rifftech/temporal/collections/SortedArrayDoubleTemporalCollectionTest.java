@@ -0,0 +1,46 @@
+package com.rifftech.temporal.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static com.rifftech.temporal.collections.TemporalRange.FOREVER;
+import static com.rifftech.temporal.collections.TemporalRange.fromTo;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SortedArrayDoubleTemporalCollectionTest {
+
+    @Test
+    public void effectiveDoubleAsOf_WhenNewerInstantExpiresExistingEffectiveInstant() {
+        SortedArrayDoubleTemporalCollection collection = new SortedArrayDoubleTemporalCollection();
+        Instant instant = Instant.now();
+        assertThat(collection.effectiveDoubleAsOf(instant, 1.5)).isEmpty();
+        assertThat(collection.effectiveDoubleAsOf(instant.plusSeconds(5), 2.5)).hasValue(1.5);
+        assertThat(collection.getAsOf(instant))
+                .hasValueSatisfying(record -> assertThat(record.validRange()).isEqualTo(fromTo(instant, instant.plusSeconds(5))));
+        assertThat(collection.getDoublePriorTo(instant.plusSeconds(5))).hasValue(1.5);
+    }
+
+    @Test
+    public void rangeReductions_WhenTemporalRecordsHaveExpiredEntry() {
+        SortedArrayDoubleTemporalCollection collection = new SortedArrayDoubleTemporalCollection();
+        Instant now = Instant.now();
+        collection.effectiveDoubleAsOf(now, 0.25);
+        collection.expireAsOf(now.plusSeconds(1));
+        collection.effectiveDoubleAsOf(now.plusSeconds(2), 0.5);
+        assertThat(collection.sumInRange(FOREVER)).isEqualTo(0.75);
+        assertThat(collection.minInRange(FOREVER)).hasValue(0.25);
+        assertThat(collection.reduceInRange(FOREVER, 1, (a, b) -> a * b)).isEqualTo(0.125);
+    }
+
+    @Test
+    public void immutableDoubleTemporalCollection_WhenRecordsAreProvided() {
+        Instant now = Instant.now();
+        DoubleTemporalCollection collection = TemporalCollections.immutableDoubleTemporalCollection(List.of(
+                new TemporalRecord<>(fromTo(now, now.plusSeconds(5)), 3.0)
+        ));
+        assertThat(collection.getDoubleAsOf(now.plusSeconds(4))).hasValue(3.0);
+        assertThat(collection.getDoubleAsOf(now.plusSeconds(5))).isEmpty();
+    }
+}
@@ -0,0 +1,118 @@
+package com.rifftech.temporal.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+
+import static com.rifftech.temporal.collections.TemporalRange.FOREVER;
+import static com.rifftech.temporal.collections.TemporalRange.fromTo;
+import static com.rifftech.temporal.collections.TemporalRange.fromToMax;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public class SortedArrayIntTemporalCollectionTest {
+
+    @Test
+    public void effectiveIntAsOf_WhenEmpty() {
+        SortedArrayIntTemporalCollection collection = new SortedArrayIntTemporalCollection();
+        assertThat(collection.effectiveIntAsOfNow(1)).isEmpty();
+        assertThat(collection.getIntAsOfNow()).hasValue(1);
+        assertThat(collection.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void effectiveIntAsOf_WhenInstantSplitsExpiredAndEffectiveInstant() {
+        SortedArrayIntTemporalCollection collection = new SortedArrayIntTemporalCollection();
+        Instant instant = Instant.now();
+        assertThat(collection.effectiveIntAsOf(instant.plusSeconds(5), 1)).isEmpty();
+        assertThat(collection.effectiveIntAsOf(instant.minusSeconds(5), 2)).isEmpty();
+        assertThat(collection.effectiveIntAsOf(instant, 3)).hasValue(2);
+        assertThat(collection.getAsOf(instant))
+                .hasValueSatisfying(record -> assertThat(record.validRange()).isEqualTo(fromTo(instant, instant.plusSeconds(5))))
+                .hasValueSatisfying(record -> assertThat(record.value()).isEqualTo(3));
+        assertThat(collection.getIntPriorTo(instant)).hasValue(2);
+        assertThat(collection.getIntPriorTo(instant.minusSeconds(5))).isEmpty();
+    }
+
+    @Test
+    public void expireAsOf_WhenExpiringExistingEffectiveInstant() {
+        SortedArrayIntTemporalCollection collection = new SortedArrayIntTemporalCollection();
+        Instant instant = Instant.now();
+        assertThat(collection.expireAsOf(instant)).isEmpty();
+        assertThat(collection.isEmpty()).isTrue();
+        collection.effectiveIntAsOf(instant, 1);
+        assertThat(collection.expireAsOf(instant))
+                .hasValueSatisfying(record -> assertThat(record.validRange()).isEqualTo(fromToMax(instant)))
+                .map(TemporalRecord::value)
+                .hasValue(1);
+        assertThat(collection.getIntAsOf(instant)).isEmpty();
+        assertThat(collection.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void rangeReductions_WhenTemporalRecordsHaveExpiredEntry() {
+        SortedArrayIntTemporalCollection collection = new SortedArrayIntTemporalCollection();
+        Instant now = Instant.now();
+        collection.effectiveIntAsOf(now.minusSeconds(10), 1);
+        collection.effectiveIntAsOf(now.minusSeconds(5), 2);
+        collection.expireAsOf(now);
+        collection.effectiveIntAsOf(now.plusSeconds(5), Integer.MAX_VALUE);
+        collection.effectiveIntAsOf(now.plusSeconds(10), Integer.MAX_VALUE);
+        assertThat(collection.valuesInRange(FOREVER)).containsExactly(1, 2, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        assertThat(collection.sumInRange(FOREVER)).isEqualTo(3 + 2L * Integer.MAX_VALUE);
+        assertThat(collection.minInRange(FOREVER)).hasValue(1);
+        assertThat(collection.maxInRange(fromTo(now.minusSeconds(10), now))).hasValue(2);
+        assertThat(collection.reduceInRange(fromTo(now.minusSeconds(10), now), 10, (a, b) -> a * b)).isEqualTo(20);
+        assertThat(collection.minInRange(fromTo(now.minusSeconds(1), now.plusSeconds(1)))).isEmpty();
+    }
+
+    @Test
+    public void methods_WhenUsingNull() {
+        SortedArrayIntTemporalCollection collection = new SortedArrayIntTemporalCollection();
+        assertThatNullPointerException().isThrownBy(() -> collection.effectiveIntAsOf(null, 1));
+        assertThatNullPointerException().isThrownBy(() -> collection.effectiveAsOf(Instant.now(), null));
+        assertThatNullPointerException().isThrownBy(() -> collection.expireAsOf(null));
+        assertThatNullPointerException().isThrownBy(() -> collection.getIntAsOf(null));
+        assertThatNullPointerException().isThrownBy(() -> collection.getIntPriorTo(null));
+        assertThatNullPointerException().isThrownBy(() -> collection.getInRange(null));
+        assertThatNullPointerException().isThrownBy(() -> collection.valuesInRange(null));
+    }
+
+    @Test
+    public void operations_MatchConcurrentSkipListTemporalCollection() {
+        SortedArrayIntTemporalCollection collection = new SortedArrayIntTemporalCollection();
+        ConcurrentSkipListTemporalCollection<Integer> expected = new ConcurrentSkipListTemporalCollection<>();
+        Random random = new Random(7);
+        Instant now = Instant.now();
+        for (int i = 0; i < 1_000; i++) {
+            Instant instant = now.plusNanos(random.nextInt(400) * 500_000_000L);
+            if (random.nextInt(4) == 0) {
+                assertThat(collection.expireAsOf(instant)).isEqualTo(expected.expireAsOf(instant));
+            } else {
+                int value = random.nextInt();
+                assertThat(collection.effectiveAsOf(instant, value)).isEqualTo(expected.effectiveAsOf(instant, value));
+            }
+            Instant probe = now.plusNanos(random.nextInt(400) * 500_000_000L);
+            assertThat(collection.getAsOf(probe)).isEqualTo(expected.getAsOf(probe));
+            assertThat(collection.getPriorTo(probe)).isEqualTo(expected.getPriorTo(probe));
+        }
+        assertThat(collection.size()).isEqualTo(expected.size());
+        assertThat(collection.getInRange(FOREVER)).isEqualTo(expected.getInRange(FOREVER));
+    }
+
+    @Test
+    public void immutableIntTemporalCollection_WhenRecordsAreProvided() {
+        Instant now = Instant.now();
+        IntTemporalCollection collection = TemporalCollections.immutableIntTemporalCollection(List.of(
+                new TemporalRecord<>(fromTo(now, now.plusSeconds(5)), 1),
+                new TemporalRecord<>(fromTo(now.plusSeconds(5), now.plusSeconds(10)), 2)
+        ));
+        assertThat(collection).isNotInstanceOf(MutableTemporalCollection.class);
+        assertThat(collection.getIntAsOf(now.plusSeconds(7))).hasValue(2);
+        assertThat(collection.getIntAsOf(now.plusSeconds(10))).isEmpty();
+        assertThat(collection.sumInRange(FOREVER)).isEqualTo(3);
+        assertThat(collection.getInRange(FOREVER)).hasSize(2);
+    }
+}
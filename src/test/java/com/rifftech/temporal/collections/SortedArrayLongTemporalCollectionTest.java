@@ -0,0 +1,71 @@
+package com.rifftech.temporal.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Random;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.rifftech.temporal.collections.TemporalRange.FOREVER;
+import static com.rifftech.temporal.collections.TemporalRange.fromTo;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SortedArrayLongTemporalCollectionTest {
+
+    @Test
+    public void effectiveLongAsOf_WhenUpdatingExistingEffectiveInstant() {
+        SortedArrayLongTemporalCollection collection = new SortedArrayLongTemporalCollection();
+        Instant instant = Instant.now();
+        assertThat(collection.effectiveLongAsOf(instant, Long.MAX_VALUE)).isEmpty();
+        assertThat(collection.effectiveLongAsOf(instant, 2)).hasValue(Long.MAX_VALUE);
+        assertThat(collection.getLongAsOf(instant.plusSeconds(1))).hasValue(2);
+        assertThat(collection.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void rangeReductions_WhenTemporalRecordsAreContiguous() {
+        SortedArrayLongTemporalCollection collection = new SortedArrayLongTemporalCollection();
+        Instant now = Instant.now();
+        for (int i = 0; i < 100; i++) {
+            collection.effectiveLongAsOf(now.plusSeconds(i), i);
+        }
+        assertThat(collection.sumInRange(FOREVER)).isEqualTo(4950);
+        assertThat(collection.sumInRange(fromTo(now.plusSeconds(10), now.plusSeconds(19)))).isEqualTo(145);
+        assertThat(collection.maxInRange(FOREVER)).hasValue(99);
+        assertThat(collection.getLongPriorTo(now.plusSeconds(50))).hasValue(49);
+    }
+
+    @Test
+    public void immutableLongTemporalCollection_WhenRecordsAreProvided() {
+        Instant now = Instant.now();
+        LongTemporalCollection collection = TemporalCollections.immutableLongTemporalCollection(List.of(
+                new TemporalRecord<>(fromTo(now, now.plusSeconds(5)), 10L)
+        ));
+        assertThat(collection.getLongAsOf(now)).hasValue(10);
+        assertThat(collection.minInRange(FOREVER)).hasValue(10);
+    }
+
+    @Test
+    public void getAllAsOf_WhenInstantsAreSorted_ThenMatchesGetAsOf() {
+        SortedArrayLongTemporalCollection collection = new SortedArrayLongTemporalCollection();
+        Random random = new Random(11);
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < 300; i++) {
+            Instant validTime = origin.plusSeconds(random.nextInt(6_000));
+            if (random.nextInt(4) == 0) {
+                collection.expireAsOf(validTime);
+            } else {
+                collection.effectiveLongAsOf(validTime, i);
+            }
+        }
+        List<Instant> validTimes = new ArrayList<>();
+        for (long second = -100; second < 6_100; second += 1 + random.nextInt(random.nextBoolean() ? 5 : 500)) {
+            validTimes.add(origin.plusSeconds(second));
+        }
+
+        assertThat(collection.getAllAsOf(validTimes))
+                .containsExactlyElementsOf(validTimes.stream().map(collection::getAsOf).toList());
+        assertThat(collection.getAllAsOf(List.of())).isEmpty();
+    }
+}
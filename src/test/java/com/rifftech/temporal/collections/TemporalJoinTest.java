@@ -0,0 +1,140 @@
+package com.rifftech.temporal.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static com.rifftech.temporal.collections.TemporalRange.FOREVER;
+import static com.rifftech.temporal.collections.TemporalRange.fromTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+public class TemporalJoinTest {
+    private static final Instant T0 = Instant.parse("2024-01-01T00:00:00Z");
+
+    private static Instant at(int minutes) {
+        return T0.plusSeconds(minutes * 60L);
+    }
+
+    private static ConcurrentSkipListTemporalCollection<Double> prices() {
+        ConcurrentSkipListTemporalCollection<Double> prices = new ConcurrentSkipListTemporalCollection<>();
+        prices.effectiveAsOf(at(0), 10.0);
+        prices.effectiveAsOf(at(20), 11.0);
+        prices.expireAsOf(at(40));
+        return prices;
+    }
+
+    private static ConcurrentSkipListTemporalCollection<Integer> quantities() {
+        ConcurrentSkipListTemporalCollection<Integer> quantities = new ConcurrentSkipListTemporalCollection<>();
+        quantities.effectiveAsOf(at(10), 100);
+        quantities.effectiveAsOf(at(30), 200);
+        quantities.expireAsOf(at(50));
+        return quantities;
+    }
+
+    @Test
+    public void join_WithInvalidArguments() {
+        TemporalCollection<Integer> collection = new ConcurrentSkipListTemporalCollection<>();
+        assertThatNullPointerException().isThrownBy(() -> TemporalJoin.innerJoin(null, collection, FOREVER));
+        assertThatNullPointerException().isThrownBy(() -> TemporalJoin.innerJoin(collection, null, FOREVER));
+        assertThatNullPointerException().isThrownBy(() -> TemporalJoin.innerJoin(collection, collection, null));
+        assertThatNullPointerException().isThrownBy(() -> TemporalJoin.join(collection, collection, FOREVER, null));
+        assertThatIllegalArgumentException().isThrownBy(() -> TemporalJoin.join(List.<TemporalCollection<Integer>>of(), FOREVER, JoinType.INNER));
+    }
+
+    @Test
+    public void innerJoin_WhenTimelinesOverlap_ThenEmitsAlignedIntervals() {
+        assertThat(TemporalJoin.innerJoin(prices(), quantities(), FOREVER).toList()).containsExactly(
+                new JoinedRecord<>(fromTo(at(10), at(20)), Optional.of(10.0), Optional.of(100)),
+                new JoinedRecord<>(fromTo(at(20), at(30)), Optional.of(11.0), Optional.of(100)),
+                new JoinedRecord<>(fromTo(at(30), at(40)), Optional.of(11.0), Optional.of(200)));
+    }
+
+    @Test
+    public void leftOuterJoin_WhenRightIsMissing_ThenEmitsLeftIntervals() {
+        assertThat(TemporalJoin.leftOuterJoin(prices(), quantities(), FOREVER).toList()).containsExactly(
+                new JoinedRecord<>(fromTo(at(0), at(10)), Optional.of(10.0), Optional.empty()),
+                new JoinedRecord<>(fromTo(at(10), at(20)), Optional.of(10.0), Optional.of(100)),
+                new JoinedRecord<>(fromTo(at(20), at(30)), Optional.of(11.0), Optional.of(100)),
+                new JoinedRecord<>(fromTo(at(30), at(40)), Optional.of(11.0), Optional.of(200)));
+    }
+
+    @Test
+    public void fullOuterJoin_WhenClippedToRange_ThenEmitsIntervalsOfEitherSide() {
+        assertThat(TemporalJoin.fullOuterJoin(prices(), quantities(), fromTo(at(5), at(45))).toList()).containsExactly(
+                new JoinedRecord<>(fromTo(at(5), at(10)), Optional.of(10.0), Optional.empty()),
+                new JoinedRecord<>(fromTo(at(10), at(20)), Optional.of(10.0), Optional.of(100)),
+                new JoinedRecord<>(fromTo(at(20), at(30)), Optional.of(11.0), Optional.of(100)),
+                new JoinedRecord<>(fromTo(at(30), at(40)), Optional.of(11.0), Optional.of(200)),
+                new JoinedRecord<>(fromTo(at(40), at(45)), Optional.empty(), Optional.of(200)));
+    }
+
+    @Test
+    public void join_WhenManyCollections_ThenValuesFollowCollectionOrder() {
+        ConcurrentSkipListTemporalCollection<Integer> third = new ConcurrentSkipListTemporalCollection<>();
+        third.effectiveAsOf(at(15), 3);
+        third.expireAsOf(at(35));
+
+        List<TemporalRecord<List<Optional<Number>>>> joined = TemporalJoin.<Number>join(
+                List.of(prices(), quantities(), third), FOREVER, JoinType.INNER).toList();
+
+        assertThat(joined).containsExactly(
+                new TemporalRecord<>(fromTo(at(15), at(20)), List.of(Optional.of(10.0), Optional.of(100), Optional.of(3))),
+                new TemporalRecord<>(fromTo(at(20), at(30)), List.of(Optional.of(11.0), Optional.of(100), Optional.of(3))),
+                new TemporalRecord<>(fromTo(at(30), at(35)), List.of(Optional.of(11.0), Optional.of(200), Optional.of(3))));
+    }
+
+    @Test
+    public void join_WhenMatchingPointLookups_ThenEveryIntervalHasTheValuesAsOfItsStart() {
+        ConcurrentSkipListTemporalCollection<Integer> left = new ConcurrentSkipListTemporalCollection<>();
+        ConcurrentSkipListTemporalCollection<Integer> right = new ConcurrentSkipListTemporalCollection<>();
+        for (int i = 0; i < 200; i++) {
+            left.effectiveAsOf(at(i * 7 % 500), i);
+            right.effectiveAsOf(at(i * 11 % 600), i);
+            if (i % 13 == 0) {
+                right.expireAsOf(at(i * 3));
+            }
+        }
+
+        List<JoinedRecord<Integer, Integer>> joined = TemporalJoin.fullOuterJoin(left, right, fromTo(at(-10), at(700))).toList();
+
+        assertThat(joined).isNotEmpty();
+        for (int i = 0; i < joined.size(); i++) {
+            JoinedRecord<Integer, Integer> record = joined.get(i);
+            Instant start = record.validRange().start();
+            assertThat(record.left()).isEqualTo(left.getAsOf(start).map(TemporalRecord::value));
+            assertThat(record.right()).isEqualTo(right.getAsOf(start).map(TemporalRecord::value));
+            if (i > 0) {
+                assertThat(joined.get(i - 1).validRange().end()).isBeforeOrEqualTo(start);
+            }
+        }
+    }
+
+    @Test
+    public void join_WhenStreamIsNotConsumed_ThenCollectionsAreNotQueried() {
+        TemporalCollection<Integer> left = mock(TemporalCollection.class);
+        TemporalCollection<Integer> right = mock(TemporalCollection.class);
+
+        Stream<JoinedRecord<Integer, Integer>> joined = TemporalJoin.innerJoin(left, right, FOREVER);
+
+        verifyNoInteractions(left, right);
+        assertThat(joined.count()).isZero();
+    }
+
+    @Test
+    public void join_WhenLimited_ThenStopsAfterRequestedIntervals() {
+        AtomicInteger emitted = new AtomicInteger();
+        assertThat(TemporalJoin.fullOuterJoin(prices(), quantities(), FOREVER)
+                .peek(record -> emitted.incrementAndGet())
+                .limit(2)
+                .toList()).hasSize(2);
+        assertThat(emitted).hasValue(2);
+    }
+}
@@ -2,9 +2,13 @@ package com.rifftech.temporal.collections;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class TemporalRangeTest {
@@ -53,4 +57,31 @@ public class TemporalRangeTest {
 
         TemporalRange.validateInstants(start, end);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void nowFactories_withClock_useInstantOfClock() {
+        Instant now = Instant.parse("2024-10-30T13:00:00.500Z");
+        Clock clock = Clock.fixed(now, ZoneOffset.UTC);
+        Instant later = now.plusSeconds(60);
+
+        assertEquals(new TemporalRange(now, later), TemporalRange.nowUntil(clock, later));
+        assertEquals(new TemporalRange(now.truncatedTo(ChronoUnit.SECONDS), later.truncatedTo(ChronoUnit.SECONDS)),
+                TemporalRange.nowUntil(clock, later, ChronoUnit.SECONDS));
+        assertEquals(new TemporalRange(now, TemporalRange.MAX), TemporalRange.nowUntilMax(clock));
+        assertEquals(new TemporalRange(now.truncatedTo(ChronoUnit.SECONDS), TemporalRange.MAX), TemporalRange.nowUntilMax(clock, ChronoUnit.SECONDS));
+        assertEquals(new TemporalRange(now, later), TemporalRange.nowFor(clock, Duration.ofSeconds(60)));
+        assertEquals(new TemporalRange(now.truncatedTo(ChronoUnit.SECONDS), later.truncatedTo(ChronoUnit.SECONDS)),
+                TemporalRange.nowFor(clock, Duration.ofSeconds(60), ChronoUnit.SECONDS));
+        assertEquals(new TemporalRange(now.minusSeconds(60), now), TemporalRange.fromToNow(clock, now.minusSeconds(60)));
+        assertEquals(new TemporalRange(now.minusSeconds(60).truncatedTo(ChronoUnit.SECONDS), now.truncatedTo(ChronoUnit.SECONDS)),
+                TemporalRange.fromToNow(clock, now.minusSeconds(60), ChronoUnit.SECONDS));
+    }
+
+    @Test
+    public void nowFactories_withNullClock_throwsException() {
+        Throwable exception = assertThrows(IllegalArgumentException.class, () -> TemporalRange.nowUntilMax((Clock) null));
+        assertEquals("The clock cannot be null.", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> TemporalRange.nowFor(null, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> TemporalRange.fromToNow(null, Instant.now()));
+    }
+}
@@ -0,0 +1,96 @@
+package com.rifftech.temporal.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.OptionalDouble;
+
+import static com.rifftech.temporal.collections.TemporalRange.FOREVER;
+import static com.rifftech.temporal.collections.TemporalRange.fromTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.ArgumentMatchers.any;
+
+public class TemporalResamplerTest {
+    private static final Instant T0 = Instant.parse("2024-01-01T00:00:00Z");
+
+    private static Instant at(int minutes) {
+        return T0.plusSeconds(minutes * 60L);
+    }
+
+    @Test
+    public void resample_WithInvalidArguments() {
+        TemporalCollection<Integer> collection = new ConcurrentSkipListTemporalCollection<>();
+        assertThatNullPointerException().isThrownBy(() -> TemporalResampler.resample(null, FOREVER, Duration.ofMinutes(1), Integer::doubleValue));
+        assertThatNullPointerException().isThrownBy(() -> TemporalResampler.resample(collection, null, Duration.ofMinutes(1), Integer::doubleValue));
+        assertThatNullPointerException().isThrownBy(() -> TemporalResampler.resample(collection, FOREVER, null, Integer::doubleValue));
+        assertThatNullPointerException().isThrownBy(() -> TemporalResampler.resample(collection, FOREVER, Duration.ofMinutes(1), null));
+        assertThatIllegalArgumentException().isThrownBy(() -> TemporalResampler.resample(collection, FOREVER, Duration.ZERO, Integer::doubleValue));
+    }
+
+    @Test
+    public void resample_WhenValuesChangeWithinBuckets_ThenComputesBucketFigures() {
+        ConcurrentSkipListTemporalCollection<Integer> collection = new ConcurrentSkipListTemporalCollection<>();
+        collection.effectiveAsOf(at(0), 10);
+        collection.effectiveAsOf(at(15), 20);
+        collection.effectiveAsOf(at(45), 40);
+        collection.expireAsOf(at(90));
+
+        List<ResampledBucket> buckets = TemporalResampler.resample(collection, fromTo(at(0), at(150)), Duration.ofHours(1), Integer::doubleValue).toList();
+
+        assertThat(buckets).extracting(ResampledBucket::range).containsExactly(
+                fromTo(at(0), at(60)), fromTo(at(60), at(120)), fromTo(at(120), at(150)));
+        ResampledBucket first = buckets.get(0);
+        assertThat(first.last()).hasValue(40);
+        assertThat(first.min()).hasValue(10);
+        assertThat(first.max()).hasValue(40);
+        assertThat(first.timeWeightedAverage().getAsDouble()).isCloseTo((10 * 15 + 20 * 30 + 40 * 15) / 60.0, within(1e-9));
+        assertThat(first.coverage()).isEqualTo(Duration.ofHours(1));
+        ResampledBucket second = buckets.get(1);
+        assertThat(second.last()).hasValue(40);
+        assertThat(second.timeWeightedAverage()).hasValue(40);
+        assertThat(second.coverage()).isEqualTo(Duration.ofMinutes(30));
+        assertThat(buckets.get(2).isEmpty()).isTrue();
+        assertThat(buckets.get(2).last()).isEqualTo(OptionalDouble.empty());
+    }
+
+    @Test
+    public void resample_WhenManyBuckets_ThenMatchesValuesAsOfEveryBucket() {
+        ConcurrentSkipListTemporalCollection<Integer> collection = new ConcurrentSkipListTemporalCollection<>();
+        for (int i = 0; i < 100; i++) {
+            collection.effectiveAsOf(at(i * 37), i);
+        }
+        TemporalRange range = fromTo(at(-30), at(100 * 37 + 30));
+        TemporalCollection<Integer> spied = spy(collection);
+
+        List<ResampledBucket> buckets = TemporalResampler.resample(spied, range, Duration.ofSeconds(30), Integer::doubleValue).toList();
+
+        assertThat(buckets).hasSize(100 * 37 * 2 + 120);
+        for (ResampledBucket bucket : buckets) {
+            Instant lastInstant = bucket.range().end().minusNanos(1);
+            assertThat(bucket.last()).isEqualTo(collection.getAsOf(lastInstant)
+                    .map(record -> OptionalDouble.of(record.value()))
+                    .orElse(OptionalDouble.empty()));
+        }
+        verify(spied, atMost(buckets.size() / TemporalResampler.BUCKETS_PER_WINDOW + 1)).getInRange(any());
+    }
+
+    @Test
+    public void resample_WhenLimited_ThenOnlyComputesRequestedBuckets() {
+        ConcurrentSkipListTemporalCollection<Integer> collection = new ConcurrentSkipListTemporalCollection<>();
+        collection.effectiveAsOf(TemporalRange.MIN, 1);
+
+        List<ResampledBucket> buckets = TemporalResampler.resample(collection, FOREVER, Duration.ofMinutes(1), Integer::doubleValue)
+                .limit(3)
+                .toList();
+
+        assertThat(buckets).hasSize(3).allSatisfy(bucket -> assertThat(bucket.timeWeightedAverage()).hasValue(1));
+    }
+}
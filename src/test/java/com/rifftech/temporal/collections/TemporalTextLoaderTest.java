@@ -0,0 +1,122 @@
+package com.rifftech.temporal.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static com.rifftech.temporal.collections.TemporalRange.FOREVER;
+import static com.rifftech.temporal.collections.TemporalRange.fromTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class TemporalTextLoaderTest {
+
+    @Test
+    public void ranges_WhenBothSeparators_ThenParsesEveryLine() {
+        String text = "2024-10-30T13:00:00Z to 2024-10-30T14:00:00Z\r\n\n  \n2024-10-30T13:00:00.25Z,2024-10-30T14:00:00Z";
+
+        List<TemporalRange> ranges = TemporalTextLoader.ranges(new StringReader(text)).toList();
+
+        assertThat(ranges).containsExactly(
+                TemporalRange.parse("2024-10-30T13:00:00Z to 2024-10-30T14:00:00Z"),
+                fromTo(Instant.parse("2024-10-30T13:00:00.25Z"), Instant.parse("2024-10-30T14:00:00Z")));
+    }
+
+    @Test
+    public void ranges_WhenLinesExceedBuffer_ThenParsesEveryLine() {
+        Random random = new Random(53);
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        List<TemporalRange> expected = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 5_000; i++) {
+            Instant start = origin.plusSeconds(i * 60L).plusNanos(random.nextInt(1_000_000_000));
+            TemporalRange range = fromTo(start, start.plusSeconds(1 + random.nextInt(3_600)));
+            expected.add(range);
+            text.append(range.start()).append(i % 2 == 0 ? " to " : ",").append(range.end()).append('\n');
+        }
+
+        assertThat(TemporalTextLoader.ranges(new StringReader(text.toString()))).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    public void ranges_WhenMalformed_ThenNamesLine() {
+        String text = "2024-10-30T13:00:00Z to 2024-10-30T14:00:00Z\n2024-10-30T13:00:00Z until 2024-10-30T14:00:00Z\n";
+
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> TemporalTextLoader.ranges(new StringReader(text)).toList())
+                .withMessageContaining("Line 2");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> TemporalTextLoader.ranges(new StringReader("2024-10-30T14:00:00Z to 2024-10-30T13:00:00Z")).toList());
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> TemporalTextLoader.ranges(new StringReader("2024-10-30T13:00:00Z to 2024-10-30T14:00:00Z,gold")).toList());
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> TemporalTextLoader.records(new StringReader("2024-10-30T13:00:00Z to 2024-10-30T14:00:00Z"), v -> v).toList());
+    }
+
+    @Test
+    public void records_WhenValueHasCommas_ThenKeepsRestOfLine() {
+        String text = "2024-10-30T13:00:00Z,2024-10-30T14:00:00Z,gold, with commas\n2024-10-30T14:00:00Z to 2024-10-30T15:00:00Z,42";
+
+        List<TemporalRecord<String>> records = TemporalTextLoader.records(new StringReader(text), value -> value).toList();
+
+        assertThat(records).extracting(TemporalRecord::value).containsExactly("gold, with commas", "42");
+    }
+
+    @Test
+    public void records_WhenReadFromFile_ThenClosesWithStream(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("records.csv");
+        Files.writeString(file, "2024-10-30T13:00:00Z,2024-10-30T14:00:00Z,7\n2024-10-30T14:00:00Z,2024-10-30T15:00:00Z,8\n", StandardCharsets.UTF_8);
+
+        try (Stream<TemporalRecord<Integer>> records = TemporalTextLoader.records(file, Integer::valueOf)) {
+            assertThat(records.mapToInt(TemporalRecord::value).sum()).isEqualTo(15);
+        }
+        try (Stream<TemporalRange> ranges = TemporalTextLoader.ranges(file)) {
+            assertThatIllegalArgumentException().isThrownBy(ranges::toList);
+        }
+    }
+
+    @Test
+    public void loadTemporalCollection_WhenUnsortedAndOverlapping_ThenMatchesMutableCollection() {
+        Random random = new Random(59);
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        List<TemporalRecord<String>> records = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 2_000; i++) {
+            Instant start = origin.plusSeconds(random.nextInt(100_000));
+            TemporalRecord<String> record = new TemporalRecord<>(fromTo(start, start.plusSeconds(1 + random.nextInt(500))), "v" + random.nextInt(10));
+            records.add(record);
+            text.append(record.validRange().start()).append(',').append(record.validRange().end()).append(',').append(record.value()).append('\n');
+        }
+        records.add(records.get(0));
+        text.append(records.get(0).validRange().start()).append(',').append(records.get(0).validRange().end()).append(",other\n");
+
+        MutableTemporalCollection<String> loaded = TemporalTextLoader.loadTemporalCollection(new StringReader(text.toString()), String::valueOf);
+        MutableTemporalCollection<String> expected = TemporalCollections.mutableTemporalCollection(records);
+
+        assertThat(loaded.getInRange(FOREVER)).containsExactlyElementsOf(expected.getInRange(FOREVER));
+        assertThat(loaded.size()).isEqualTo(expected.size());
+        for (int second = -10; second < 100_600; second += 1 + random.nextInt(100)) {
+            assertThat(loaded.getAsOf(origin.plusSeconds(second))).isEqualTo(expected.getAsOf(origin.plusSeconds(second)));
+        }
+    }
+
+    @Test
+    public void fromSortedRecords_WhenNotSorted_ThenThrows() {
+        Instant origin = Instant.parse("2024-01-01T00:00:00Z");
+        List<TemporalRecord<String>> records = List.of(
+                new TemporalRecord<>(fromTo(origin.plusSeconds(10), origin.plusSeconds(20)), "b"),
+                new TemporalRecord<>(fromTo(origin, origin.plusSeconds(10)), "a"));
+
+        assertThatIllegalArgumentException().isThrownBy(() -> ConcurrentSkipListTemporalCollection.fromSortedRecords(java.time.Clock.systemUTC(), records));
+    }
+}
@@ -0,0 +1,85 @@
+package com.rifftech.temporal.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ValueDictionaryTest {
+
+    @Test
+    public void encode_WhenValuesRepeat_ThenAssignsDenseCodesInFirstSeenOrder() {
+        ValueDictionary<String> dictionary = new ValueDictionary<>();
+
+        assertThat(dictionary.encode("active")).isZero();
+        assertThat(dictionary.encode("suspended")).isEqualTo(1);
+        assertThat(dictionary.encode(new String("active"))).isZero();
+        assertThat(dictionary.size()).isEqualTo(2);
+        assertThat(dictionary.codeOf("suspended")).hasValue(1);
+        assertThat(dictionary.codeOf("closed")).isEmpty();
+        assertThat(dictionary.size()).isEqualTo(2);
+        assertThat(dictionary.decode(1)).isEqualTo("suspended");
+        assertThatIllegalArgumentException().isThrownBy(() -> dictionary.decode(2));
+        assertThatIllegalArgumentException().isThrownBy(() -> dictionary.decode(-1));
+        assertThatNullPointerException().isThrownBy(() -> dictionary.encode(null));
+    }
+
+    @Test
+    public void intern_WhenEqualValue_ThenReturnsFirstInstance() {
+        ValueDictionary<String> dictionary = new ValueDictionary<>();
+        String first = new String("tier-1");
+
+        assertThat(dictionary.intern(first)).isSameAs(first);
+        assertThat(dictionary.intern(new String("tier-1"))).isSameAs(first);
+    }
+
+    @Test
+    public void encode_WhenCalledConcurrently_ThenEveryValueHasOneCode() {
+        ValueDictionary<Integer> dictionary = new ValueDictionary<>();
+        List<CompletableFuture<int[]>> futures = IntStream.range(0, 4)
+                .mapToObj(worker -> CompletableFuture.supplyAsync(() -> IntStream.range(0, 1_000).map(dictionary::encode).toArray()))
+                .toList();
+
+        List<int[]> codes = futures.stream().map(CompletableFuture::join).toList();
+
+        assertThat(dictionary.size()).isEqualTo(1_000);
+        codes.forEach(workerCodes -> assertThat(workerCodes).isEqualTo(codes.get(0)));
+        IntStream.range(0, 1_000).forEach(value -> assertThat(dictionary.decode(dictionary.encode(value))).isEqualTo(value));
+    }
+
+    @Test
+    public void readFrom_WhenWritten_ThenHasSameCodes() throws IOException {
+        ValueDictionary<String> dictionary = new ValueDictionary<>();
+        IntStream.range(0, 100).forEach(i -> dictionary.encode("value-" + (i * 7 % 100)));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        dictionary.writeTo(new DataOutputStream(bytes), ValueCodec.strings());
+
+        ValueDictionary<String> read = ValueDictionary.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), ValueCodec.strings());
+
+        assertThat(read.size()).isEqualTo(100);
+        IntStream.range(0, 100).forEach(code -> assertThat(read.decode(code)).isEqualTo(dictionary.decode(code)));
+    }
+
+    @Test
+    public void readFrom_WhenValueRepeats_ThenThrows() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(2);
+        out.writeUTF("same");
+        out.writeUTF("same");
+
+        assertThatThrownBy(() -> ValueDictionary.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), ValueCodec.strings()))
+                .isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,33 @@
+package com.rifftech.temporal.events;
+
+import com.rifftech.temporal.collections.ConcurrentSkipListBiTemporalCollection;
+import com.rifftech.temporal.collections.EventPublishingBiTemporalCollection;
+import com.rifftech.temporal.events.TemporalEventPublisherTest.RecordingSubscriber;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BiTemporalEventPublisherTest {
+
+    @Test
+    public void eventPublishingBiTemporalCollection_WhenModified_ThenSubscribersReceiveEventsIndependently() {
+        BiTemporalEventPublisher<String> publisher = new BiTemporalEventPublisher<>(Runnable::run, 1, OverflowPolicy.DROP_OLDEST);
+        RecordingSubscriber<BiTemporalEvent<String>> fast = new RecordingSubscriber<>(Long.MAX_VALUE);
+        RecordingSubscriber<BiTemporalEvent<String>> slow = new RecordingSubscriber<>(0);
+        publisher.subscribe(fast);
+        publisher.subscribe(slow);
+        EventPublishingBiTemporalCollection<String> collection =
+                new EventPublishingBiTemporalCollection<>(new ConcurrentSkipListBiTemporalCollection<>(), publisher);
+        Instant now = Instant.now();
+
+        collection.effectiveAsOf(now.minusSeconds(10), now.minusSeconds(10), "first");
+        collection.effectiveAsOf(now, now, "second");
+        slow.subscription.request(Long.MAX_VALUE);
+
+        assertThat(fast.items.size()).isGreaterThan(1);
+        assertThat(slow.items).containsExactly(fast.items.get(fast.items.size() - 1));
+        assertThat(publisher.droppedCount()).isEqualTo(fast.items.size() - 1);
+    }
+}
@@ -0,0 +1,245 @@
+package com.rifftech.temporal.events;
+
+import com.rifftech.temporal.collections.ConcurrentSkipListTemporalCollection;
+import com.rifftech.temporal.collections.EventPublishingTemporalCollection;
+import com.rifftech.temporal.collections.TemporalRecord;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.rifftech.temporal.collections.TemporalRange.fromToMax;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public class TemporalEventPublisherTest {
+
+    @Test
+    public void temporalEventPublisher_WithInvalidArguments() {
+        assertThatNullPointerException().isThrownBy(() -> new TemporalEventPublisher<Integer>(null));
+        assertThatNullPointerException().isThrownBy(() -> new TemporalEventPublisher<Integer>(null, 1, OverflowPolicy.BLOCK));
+        assertThatIllegalArgumentException().isThrownBy(() -> new TemporalEventPublisher<Integer>(Runnable::run, 0, OverflowPolicy.BLOCK));
+        assertThatNullPointerException().isThrownBy(() -> new TemporalEventPublisher<Integer>(OverflowPolicy.BLOCK).subscribe(null));
+        assertThatNullPointerException().isThrownBy(() -> new TemporalEventPublisher<Integer>(OverflowPolicy.BLOCK).publish(null));
+    }
+
+    @Test
+    public void publish_WhenSubscribersRequest_ThenEventsAreDeliveredOnDemand() {
+        TemporalEventPublisher<Integer> publisher = new TemporalEventPublisher<>(Runnable::run, 4, OverflowPolicy.FAIL);
+        RecordingSubscriber<TemporalEvent<Integer>> slow = new RecordingSubscriber<>(0);
+        RecordingSubscriber<TemporalEvent<Integer>> fast = new RecordingSubscriber<>(Long.MAX_VALUE);
+        publisher.subscribe(slow);
+        publisher.subscribe(fast);
+
+        publisher.publish(inserted(1));
+        publisher.publish(inserted(2));
+        publisher.publish(inserted(3));
+
+        assertThat(values(fast)).containsExactly(1, 2, 3);
+        assertThat(slow.items).isEmpty();
+
+        slow.subscription.request(2);
+        assertThat(values(slow)).containsExactly(1, 2);
+        slow.subscription.request(5);
+        assertThat(values(slow)).containsExactly(1, 2, 3);
+        assertThat(publisher.subscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void publish_WhenBufferIsFull_ThenOldestEventsAreDropped() {
+        TemporalEventPublisher<Integer> publisher = new TemporalEventPublisher<>(Runnable::run, 2, OverflowPolicy.DROP_OLDEST);
+        RecordingSubscriber<TemporalEvent<Integer>> subscriber = new RecordingSubscriber<>(0);
+        publisher.subscribe(subscriber);
+
+        for (int i = 1; i <= 5; i++) {
+            publisher.publish(inserted(i));
+        }
+        subscriber.subscription.request(10);
+
+        assertThat(values(subscriber)).containsExactly(4, 5);
+        assertThat(publisher.droppedCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void publish_WhenBufferIsFull_ThenLatestEventsAreDropped() {
+        TemporalEventPublisher<Integer> publisher = new TemporalEventPublisher<>(Runnable::run, 2, OverflowPolicy.DROP_LATEST);
+        RecordingSubscriber<TemporalEvent<Integer>> subscriber = new RecordingSubscriber<>(0);
+        publisher.subscribe(subscriber);
+
+        for (int i = 1; i <= 5; i++) {
+            publisher.publish(inserted(i));
+        }
+        subscriber.subscription.request(10);
+
+        assertThat(values(subscriber)).containsExactly(1, 2);
+        assertThat(publisher.droppedCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void publish_WhenBufferOverflows_ThenOnlyThatSubscriberFails() {
+        TemporalEventPublisher<Integer> publisher = new TemporalEventPublisher<>(Runnable::run, 2, OverflowPolicy.FAIL);
+        RecordingSubscriber<TemporalEvent<Integer>> slow = new RecordingSubscriber<>(0);
+        RecordingSubscriber<TemporalEvent<Integer>> fast = new RecordingSubscriber<>(Long.MAX_VALUE);
+        publisher.subscribe(slow);
+        publisher.subscribe(fast);
+
+        for (int i = 1; i <= 3; i++) {
+            publisher.publish(inserted(i));
+        }
+
+        assertThat(slow.error).isInstanceOf(IllegalStateException.class);
+        assertThat(slow.items).isEmpty();
+        assertThat(fast.error).isNull();
+        assertThat(values(fast)).containsExactly(1, 2, 3);
+        assertThat(publisher.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void publish_WhenBufferIsFull_ThenPublisherBlocksUntilEventsAreConsumed() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        TemporalEventPublisher<Integer> publisher = new TemporalEventPublisher<>(executor, 1, OverflowPolicy.BLOCK);
+        RecordingSubscriber<TemporalEvent<Integer>> subscriber = new RecordingSubscriber<>(0);
+        publisher.subscribe(subscriber);
+        assertThat(subscriber.subscribed.await(5, TimeUnit.SECONDS)).isTrue();
+
+        AtomicBoolean published = new AtomicBoolean();
+        Thread writer = new Thread(() -> {
+            publisher.publish(inserted(1));
+            publisher.publish(inserted(2));
+            published.set(true);
+        });
+        writer.start();
+        writer.join(200);
+        assertThat(published).isFalse();
+
+        subscriber.subscription.request(2);
+        writer.join(5000);
+        assertThat(published).isTrue();
+        publisher.close();
+        assertThat(subscriber.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(values(subscriber)).containsExactly(1, 2);
+        assertThat(publisher.droppedCount()).isZero();
+    }
+
+    @Test
+    public void request_WhenNotPositive_ThenSubscriberFails() {
+        TemporalEventPublisher<Integer> publisher = new TemporalEventPublisher<>(Runnable::run, 2, OverflowPolicy.BLOCK);
+        RecordingSubscriber<TemporalEvent<Integer>> subscriber = new RecordingSubscriber<>(0);
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+
+        assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+        assertThat(publisher.subscriberCount()).isZero();
+    }
+
+    @Test
+    public void cancel_WhenSubscribed_ThenNoMoreEventsAreDelivered() {
+        TemporalEventPublisher<Integer> publisher = new TemporalEventPublisher<>(Runnable::run, 2, OverflowPolicy.FAIL);
+        RecordingSubscriber<TemporalEvent<Integer>> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+        publisher.subscribe(subscriber);
+
+        publisher.publish(inserted(1));
+        subscriber.subscription.cancel();
+        publisher.publish(inserted(2));
+
+        assertThat(values(subscriber)).containsExactly(1);
+        assertThat(publisher.subscriberCount()).isZero();
+    }
+
+    @Test
+    public void close_WhenEventsAreBuffered_ThenSubscribersCompleteAfterDelivery() {
+        TemporalEventPublisher<Integer> publisher = new TemporalEventPublisher<>(Runnable::run, 4, OverflowPolicy.FAIL);
+        RecordingSubscriber<TemporalEvent<Integer>> subscriber = new RecordingSubscriber<>(0);
+        publisher.subscribe(subscriber);
+        publisher.publish(inserted(1));
+
+        publisher.close();
+        assertThat(subscriber.completed.getCount()).isOne();
+        subscriber.subscription.request(1);
+
+        assertThat(values(subscriber)).containsExactly(1);
+        assertThat(subscriber.completed.getCount()).isZero();
+        assertThat(publisher.isClosed()).isTrue();
+        assertThatIllegalStateException().isThrownBy(() -> publisher.publish(inserted(2)));
+
+        RecordingSubscriber<TemporalEvent<Integer>> late = new RecordingSubscriber<>(0);
+        publisher.subscribe(late);
+        assertThat(late.subscription).isNotNull();
+        assertThat(late.completed.getCount()).isZero();
+    }
+
+    @Test
+    public void eventPublishingTemporalCollection_WhenModified_ThenSubscribersReceiveEvents() {
+        TemporalEventPublisher<Integer> publisher = new TemporalEventPublisher<>(Runnable::run, 16, OverflowPolicy.FAIL);
+        RecordingSubscriber<TemporalEvent<Integer>> subscriber = new RecordingSubscriber<>(Long.MAX_VALUE);
+        publisher.subscribe(subscriber);
+        EventPublishingTemporalCollection<Integer> collection =
+                new EventPublishingTemporalCollection<>(new ConcurrentSkipListTemporalCollection<>(), publisher);
+        Instant now = Instant.now();
+
+        collection.effectiveAsOf(now.minusSeconds(10), 1);
+        collection.effectiveAsOf(now, 2);
+
+        assertThat(subscriber.items).extracting(TemporalEvent::eventType).containsExactly(
+                TemporalEventType.TEMPORAL_RECORD_INSERTED,
+                TemporalEventType.TEMPORAL_RECORD_UPDATED,
+                TemporalEventType.TEMPORAL_RECORD_INSERTED);
+    }
+
+    private static TemporalEvent<Integer> inserted(int value) {
+        return new TemporalRecordInserted<>(new TemporalRecord<>(fromToMax(Instant.EPOCH), value));
+    }
+
+    private static List<Integer> values(RecordingSubscriber<TemporalEvent<Integer>> subscriber) {
+        return subscriber.items.stream().map(event -> event.record().value()).toList();
+    }
+
+    static final class RecordingSubscriber<E> implements Flow.Subscriber<E> {
+        final long initialRequest;
+        final List<E> items = new CopyOnWriteArrayList<>();
+        final CountDownLatch subscribed = new CountDownLatch(1);
+        final CountDownLatch completed = new CountDownLatch(1);
+        volatile Flow.Subscription subscription;
+        volatile Throwable error;
+
+        RecordingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+            subscribed.countDown();
+        }
+
+        @Override
+        public void onNext(E item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+    }
+}
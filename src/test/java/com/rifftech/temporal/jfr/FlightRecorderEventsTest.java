@@ -0,0 +1,127 @@
+package com.rifftech.temporal.jfr;
+
+import com.rifftech.temporal.collections.BiTemporalCollections;
+import com.rifftech.temporal.collections.CompositeKeyBiTemporalCollection;
+import com.rifftech.temporal.collections.ConcurrentSkipListBiTemporalCollection;
+import com.rifftech.temporal.collections.ConcurrentSkipListTemporalCollection;
+import com.rifftech.temporal.collections.EventPublishingTemporalCollection;
+import com.rifftech.temporal.collections.TemporalCollections;
+import com.rifftech.temporal.events.TemporalEvent;
+import com.rifftech.temporal.events.TemporalEventProducer;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static com.rifftech.temporal.collections.TemporalRange.FOREVER;
+import static com.rifftech.temporal.collections.TemporalRange.fromTo;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FlightRecorderEventsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void temporalOperationEvent_WhenEnabled_ThenRecorded() throws IOException {
+        Instant now = Instant.parse("2024-10-30T13:00:00Z");
+        List<RecordedEvent> events = record(TemporalOperationEvent.NAME, () -> {
+            ConcurrentSkipListTemporalCollection<Integer> collection = new ConcurrentSkipListTemporalCollection<>();
+            collection.effectiveAsOf(now, 1);
+            collection.effectiveAsOf(now.plusSeconds(10), 2);
+            collection.getInRange(fromTo(now, now.plusSeconds(20)));
+        });
+
+        assertThat(events).extracting(e -> e.getString("operation"))
+                .containsExactly("EFFECTIVE_AS_OF", "EFFECTIVE_AS_OF", "GET_IN_RANGE");
+        RecordedEvent range = events.get(2);
+        assertThat(range.getClass("collection").getName()).isEqualTo(ConcurrentSkipListTemporalCollection.class.getName());
+        assertThat(range.getInstant("validTime")).isEqualTo(now);
+        assertThat(range.getInstant("validTimeEnd")).isEqualTo(now.plusSeconds(20));
+        assertThat(range.getInt("resultCount")).isEqualTo(2);
+        assertThat(events.get(1).getInt("resultCount")).isEqualTo(1);
+    }
+
+    @Test
+    public void biTemporalOperationEvent_WhenEnabled_ThenRecorded() throws IOException {
+        Instant now = Instant.parse("2024-10-30T13:00:00Z");
+        List<RecordedEvent> events = record(BiTemporalOperationEvent.NAME, () -> {
+            ConcurrentSkipListBiTemporalCollection<String> collection = new ConcurrentSkipListBiTemporalCollection<>();
+            collection.effectiveAsOf(now, now.plusSeconds(5), "value");
+            collection.getInRange(FOREVER, fromTo(now, now.plusSeconds(10)));
+        });
+
+        assertThat(events).extracting(e -> e.getString("operation"))
+                .containsExactly("EFFECTIVE_AS_OF", "GET_IN_RANGE");
+        assertThat(events.get(0).getInstant("transactionTime")).isEqualTo(now.plusSeconds(5));
+        assertThat(events.get(1).getInstant("transactionTimeEnd")).isEqualTo(now.plusSeconds(10));
+        assertThat(events.get(1).getInt("resultCount")).isEqualTo(1);
+    }
+
+    @Test
+    public void biTemporalOperationEvent_WhenModified_ThenOnlyModificationsRecorded() throws IOException {
+        Instant now = Instant.parse("2024-10-30T13:00:00Z");
+        List<RecordedEvent> events = record(BiTemporalOperationEvent.NAME, () -> {
+            ConcurrentSkipListBiTemporalCollection<String> skipList = new ConcurrentSkipListBiTemporalCollection<>();
+            skipList.effectiveAsOf(now, now, "value");
+            skipList.expireAsOf(now.plusSeconds(10), now.plusSeconds(5));
+            CompositeKeyBiTemporalCollection<String> compositeKey = new CompositeKeyBiTemporalCollection<>();
+            compositeKey.effectiveAsOf(now, now, "value");
+            compositeKey.expireAsOf(now.plusSeconds(10), now.plusSeconds(5));
+        });
+
+        assertThat(events).extracting(e -> e.getString("operation"))
+                .containsExactly("EFFECTIVE_AS_OF", "EXPIRE_AS_OF", "EFFECTIVE_AS_OF", "EXPIRE_AS_OF");
+        assertThat(events).extracting(e -> e.getInt("resultCount")).containsExactly(0, 1, 0, 1);
+    }
+
+    @Test
+    public void eventPublicationEvent_WhenEnabled_ThenRecorded() throws IOException {
+        Instant now = Instant.parse("2024-10-30T13:00:00Z");
+        TemporalEventProducer<Integer> producer = new DiscardingProducer();
+        List<RecordedEvent> events = record(EventPublicationEvent.NAME, () -> {
+            EventPublishingTemporalCollection<Integer> collection = TemporalCollections.mutableTemporalCollection(List.of(), producer);
+            collection.effectiveAsOf(now, 1);
+            collection.effectiveAsOf(now.plusSeconds(10), 2);
+        });
+
+        assertThat(events).extracting(e -> e.getString("eventType"))
+                .containsExactly("TEMPORAL_RECORD_INSERTED", "TEMPORAL_RECORD_UPDATED", "TEMPORAL_RECORD_INSERTED");
+        assertThat(events.get(0).getClass("producer").getName()).isEqualTo(DiscardingProducer.class.getName());
+        assertThat(events.get(2).getInstant("validTime")).isEqualTo(now.plusSeconds(10));
+    }
+
+    @Test
+    public void temporalOperationEvent_WhenNotEnabled_ThenNotRecorded() throws IOException {
+        List<RecordedEvent> events = record(EventPublicationEvent.NAME, () ->
+                BiTemporalCollections.mutableBiTemporalCollection(List.of()).getAsOfNow());
+        assertThat(events).isEmpty();
+    }
+
+    private List<RecordedEvent> record(String eventName, Runnable action) throws IOException {
+        Path file = directory.resolve(eventName + ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withoutThreshold().withoutStackTrace();
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(eventName))
+                .filter(e -> e.getThread() != null && e.getThread().getJavaThreadId() == Thread.currentThread().getId())
+                .toList();
+    }
+
+    private static final class DiscardingProducer implements TemporalEventProducer<Integer> {
+        @Override
+        public void publish(TemporalEvent<Integer> event) {
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.rifftech.temporal.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_AS_OF;
+import static com.rifftech.temporal.metrics.TemporalOperation.GET_IN_RANGE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+public class InMemoryTemporalMetricsTest {
+
+    @Test
+    public void inMemoryTemporalMetrics_WithInvalidArguments() {
+        assertThatNullPointerException().isThrownBy(() -> new InMemoryTemporalMetrics(null, 10));
+        assertThatIllegalArgumentException().isThrownBy(() -> new InMemoryTemporalMetrics(Duration.ofMillis(-1), 10));
+        assertThatIllegalArgumentException().isThrownBy(() -> new InMemoryTemporalMetrics(Duration.ofMillis(1), -1));
+    }
+
+    @Test
+    public void recordLatency_WhenRecorded_ThenCountedPerOperation() {
+        InMemoryTemporalMetrics metrics = new InMemoryTemporalMetrics();
+        metrics.recordLatency(GET_AS_OF, 1_000, "a", null);
+        metrics.recordLatency(GET_AS_OF, 3_000, "b", null);
+        metrics.recordResultSize(GET_IN_RANGE, 7);
+
+        assertThat(metrics.isEnabled()).isTrue();
+        assertThat(metrics.count(GET_AS_OF)).isEqualTo(2);
+        assertThat(metrics.count(GET_IN_RANGE)).isZero();
+        assertThat(metrics.latency(GET_AS_OF).max()).isEqualTo(3_000);
+        assertThat(metrics.resultSize(GET_IN_RANGE).max()).isEqualTo(7);
+        assertThat(metrics.slowQueries()).isEmpty();
+    }
+
+    @Test
+    public void recordLatency_WhenAboveThreshold_ThenLoggedAndBounded() {
+        List<SlowQuery> observed = new ArrayList<>();
+        InMemoryTemporalMetrics metrics = new InMemoryTemporalMetrics(Duration.ofMillis(1), 2, observed::add);
+        metrics.recordLatency(GET_AS_OF, 10, "fast", null);
+        metrics.recordLatency(GET_AS_OF, 2_000_000, "first", null);
+        metrics.recordLatency(GET_IN_RANGE, 3_000_000, "second", "third");
+        metrics.recordLatency(GET_AS_OF, 4_000_000, "fourth", null);
+
+        assertThat(observed).extracting(SlowQuery::arguments).containsExactly("first", "second, third", "fourth");
+        assertThat(metrics.slowQueries()).extracting(SlowQuery::arguments).containsExactly("second, third", "fourth");
+        assertThat(metrics.slowQueries().get(0).operation()).isEqualTo(GET_IN_RANGE);
+        assertThat(metrics.slowQueries().get(0).elapsed()).isEqualTo(Duration.ofMillis(3));
+    }
+
+    @Test
+    public void disabled_WhenRecording_ThenIsNotEnabled() {
+        TemporalMetrics metrics = TemporalMetrics.disabled();
+        metrics.recordLatency(GET_AS_OF, 10, null, null);
+        metrics.recordResultSize(GET_IN_RANGE, 10);
+        assertThat(metrics.isEnabled()).isFalse();
+    }
+}
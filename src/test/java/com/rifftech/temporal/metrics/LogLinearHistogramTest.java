@@ -0,0 +1,71 @@
+package com.rifftech.temporal.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+public class LogLinearHistogramTest {
+
+    @Test
+    public void bucketIndex_WhenValueIsAtBucketBoundaries_ThenBucketsAreContiguous() {
+        for (long value = 0; value < 100_000; value++) {
+            int index = LogLinearHistogram.bucketIndex(value);
+            assertThat(LogLinearHistogram.highestValueOf(index)).isGreaterThanOrEqualTo(value);
+            if (index > 0) {
+                assertThat(LogLinearHistogram.highestValueOf(index - 1)).isLessThan(value);
+            }
+        }
+        assertThat(LogLinearHistogram.highestValueOf(LogLinearHistogram.bucketIndex(Long.MAX_VALUE))).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void record_WhenEmpty_ThenStatisticsAreZero() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        assertThat(histogram.count()).isZero();
+        assertThat(histogram.min()).isZero();
+        assertThat(histogram.max()).isZero();
+        assertThat(histogram.mean()).isZero();
+        assertThat(histogram.valueAtPercentile(99)).isZero();
+    }
+
+    @Test
+    public void record_WhenValuesAreRecorded_ThenPercentilesAreWithinBucketError() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+        histogram.record(-5);
+
+        assertThat(histogram.count()).isEqualTo(1001);
+        assertThat(histogram.sum()).isEqualTo(500_500);
+        assertThat(histogram.min()).isZero();
+        assertThat(histogram.max()).isEqualTo(1000);
+        assertThat(histogram.valueAtPercentile(0)).isZero();
+        assertThat(histogram.valueAtPercentile(50)).isBetween(500L, 500L + 500 / LogLinearHistogram.SUB_BUCKETS);
+        assertThat(histogram.valueAtPercentile(99)).isBetween(990L, 990L + 990 / LogLinearHistogram.SUB_BUCKETS);
+        assertThat(histogram.valueAtPercentile(100)).isEqualTo(1000);
+        assertThatIllegalArgumentException().isThrownBy(() -> histogram.valueAtPercentile(101));
+    }
+
+    @Test
+    public void record_WhenRecordedConcurrently_ThenNoValueIsLost() throws InterruptedException {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(histogram.count()).isEqualTo(40_000);
+        assertThat(histogram.max()).isEqualTo(9_999);
+    }
+}
@@ -1,8 +1,7 @@
 package example;
 
-import com.rifftech.temporal.collections.ConcurrentSkipListTemporalCollection;
-import com.rifftech.temporal.collections.MutableTemporalCollection;
-import com.rifftech.temporal.collections.TemporalRecord;
+import com.rifftech.temporal.collections.AggregatingTemporalCollection;
+import com.rifftech.temporal.collections.TemporalAggregators;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.springframework.util.Assert;
@@ -18,7 +17,7 @@ import static lombok.AccessLevel.PRIVATE;
 @RequiredArgsConstructor
 @FieldDefaults(makeFinal = true, level = PRIVATE)
 public class AccountLedger {
-    MutableTemporalCollection<Integer> balance = new ConcurrentSkipListTemporalCollection<>();
+    AggregatingTemporalCollection<Integer, Long> balance = new AggregatingTemporalCollection<>(TemporalAggregators.sum(Integer::longValue));
     int openingBalance;
 
     public void deposit(Instant when, int amount) {
@@ -32,10 +31,7 @@ public class AccountLedger {
     }
 
     public int balanceAsOf(Instant when) {
-        return balance.getInRange(fromTo(MIN, when))
-                .stream()
-                .map(TemporalRecord::value)
-                .reduce(openingBalance, Integer::sum);
+        return openingBalance + balance.aggregate(fromTo(MIN, when)).intValue();
     }
 
     public int currentBalance() {